@@ -0,0 +1,158 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AccountIndex 와 박싱 맵 캐시(ID -> Account, 계좌번호 -> ID, 사용자 ID -> ID 목록)의 조회 처리량과 계좌당 힙 사용량.
+ * 힙 사용량은 setup 에서 채우기 전후의 GC 후 사용량 차이로 재서 "heap per account" 로 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class AccountIndexBenchmark {
+
+    private static final int ACCOUNTS = 500_000;
+    private static final int ACCOUNTS_PER_USER = 4;
+
+    @Param({"index", "boxed"})
+    private String impl;
+
+    private AccountIndex index;
+    private BoxedAccountCache boxed;
+
+    // 넣은 Account 는 버리고 구조가 붙잡고 있는 것만 잰다 (박싱 맵은 Account 를 그대로 보관한다)
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        if (impl.equals("index")) {
+            index = new AccountIndex();
+            for (long userId = 1; userId <= ACCOUNTS / ACCOUNTS_PER_USER; userId++) {
+                index.putUsers(List.of(userId), accountsOf(userId), index.rowSequence());
+            }
+        } else {
+            boxed = new BoxedAccountCache();
+            for (long userId = 1; userId <= ACCOUNTS / ACCOUNTS_PER_USER; userId++) {
+                accountsOf(userId).forEach(boxed::put);
+            }
+        }
+        long after = usedHeap();
+        System.out.printf("%n[%s] heap per account: %d bytes%n", impl, (after - before) / ACCOUNTS);
+    }
+
+    private static List<Account> accountsOf(long userId) {
+        List<Account> accounts = new ArrayList<>(ACCOUNTS_PER_USER);
+        for (int i = 0; i < ACCOUNTS_PER_USER; i++) {
+            long id = (userId - 1) * ACCOUNTS_PER_USER + i + 1;
+            accounts.add(Account.builder()
+                    .id(id)
+                    .userId(userId)
+                    .accountNumber(accountNumber(id))
+                    .balance(Money.ofMinorUnits(1_000_000 + id))
+                    .status(AccountStatus.ACTIVE)
+                    .version(id % 50)
+                    .build());
+        }
+        return accounts;
+    }
+
+    private static String accountNumber(long id) {
+        return String.format("110-%03d-%06d", id % 1_000, id);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    @Benchmark
+    public Account loadById() {
+        long id = ThreadLocalRandom.current().nextLong(1, ACCOUNTS + 1);
+        return index != null ? index.get(id) : boxed.get(id);
+    }
+
+    @Benchmark
+    public Account loadByAccountNumber() {
+        long id = ThreadLocalRandom.current().nextLong(1, ACCOUNTS + 1);
+        String accountNumber = accountNumber(id);
+        return index != null ? index.getByAccountNumber(accountNumber) : boxed.getByAccountNumber(accountNumber);
+    }
+
+    @Benchmark
+    public List<Account> loadByUserId() {
+        long userId = ThreadLocalRandom.current().nextLong(1, ACCOUNTS / ACCOUNTS_PER_USER + 1);
+        return index != null ? index.getByUserId(userId) : boxed.getByUserId(userId);
+    }
+
+    // 인덱스 도입 전에 흔히 쓰는 형태의 캐시. Account 는 가변이므로 꺼낼 때 복사한다 (JournaledAccountRepositoryAdapter 와 같이)
+    static class BoxedAccountCache {
+        private final Map<Long, Account> byId = new ConcurrentHashMap<>();
+        private final Map<String, Long> byNumber = new ConcurrentHashMap<>();
+        private final Map<Long, List<Long>> byUser = new ConcurrentHashMap<>();
+
+        void put(Account account) {
+            byId.put(account.getId(), account);
+            byNumber.put(account.getAccountNumber(), account.getId());
+            byUser.computeIfAbsent(account.getUserId(), userId -> new ArrayList<>()).add(account.getId());
+        }
+
+        Account get(long id) {
+            Account account = byId.get(id);
+            return account == null ? null : copy(account);
+        }
+
+        Account getByAccountNumber(String accountNumber) {
+            Long id = byNumber.get(accountNumber);
+            return id == null ? null : get(id);
+        }
+
+        List<Account> getByUserId(long userId) {
+            List<Long> ids = byUser.get(userId);
+            if (ids == null) {
+                return null;
+            }
+            List<Account> accounts = new ArrayList<>(ids.size());
+            ids.forEach(id -> accounts.add(get(id)));
+            return accounts;
+        }
+
+        private static Account copy(Account account) {
+            return Account.builder()
+                    .id(account.getId())
+                    .userId(account.getUserId())
+                    .accountNumber(account.getAccountNumber())
+                    .balance(account.getBalance())
+                    .status(account.getStatus())
+                    .version(account.getVersion())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.AccountStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AccountJpaEntityMappingBenchmark {
+
+    private AccountJpaEntity entity;
+    private Account account;
+
+    @Setup
+    public void setUp() {
+        entity = AccountJpaEntity.builder()
+                .id(1L)
+                .userId(1L)
+                .accountNumber("1234567890")
+                .balance(new BigDecimal("10000.00"))
+                .status(AccountStatus.ACTIVE)
+                .version(0L)
+                .build();
+        account = entity.toDomain();
+    }
+
+    @Benchmark
+    public Account toDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public AccountJpaEntity fromDomain() {
+        return AccountJpaEntity.from(account);
+    }
+}
@@ -0,0 +1,106 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.BatchTransferUseCase;
+import com.simplebank.account.application.port.in.TransferUseCase;
+import com.simplebank.account.application.port.in.dto.BatchTransferCommand;
+import com.simplebank.account.application.port.in.dto.BatchTransferResult;
+import com.simplebank.account.application.port.in.dto.CreditLine;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.common.benchmark.BenchmarkContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 출금 계좌에서 N개 계좌로 입금: 단건 이체 N번 vs 일괄 이체 한 번. 호출 한 번(N건 전체)의 소요 시간을 잰다.
+ * 단건 이체는 100k 건이면 한 번에 수십 초가 걸려 perLineTransfers 는 lines=1000 에서만 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchTransferBenchmark {
+
+    private static final int ACCOUNT_COUNT = 100_000;
+
+    @Param({"1000", "100000"})
+    private int lines;
+
+    private ConfigurableApplicationContext context;
+    private BatchTransferUseCase batchTransferUseCase;
+    private TransferUseCase transferUseCase;
+    private Long sourceAccountId;
+    private BatchTransferCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        batchTransferUseCase = context.getBean(BatchTransferUseCase.class);
+        transferUseCase = context.getBean(TransferUseCase.class);
+
+        // 계좌 10만 개를 JDBC 배치로 한 번에 넣는다 (JPA saveAll 은 IDENTITY 키라 건별 insert)
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> rows = new ArrayList<>(ACCOUNT_COUNT + 1);
+        rows.add(new Object[]{0L, "PAYROLL-SOURCE", new BigDecimal("1000000000000.00")});
+        for (int i = 1; i <= ACCOUNT_COUNT; i++) {
+            rows.add(new Object[]{(long) i, "PAYROLL-" + i, BigDecimal.ZERO});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into accounts (user_id, account_number, balance, status, version) values (?, ?, ?, 'ACTIVE', 0)",
+                rows);
+        sourceAccountId = jdbcTemplate.queryForObject(
+                "select id from accounts where account_number = 'PAYROLL-SOURCE'", Long.class);
+        List<Long> targetIds = jdbcTemplate.queryForList(
+                "select id from accounts where account_number <> 'PAYROLL-SOURCE' order by id", Long.class);
+
+        // 급여 파일처럼 입금 계좌 순서를 섞는다
+        List<CreditLine> creditLines = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            Long target = targetIds.get((int) ((i * 7_919L) % targetIds.size()));
+            creditLines.add(new CreditLine(target, new BigDecimal("1234.56")));
+        }
+        command = new BatchTransferCommand(sourceAccountId, creditLines);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BatchTransferResult batchTransfer() {
+        return batchTransferUseCase.execute(command);
+    }
+
+    @Benchmark
+    public void perLineTransfers(Blackhole blackhole) {
+        // lines=100000 결과는 무시한다 (실행하지 않음)
+        if (lines > 1000) {
+            return;
+        }
+        for (CreditLine line : command.getLines()) {
+            blackhole.consume(transferUseCase.execute(
+                    new TransferCommand(sourceAccountId, line.getToAccountId(), line.getAmount())));
+        }
+    }
+}
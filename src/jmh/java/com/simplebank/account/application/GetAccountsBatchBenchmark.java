@@ -0,0 +1,84 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.GetAccountsBatchUseCase;
+import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.dto.AccountInfo;
+import com.simplebank.common.benchmark.BenchmarkContext;
+import com.simplebank.common.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 N명의 계좌 조회: 사용자별 N번 호출(기존 포털 방식) vs 한 번의 배치 호출.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GetAccountsBatchBenchmark {
+
+    private static final int USER_COUNT = 2_000;
+    private static final int ACCOUNTS_PER_USER = 3;
+
+    @Param({"10", "100", "500"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private GetAccountsUseCase getAccountsUseCase;
+    private GetAccountsBatchUseCase getAccountsBatchUseCase;
+    private List<Long> userIds;
+    private int offset;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        userIds = BenchmarkFixtures.seedUsers(context, USER_COUNT);
+        BenchmarkFixtures.seedAccounts(context, userIds, ACCOUNTS_PER_USER);
+        getAccountsUseCase = context.getBean(GetAccountsUseCase.class);
+        getAccountsBatchUseCase = context.getBean(GetAccountsBatchUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private List<Long> nextBatch() {
+        offset = (offset + batchSize) % (USER_COUNT - batchSize);
+        return userIds.subList(offset, offset + batchSize);
+    }
+
+    @Benchmark
+    public void perUserCalls(Blackhole blackhole) {
+        for (Long userId : nextBatch()) {
+            blackhole.consume(getAccountsUseCase.execute(userId));
+        }
+    }
+
+    @Benchmark
+    public Map<Long, List<AccountInfo>> batchCall() {
+        Set<Long> batch = new LinkedHashSet<>(nextBatch());
+        return getAccountsBatchUseCase.execute(batch);
+    }
+}
@@ -0,0 +1,64 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.dto.AccountInfo;
+import com.simplebank.common.benchmark.BenchmarkContext;
+import com.simplebank.common.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 워밍업이 끝난 상태의 사용자별 계좌 목록 조회 지연 시간 (사용자당 계좌 수별).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GetAccountsServiceBenchmark {
+
+    private static final int USER_COUNT = 200;
+
+    @Param({"1", "10", "100"})
+    private int accountsPerUser;
+
+    private ConfigurableApplicationContext context;
+    private GetAccountsUseCase getAccountsUseCase;
+    private List<Long> userIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        userIds = BenchmarkFixtures.seedUsers(context, USER_COUNT);
+        BenchmarkFixtures.seedAccounts(context, userIds, accountsPerUser);
+        getAccountsUseCase = context.getBean(GetAccountsUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AccountInfo> getAccounts() {
+        next = (next + 1) % USER_COUNT;
+        return getAccountsUseCase.execute(userIds.get(next));
+    }
+}
@@ -0,0 +1,91 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.TransferUseCase;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.application.port.in.dto.TransferResult;
+import com.simplebank.common.benchmark.BenchmarkContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 한 계좌(가맹점 정산 계좌)로 동시에 입금할 때의 처리량: 잔액 슬롯 사용 여부 x 락 모드.
+ * 슬롯이 없으면 모든 입금이 입금 계좌의 stripe 락/행 락에 줄을 선다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class HotAccountCreditBenchmark {
+
+    private static final int PAYER_COUNT = 256;
+
+    @Param({"false", "true"})
+    private boolean sharded;
+
+    @Param({"STRIPED", "PESSIMISTIC"})
+    private String lockMode;
+
+    private ConfigurableApplicationContext context;
+    private TransferUseCase transferUseCase;
+    private Long hotAccountId;
+    private long[] payerIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("simplebank.transfer.lock-mode=" + lockMode);
+        transferUseCase = context.getBean(TransferUseCase.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> rows = new ArrayList<>(PAYER_COUNT + 1);
+        rows.add(new Object[]{0L, "MERCHANT", BigDecimal.ZERO});
+        for (int i = 1; i <= PAYER_COUNT; i++) {
+            rows.add(new Object[]{(long) i, "PAYER-" + i, new BigDecimal("1000000000.00")});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into accounts (user_id, account_number, balance, status, version) values (?, ?, ?, 'ACTIVE', 0)",
+                rows);
+        hotAccountId = jdbcTemplate.queryForObject("select id from accounts where account_number = 'MERCHANT'", Long.class);
+        payerIds = jdbcTemplate.queryForList("select id from accounts where account_number <> 'MERCHANT'", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+
+        // 계좌 ID 는 생성 후에야 알 수 있어 설정 대신 빈 값을 바꾸고 슬롯을 만든다
+        if (sharded) {
+            context.getBean(ShardedBalanceProperties.class).getAccountIds().add(hotAccountId);
+            context.getBean(ShardedBalanceService.class).initialize();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransferResult creditHotAccount() {
+        long payer = payerIds[ThreadLocalRandom.current().nextInt(payerIds.length)];
+        return transferUseCase.execute(new TransferCommand(payer, hotAccountId, BigDecimal.ONE));
+    }
+}
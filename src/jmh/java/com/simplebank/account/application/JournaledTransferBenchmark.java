@@ -0,0 +1,94 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.TransferUseCase;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.application.port.in.dto.TransferResult;
+import com.simplebank.common.benchmark.BenchmarkContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 간 이체 처리량: 동기 JPA 저장(saveAndFlush) vs 잔액 저널(write-behind, group commit fsync).
+ * 저널 모드도 원장/잔액 요약은 같은 DB 트랜잭션에 기록하므로 차이는 계좌 조회/갱신과 fsync 묶음에서 난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class JournaledTransferBenchmark {
+
+    private static final int ACCOUNT_COUNT = 1_024;
+
+    @Param({"false", "true"})
+    private boolean journal;
+
+    private ConfigurableApplicationContext context;
+    private TransferUseCase transferUseCase;
+    private Path journalDirectory;
+    private long[] accountIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        journalDirectory = Files.createTempDirectory("balance-journal-bench");
+        context = BenchmarkContext.start(
+                "simplebank.account.journal.enabled=" + journal,
+                "simplebank.account.journal.path=" + journalDirectory.resolve("journal.log"));
+        transferUseCase = context.getBean(TransferUseCase.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> rows = new ArrayList<>(ACCOUNT_COUNT);
+        for (int i = 1; i <= ACCOUNT_COUNT; i++) {
+            rows.add(new Object[]{(long) i, "JOURNAL-" + i, new BigDecimal("1000000000.00")});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into accounts (user_id, account_number, balance, status, version) values (?, ?, ?, 'ACTIVE', 0)",
+                rows);
+        accountIds = jdbcTemplate.queryForList("select id from accounts", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (var files = Files.list(journalDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(journalDirectory);
+    }
+
+    @Benchmark
+    public TransferResult transfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int from = random.nextInt(accountIds.length);
+        int to = (from + 1 + random.nextInt(accountIds.length - 1)) % accountIds.length;
+        return transferUseCase.execute(new TransferCommand(accountIds[from], accountIds[to], BigDecimal.ONE));
+    }
+}
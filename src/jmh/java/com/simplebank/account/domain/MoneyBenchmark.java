@@ -0,0 +1,76 @@
+package com.simplebank.account.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * long 기반 Money 와 이전 구현이 사용하던 BigDecimal 연산의 처리량/할당량 비교.
+ * 할당량은 gc 프로파일러(build.gradle 의 jmh.profilers)의 gc.alloc.rate.norm 으로 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private BigDecimal decimalBalance;
+    private BigDecimal decimalAmount;
+    private Money balance;
+    private Money amount;
+
+    @Setup
+    public void setUp() {
+        decimalBalance = new BigDecimal("1234567.89");
+        decimalAmount = new BigDecimal("1000.01");
+        balance = new Money(decimalBalance);
+        amount = new Money(decimalAmount);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalAdd() {
+        return decimalBalance.add(decimalAmount);
+    }
+
+    @Benchmark
+    public Money moneyAdd() {
+        return balance.add(amount);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalSubtract() {
+        return decimalBalance.subtract(decimalAmount);
+    }
+
+    @Benchmark
+    public Money moneySubtract() {
+        return balance.subtract(amount);
+    }
+
+    @Benchmark
+    public boolean bigDecimalCompare() {
+        return decimalBalance.compareTo(decimalAmount) >= 0;
+    }
+
+    @Benchmark
+    public boolean moneyCompare() {
+        return balance.isGreaterThanOrEqual(amount);
+    }
+
+    @Benchmark
+    public BigDecimal moneyToBigDecimal() {
+        return balance.getAmount();
+    }
+}
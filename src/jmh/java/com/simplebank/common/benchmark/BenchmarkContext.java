@@ -0,0 +1,62 @@
+package com.simplebank.common.benchmark;
+
+import com.simplebank.SimpleBankApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트. 기본은 웹 서버 없이 H2 인메모리 DB 위에서 유스케이스 빈만 띄우고,
+ * SQL 로깅은 측정값을 왜곡하므로 끈다.
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return start(WebApplicationType.NONE, properties);
+    }
+
+    // 부하 테스트용: 임의 포트로 내장 Tomcat 까지 띄운다 (포트는 local.server.port)
+    public static ConfigurableApplicationContext startServer(String... properties) {
+        String[] withPort = new String[properties.length + 1];
+        withPort[0] = "server.port=0";
+        System.arraycopy(properties, 0, withPort, 1, properties.length);
+        return start(WebApplicationType.SERVLET, withPort);
+    }
+
+    // application.yml 보다 우선하도록 커맨드라인 인자로 넘긴다
+    private static ConfigurableApplicationContext start(WebApplicationType webApplicationType, String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID(),
+                "--spring.h2.console.enabled=false",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.simplebank=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                // 같은 사용자로 반복 로그인하므로 시도 제한을 끈다
+                "--simplebank.user.login-throttle.enabled=false"
+        ));
+        // 같은 키를 넘기면 기본값을 대신한다 (같은 키가 두 번 있으면 값이 쉼표로 합쳐진다)
+        for (String property : properties) {
+            int separator = property.indexOf('=');
+            if (separator > 0) {
+                String key = "--" + property.substring(0, separator + 1);
+                args.removeIf(arg -> arg.startsWith(key));
+            }
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(SimpleBankApplication.class)
+                .web(webApplicationType)
+                .bannerMode(Banner.Mode.OFF)
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,68 @@
+package com.simplebank.common.benchmark;
+
+import com.simplebank.account.adapter.out.persistence.AccountJpaEntity;
+import com.simplebank.account.adapter.out.persistence.AccountJpaRepository;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.user.adapter.out.persistence.UserJpaEntity;
+import com.simplebank.user.adapter.out.persistence.UserJpaRepository;
+import com.simplebank.user.application.port.out.IssueSessionPort;
+import com.simplebank.user.domain.UserStatus;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkFixtures {
+
+    public static final String PASSWORD = "password123";
+
+    private BenchmarkFixtures() {
+    }
+
+    public static String username(int index) {
+        return "bench-user-" + index;
+    }
+
+    // 해시 계산은 한 번만 하고 모든 사용자가 같은 해시를 공유한다
+    public static List<Long> seedUsers(ApplicationContext context, int count) {
+        String encoded = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<UserJpaEntity> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(UserJpaEntity.builder()
+                    .username(username(i))
+                    .password(encoded)
+                    .status(UserStatus.ACTIVE)
+                    .build());
+        }
+        return context.getBean(UserJpaRepository.class).saveAll(users).stream()
+                .map(UserJpaEntity::getId)
+                .toList();
+    }
+
+    // 로그인(해시 계산)을 거치지 않고 세션 저장소에서 바로 토큰을 발급한다
+    public static List<String> issueSessions(ApplicationContext context, List<Long> userIds) {
+        IssueSessionPort issueSessionPort = context.getBean(IssueSessionPort.class);
+        List<String> tokens = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            tokens.add(issueSessionPort.issue(userIds.get(i), username(i)).getToken());
+        }
+        return tokens;
+    }
+
+    public static void seedAccounts(ApplicationContext context, List<Long> userIds, int accountsPerUser) {
+        List<AccountJpaEntity> accounts = new ArrayList<>(userIds.size() * accountsPerUser);
+        for (Long userId : userIds) {
+            for (int i = 0; i < accountsPerUser; i++) {
+                accounts.add(AccountJpaEntity.builder()
+                        .userId(userId)
+                        .accountNumber(userId + "-" + i)
+                        .balance(new BigDecimal("10000.00"))
+                        .status(AccountStatus.ACTIVE)
+                        .build());
+            }
+        }
+        context.getBean(AccountJpaRepository.class).saveAll(accounts);
+    }
+}
@@ -0,0 +1,70 @@
+package com.simplebank.common.benchmark;
+
+import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.dto.AccountInfo;
+import com.simplebank.user.application.port.in.GetUserInfoUseCase;
+import com.simplebank.user.application.port.in.LoginUseCase;
+import com.simplebank.user.application.port.in.dto.LoginCommand;
+import com.simplebank.user.application.port.in.dto.LoginResult;
+import com.simplebank.user.application.port.in.dto.UserInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨텍스트 기동 직후 각 유스케이스의 첫 호출 시간 (클래스 로딩, 쿼리 플랜 생성, 인터프리터 실행 포함).
+ * 매 fork 가 새 JVM 이므로 fork 수만큼의 첫 호출 표본이 모인다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ColdPathBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        List<Long> userIds = BenchmarkFixtures.seedUsers(context, 1);
+        BenchmarkFixtures.seedAccounts(context, userIds, 10);
+        userId = userIds.get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoginResult firstLogin() {
+        return context.getBean(LoginUseCase.class)
+                .execute(new LoginCommand(BenchmarkFixtures.username(0), BenchmarkFixtures.PASSWORD));
+    }
+
+    @Benchmark
+    public UserInfo firstGetUserInfo() {
+        return context.getBean(GetUserInfoUseCase.class).execute(userId);
+    }
+
+    @Benchmark
+    public List<AccountInfo> firstGetAccounts() {
+        return context.getBean(GetAccountsUseCase.class).execute(userId);
+    }
+}
@@ -0,0 +1,118 @@
+package com.simplebank.common.benchmark;
+
+import com.simplebank.user.application.port.in.GetUserInfoUseCase;
+import com.simplebank.user.application.port.out.LoadUserPort;
+import com.simplebank.user.domain.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재시작부터 첫 빠른 응답까지의 시간: 컨텍스트 기동 + 없는 사용자명 조회 1회 + 자주 조회되던 사용자 HOT_USERS 명 조회.
+ * DB 는 재시작 사이에도 남도록 이름 있는 H2 인메모리 DB 를 쓴다.
+ * snapshot=false 는 필터가 백그라운드에서 users 전체를 읽는 동안 사용자명 조회가 DB 로 가고, 사용자 조회도 모두 DB 로 간다.
+ * snapshot=true 는 요청을 받기 전에 스냅샷에서 필터를 채우고, 캐시는 남겨 둔 사용자 ID 로 백그라운드에서 DB 를 묶음으로 읽어 채운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WarmStartBenchmark {
+
+    private static final int USER_COUNT = 200_000;
+    private static final int HOT_USERS = 5_000;
+
+    @Param({"false", "true"})
+    private boolean snapshot;
+
+    private String url;
+    private Path snapshotPath;
+    private List<Long> hotUserIds;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        url = "jdbc:h2:mem:warm-start-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        snapshotPath = Files.createTempDirectory("warm-start").resolve("warm-state.snap");
+
+        // 1. 사용자를 넣고 운영 중이던 것처럼 필터와 캐시를 채운 뒤 멈추면서 스냅샷을 남긴다
+        ConfigurableApplicationContext seed = BenchmarkContext.start(
+                "spring.datasource.url=" + url,
+                "spring.jpa.hibernate.ddl-auto=create",
+                "simplebank.snapshot.enabled=true",
+                "simplebank.snapshot.path=" + snapshotPath);
+        seedUsers(seed);
+        hotUserIds = seed.getBean(JdbcTemplate.class)
+                .queryForList("select id from users order by id limit ?", Long.class, HOT_USERS);
+        warmUp(seed);
+        seed.close();
+    }
+
+    private void seedUsers(ConfigurableApplicationContext seed) {
+        String encoded = seed.getBean(PasswordEncoder.class).encode(BenchmarkFixtures.PASSWORD);
+        List<Object[]> rows = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            rows.add(new Object[]{BenchmarkFixtures.username(i), encoded, UserStatus.ACTIVE.name()});
+        }
+        seed.getBean(JdbcTemplate.class)
+                .batchUpdate("insert into users (username, password, status) values (?, ?, ?)", rows);
+    }
+
+    // 2. 재시작 직후 들어오는 요청: 없는 사용자명 조회(필터), 자주 조회되던 사용자 조회(캐시)
+    private void warmUp(ConfigurableApplicationContext target) {
+        target.getBean(LoadUserPort.class).loadByUsername("nonexistent-user");
+        GetUserInfoUseCase getUserInfo = target.getBean(GetUserInfoUseCase.class);
+        for (Long userId : hotUserIds) {
+            getUserInfo.execute(userId);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() {
+        context.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try {
+            Files.deleteIfExists(snapshotPath);
+            Files.deleteIfExists(snapshotPath.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public void restartToFirstFastResponse() {
+        context = BenchmarkContext.start(
+                "spring.datasource.url=" + url,
+                "spring.jpa.hibernate.ddl-auto=none",
+                "simplebank.snapshot.enabled=" + snapshot,
+                "simplebank.snapshot.path=" + snapshotPath);
+        warmUp(context);
+    }
+}
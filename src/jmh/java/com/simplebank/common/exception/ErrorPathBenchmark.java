@@ -0,0 +1,80 @@
+package com.simplebank.common.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplebank.user.domain.exception.UserNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예외 생성부터 오류 응답 본문까지의 처리량. 컨트롤러에 도달하기까지의 호출 깊이를 depth 로 흉내 낸다.
+ * legacy 는 스택 트레이스를 채우고 매번 ErrorResponse 를 만들어 직렬화하던 이전 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    @Param({"20", "100"})
+    private int depth;
+
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        handler = new GlobalExceptionHandler(objectMapper);
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> stacklessCached() {
+        try {
+            throwAt(depth);
+            return null;
+        } catch (DomainException e) {
+            return handler.handleDomainException(e);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> legacy() throws Exception {
+        try {
+            throwWithStackTraceAt(depth);
+            return null;
+        } catch (DomainException e) {
+            byte[] body = objectMapper.writeValueAsBytes(new ErrorResponse("USER_NOT_FOUND", e.getMessage()));
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+        }
+    }
+
+    private static void throwAt(int depth) {
+        if (depth == 0) {
+            throw new UserNotFoundException("unknown-user");
+        }
+        throwAt(depth - 1);
+    }
+
+    private static void throwWithStackTraceAt(int depth) {
+        if (depth == 0) {
+            throw new DomainException(ErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: unknown-user", true) {
+            };
+        }
+        throwWithStackTraceAt(depth - 1);
+    }
+}
@@ -0,0 +1,62 @@
+package com.simplebank.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MEMORY 저장소에서 Idempotency-Key 처리가 요청마다 더하는 시간.
+ * noKey 는 헤더 없는 요청(기존 경로), firstRequest 는 새 키 선점+응답 저장, replay 는 저장된 응답 반환이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IdempotencyBenchmark {
+
+    private static final Map<String, Object> REQUEST = Map.of(
+            "fromAccountId", 1L, "toAccountId", 2L, "amount", new BigDecimal("3000.00"));
+    private static final Map<String, Object> RESPONSE = Map.of(
+            "fromAccountId", 1L, "toAccountId", 2L, "amount", new BigDecimal("3000.00"), "fromBalance", new BigDecimal("7000.00"));
+
+    private IdempotencyExecutor executor;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setMaximumSize(1_000_000);
+        executor = new IdempotencyExecutor(new InMemoryIdempotencyStore(properties), new ObjectMapper(), properties);
+        executor.execute("POST /api/accounts/transfer", "replay-key", REQUEST, () -> RESPONSE);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> noKey() {
+        return executor.execute("POST /api/accounts/transfer", null, REQUEST, () -> RESPONSE);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> firstRequest() {
+        return executor.execute("POST /api/accounts/transfer", "key-" + next++, REQUEST, () -> RESPONSE);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> replay() {
+        return executor.execute("POST /api/accounts/transfer", "replay-key", REQUEST, () -> RESPONSE);
+    }
+}
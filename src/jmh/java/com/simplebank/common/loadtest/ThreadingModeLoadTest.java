@@ -0,0 +1,223 @@
+package com.simplebank.common.loadtest;
+
+import com.simplebank.common.benchmark.BenchmarkContext;
+import com.simplebank.common.benchmark.BenchmarkFixtures;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플랫폼 스레드 모드와 virtual-threads 프로필을 같은 조건에서 띄워 처리량과 p99 지연 시간을 비교한다.
+ * 같은 유스케이스의 블로킹 경로(/api/...)와 비동기 경로(/api/async/...)도 시나리오로 비교할 수 있다.
+ *
+ * <p>모든 경로가 세션 토큰을 요구하므로 사용자마다 세션을 미리 발급해 Authorization 헤더로 보낸다.
+ *
+ * <p>클라이언트 수만큼 닫힌 루프(응답을 받으면 바로 다음 요청)를 돌린다. 클라이언트는 비동기 HttpClient 로
+ * 구현해 부하 발생기 자체가 클라이언트 수만큼 스레드를 쓰지 않는다.
+ *
+ * <pre>
+ * ./gradlew loadTest -PjavaVersion=21 -PloadTestArgs='--clients=1000,5000,10000 --duration=30'
+ * </pre>
+ * 옵션: --modes=platform,virtual --clients=... --duration=초 --warmup=초
+ *       --scenarios=accounts,accounts-async,user,user-async (기본 accounts)
+ */
+public final class ThreadingModeLoadTest {
+
+    private static final int USER_COUNT = 1_000;
+    private static final int ACCOUNTS_PER_USER = 10;
+
+    private static final Map<String, String> SCENARIO_PATHS = Map.of(
+            "accounts", "/api/accounts/user/",
+            "accounts-async", "/api/async/accounts/user/",
+            "user", "/api/users/",
+            "user-async", "/api/async/users/"
+    );
+
+    private ThreadingModeLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        List<String> modes = List.of(options.getOrDefault("modes", "platform,virtual").split(","));
+        int[] clientCounts = Arrays.stream(options.getOrDefault("clients", "1000,5000,10000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        List<String> scenarios = List.of(options.getOrDefault("scenarios", "accounts").split(","));
+        for (String scenario : scenarios) {
+            if (!SCENARIO_PATHS.containsKey(scenario)) {
+                throw new IllegalArgumentException("알 수 없는 시나리오: " + scenario);
+            }
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (String mode : modes) {
+            if (mode.equals("virtual") && Runtime.version().feature() < 21) {
+                System.out.printf("[skip] virtual 모드는 Java 21 이상에서만 실행됩니다. (현재 Java %d)%n",
+                        Runtime.version().feature());
+                continue;
+            }
+            ConfigurableApplicationContext context = mode.equals("virtual")
+                    ? BenchmarkContext.startServer("spring.profiles.active=virtual-threads")
+                    : BenchmarkContext.startServer(
+                            // 커넥션 풀, 연결 상한은 두 모드를 같게 두고 스레드 모델만 비교한다
+                            "spring.datasource.hikari.maximum-pool-size=40",
+                            "spring.datasource.hikari.minimum-idle=40",
+                            "spring.datasource.hikari.connection-timeout=2000",
+                            "server.tomcat.max-connections=20000",
+                            "server.tomcat.accept-count=1000");
+            try {
+                List<Long> userIds = BenchmarkFixtures.seedUsers(context, USER_COUNT);
+                BenchmarkFixtures.seedAccounts(context, userIds, ACCOUNTS_PER_USER);
+                List<String> tokens = BenchmarkFixtures.issueSessions(context, userIds);
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                for (String scenario : scenarios) {
+                    List<HttpRequest> targets = new ArrayList<>(userIds.size());
+                    for (int i = 0; i < userIds.size(); i++) {
+                        targets.add(HttpRequest.newBuilder(URI.create(baseUrl + SCENARIO_PATHS.get(scenario) + userIds.get(i)))
+                                .header("Authorization", "Bearer " + tokens.get(i))
+                                .GET()
+                                .build());
+                    }
+                    for (int clients : clientCounts) {
+                        run(targets, clients, warmup, false);
+                        results.add(new Result(mode, scenario, clients, run(targets, clients, duration, true)));
+                    }
+                }
+            } finally {
+                context.close();
+            }
+        }
+
+        System.out.printf("%n%-10s %-15s %8s %12s %12s %10s %10s %10s %8s%n",
+                "mode", "scenario", "clients", "requests", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+        for (Result result : results) {
+            Stats stats = result.stats();
+            System.out.printf("%-10s %-15s %8d %12d %12.0f %10.2f %10.2f %10.2f %8d%n",
+                    result.mode(), result.scenario(), result.clients(), stats.requests(), stats.throughput(),
+                    stats.percentileMillis(0.50), stats.percentileMillis(0.99), stats.percentileMillis(1.0),
+                    stats.errors());
+        }
+    }
+
+    private static Stats run(List<HttpRequest> targets, int clients, Duration duration, boolean record) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch done = new CountDownLatch(clients);
+        AtomicLong errors = new AtomicLong();
+        List<Client> all = new ArrayList<>(clients);
+        long started = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            Client client = new Client(httpClient, targets, i, deadline, done, errors, record);
+            all.add(client);
+            client.next();
+        }
+        done.await(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        int total = all.stream().mapToInt(client -> client.count).sum();
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (Client client : all) {
+            System.arraycopy(client.latencies, 0, latencies, offset, client.count);
+            offset += client.count;
+        }
+        Arrays.sort(latencies);
+        return new Stats(latencies, errors.get(), elapsedSeconds);
+    }
+
+    // 한 클라이언트의 요청 루프. 콜백이 순서대로 실행되므로 latencies 에 동기화가 필요 없다.
+    private static final class Client {
+        private final HttpClient httpClient;
+        private final List<HttpRequest> targets;
+        private final long deadline;
+        private final CountDownLatch done;
+        private final AtomicLong errors;
+        private final boolean record;
+        private int cursor;
+        private long[] latencies = new long[256];
+        private int count;
+
+        Client(HttpClient httpClient, List<HttpRequest> targets, int seed, long deadline,
+               CountDownLatch done, AtomicLong errors, boolean record) {
+            this.httpClient = httpClient;
+            this.targets = targets;
+            this.cursor = seed;
+            this.deadline = deadline;
+            this.done = done;
+            this.errors = errors;
+            this.record = record;
+        }
+
+        void next() {
+            if (System.nanoTime() >= deadline) {
+                done.countDown();
+                return;
+            }
+            HttpRequest target = targets.get(cursor++ % targets.size());
+            long start = System.nanoTime();
+            httpClient.sendAsync(target, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long elapsed = System.nanoTime() - start;
+                        if (failure != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        } else if (record) {
+                            if (count == latencies.length) {
+                                latencies = Arrays.copyOf(latencies, count * 2);
+                            }
+                            latencies[count++] = elapsed;
+                        }
+                        next();
+                    });
+        }
+    }
+
+    private record Result(String mode, String scenario, int clients, Stats stats) {
+    }
+
+    private record Stats(long[] sortedLatencies, long errors, double elapsedSeconds) {
+
+        long requests() {
+            return sortedLatencies.length;
+        }
+
+        double throughput() {
+            return sortedLatencies.length / elapsedSeconds;
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
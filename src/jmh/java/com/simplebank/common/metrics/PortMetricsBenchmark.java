@@ -0,0 +1,84 @@
+package com.simplebank.common.metrics;
+
+import com.simplebank.user.application.port.in.GetUserInfoUseCase;
+import com.simplebank.user.application.port.in.dto.UserInfo;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트 메트릭 프록시가 호출마다 더하는 시간. 운영 설정과 같이 p50/p95/p99 를 계산하는 타이머로 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PortMetricsBenchmark {
+
+    private static final UserInfo USER = new UserInfo(1L, "user1", "ACTIVE");
+
+    // 클라이언트 측 백분위 계산 여부
+    @Param({"true", "false"})
+    private boolean percentiles;
+
+    private GetUserInfoUseCase direct;
+    private GetUserInfoUseCase metered;
+
+    public static class FixedUserInfoService implements GetUserInfoUseCase {
+        @Override
+        public UserInfo execute(Long userId) {
+            return USER;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        if (percentiles) {
+            registry.config().meterFilter(new MeterFilter() {
+                @Override
+                public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                    return DistributionStatisticConfig.builder()
+                            .percentiles(0.5, 0.95, 0.99)
+                            .build()
+                            .merge(config);
+                }
+            });
+        }
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+
+        PortMetricsPostProcessor postProcessor = new PortMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+        postProcessor.setBeanFactory(beanFactory);
+        direct = new FixedUserInfoService();
+        metered = (GetUserInfoUseCase) postProcessor.postProcessAfterInitialization(new FixedUserInfoService(), "service");
+    }
+
+    @Benchmark
+    public UserInfo direct() {
+        return direct.execute(1L);
+    }
+
+    @Benchmark
+    public UserInfo metered() {
+        return metered.execute(1L);
+    }
+}
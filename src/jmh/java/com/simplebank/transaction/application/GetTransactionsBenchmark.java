@@ -0,0 +1,91 @@
+package com.simplebank.transaction.application;
+
+import com.simplebank.account.domain.Money;
+import com.simplebank.common.benchmark.BenchmarkContext;
+import com.simplebank.transaction.application.port.in.GetTransactionsUseCase;
+import com.simplebank.transaction.application.port.in.dto.TransactionPage;
+import com.simplebank.transaction.application.port.out.SaveTransactionPort;
+import com.simplebank.transaction.domain.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원장이 큰 계좌의 최신 페이지 / 커서로 이어지는 페이지 조회 지연 시간.
+ * 다른 계좌의 거래가 섞여 있어도 인덱스 범위만 읽는지 확인하기 위해 이웃 계좌에도 같은 양을 기록한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GetTransactionsBenchmark {
+
+    private static final long ACCOUNT_ID = 1L;
+    private static final long NEIGHBOUR_ACCOUNT_ID = 2L;
+    private static final int CHUNK = 5_000;
+
+    @Param({"10000", "1000000"})
+    private int entries;
+
+    @Param({"50"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private GetTransactionsUseCase getTransactionsUseCase;
+    private String secondPageCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        SaveTransactionPort saveTransactionPort = context.getBean(SaveTransactionPort.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        Money amount = new Money(new BigDecimal("1.00"));
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        for (int offset = 0; offset < entries; offset += CHUNK) {
+            List<Transaction> chunk = new ArrayList<>(CHUNK * 2);
+            for (int i = offset; i < Math.min(entries, offset + CHUNK); i++) {
+                Instant createdAt = base.plusMillis(i);
+                chunk.add(Transaction.transferOut(ACCOUNT_ID, NEIGHBOUR_ACCOUNT_ID, amount, amount, createdAt));
+                chunk.add(Transaction.transferIn(NEIGHBOUR_ACCOUNT_ID, ACCOUNT_ID, amount, amount, createdAt));
+            }
+            transactionTemplate.executeWithoutResult(status -> saveTransactionPort.saveAll(chunk));
+        }
+        getTransactionsUseCase = context.getBean(GetTransactionsUseCase.class);
+        secondPageCursor = getTransactionsUseCase.execute(ACCOUNT_ID, null, pageSize).getNextCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionPage latestPage() {
+        return getTransactionsUseCase.execute(ACCOUNT_ID, null, pageSize);
+    }
+
+    @Benchmark
+    public TransactionPage nextPage() {
+        return getTransactionsUseCase.execute(ACCOUNT_ID, secondPageCursor, pageSize);
+    }
+}
@@ -0,0 +1,49 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import com.simplebank.user.domain.User;
+import com.simplebank.user.domain.UserStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UserJpaEntityMappingBenchmark {
+
+    private UserJpaEntity entity;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        entity = UserJpaEntity.builder()
+                .id(1L)
+                .username("user1")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .status(UserStatus.ACTIVE)
+                .build();
+        user = entity.toDomain();
+    }
+
+    @Benchmark
+    public User toDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public UserJpaEntity fromDomain() {
+        return UserJpaEntity.from(user);
+    }
+}
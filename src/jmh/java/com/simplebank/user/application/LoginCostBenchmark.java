@@ -0,0 +1,69 @@
+package com.simplebank.user.application;
+
+import com.simplebank.common.benchmark.BenchmarkContext;
+import com.simplebank.common.benchmark.BenchmarkFixtures;
+import com.simplebank.user.application.port.in.LoginUseCase;
+import com.simplebank.user.application.port.in.dto.LoginCommand;
+import com.simplebank.user.application.port.in.dto.LoginResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 알고리즘/비용 설정별 로그인 지연 시간 분포.
+ * SampleTime 모드의 결과에 p0.50, p0.99 백분위가 함께 기록된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LoginCostBenchmark {
+
+    private static final int USER_COUNT = 100;
+
+    @Param({"bcrypt:8", "bcrypt:10", "bcrypt:12", "pbkdf2:310000"})
+    private String encoder;
+
+    private ConfigurableApplicationContext context;
+    private LoginUseCase loginUseCase;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] setting = encoder.split(":");
+        String costProperty = setting[0].equals("bcrypt")
+                ? "simplebank.security.password-encoder.bcrypt-strength=" + setting[1]
+                : "simplebank.security.password-encoder.pbkdf2-iterations=" + setting[1];
+        context = BenchmarkContext.start(
+                "simplebank.security.password-encoder.algorithm=" + setting[0],
+                costProperty);
+        BenchmarkFixtures.seedUsers(context, USER_COUNT);
+        loginUseCase = context.getBean(LoginUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LoginResult login() {
+        next = (next + 1) % USER_COUNT;
+        return loginUseCase.execute(new LoginCommand(BenchmarkFixtures.username(next), BenchmarkFixtures.PASSWORD));
+    }
+}
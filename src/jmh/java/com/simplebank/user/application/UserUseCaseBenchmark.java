@@ -0,0 +1,79 @@
+package com.simplebank.user.application;
+
+import com.simplebank.common.benchmark.BenchmarkContext;
+import com.simplebank.common.benchmark.BenchmarkFixtures;
+import com.simplebank.user.application.port.in.GetUserInfoUseCase;
+import com.simplebank.user.application.port.in.LoginUseCase;
+import com.simplebank.user.application.port.in.dto.LoginCommand;
+import com.simplebank.user.application.port.in.dto.LoginResult;
+import com.simplebank.user.application.port.in.dto.UserInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 워밍업이 끝난 상태의 로그인/사용자 정보 조회 지연 시간.
+ * 로그인은 BCrypt 검증이 대부분을 차지한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UserUseCaseBenchmark {
+
+    private static final int USER_COUNT = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private LoginUseCase loginUseCase;
+    private GetUserInfoUseCase getUserInfoUseCase;
+    private List<Long> userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        userIds = BenchmarkFixtures.seedUsers(context, USER_COUNT);
+        loginUseCase = context.getBean(LoginUseCase.class);
+        getUserInfoUseCase = context.getBean(GetUserInfoUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next() {
+            next = (next + 1) % USER_COUNT;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public LoginResult login(Cursor cursor) {
+        int index = cursor.next();
+        return loginUseCase.execute(new LoginCommand(BenchmarkFixtures.username(index), BenchmarkFixtures.PASSWORD));
+    }
+
+    @Benchmark
+    public UserInfo getUserInfo(Cursor cursor) {
+        return getUserInfoUseCase.execute(userIds.get(cursor.next()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.simplebank.user.application;
+
+import com.simplebank.common.benchmark.BenchmarkContext;
+import com.simplebank.common.benchmark.BenchmarkFixtures;
+import com.simplebank.user.application.port.in.LoginUseCase;
+import com.simplebank.user.application.port.in.dto.LoginCommand;
+import com.simplebank.user.domain.exception.InvalidCredentialsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대부분이 존재하지 않는 사용자명인 로그인 부하. filter=false 가 필터 도입 전(매번 DB 조회)이다.
+ * 없는 사용자도 해시 비교를 거치므로 필터가 줄이는 것은 DB 조회뿐이다.
+ * bcrypt-strength=4 는 해시 비용을 최소로 두어 조회 비용 차이를 드러내고, 10 은 운영 설정에서의 차이를 보여 준다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UsernameLookupBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+
+    @Param({"true", "false"})
+    private boolean filter;
+
+    // 존재하는 사용자명 비율 (%)
+    @Param({"0", "10"})
+    private int hitPercent;
+
+    @Param({"4", "10"})
+    private int bcryptStrength;
+
+    private ConfigurableApplicationContext context;
+    private LoginUseCase loginUseCase;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "simplebank.user.username-filter.enabled=" + filter,
+                "simplebank.security.password-encoder.bcrypt-strength=" + bcryptStrength);
+        BenchmarkFixtures.seedUsers(context, USER_COUNT);
+        loginUseCase = context.getBean(LoginUseCase.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next() {
+            next = (next + 1) % 100;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public Object login(Cursor cursor) {
+        int n = cursor.next();
+        String username = n < hitPercent
+                ? BenchmarkFixtures.username(n)
+                : "unknown-" + n;
+        try {
+            return loginUseCase.execute(new LoginCommand(username, BenchmarkFixtures.PASSWORD));
+        } catch (InvalidCredentialsException e) {
+            return e;
+        }
+    }
+}
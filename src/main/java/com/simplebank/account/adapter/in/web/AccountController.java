@@ -1,26 +1,246 @@
 package com.simplebank.account.adapter.in.web;
 
+import com.simplebank.account.adapter.in.web.dto.TransferRequest;
+import com.simplebank.account.adapter.in.web.dto.TransferResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.simplebank.account.application.TransferProperties;
+import com.simplebank.account.application.port.in.BatchTransferUseCase;
+import com.simplebank.account.application.port.in.CheckBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.GetAccountsBatchUseCase;
+import com.simplebank.account.application.port.in.GetAccountsPageUseCase;
 import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.GetBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.GetTransferStatisticsUseCase;
+import com.simplebank.account.application.port.in.StreamAccountsUseCase;
+import com.simplebank.account.application.port.in.TransferUseCase;
 import com.simplebank.account.application.port.in.dto.AccountInfo;
+import com.simplebank.account.application.port.in.dto.AccountPage;
+import com.simplebank.account.application.port.in.dto.BalanceSummaryCheckResult;
+import com.simplebank.account.application.port.in.dto.BalanceSummaryInfo;
+import com.simplebank.account.application.port.in.dto.BatchTransferCommand;
+import com.simplebank.account.application.port.in.dto.BatchTransferResult;
+import com.simplebank.account.application.port.in.dto.CreditLine;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.application.port.in.dto.TransferResult;
+import com.simplebank.account.application.port.in.dto.TransferStatisticsInfo;
+import com.simplebank.common.idempotency.IdempotencyExecutor;
+import com.simplebank.common.web.SessionUserId;
+import com.simplebank.user.domain.exception.ForbiddenUserException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/accounts")
 @RequiredArgsConstructor
 public class AccountController {
 
+    // 스트리밍 응답에서 몇 건마다 flush 할지
+    private static final int STREAM_FLUSH_INTERVAL = 256;
+
     private final GetAccountsUseCase getAccountsUseCase;
+    private final GetAccountsBatchUseCase getAccountsBatchUseCase;
+    private final GetAccountsPageUseCase getAccountsPageUseCase;
+    private final StreamAccountsUseCase streamAccountsUseCase;
+    private final GetBalanceSummaryUseCase getBalanceSummaryUseCase;
+    private final CheckBalanceSummaryUseCase checkBalanceSummaryUseCase;
+    private final TransferUseCase transferUseCase;
+    private final BatchTransferUseCase batchTransferUseCase;
+    private final GetTransferStatisticsUseCase getTransferStatisticsUseCase;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyExecutor idempotencyExecutor;
+    private final TransferProperties transferProperties;
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<AccountInfo>> getAccounts(@PathVariable Long userId) {
+    public ResponseEntity<List<AccountInfo>> getAccounts(@SessionUserId Long userId) {
         List<AccountInfo> accounts = getAccountsUseCase.execute(userId);
         return ResponseEntity.ok(accounts);
     }
+
+    @GetMapping("/user/{userId}/page")
+    public ResponseEntity<AccountPage> getAccountsPage(@SessionUserId Long userId,
+                                                       @RequestParam(required = false) Long after,
+                                                       @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(getAccountsPageUseCase.execute(userId, after, size));
+    }
+
+    // 계좌 수가 매우 많은 사용자를 위해 목록을 메모리에 모으지 않고 JSON 배열로 바로 써 내려간다
+    @GetMapping("/user/{userId}/stream")
+    public ResponseEntity<StreamingResponseBody> streamAccounts(@SessionUserId Long userId) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                int[] written = {0};
+                streamAccountsUseCase.execute(userId, account -> {
+                    try {
+                        generator.writeObject(account);
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping("/user/{userId}/summary")
+    public ResponseEntity<BalanceSummaryInfo> getBalanceSummary(@SessionUserId Long userId) {
+        return ResponseEntity.ok(getBalanceSummaryUseCase.execute(userId));
+    }
+
+    @PostMapping("/summary/check")
+    public ResponseEntity<BalanceSummaryCheckResult> checkBalanceSummary(
+            @RequestParam(defaultValue = "false") boolean repair) {
+        return ResponseEntity.ok(checkBalanceSummaryUseCase.execute(repair));
+    }
+
+    // 세션 사용자 외의 ID 가 섞여 있으면 거절한다
+    @GetMapping("/users")
+    public ResponseEntity<Map<Long, List<AccountInfo>>> getAccountsBatch(@SessionUserId Long sessionUserId,
+                                                                         @RequestParam Set<Long> userIds) {
+        for (Long userId : userIds) {
+            if (!userId.equals(sessionUserId)) {
+                throw new ForbiddenUserException(sessionUserId, userId);
+            }
+        }
+        Map<Long, List<AccountInfo>> accounts = getAccountsBatchUseCase.execute(userIds);
+        return ResponseEntity.ok(accounts);
+    }
+
+    @PostMapping("/transfer")
+    public ResponseEntity<?> transfer(@SessionUserId Long userId,
+                                      @RequestBody TransferRequest request,
+                                      @RequestHeader(value = IdempotencyExecutor.HEADER, required = false) String idempotencyKey) {
+        // 키는 사용자마다 따로 적용된다
+        String scope = "POST /api/accounts/transfer:" + userId;
+        TransferCommand command = new TransferCommand(
+                request.getFromAccountId(),
+                request.getToAccountId(),
+                request.getAmount(),
+                userId,
+                IdempotencyExecutor.requestKey(scope, idempotencyKey)
+        );
+
+        return idempotencyExecutor.execute(scope, idempotencyKey, request, () -> {
+            TransferResult result = transferUseCase.execute(command);
+            return new TransferResponse(
+                    result.getFromAccountId(),
+                    result.getToAccountId(),
+                    result.getAmount(),
+                    result.getFromBalance()
+            );
+        });
+    }
+
+    // 일괄 이체 (JSON 배열 [{"toAccountId":..,"amount":..}, ...])
+    @PostMapping(value = "/{fromAccountId}/batch-transfer", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> batchTransfer(@SessionUserId Long userId,
+                                                               @PathVariable Long fromAccountId,
+                                                               @RequestHeader(value = IdempotencyExecutor.HEADER, required = false) String idempotencyKey,
+                                                               InputStream body) throws IOException {
+        List<CreditLine> lines = CreditLineJsonReader.read(objectMapper, body, transferProperties.getBatch().getMaxLines());
+        return batchTransfer(userId, fromAccountId, idempotencyKey, lines);
+    }
+
+    // 일괄 이체 (CSV 파일, 한 줄에 "입금계좌ID,금액")
+    @PostMapping(value = "/{fromAccountId}/batch-transfer", consumes = "text/csv")
+    public ResponseEntity<StreamingResponseBody> batchTransferCsv(@SessionUserId Long userId,
+                                                                  @PathVariable Long fromAccountId,
+                                                                  @RequestHeader(value = IdempotencyExecutor.HEADER, required = false) String idempotencyKey,
+                                                                  InputStream body) throws IOException {
+        List<CreditLine> lines = CreditLineCsvReader.read(body, transferProperties.getBatch().getMaxLines());
+        return batchTransfer(userId, fromAccountId, idempotencyKey, lines);
+    }
+
+    // JSON 과 CSV 요청은 같은 키 공간을 쓴다. 출금 계좌와 입금 내역이 다르면 같은 키를 다시 쓸 수 없다.
+    private ResponseEntity<StreamingResponseBody> batchTransfer(Long userId, Long fromAccountId, String idempotencyKey,
+                                                                List<CreditLine> lines) {
+        String scope = "POST /api/accounts/batch-transfer:" + userId;
+        BatchTransferCommand command = new BatchTransferCommand(fromAccountId, lines, userId,
+                IdempotencyExecutor.requestKey(scope, idempotencyKey));
+        if (idempotencyKey == null) {
+            return batchTransferResponse(batchTransferUseCase.execute(command));
+        }
+        // 다시 보낼 응답을 저장해야 하므로 키가 있으면 줄별 결과를 한 번에 직렬화하고, 저장된 본문을 그대로 쓴다
+        ResponseEntity<?> response = idempotencyExecutor.execute(scope, idempotencyKey, command, () -> {
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+                writeBatchTransferResult(generator, batchTransferUseCase.execute(command), false);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new RawValue(writer.toString());
+        });
+        byte[] stored = (byte[]) response.getBody();
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .body(outputStream -> outputStream.write(stored));
+    }
+
+    // 이체는 이미 커밋된 상태이고, 줄별 결과만 모으지 않고 써 내려간다
+    private ResponseEntity<StreamingResponseBody> batchTransferResponse(BatchTransferResult result) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                writeBatchTransferResult(generator, result, true);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static void writeBatchTransferResult(JsonGenerator generator, BatchTransferResult result,
+                                                 boolean flush) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("fromAccountId", result.getFromAccountId());
+        generator.writeNumberField("totalLines", result.getTotalLines());
+        generator.writeNumberField("appliedLines", result.getAppliedLines());
+        generator.writeNumberField("rejectedLines", result.getRejectedLines());
+        generator.writeNumberField("totalAmount", result.getTotalAmount());
+        generator.writeNumberField("fromBalance", result.getFromBalance());
+        generator.writeArrayFieldStart("results");
+        int[] written = {0};
+        result.forEachLine(line -> {
+            try {
+                generator.writeObject(line);
+                if (flush && ++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    @GetMapping("/transfer/statistics")
+    public ResponseEntity<TransferStatisticsInfo> getTransferStatistics() {
+        return ResponseEntity.ok(getTransferStatisticsUseCase.execute());
+    }
 }
@@ -0,0 +1,29 @@
+package com.simplebank.account.adapter.in.web;
+
+import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.dto.AccountInfo;
+import com.simplebank.common.async.AsyncReadExecutor;
+import com.simplebank.common.web.SessionUserId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// /api/accounts 조회와 같은 유스케이스를 쓰되, 요청 스레드를 붙잡지 않는 비동기 변형
+@RestController
+@RequestMapping("/api/async/accounts")
+@RequiredArgsConstructor
+public class AsyncAccountController {
+
+    private final GetAccountsUseCase getAccountsUseCase;
+    private final AsyncReadExecutor asyncReadExecutor;
+
+    @GetMapping("/user/{userId}")
+    public CompletableFuture<ResponseEntity<List<AccountInfo>>> getAccounts(@SessionUserId Long userId) {
+        return asyncReadExecutor.submit(() -> ResponseEntity.ok(getAccountsUseCase.execute(userId)));
+    }
+}
@@ -0,0 +1,79 @@
+package com.simplebank.account.adapter.in.web;
+
+import com.simplebank.account.application.port.in.dto.CreditLine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 이체 CSV 를 읽는다. 한 줄에 "입금계좌ID,금액", 숫자로 시작하지 않는 첫 줄은 헤더로 보고 건너뛴다.
+ * 형식이 잘못된 값은 null 로 넘겨 파일 전체가 아니라 그 줄만 거절되게 한다. 빈 줄은 세지 않는다.
+ * 최대 건수를 넘는 줄을 만나면 본문을 끝까지 읽지 않고 바로 거절한다.
+ */
+final class CreditLineCsvReader {
+
+    private CreditLineCsvReader() {
+    }
+
+    static List<CreditLine> read(InputStream inputStream, int maxLines) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<CreditLine> lines = new ArrayList<>();
+        boolean first = true;
+        for (String row = reader.readLine(); row != null; row = reader.readLine()) {
+            row = row.strip();
+            if (first) {
+                first = false;
+                // UTF-8 BOM
+                if (!row.isEmpty() && row.charAt(0) == '\uFEFF') {
+                    row = row.substring(1);
+                }
+                if (!row.isEmpty() && !Character.isDigit(row.charAt(0))) {
+                    continue;
+                }
+            }
+            if (row.isEmpty()) {
+                continue;
+            }
+            if (lines.size() == maxLines) {
+                throw tooManyLines(maxLines);
+            }
+            lines.add(parse(row));
+        }
+        return lines;
+    }
+
+    static IllegalArgumentException tooManyLines(int maxLines) {
+        return new IllegalArgumentException(String.format("일괄 이체는 최대 %d건까지 가능합니다.", maxLines));
+    }
+
+    private static CreditLine parse(String row) {
+        int comma = row.indexOf(',');
+        if (comma < 0 || row.indexOf(',', comma + 1) >= 0) {
+            return new CreditLine(null, null);
+        }
+        return new CreditLine(parseAccountId(row.substring(0, comma).strip()),
+                parseAmount(row.substring(comma + 1).strip()));
+    }
+
+    private static Long parseAccountId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static BigDecimal parseAmount(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
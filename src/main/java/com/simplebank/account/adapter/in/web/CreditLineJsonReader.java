@@ -0,0 +1,49 @@
+package com.simplebank.account.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplebank.account.adapter.in.web.dto.BatchTransferLineRequest;
+import com.simplebank.account.application.port.in.dto.CreditLine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 이체 JSON 배열 [{"toAccountId":..,"amount":..}, ...] 을 원소 단위로 읽는다.
+ * null 원소는 그 줄만 거절되게 빈 줄로 넘기고, 최대 건수를 넘는 원소를 만나면 본문을 끝까지 읽지 않고 바로 거절한다.
+ */
+final class CreditLineJsonReader {
+
+    private CreditLineJsonReader() {
+    }
+
+    static List<CreditLine> read(ObjectMapper objectMapper, InputStream inputStream, int maxLines) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("일괄 이체 요청은 JSON 배열이어야 합니다.");
+            }
+            List<CreditLine> lines = new ArrayList<>();
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new IllegalArgumentException("일괄 이체 요청의 JSON 배열이 닫히지 않았습니다.");
+                }
+                if (lines.size() == maxLines) {
+                    throw CreditLineCsvReader.tooManyLines(maxLines);
+                }
+                if (token == JsonToken.VALUE_NULL) {
+                    lines.add(new CreditLine(null, null));
+                    continue;
+                }
+                BatchTransferLineRequest line = parser.readValueAs(BatchTransferLineRequest.class);
+                lines.add(new CreditLine(line.getToAccountId(), line.getAmount()));
+            }
+            return lines;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("일괄 이체 요청의 JSON 형식이 잘못되었습니다.", e);
+        }
+    }
+}
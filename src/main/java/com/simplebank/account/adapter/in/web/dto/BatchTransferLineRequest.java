@@ -0,0 +1,15 @@
+package com.simplebank.account.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTransferLineRequest {
+    private Long toAccountId;
+    private BigDecimal amount;
+}
@@ -0,0 +1,37 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+// 스키마 생성용. 읽기/쓰기는 ShardedBalanceRepositoryAdapter 가 JDBC 로 직접 한다
+@Entity
+@Table(name = "account_balance_shards")
+@IdClass(AccountBalanceShardJpaEntity.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountBalanceShardJpaEntity {
+
+    @Id
+    private Long accountId;
+
+    @Id
+    private int slot;
+
+    @Column(nullable = false)
+    private BigDecimal balance;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long accountId;
+        private int slot;
+    }
+}
@@ -0,0 +1,536 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.Money;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 읽기 인덱스. 계좌 하나가 기본형 배열의 한 행이고, ID/계좌번호/사용자 ID 로 찾는 해시 테이블은
+ * 행 번호만 담는 open addressing 배열이다. 키를 박싱하지 않고 계좌번호는 한 바이트 배열에 이어 붙인다.
+ * 사용자별 계좌 목록은 행끼리 ID 오름차순으로 연결한 목록이며, DB 에서 한 번 통째로 읽은 사용자만 가진다.
+ * 쓰기는 한 번에 한 스레드(쓰기 락)이고, 읽기는 락 없이 낙관적으로 읽은 뒤 그사이 쓰기가 있었으면 읽기 락으로 다시 읽는다.
+ * 행은 지우지 않는다 (계좌는 해지해도 남는다). 스냅샷에서 되살릴 때는 행 배열을 그대로 읽어 해시 테이블만 다시 만든다.
+ */
+final class AccountIndex {
+
+    // 해시 슬롯에는 행 번호 + 1 을 넣는다 (0 은 빈 슬롯)
+    private static final int EMPTY = 0;
+    // 사용자 목록의 끝 / 아직 목록에 연결되지 않은 행
+    private static final int END = -1;
+    private static final int UNLINKED = -2;
+    private static final AccountStatus[] STATUSES = AccountStatus.values();
+
+    private final StampedLock lock = new StampedLock();
+    private final int initialCapacity;
+
+    private long[] ids;
+    private long[] userIds;
+    private long[] balances;
+    private long[] versions;
+    private byte[] statuses;
+    // 행의 계좌번호는 numberBytes[numberEnds[row - 1], numberEnds[row])
+    private int[] numberEnds;
+    private byte[] numberBytes;
+    private int[] nextByUser;
+    private int size;
+    // 행이 새로 생길 때마다 증가한다 (사용자 목록을 채울 때 그사이 생긴 계좌가 없는지 확인)
+    private long rowSequence;
+
+    private int[] idSlots;
+    private int[] numberSlots;
+    private long[] userKeys;
+    private int[] userHeads;
+    private int userCount;
+
+    AccountIndex() {
+        this(1024);
+    }
+
+    AccountIndex(int initialCapacity) {
+        this.initialCapacity = Math.max(16, initialCapacity);
+        allocate(this.initialCapacity);
+    }
+
+    private void allocate(int capacity) {
+        ids = new long[capacity];
+        userIds = new long[capacity];
+        balances = new long[capacity];
+        versions = new long[capacity];
+        statuses = new byte[capacity];
+        numberEnds = new int[capacity];
+        numberBytes = new byte[capacity * 16];
+        nextByUser = new int[capacity];
+        idSlots = new int[tableSize(capacity)];
+        numberSlots = new int[tableSize(capacity)];
+        userKeys = new long[tableSize(capacity / 4)];
+        userHeads = new int[userKeys.length];
+        size = 0;
+        userCount = 0;
+    }
+
+    Account get(long id) {
+        return read(() -> {
+            int row = findRow(id);
+            return row < 0 ? null : toAccount(row);
+        });
+    }
+
+    Account getByAccountNumber(String accountNumber) {
+        byte[] key = accountNumber.getBytes(StandardCharsets.UTF_8);
+        return read(() -> {
+            int row = findRowByNumber(key);
+            return row < 0 ? null : toAccount(row);
+        });
+    }
+
+    // 사용자 목록이 없으면 null (빈 목록은 계좌가 없는 사용자)
+    List<Account> getByUserId(long userId) {
+        return getByUserIdAfter(userId, Long.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    List<Account> getByUserIdAfter(long userId, long afterId, int limit) {
+        return read(() -> {
+            int slot = findUserSlot(userId);
+            if (userKeys[slot] != userId) {
+                return null;
+            }
+            int[] next = nextByUser;
+            List<Account> accounts = new ArrayList<>();
+            // 쓰는 중에 읽으면 목록이 어긋날 수 있으므로 size 번을 넘게 따라가지 않는다 (validate 에서 다시 읽는다)
+            int steps = 0;
+            for (int row = userHeads[slot]; row >= 0 && steps++ <= size && accounts.size() < limit; row = next[row]) {
+                if (ids[row] > afterId) {
+                    accounts.add(toAccount(row));
+                }
+            }
+            return accounts;
+        });
+    }
+
+    long rowSequence() {
+        return read(() -> rowSequence);
+    }
+
+    int size() {
+        return read(() -> size);
+    }
+
+    // 이미 있는 계좌는 버전이 더 높을 때만 잔액/상태/버전을 바꾼다 (커밋 순서와 반영 순서가 달라도 최신 상태가 남는다)
+    void put(Account account) {
+        long stamp = lock.writeLock();
+        try {
+            putLocked(account);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void putAll(Collection<Account> accounts) {
+        long stamp = lock.writeLock();
+        try {
+            accounts.forEach(this::putLocked);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 사용자들의 계좌를 DB 에서 통째로 읽은 결과로 사용자 목록을 만든다.
+     * 읽기 전에 받은 rowSequence 이후 새 계좌가 생겼으면 그 계좌가 빠졌을 수 있으므로 계좌만 넣고 목록은 만들지 않는다.
+     */
+    boolean putUsers(Collection<Long> users, Collection<Account> accounts, long expectedRowSequence) {
+        long stamp = lock.writeLock();
+        try {
+            boolean complete = rowSequence == expectedRowSequence;
+            accounts.forEach(this::putLocked);
+            if (!complete) {
+                return false;
+            }
+            for (Long userId : users) {
+                int slot = findUserSlot(userId);
+                if (userKeys[slot] == userId) {
+                    continue;
+                }
+                if ((userCount + 1) * 2 > userKeys.length) {
+                    growUsers();
+                    slot = findUserSlot(userId);
+                }
+                userKeys[slot] = userId;
+                userHeads[slot] = END;
+                userCount++;
+            }
+            for (Account account : accounts) {
+                int row = findRow(account.getId());
+                int slot = findUserSlot(userIds[row]);
+                if (userKeys[slot] == userIds[row]) {
+                    link(slot, row);
+                }
+            }
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 스냅샷 형식: [행 수 int][ids][userIds][balances][versions][statuses][numberEnds]
+     *            [계좌번호 바이트 수 int][계좌번호 바이트][목록을 가진 사용자 수 int][사용자 ID...]
+     * 읽기 락 아래에서는 배열만 복사하고, 쓰는 동안에는 쓰기를 막지 않는다.
+     */
+    void writeTo(DataOutput out) throws IOException {
+        long[] rowIds;
+        long[] rowUserIds;
+        long[] rowBalances;
+        long[] rowVersions;
+        byte[] rowStatuses;
+        int[] rowNumberEnds;
+        byte[] rowNumberBytes;
+        long[] users;
+        long stamp = lock.readLock();
+        try {
+            rowIds = Arrays.copyOf(ids, size);
+            rowUserIds = Arrays.copyOf(userIds, size);
+            rowBalances = Arrays.copyOf(balances, size);
+            rowVersions = Arrays.copyOf(versions, size);
+            rowStatuses = Arrays.copyOf(statuses, size);
+            rowNumberEnds = Arrays.copyOf(numberEnds, size);
+            rowNumberBytes = Arrays.copyOf(numberBytes, numberStart(size));
+            users = new long[userCount];
+            int user = 0;
+            for (long key : userKeys) {
+                if (key != 0) {
+                    users[user++] = key;
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        out.writeInt(rowIds.length);
+        writeLongs(out, rowIds);
+        writeLongs(out, rowUserIds);
+        writeLongs(out, rowBalances);
+        writeLongs(out, rowVersions);
+        out.write(rowStatuses);
+        for (int end : rowNumberEnds) {
+            out.writeInt(end);
+        }
+        out.writeInt(rowNumberBytes.length);
+        out.write(rowNumberBytes);
+        out.writeInt(users.length);
+        writeLongs(out, users);
+    }
+
+    /**
+     * writeTo 로 쓴 스냅샷으로 인덱스를 채운다. 이미 다른 계좌가 들어와 있으면 건드리지 않고 null 을 돌려준다.
+     * 돌려주는 값은 DB 와 대조할 행 ID/버전과 목록을 가진 사용자 ID 다.
+     */
+    Restored restore(ByteBuffer in) {
+        int rows = in.getInt();
+        long[] rowIds = readLongs(in, rows);
+        long[] rowUserIds = readLongs(in, rows);
+        long[] rowBalances = readLongs(in, rows);
+        long[] rowVersions = readLongs(in, rows);
+        byte[] rowStatuses = new byte[rows];
+        in.get(rowStatuses);
+        int[] rowNumberEnds = new int[rows];
+        in.asIntBuffer().get(rowNumberEnds);
+        in.position(in.position() + rows * Integer.BYTES);
+        byte[] rowNumberBytes = new byte[in.getInt()];
+        in.get(rowNumberBytes);
+        long[] users = readLongs(in, in.getInt());
+        for (byte status : rowStatuses) {
+            if (status < 0 || status >= STATUSES.length) {
+                throw new IllegalArgumentException("알 수 없는 계좌 상태: " + status);
+            }
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            if (size > 0 || userCount > 0) {
+                return null;
+            }
+            int capacity = Math.max(ids.length, rows);
+            allocate(capacity);
+            System.arraycopy(rowIds, 0, ids, 0, rows);
+            System.arraycopy(rowUserIds, 0, userIds, 0, rows);
+            System.arraycopy(rowBalances, 0, balances, 0, rows);
+            System.arraycopy(rowVersions, 0, versions, 0, rows);
+            System.arraycopy(rowStatuses, 0, statuses, 0, rows);
+            System.arraycopy(rowNumberEnds, 0, numberEnds, 0, rows);
+            numberBytes = Arrays.copyOf(rowNumberBytes, Math.max(numberBytes.length, rowNumberBytes.length));
+            Arrays.fill(nextByUser, 0, rows, UNLINKED);
+            size = rows;
+            rowSequence += rows;
+            rehash(idSlots.length);
+            if (users.length * 2 > userKeys.length) {
+                userKeys = new long[tableSize(users.length)];
+                userHeads = new int[userKeys.length];
+            }
+            for (long userId : users) {
+                int slot = findUserSlot(userId);
+                userKeys[slot] = userId;
+                userHeads[slot] = END;
+                userCount++;
+            }
+            for (int row = 0; row < rows; row++) {
+                int slot = findUserSlot(userIds[row]);
+                if (userKeys[slot] == userIds[row]) {
+                    link(slot, row);
+                }
+            }
+            return new Restored(rowIds, rowVersions, users);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // 되살린 상태가 DB 와 어긋났을 때 비운다. 이후 조회는 DB 에서 다시 채운다
+    void clear() {
+        long stamp = lock.writeLock();
+        try {
+            allocate(initialCapacity);
+            rowSequence++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    record Restored(long[] ids, long[] versions, long[] userIds) {
+    }
+
+    private static void writeLongs(DataOutput out, long[] values) throws IOException {
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    // 매핑된 버퍼에서 한 번에 읽는다
+    private static long[] readLongs(ByteBuffer in, int count) {
+        long[] values = new long[count];
+        in.asLongBuffer().get(values);
+        in.position(in.position() + count * Long.BYTES);
+        return values;
+    }
+
+    private void putLocked(Account account) {
+        long id = account.getId();
+        int row = findRow(id);
+        if (row >= 0) {
+            if (account.getVersion() > versions[row]) {
+                balances[row] = account.getBalance().getMinorUnits();
+                versions[row] = account.getVersion();
+                statuses[row] = (byte) account.getStatus().ordinal();
+            }
+            return;
+        }
+
+        row = addRow(account);
+        rowSequence++;
+        int slot = findUserSlot(account.getUserId());
+        if (userKeys[slot] == account.getUserId()) {
+            link(slot, row);
+        }
+    }
+
+    private int addRow(Account account) {
+        if (size == ids.length) {
+            growRows();
+        }
+        if ((size + 1) * 2 > idSlots.length) {
+            rehash(idSlots.length * 2);
+        }
+        byte[] number = account.getAccountNumber().getBytes(StandardCharsets.UTF_8);
+        int numberStart = numberStart(size);
+        if (numberStart + number.length > numberBytes.length) {
+            numberBytes = Arrays.copyOf(numberBytes, Math.max(numberBytes.length * 2, numberStart + number.length));
+        }
+        System.arraycopy(number, 0, numberBytes, numberStart, number.length);
+
+        int row = size;
+        ids[row] = account.getId();
+        userIds[row] = account.getUserId();
+        balances[row] = account.getBalance().getMinorUnits();
+        versions[row] = account.getVersion();
+        statuses[row] = (byte) account.getStatus().ordinal();
+        numberEnds[row] = numberStart + number.length;
+        nextByUser[row] = UNLINKED;
+        idSlots[idSlot(idSlots, account.getId())] = row + 1;
+        numberSlots[numberSlot(numberSlots, number)] = row + 1;
+        size++;
+        return row;
+    }
+
+    // 사용자 목록에 ID 오름차순으로 끼워 넣는다
+    private void link(int slot, int row) {
+        if (nextByUser[row] != UNLINKED) {
+            return;
+        }
+        long id = ids[row];
+        int head = userHeads[slot];
+        if (head == END || ids[head] > id) {
+            nextByUser[row] = head;
+            userHeads[slot] = row;
+            return;
+        }
+        int previous = head;
+        while (nextByUser[previous] >= 0 && ids[nextByUser[previous]] < id) {
+            previous = nextByUser[previous];
+        }
+        nextByUser[row] = nextByUser[previous];
+        nextByUser[previous] = row;
+    }
+
+    private void growRows() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        userIds = Arrays.copyOf(userIds, capacity);
+        balances = Arrays.copyOf(balances, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+        numberEnds = Arrays.copyOf(numberEnds, capacity);
+        nextByUser = Arrays.copyOf(nextByUser, capacity);
+    }
+
+    // 새 배열을 다 채운 뒤에 필드를 바꾼다 (낙관적 읽기는 이전 배열이나 새 배열 중 하나를 본다)
+    private void rehash(int tableSize) {
+        int[] newIdSlots = new int[tableSize];
+        int[] newNumberSlots = new int[tableSize];
+        for (int row = 0; row < size; row++) {
+            newIdSlots[idSlot(newIdSlots, ids[row])] = row + 1;
+            newNumberSlots[numberSlot(newNumberSlots, numberOf(row))] = row + 1;
+        }
+        idSlots = newIdSlots;
+        numberSlots = newNumberSlots;
+    }
+
+    private void growUsers() {
+        long[] oldKeys = userKeys;
+        int[] oldHeads = userHeads;
+        long[] newKeys = new long[oldKeys.length * 2];
+        int[] newHeads = new int[newKeys.length];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = userSlot(newKeys, oldKeys[i]);
+                newKeys[slot] = oldKeys[i];
+                newHeads[slot] = oldHeads[i];
+            }
+        }
+        userHeads = newHeads;
+        userKeys = newKeys;
+    }
+
+    private int findRow(long id) {
+        int[] slots = idSlots;
+        int row = slots[idSlot(slots, id)] - 1;
+        return row >= 0 && ids[row] == id ? row : -1;
+    }
+
+    private int findRowByNumber(byte[] number) {
+        int[] slots = numberSlots;
+        return slots[numberSlot(slots, number)] - 1;
+    }
+
+    private int findUserSlot(long userId) {
+        return userSlot(userKeys, userId);
+    }
+
+    // 키가 같은 슬롯이나 첫 빈 슬롯 (테이블은 절반 넘게 차지 않으므로 반드시 끝난다)
+    private int idSlot(int[] slots, long id) {
+        int mask = slots.length - 1;
+        int slot = (int) mix(id) & mask;
+        while (slots[slot] != EMPTY && ids[slots[slot] - 1] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int numberSlot(int[] slots, byte[] number) {
+        int mask = slots.length - 1;
+        int slot = (int) mix(Arrays.hashCode(number)) & mask;
+        while (slots[slot] != EMPTY && !numberEquals(slots[slot] - 1, number)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int userSlot(long[] keys, long userId) {
+        int mask = keys.length - 1;
+        int slot = (int) mix(userId) & mask;
+        while (keys[slot] != 0 && keys[slot] != userId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean numberEquals(int row, byte[] number) {
+        int start = numberStart(row);
+        return Arrays.equals(numberBytes, start, numberEnds[row], number, 0, number.length);
+    }
+
+    private byte[] numberOf(int row) {
+        return Arrays.copyOfRange(numberBytes, numberStart(row), numberEnds[row]);
+    }
+
+    private int numberStart(int row) {
+        return row == 0 ? 0 : numberEnds[row - 1];
+    }
+
+    private Account toAccount(int row) {
+        int start = numberStart(row);
+        return Account.builder()
+                .id(ids[row])
+                .userId(userIds[row])
+                .accountNumber(new String(numberBytes, start, numberEnds[row] - start, StandardCharsets.UTF_8))
+                .balance(Money.ofMinorUnits(balances[row]))
+                .status(STATUSES[statuses[row]])
+                .version(versions[row])
+                .build();
+    }
+
+    // 낙관적으로 읽다가 쓰기와 겹쳐 배열 경계가 어긋나면 예외가 날 수 있다. 그때도 읽기 락으로 다시 읽는다.
+    private <T> T read(Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // 아래에서 다시 읽는다
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(Math.max(16, capacity) - 1) << 2;
+    }
+
+    // murmur3 finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,16 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.account.index")
+public class AccountIndexProperties {
+
+    // 계좌 조회를 메모리 인덱스에서 답한다 (계좌 쓰기가 모두 이 애플리케이션의 포트를 거칠 때만 켠다)
+    private boolean enabled = false;
+    // 처음 잡아 둘 계좌 수 (넘으면 두 배씩 늘린다)
+    private int initialCapacity = 1_024;
+}
@@ -0,0 +1,99 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.domain.Account;
+import com.simplebank.common.snapshot.WarmStateSection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 계좌 인덱스(AccountIndex) 스냅샷. 재시작 때 매핑된 파일에서 행 배열을 그대로 읽어 인덱스를 채우므로
+ * 첫 조회부터 인덱스에서 답한다. 대조는 되살린 계좌와 사용자 목록을 DB 에서 묶음으로 다시 읽어
+ * 버전이 더 높은 계좌를 반영하고 사용자 목록에 빠진 계좌를 넣는다. 스냅샷 뒤에 DB 가 되돌려진 흔적
+ * (없어진 계좌, 더 낮은 버전)이 보이면 인덱스를 비운다. 대조가 끝나기 전에는 준비 상태가 되지 않는다 (WarmStateSnapshotter).
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${simplebank.account.index.enabled:false} and !${simplebank.account.journal.enabled:false}")
+public class AccountIndexSnapshotSection implements WarmStateSection {
+
+    private static final int RELOAD_BATCH_SIZE = 500;
+
+    private final AccountIndex index;
+    private final AccountRepositoryAdapter accountRepository;
+    private final BatchTransferRepositoryAdapter batchTransferRepository;
+    private AccountIndex.Restored restored;
+
+    public AccountIndexSnapshotSection(IndexedAccountRepositoryAdapter indexedAccountRepository,
+                                       AccountRepositoryAdapter accountRepository,
+                                       BatchTransferRepositoryAdapter batchTransferRepository) {
+        this.index = indexedAccountRepository.index();
+        this.accountRepository = accountRepository;
+        this.batchTransferRepository = batchTransferRepository;
+    }
+
+    @Override
+    public String name() {
+        return "account-index";
+    }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+        index.writeTo(out);
+    }
+
+    @Override
+    public void read(ByteBuffer in) {
+        restored = index.restore(in);
+        if (restored == null) {
+            throw new IllegalStateException("계좌 인덱스가 이미 채워져 있어 스냅샷을 읽지 않습니다.");
+        }
+    }
+
+    @Override
+    public void reconcile() {
+        AccountIndex.Restored state = restored;
+        restored = null;
+        if (state == null) {
+            return;
+        }
+        long[] ids = state.ids();
+        for (int from = 0; from < ids.length; from += RELOAD_BATCH_SIZE) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            int to = Math.min(from + RELOAD_BATCH_SIZE, ids.length);
+            Map<Long, Account> accounts = batchTransferRepository.loadByIds(Arrays.stream(ids, from, to).boxed().toList())
+                    .stream()
+                    .collect(Collectors.toMap(Account::getId, Function.identity()));
+            for (int i = from; i < to; i++) {
+                Account account = accounts.get(ids[i]);
+                if (account == null || account.getVersion() < state.versions()[i]) {
+                    log.warn("계좌 인덱스 스냅샷이 DB 와 어긋나 인덱스를 비웁니다 (계좌 {}).", ids[i]);
+                    index.clear();
+                    return;
+                }
+            }
+            index.putAll(accounts.values());
+        }
+
+        // 스냅샷 뒤에 생긴 계좌는 그 사용자의 목록에 이어 붙는다
+        long[] userIds = state.userIds();
+        for (int from = 0; from < userIds.length; from += RELOAD_BATCH_SIZE) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            List<Long> batch = Arrays.stream(userIds, from, Math.min(from + RELOAD_BATCH_SIZE, userIds.length)).boxed().toList();
+            index.putAll(accountRepository.loadByUserIds(batch));
+        }
+    }
+}
@@ -8,9 +8,11 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Column;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.EnumType;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -20,7 +22,7 @@ import lombok.AccessLevel;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = @Index(name = "idx_accounts_user_id_id", columnList = "userId, id"))
 @Getter
 @NoArgsConstructor( access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -44,4 +46,30 @@ public class AccountJpaEntity {
     @Column(nullable = false)
     private AccountStatus status;
 
+    @Version
+    private Long version;
+
+    //Domain -> JPA Entity
+    public static AccountJpaEntity from(Account account) {
+        return AccountJpaEntity.builder()
+                .id(account.getId())
+                .userId(account.getUserId())
+                .accountNumber(account.getAccountNumber())
+                .balance(account.getBalance().getAmount())
+                .status(account.getStatus())
+                .version(account.getVersion())
+                .build();
+    }
+
+    //JPA Entity -> Domain
+    public Account toDomain() {
+        return Account.builder()
+                .id(this.id)
+                .userId(this.userId)
+                .accountNumber(this.accountNumber)
+                .balance(new Money(this.balance))
+                .status(this.status)
+                .version(this.version)
+                .build();
+    }
 }
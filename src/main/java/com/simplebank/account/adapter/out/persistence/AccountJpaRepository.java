@@ -1,9 +1,38 @@
 package com.simplebank.account.adapter.out.persistence;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, Long> {
     List<AccountJpaEntity> findByUserId(Long userId);
+
+    Optional<AccountJpaEntity> findByAccountNumber(String accountNumber);
+
+    List<AccountJpaEntity> findByUserIdIn(Collection<Long> userIds);
+
+    // (user_id, id) 인덱스를 타는 keyset 페이지 조회
+    List<AccountJpaEntity> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from AccountJpaEntity a where a.userId = :userId order by a.id")
+    Stream<AccountJpaEntity> streamByUserId(@Param("userId") Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountJpaEntity a where a.id = :id")
+    Optional<AccountJpaEntity> findByIdForUpdate(@Param("id") Long id);
 }
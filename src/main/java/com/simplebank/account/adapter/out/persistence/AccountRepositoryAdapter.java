@@ -1,18 +1,27 @@
 package com.simplebank.account.adapter.out.persistence;
 
 import com.simplebank.account.application.port.out.LoadAccountPort;
+import com.simplebank.account.application.port.out.SaveAccountPort;
 import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.exception.AccountVersionConflictException;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
-public class AccountRepositoryAdapter implements LoadAccountPort{
+public class AccountRepositoryAdapter implements LoadAccountPort, SaveAccountPort {
     private final AccountJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<Account> loadById(Long accountId) {
@@ -20,10 +29,59 @@ public class AccountRepositoryAdapter implements LoadAccountPort{
                 .map(AccountJpaEntity::toDomain);
     }
 
+    @Override
+    public Optional<Account> loadByAccountNumber(String accountNumber) {
+        return jpaRepository.findByAccountNumber(accountNumber)
+                .map(AccountJpaEntity::toDomain);
+    }
+
+    @Override
+    public Optional<Account> loadByIdForUpdate(Long accountId) {
+        return jpaRepository.findByIdForUpdate(accountId)
+                .map(AccountJpaEntity::toDomain);
+    }
+
     @Override
     public List<Account> loadByUserId(Long userId) {
         return jpaRepository.findByUserId(userId).stream()
                 .map(AccountJpaEntity::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<Account> loadByUserIds(Collection<Long> userIds) {
+        return jpaRepository.findByUserIdIn(userIds).stream()
+                .map(AccountJpaEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Account> loadByUserIdAfter(Long userId, Long afterAccountId, int limit) {
+        return jpaRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, afterAccountId, Limit.of(limit)).stream()
+                .map(AccountJpaEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    // 읽은 엔티티를 바로 detach 해서 영속성 컨텍스트가 결과 크기만큼 커지지 않게 한다 (트랜잭션 안에서 호출해야 함)
+    @Override
+    public void streamByUserId(Long userId, Consumer<Account> consumer) {
+        try (Stream<AccountJpaEntity> entities = jpaRepository.streamByUserId(userId)) {
+            entities.forEach(entity -> {
+                consumer.accept(entity.toDomain());
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    // 버전 충돌을 커밋 시점이 아닌 저장 시점에 드러내기 위해 즉시 flush 한다
+    @Override
+    public Account save(Account account) {
+        AccountJpaEntity entity = AccountJpaEntity.from(account);
+        try {
+            AccountJpaEntity saved = jpaRepository.saveAndFlush(entity);
+            return saved.toDomain();
+        } catch (OptimisticLockingFailureException e) {
+            throw new AccountVersionConflictException(account.getId());
+        }
+    }
 }
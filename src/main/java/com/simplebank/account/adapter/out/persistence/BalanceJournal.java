@@ -0,0 +1,282 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongPredicate;
+import java.util.zip.CRC32C;
+
+/**
+ * 잔액 저널 파일. 커밋하려는 계좌 상태를 순서대로 덧붙이고, 기록 스레드가 그동안 쌓인 기록을
+ * write 한 번 + fsync 한 번으로 묶어 쓴다 (group commit). 호출한 쪽은 자기 기록이 fsync 된 뒤에 돌아간다.
+ * 기록 형식: [본문 길이 int][종류 byte][트랜잭션 ID long][계좌 수 int][(계좌 ID, 잔액, 버전) long x 3 ...][CRC32C int]
+ * 잔액을 증감분이 아닌 절대값으로 남기므로 같은 기록을 여러 번 재생해도 결과가 같다.
+ * 기록은 DB 커밋 전에 fsync 되므로, 재생할 때는 DB 가 커밋됐다고 확인한 트랜잭션의 기록만 쓴다.
+ */
+@Slf4j
+final class BalanceJournal implements Closeable {
+
+    private static final byte COMMIT = 1;
+    private static final byte ABORT = 2;
+    private static final int BODY_HEADER = 1 + 8 + 4;
+    private static final int ENTRY_SIZE = 8 * 3;
+
+    private final FileChannel channel;
+    private final int maxGroupSize;
+    private final BlockingQueue<PendingRecord> queue = new LinkedBlockingQueue<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong appendedSequence = new AtomicLong();
+    private final AtomicLong syncCount = new AtomicLong();
+    private volatile long writtenSequence;
+    private volatile IOException failure;
+    private volatile boolean closed;
+    private long lastTransactionId;
+    private Thread writer;
+
+    BalanceJournal(Path path, int maxGroupSize) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔액 저널 파일을 열 수 없습니다: " + path, e);
+        }
+        this.maxGroupSize = maxGroupSize;
+    }
+
+    /**
+     * 파일 처음부터 읽어 계좌별 마지막 상태를 돌려주고 기록을 시작한다.
+     * committed 가 아니라고 답한 트랜잭션(fsync 뒤 DB 커밋 전에 멈췄거나 DB 커밋이 실패한 것)과 취소된 트랜잭션의 기록은 건너뛴다.
+     * 중간에 잘린(마지막 fsync 전에 멈춘) 기록부터는 버리고 파일도 거기까지 자른다.
+     */
+    Map<Long, JournalEntry> recover(LongPredicate committed) {
+        try {
+            long size = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size));
+            while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+                // 끝까지 읽는다
+            }
+            buffer.flip();
+
+            List<long[]> commits = new ArrayList<>();
+            List<JournalEntry> entries = new ArrayList<>();
+            Set<Long> aborted = new HashSet<>();
+            long valid = 0;
+            while (buffer.remaining() >= 4) {
+                int length = buffer.getInt(buffer.position());
+                if (length < BODY_HEADER || length > buffer.remaining() - 8) {
+                    break;
+                }
+                ByteBuffer body = buffer.slice(buffer.position() + 4, length);
+                CRC32C crc = new CRC32C();
+                crc.update(body.duplicate());
+                if ((int) crc.getValue() != buffer.getInt(buffer.position() + 4 + length)) {
+                    break;
+                }
+                byte type = body.get();
+                long transactionId = body.getLong();
+                int count = body.getInt();
+                if (count * ENTRY_SIZE != body.remaining()) {
+                    break;
+                }
+                lastTransactionId = Math.max(lastTransactionId, transactionId);
+                if (type == ABORT) {
+                    aborted.add(transactionId);
+                } else {
+                    commits.add(new long[]{transactionId, entries.size(), count});
+                    for (int i = 0; i < count; i++) {
+                        entries.add(new JournalEntry(body.getLong(), body.getLong(), body.getLong()));
+                    }
+                }
+                buffer.position(buffer.position() + 4 + length + 4);
+                valid = buffer.position();
+            }
+            if (valid < size) {
+                log.warn("잔액 저널 끝의 불완전한 기록 {}바이트를 버립니다.", size - valid);
+                channel.truncate(valid);
+            }
+            channel.position(valid);
+
+            Map<Long, JournalEntry> states = new LinkedHashMap<>();
+            for (long[] commit : commits) {
+                if (aborted.contains(commit[0]) || !committed.test(commit[0])) {
+                    continue;
+                }
+                for (int i = 0; i < commit[2]; i++) {
+                    JournalEntry entry = entries.get((int) commit[1] + i);
+                    states.put(entry.getAccountId(), entry);
+                }
+            }
+            startWriter();
+            return states;
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔액 저널을 읽을 수 없습니다.", e);
+        }
+    }
+
+    long lastTransactionId() {
+        return lastTransactionId;
+    }
+
+    // 기록 순서는 호출 순서와 같다. 반환한 Future 는 fsync 가 끝나면 완료된다.
+    CompletableFuture<Long> append(long transactionId, List<JournalEntry> entries) {
+        ByteBuffer record = encode(COMMIT, transactionId, entries);
+        return enqueue(record);
+    }
+
+    CompletableFuture<Long> abort(long transactionId) {
+        return enqueue(encode(ABORT, transactionId, List.of()));
+    }
+
+    long appendedSequence() {
+        return appendedSequence.get();
+    }
+
+    long syncCount() {
+        return syncCount.get();
+    }
+
+    // 마지막으로 확인한 뒤 새 기록이 없고 모두 fsync 됐으면 파일을 비운다 (모든 상태가 DB 에 반영된 뒤 호출)
+    boolean truncateIfIdle(long sequence) {
+        writeLock.lock();
+        try {
+            if (appendedSequence.get() != sequence || writtenSequence != sequence || channel.position() == 0) {
+                return false;
+            }
+            channel.truncate(0);
+            channel.position(0);
+            return true;
+        } catch (IOException e) {
+            log.warn("잔액 저널을 비우지 못했습니다.", e);
+            return false;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 남은 기록을 모두 쓴 뒤 닫는다
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            if (writer != null) {
+                writer.join();
+            }
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("잔액 저널을 닫지 못했습니다.", e);
+        }
+    }
+
+    private CompletableFuture<Long> enqueue(ByteBuffer record) {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        if (failure != null || closed) {
+            future.completeExceptionally(new IllegalStateException("잔액 저널에 기록할 수 없습니다.", failure));
+            return future;
+        }
+        queue.add(new PendingRecord(appendedSequence.incrementAndGet(), record, future));
+        return future;
+    }
+
+    private static ByteBuffer encode(byte type, long transactionId, List<JournalEntry> entries) {
+        int length = BODY_HEADER + entries.size() * ENTRY_SIZE;
+        ByteBuffer record = ByteBuffer.allocate(4 + length + 4);
+        record.putInt(length).put(type).putLong(transactionId).putInt(entries.size());
+        for (JournalEntry entry : entries) {
+            record.putLong(entry.getAccountId()).putLong(entry.getBalance()).putLong(entry.getVersion());
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), 4, length);
+        record.putInt((int) crc.getValue());
+        return record.flip();
+    }
+
+    private void startWriter() {
+        writer = new Thread(this::writeLoop, "balance-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void writeLoop() {
+        List<PendingRecord> group = new ArrayList<>(maxGroupSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, maxGroupSize - 1);
+                write(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    // 기다리는 동안 쌓인 기록을 한 번에 쓰고 fsync 한 번으로 끝낸다
+    private void write(List<PendingRecord> group) {
+        writeLock.lock();
+        try {
+            if (failure == null) {
+                ByteBuffer[] buffers = new ByteBuffer[group.size()];
+                for (int i = 0; i < buffers.length; i++) {
+                    buffers[i] = group.get(i).record;
+                }
+                while (buffers[buffers.length - 1].hasRemaining()) {
+                    channel.write(buffers);
+                }
+                channel.force(false);
+                syncCount.incrementAndGet();
+                writtenSequence = group.get(group.size() - 1).sequence;
+            }
+        } catch (IOException e) {
+            // 이후 기록은 모두 실패시킨다 (어디까지 써졌는지 알 수 없으므로 재시작해서 복구한다)
+            log.error("잔액 저널 기록에 실패했습니다.", e);
+            failure = e;
+        } finally {
+            writeLock.unlock();
+        }
+        for (PendingRecord pending : group) {
+            if (failure == null) {
+                pending.future.complete(pending.sequence);
+            } else {
+                pending.future.completeExceptionally(new IllegalStateException("잔액 저널 기록에 실패했습니다.", failure));
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class PendingRecord {
+        private final long sequence;
+        private final ByteBuffer record;
+        private final CompletableFuture<Long> future;
+    }
+}
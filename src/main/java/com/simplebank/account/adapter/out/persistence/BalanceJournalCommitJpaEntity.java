@@ -0,0 +1,17 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 스키마 생성용. 잔액 저널 트랜잭션이 DB 에 커밋됐다는 표시로, JournaledAccountRepositoryAdapter 가 JDBC 로 직접 쓴다
+@Entity
+@Table(name = "balance_journal_commits")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceJournalCommitJpaEntity {
+
+    @Id
+    private Long transactionId;
+}
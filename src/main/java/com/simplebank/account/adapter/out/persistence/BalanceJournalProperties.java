@@ -0,0 +1,22 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.account.journal")
+public class BalanceJournalProperties {
+
+    // 계좌 잔액을 메모리에 먼저 반영하고 저널 파일에 남긴 뒤 accounts 에는 나중에 쓴다
+    private boolean enabled = false;
+    private String path = "data/balance-journal.log";
+    // fsync 한 번에 묶어 쓰는 최대 기록 수
+    private int maxGroupSize = 1_024;
+    // 메모리 잔액을 accounts 에 쓰는 간격
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private int flushBatchSize = 1_000;
+}
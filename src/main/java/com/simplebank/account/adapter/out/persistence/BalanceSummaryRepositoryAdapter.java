@@ -0,0 +1,131 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.application.port.out.AdjustBalanceSummaryPort;
+import com.simplebank.account.application.port.out.LoadBalanceSummaryPort;
+import com.simplebank.account.application.port.out.SaveBalanceSummaryPort;
+import com.simplebank.account.application.port.out.UpdateBalanceSummaryPort;
+import com.simplebank.account.domain.BalanceSummary;
+import com.simplebank.account.domain.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class BalanceSummaryRepositoryAdapter
+        implements LoadBalanceSummaryPort, SaveBalanceSummaryPort, UpdateBalanceSummaryPort, AdjustBalanceSummaryPort {
+
+    private final UserBalanceSummaryJpaRepository jpaRepository;
+    private final BalanceJournalProperties journalProperties;
+
+    // 요약 행 락 교착을 피하기 위해 사용자 ID 오름차순으로 갱신한다
+    @Override
+    public void applyTransfer(Long fromUserId, Long toUserId, Money amount) {
+        if (fromUserId.equals(toUserId)) {
+            return;
+        }
+        if (fromUserId < toUserId) {
+            add(fromUserId, amount.getAmount().negate());
+            add(toUserId, amount.getAmount());
+        } else {
+            add(toUserId, amount.getAmount());
+            add(fromUserId, amount.getAmount().negate());
+        }
+    }
+
+    @Override
+    public void applyCredit(Long userId, Money amount) {
+        add(userId, amount.getAmount());
+    }
+
+    @Override
+    public void applyDebit(Long userId, Money amount) {
+        add(userId, amount.getAmount().negate());
+    }
+
+    private void add(Long userId, BigDecimal delta) {
+        if (jpaRepository.addBalance(userId, delta) == 0) {
+            createMissing(userId);
+        }
+    }
+
+    // 요약이 아직 없는 사용자는 증감분 대신 커밋 직전에 accounts 집계로 행을 만든다.
+    // 그때는 이 트랜잭션의 계좌 저장이 모두 끝나 있어 건너뛴 증감분이 집계에 들어 있다.
+    // 저널 모드에서는 accounts 가 flush 전까지 뒤처지므로 만들지 않고 검사기 복구에 맡긴다.
+    void createMissing(Long userId) {
+        if (journalProperties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuild(List.of(userId));
+            return;
+        }
+        PendingSummaries pending = (PendingSummaries) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingSummaries();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.userIds.add(userId);
+    }
+
+    @Override
+    public Optional<BalanceSummary> loadByUserId(Long userId) {
+        return jpaRepository.findById(userId)
+                .map(UserBalanceSummaryJpaEntity::toDomain);
+    }
+
+    @Override
+    public List<BalanceSummary> loadAll() {
+        return jpaRepository.findAll().stream()
+                .map(UserBalanceSummaryJpaEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public BalanceSummary aggregateByUserId(Long userId) {
+        return jpaRepository.aggregateByUserId(userId)
+                .map(UserBalanceAggregate::toDomain)
+                .orElseGet(() -> BalanceSummary.empty(userId));
+    }
+
+    @Override
+    public List<BalanceSummary> aggregateAll() {
+        return jpaRepository.aggregateAll().stream()
+                .map(UserBalanceAggregate::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    // 계좌 행 락을 잡은 뒤 다시 집계해 쓰므로, 읽은 뒤 커밋된 이체의 증감분을 덮어쓰지 않는다
+    @Override
+    public void rebuild(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        jpaRepository.lockAccountsByUserIds(userIds);
+        new TreeSet<>(userIds).forEach(jpaRepository::rebuild);
+    }
+
+    private final class PendingSummaries implements TransactionSynchronization {
+        private final Set<Long> userIds = new TreeSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            rebuild(userIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BalanceSummaryRepositoryAdapter.this);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.application.port.out.BatchTransferPort;
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일괄 이체의 묶음 조회/저장. 건마다 엔티티를 만들고 flush 하는 JPA 경로 대신 IN 조회와 JDBC 배치를 쓴다.
+ * JpaTransactionManager 가 바인딩한 커넥션을 함께 쓰므로 호출한 트랜잭션에 함께 커밋/롤백된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchTransferRepositoryAdapter implements BatchTransferPort {
+
+    // ID 목록을 배열 파라미터 하나로 넘긴다. 청크마다 SQL 이 같아 재사용되고, H2 는 IN (?, ?, ...) 보다 PK 조인이 훨씬 빠르다.
+    private static final String SELECT_SQL =
+            "select a.id, a.user_id, a.account_number, a.balance, a.status, a.version " +
+            "from unnest(cast(? as bigint array)) ids(id) join accounts a on a.id = ids.id";
+    private static final String UPDATE_BALANCE_SQL =
+            "update accounts set balance = ?, version = version + 1 where id = ?";
+    private static final String ADD_SUMMARY_SQL =
+            "update user_balance_summaries set total_balance = total_balance + ? where user_id = ?";
+
+    private static final RowMapper<Account> ACCOUNT_ROW_MAPPER = (rs, rowNum) -> Account.builder()
+            .id(rs.getLong("id"))
+            .userId(rs.getLong("user_id"))
+            .accountNumber(rs.getString("account_number"))
+            .balance(new Money(rs.getBigDecimal("balance")))
+            .status(AccountStatus.valueOf(rs.getString("status")))
+            .version(rs.getLong("version"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BalanceSummaryRepositoryAdapter balanceSummaryRepository;
+
+    @Override
+    public List<Account> loadByIds(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_SQL, ACCOUNT_ROW_MAPPER, (Object) accountIds.toArray(Long[]::new));
+    }
+
+    // 단건 이체(비관적 락)와 같이 ID 오름차순으로 행 락을 잡는다
+    @Override
+    public List<Account> loadByIdsForUpdate(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_SQL + " order by a.id for update",
+                ACCOUNT_ROW_MAPPER, (Object) accountIds.toArray(Long[]::new));
+    }
+
+    @Override
+    public void saveBalances(Collection<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_BALANCE_SQL, new ArrayList<>(accounts), accounts.size(), (ps, account) -> {
+            ps.setBigDecimal(1, account.getBalance().getAmount());
+            ps.setLong(2, account.getId());
+        });
+    }
+
+    // 요약 행 락 교착을 피하기 위해 단건 이체와 같이 사용자 ID 오름차순으로 갱신한다
+    @Override
+    public void applyBalanceSummaryCredits(Long fromUserId, Map<Long, Money> creditsByUserId) {
+        TreeMap<Long, BigDecimal> deltas = new TreeMap<>();
+        BigDecimal debit = BigDecimal.ZERO;
+        for (Map.Entry<Long, Money> credit : creditsByUserId.entrySet()) {
+            if (credit.getKey().equals(fromUserId)) {
+                continue;
+            }
+            deltas.put(credit.getKey(), credit.getValue().getAmount());
+            debit = debit.add(credit.getValue().getAmount());
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        deltas.put(fromUserId, debit.negate());
+        List<Map.Entry<Long, BigDecimal>> rows = new ArrayList<>(deltas.entrySet());
+        int[][] updated = jdbcTemplate.batchUpdate(ADD_SUMMARY_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setBigDecimal(1, row.getValue());
+            ps.setLong(2, row.getKey());
+        });
+        // 요약이 아직 없는 사용자는 단건 이체와 같이 커밋 직전 집계로 만든다
+        for (int i = 0; i < rows.size(); i++) {
+            if (updated[0][i] == 0) {
+                balanceSummaryRepository.createMissing(rows.get(i).getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.application.port.out.BatchTransferPort;
+import com.simplebank.account.application.port.out.LoadAccountPort;
+import com.simplebank.account.application.port.out.SaveAccountPort;
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.Money;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 계좌 인덱스(AccountIndex)를 앞에 둔 계좌 저장소. simplebank.account.index.enabled=true 이면 AccountRepositoryAdapter 대신 쓰인다.
+ * ID/계좌번호 조회와 사용자별 조회는 한 번 DB 에서 읽은 뒤로는 인덱스에서 답하고,
+ * 이 어댑터를 거친 저장은 커밋 뒤에 인덱스에 반영한다 (버전이 더 높을 때만).
+ * 현재 트랜잭션에서 저장한 계좌는 커밋 전까지 DB 에서 읽는다. 행 락 조회는 항상 DB 로 간다.
+ * SQL 로 직접 바꾼 계좌는 반영되지 않으므로 계좌 쓰기는 모두 이 포트를 거쳐야 한다.
+ * 잔액 저널(simplebank.account.journal.enabled)을 켜면 저널이 메모리 상태를 가지므로 이 어댑터는 쓰이지 않는다.
+ * 웜 스타트 스냅샷을 켜면 인덱스는 AccountIndexSnapshotSection 이 재시작 때 되살린다.
+ */
+@Primary
+@Repository
+@ConditionalOnExpression("${simplebank.account.index.enabled:false} and !${simplebank.account.journal.enabled:false}")
+public class IndexedAccountRepositoryAdapter implements LoadAccountPort, SaveAccountPort, BatchTransferPort {
+
+    private final AccountRepositoryAdapter accountRepository;
+    private final BatchTransferRepositoryAdapter batchTransferRepository;
+    private final AccountIndex index;
+
+    public IndexedAccountRepositoryAdapter(AccountRepositoryAdapter accountRepository,
+                                           BatchTransferRepositoryAdapter batchTransferRepository,
+                                           AccountIndexProperties properties) {
+        this.accountRepository = accountRepository;
+        this.batchTransferRepository = batchTransferRepository;
+        this.index = new AccountIndex(properties.getInitialCapacity());
+    }
+
+    @Override
+    public Optional<Account> loadById(Long accountId) {
+        if (!isWritten(accountId)) {
+            Account indexed = index.get(accountId);
+            if (indexed != null) {
+                return Optional.of(indexed);
+            }
+        }
+        Optional<Account> account = accountRepository.loadById(accountId);
+        account.ifPresent(this::install);
+        return account;
+    }
+
+    @Override
+    public Optional<Account> loadByAccountNumber(String accountNumber) {
+        Account indexed = index.getByAccountNumber(accountNumber);
+        if (indexed != null && !isWritten(indexed.getId())) {
+            return Optional.of(indexed);
+        }
+        Optional<Account> account = accountRepository.loadByAccountNumber(accountNumber);
+        account.ifPresent(this::install);
+        return account;
+    }
+
+    @Override
+    public Optional<Account> loadByIdForUpdate(Long accountId) {
+        return accountRepository.loadByIdForUpdate(accountId);
+    }
+
+    @Override
+    public List<Account> loadByUserId(Long userId) {
+        List<Account> indexed = index.getByUserId(userId);
+        if (indexed != null && noneWritten(indexed)) {
+            return indexed;
+        }
+        long rowSequence = index.rowSequence();
+        List<Account> accounts = accountRepository.loadByUserId(userId);
+        installUsers(List.of(userId), accounts, rowSequence);
+        return accounts;
+    }
+
+    // 목록이 있는 사용자는 인덱스에서, 나머지는 한 번의 쿼리로 읽는다
+    @Override
+    public List<Account> loadByUserIds(Collection<Long> userIds) {
+        List<Account> accounts = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long userId : userIds) {
+            List<Account> indexed = index.getByUserId(userId);
+            if (indexed != null && noneWritten(indexed)) {
+                accounts.addAll(indexed);
+            } else {
+                missing.add(userId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long rowSequence = index.rowSequence();
+            List<Account> loaded = accountRepository.loadByUserIds(missing);
+            installUsers(missing, loaded, rowSequence);
+            accounts.addAll(loaded);
+        }
+        return accounts;
+    }
+
+    @Override
+    public List<Account> loadByUserIdAfter(Long userId, Long afterAccountId, int limit) {
+        List<Account> indexed = index.getByUserIdAfter(userId, afterAccountId, limit);
+        if (indexed != null && noneWritten(indexed)) {
+            return indexed;
+        }
+        return accountRepository.loadByUserIdAfter(userId, afterAccountId, limit);
+    }
+
+    // 목록 전체를 메모리에 두지 않으려는 경로이므로 그대로 DB 에서 흘려보낸다
+    @Override
+    public void streamByUserId(Long userId, Consumer<Account> consumer) {
+        accountRepository.streamByUserId(userId, consumer);
+    }
+
+    @Override
+    public Account save(Account account) {
+        Account saved = accountRepository.save(account);
+        written(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Account> loadByIds(Collection<Long> accountIds) {
+        List<Account> accounts = new ArrayList<>(accountIds.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long accountId : accountIds) {
+            Account indexed = isWritten(accountId) ? null : index.get(accountId);
+            if (indexed != null) {
+                accounts.add(indexed);
+            } else {
+                missing.add(accountId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<Account> loaded = batchTransferRepository.loadByIds(missing);
+            loaded.forEach(this::install);
+            accounts.addAll(loaded);
+        }
+        return accounts;
+    }
+
+    @Override
+    public List<Account> loadByIdsForUpdate(Collection<Long> accountIds) {
+        return batchTransferRepository.loadByIdsForUpdate(accountIds);
+    }
+
+    // UPDATE 가 버전을 하나 올리므로 인덱스에도 올린 버전으로 반영한다
+    @Override
+    public void saveBalances(Collection<Account> accounts) {
+        batchTransferRepository.saveBalances(accounts);
+        for (Account account : accounts) {
+            written(Account.builder()
+                    .id(account.getId())
+                    .userId(account.getUserId())
+                    .accountNumber(account.getAccountNumber())
+                    .balance(account.getBalance())
+                    .status(account.getStatus())
+                    .version(account.getVersion() + 1)
+                    .build());
+        }
+    }
+
+    @Override
+    public void applyBalanceSummaryCredits(Long fromUserId, Map<Long, Money> creditsByUserId) {
+        batchTransferRepository.applyBalanceSummaryCredits(fromUserId, creditsByUserId);
+    }
+
+    int indexedCount() {
+        return index.size();
+    }
+
+    AccountIndex index() {
+        return index;
+    }
+
+    // 현재 트랜잭션에서 쓴 계좌는 DB 에서 읽은 값이 커밋되지 않았을 수 있으므로 넣지 않는다
+    private void install(Account account) {
+        if (!isWritten(account.getId())) {
+            index.put(account);
+        }
+    }
+
+    private void installUsers(Collection<Long> userIds, List<Account> accounts, long rowSequence) {
+        if (noneWritten(accounts)) {
+            index.putUsers(userIds, accounts, rowSequence);
+        }
+    }
+
+    // 트랜잭션 밖의 저장은 바로 반영하고, 트랜잭션 안의 저장은 커밋된 뒤에 반영한다
+    private void written(Account account) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index.put(account);
+            return;
+        }
+        PendingInstalls pending = (PendingInstalls) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInstalls();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.accounts.put(account.getId(), account);
+    }
+
+    private boolean isWritten(Long accountId) {
+        PendingInstalls pending = (PendingInstalls) TransactionSynchronizationManager.getResource(this);
+        return pending != null && pending.accounts.containsKey(accountId);
+    }
+
+    private boolean noneWritten(List<Account> accounts) {
+        PendingInstalls pending = (PendingInstalls) TransactionSynchronizationManager.getResource(this);
+        return pending == null || accounts.stream().noneMatch(account -> pending.accounts.containsKey(account.getId()));
+    }
+
+    private final class PendingInstalls implements TransactionSynchronization {
+        private final Map<Long, Account> accounts = new LinkedHashMap<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(IndexedAccountRepositoryAdapter.this);
+            if (status == STATUS_COMMITTED) {
+                index.putAll(accounts.values());
+            }
+        }
+    }
+}
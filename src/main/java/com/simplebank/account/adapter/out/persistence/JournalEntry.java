@@ -0,0 +1,17 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+// 저널에 남기는 계좌 한 건의 커밋 후 상태 (잔액은 최소 화폐 단위)
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+final class JournalEntry {
+    private final long accountId;
+    private final long balance;
+    private final long version;
+}
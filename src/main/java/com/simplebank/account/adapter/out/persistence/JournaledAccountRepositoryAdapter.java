@@ -0,0 +1,404 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.application.port.out.BatchTransferPort;
+import com.simplebank.account.application.port.out.LoadAccountPort;
+import com.simplebank.account.application.port.out.SaveAccountPort;
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.Money;
+import com.simplebank.account.domain.exception.AccountVersionConflictException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 계좌 잔액 write-behind 저장소. simplebank.account.journal.enabled=true 이면 AccountRepositoryAdapter 대신 쓰인다.
+ * 저장은 커밋 직전에 메모리 상태를 바꾸고 잔액 저널에 fsync(group commit)까지 마친 뒤 끝나며,
+ * accounts 행은 flusher 스레드가 flush-interval 마다 JDBC 배치로 갱신한다.
+ * 한 번 저장된 계좌는 메모리 상태가 기준이어서, 조회는 DB 행에 메모리 잔액/버전을 덮어 돌려준다.
+ * 시작할 때 저널을 재생해 accounts 에 반영하므로 flush 전에 프로세스가 죽어도 커밋된 잔액은 남는다.
+ * 저널 기록은 DB 커밋 전에 fsync 되므로, 같은 DB 트랜잭션에서 balance_journal_commits 에 트랜잭션 ID 를 남기고
+ * 재생할 때는 거기 있는 트랜잭션만 쓴다 (fsync 뒤 DB 커밋 전에 멈추거나 DB 커밋이 실패한 기록은 버린다).
+ * 원장과 잔액 요약은 기존대로 같은 DB 트랜잭션에 기록된다.
+ */
+@Slf4j
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "simplebank.account.journal", name = "enabled", havingValue = "true")
+public class JournaledAccountRepositoryAdapter implements LoadAccountPort, SaveAccountPort, BatchTransferPort {
+
+    private static final String FLUSH_SQL = "update accounts set balance = ?, version = ? where id = ?";
+    private static final String SELECT_COMMITS_SQL = "select transaction_id from balance_journal_commits";
+    private static final String INSERT_COMMIT_SQL = "insert into balance_journal_commits (transaction_id) values (?)";
+    private static final String DELETE_COMMITS_SQL = "delete from balance_journal_commits where transaction_id <= ?";
+
+    private final AccountRepositoryAdapter accountRepository;
+    private final BatchTransferRepositoryAdapter batchTransferRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BalanceJournalProperties properties;
+    private final BalanceJournal journal;
+    private final ScheduledExecutorService flusher;
+
+    // states 는 락 없이 읽고, 나머지는 모두 lock 안에서만 읽고 쓴다
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Account> states = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = new HashSet<>();
+    private final Map<Long, Integer> inFlight = new HashMap<>();
+    private long lastTransactionId;
+
+    public JournaledAccountRepositoryAdapter(AccountRepositoryAdapter accountRepository,
+                                             BatchTransferRepositoryAdapter batchTransferRepository,
+                                             JdbcTemplate jdbcTemplate,
+                                             TransactionTemplate transactionTemplate,
+                                             BalanceJournalProperties properties) {
+        this.accountRepository = accountRepository;
+        this.batchTransferRepository = batchTransferRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+
+        // 지난 실행에서 accounts 에 반영하지 못한 잔액을 먼저 복구한다
+        this.journal = new BalanceJournal(Path.of(properties.getPath()), properties.getMaxGroupSize());
+        Set<Long> committed = new HashSet<>(jdbcTemplate.queryForList(SELECT_COMMITS_SQL, Long.class));
+        replay(journal.recover(committed::contains));
+        // 저널이 비워졌어도 지우지 못한 커밋 표시와 ID 가 겹치지 않게 한다
+        this.lastTransactionId = Math.max(journal.lastTransactionId(),
+                committed.stream().mapToLong(Long::longValue).max().orElse(0));
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "balance-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("종료 전 잔액 flush 에 실패했습니다. 다음 시작 때 저널에서 복구합니다.", e);
+        } finally {
+            journal.close();
+        }
+    }
+
+    @Override
+    public Optional<Account> loadById(Long accountId) {
+        Account state = states.get(accountId);
+        if (state != null) {
+            return Optional.of(copy(state, state.getBalance(), state.getVersion()));
+        }
+        return accountRepository.loadById(accountId);
+    }
+
+    @Override
+    public Optional<Account> loadByAccountNumber(String accountNumber) {
+        return accountRepository.loadByAccountNumber(accountNumber).map(this::overlay);
+    }
+
+    // 행 락은 DB 에서 잡고 잔액은 메모리 상태로 덮는다
+    @Override
+    public Optional<Account> loadByIdForUpdate(Long accountId) {
+        return accountRepository.loadByIdForUpdate(accountId).map(this::overlay);
+    }
+
+    @Override
+    public List<Account> loadByUserId(Long userId) {
+        return overlay(accountRepository.loadByUserId(userId));
+    }
+
+    @Override
+    public List<Account> loadByUserIds(Collection<Long> userIds) {
+        return overlay(accountRepository.loadByUserIds(userIds));
+    }
+
+    @Override
+    public List<Account> loadByUserIdAfter(Long userId, Long afterAccountId, int limit) {
+        return overlay(accountRepository.loadByUserIdAfter(userId, afterAccountId, limit));
+    }
+
+    @Override
+    public void streamByUserId(Long userId, Consumer<Account> consumer) {
+        accountRepository.streamByUserId(userId, account -> consumer.accept(overlay(account)));
+    }
+
+    @Override
+    public List<Account> loadByIds(Collection<Long> accountIds) {
+        return overlay(batchTransferRepository.loadByIds(accountIds));
+    }
+
+    @Override
+    public List<Account> loadByIdsForUpdate(Collection<Long> accountIds) {
+        return overlay(batchTransferRepository.loadByIdsForUpdate(accountIds));
+    }
+
+    @Override
+    public void applyBalanceSummaryCredits(Long fromUserId, Map<Long, Money> creditsByUserId) {
+        batchTransferRepository.applyBalanceSummaryCredits(fromUserId, creditsByUserId);
+    }
+
+    @Override
+    public void saveBalances(Collection<Account> accounts) {
+        accounts.forEach(this::save);
+    }
+
+    // 트랜잭션 안에서는 모아 두었다가 커밋 직전에 한 번에 기록한다. 버전 충돌은 그때 드러난다.
+    @Override
+    public Account save(Account account) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingWrites pending = new PendingWrites();
+            pending.add(account);
+            commit(pending);
+            complete(pending, true);
+            return pending.installed.get(account.getId());
+        }
+        PendingWrites pending = (PendingWrites) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingWrites();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(account);
+        return copy(account, account.getBalance(), pending.expectedVersions.get(account.getId()) + 1);
+    }
+
+    // 메모리 상태를 바꾸고 저널 기록을 맡긴 뒤(순서가 같도록 lock 안에서), fsync 는 lock 밖에서 기다린다
+    private void commit(PendingWrites pending) {
+        CompletableFuture<Long> written;
+        lock.lock();
+        try {
+            for (Map.Entry<Long, Long> expected : pending.expectedVersions.entrySet()) {
+                Account current = states.get(expected.getKey());
+                if (current != null && !current.getVersion().equals(expected.getValue())) {
+                    throw new AccountVersionConflictException(expected.getKey());
+                }
+            }
+            List<JournalEntry> entries = new ArrayList<>(pending.accounts.size());
+            for (Account account : pending.accounts.values()) {
+                Long id = account.getId();
+                Account next = copy(account, account.getBalance(), pending.expectedVersions.get(id) + 1);
+                pending.previous.put(id, states.put(id, next));
+                pending.installed.put(id, next);
+                dirty.add(id);
+                inFlight.merge(id, 1, Integer::sum);
+                entries.add(new JournalEntry(id, next.getBalance().getMinorUnits(), next.getVersion()));
+            }
+            pending.transactionId = ++lastTransactionId;
+            written = journal.append(pending.transactionId, entries);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            written.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("잔액 저널 기록 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("잔액 저널 기록에 실패했습니다.", e.getCause());
+        }
+        // 트랜잭션 안이면 같은 DB 트랜잭션으로 커밋된다
+        jdbcTemplate.update(INSERT_COMMIT_SQL, pending.transactionId);
+    }
+
+    // DB 커밋이 실패하면 메모리 상태를 되돌리고 저널에 취소를 남긴다 (재생 시 그 트랜잭션을 건너뛴다)
+    private void complete(PendingWrites pending, boolean committed) {
+        if (pending.installed.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (Map.Entry<Long, Account> installed : pending.installed.entrySet()) {
+                Long id = installed.getKey();
+                inFlight.computeIfPresent(id, (key, count) -> count == 1 ? null : count - 1);
+                if (!committed && states.get(id) == installed.getValue()) {
+                    Account previous = pending.previous.get(id);
+                    if (previous == null) {
+                        states.remove(id);
+                    } else {
+                        states.put(id, previous);
+                    }
+                }
+            }
+            if (!committed) {
+                journal.abort(pending.transactionId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 바뀐 계좌의 현재 잔액을 accounts 에 쓴다. 커밋 중인 계좌는 다음 번으로 미룬다.
+     * 모두 반영했고 그사이 새 기록이 없으면 저널을 비운다.
+     */
+    void flush() {
+        long sequence;
+        long transactionId;
+        List<Account> batch = new ArrayList<>();
+        lock.lock();
+        try {
+            sequence = journal.appendedSequence();
+            transactionId = lastTransactionId;
+            Iterator<Long> ids = dirty.iterator();
+            while (ids.hasNext()) {
+                Long id = ids.next();
+                if (inFlight.containsKey(id)) {
+                    continue;
+                }
+                ids.remove();
+                Account state = states.get(id);
+                if (state != null) {
+                    batch.add(state);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!batch.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeBalances(batch));
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    batch.forEach(account -> dirty.add(account.getId()));
+                } finally {
+                    lock.unlock();
+                }
+                throw e;
+            }
+        }
+
+        boolean truncated;
+        lock.lock();
+        try {
+            truncated = dirty.isEmpty() && journal.truncateIfIdle(sequence);
+        } finally {
+            lock.unlock();
+        }
+        if (truncated) {
+            jdbcTemplate.update(DELETE_COMMITS_SQL, transactionId);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("잔액 flush 에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private void replay(Map<Long, JournalEntry> entries) {
+        if (!entries.isEmpty()) {
+            List<Account> accounts = entries.values().stream()
+                    .map(entry -> Account.builder()
+                            .id(entry.getAccountId())
+                            .balance(Money.ofMinorUnits(entry.getBalance()))
+                            .version(entry.getVersion())
+                            .build())
+                    .collect(Collectors.toList());
+            transactionTemplate.executeWithoutResult(status -> writeBalances(accounts));
+            log.info("잔액 저널에서 계좌 {}개의 잔액을 복구했습니다.", accounts.size());
+        }
+        // 재생했거나 커밋되지 않아 버린 기록은 더 필요 없다
+        if (journal.truncateIfIdle(journal.appendedSequence())) {
+            jdbcTemplate.update(DELETE_COMMITS_SQL, journal.lastTransactionId());
+        }
+    }
+
+    private void writeBalances(List<Account> accounts) {
+        jdbcTemplate.batchUpdate(FLUSH_SQL, accounts, properties.getFlushBatchSize(), (ps, account) -> {
+            ps.setBigDecimal(1, account.getBalance().getAmount());
+            ps.setLong(2, account.getVersion());
+            ps.setLong(3, account.getId());
+        });
+    }
+
+    private List<Account> overlay(List<Account> accounts) {
+        if (states.isEmpty()) {
+            return accounts;
+        }
+        return accounts.stream()
+                .map(this::overlay)
+                .collect(Collectors.toList());
+    }
+
+    private Account overlay(Account account) {
+        Account state = states.get(account.getId());
+        return state == null ? account : copy(account, state.getBalance(), state.getVersion());
+    }
+
+    // Account 는 가변이라 메모리 상태를 그대로 내주지 않는다
+    private static Account copy(Account account, Money balance, Long version) {
+        return Account.builder()
+                .id(account.getId())
+                .userId(account.getUserId())
+                .accountNumber(account.getAccountNumber())
+                .balance(balance)
+                .status(account.getStatus())
+                .version(version)
+                .build();
+    }
+
+    /**
+     * 한 트랜잭션에서 저장한 계좌들. 같은 계좌를 여러 번 저장하면 처음 읽은 버전과 마지막 잔액을 쓴다.
+     */
+    private final class PendingWrites implements TransactionSynchronization {
+        private final Map<Long, Account> accounts = new LinkedHashMap<>();
+        private final Map<Long, Long> expectedVersions = new HashMap<>();
+        private final Map<Long, Account> previous = new HashMap<>();
+        private final Map<Long, Account> installed = new LinkedHashMap<>();
+        private long transactionId;
+
+        private void add(Account account) {
+            expectedVersions.putIfAbsent(account.getId(), account.getVersion());
+            accounts.put(account.getId(), copy(account, account.getBalance(), account.getVersion()));
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            commit(this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(JournaledAccountRepositoryAdapter.this);
+            complete(this, status == STATUS_COMMITTED);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.application.ShardedBalanceProperties;
+import com.simplebank.account.application.port.out.ShardedBalancePort;
+import com.simplebank.account.domain.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 계좌별 잔액 슬롯. 동시 입금이 서로 다른 슬롯 행에 흩어져 accounts 한 행의 락에 줄 서지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShardedBalanceRepositoryAdapter implements ShardedBalancePort {
+
+    private static final String CREDIT_SQL =
+            "update account_balance_shards set balance = balance + ? where account_id = ? and slot = ?";
+    private static final String INSERT_SQL =
+            "insert into account_balance_shards (account_id, slot, balance) select ?, ?, 0 " +
+            "where not exists (select 1 from account_balance_shards where account_id = ? and slot = ?)";
+    private static final String SUM_SQL =
+            "select coalesce(sum(balance), 0) from account_balance_shards where account_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardedBalanceProperties properties;
+
+    @Override
+    public void initialize(Long accountId, int slots) {
+        for (int slot = 0; slot < slots; slot++) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, accountId, slot, accountId, slot);
+            } catch (DuplicateKeyException e) {
+                // 다른 스레드가 먼저 만들었다
+            }
+        }
+    }
+
+    // 스레드마다 무작위 슬롯을 골라 같은 계좌로의 동시 입금이 다른 행을 갱신하게 한다
+    @Override
+    public Money credit(Long accountId, Money amount) {
+        int slot = ThreadLocalRandom.current().nextInt(properties.getSlots());
+        if (jdbcTemplate.update(CREDIT_SQL, amount.getAmount(), accountId, slot) == 0) {
+            initialize(accountId, properties.getSlots());
+            jdbcTemplate.update(CREDIT_SQL, amount.getAmount(), accountId, slot);
+        }
+        return new Money(jdbcTemplate.queryForObject(SUM_SQL, BigDecimal.class, accountId));
+    }
+
+    // 진행 중인 입금이 있으면 그 커밋을 기다렸다가 함께 비운다
+    @Override
+    public Money drain(Long accountId) {
+        List<BigDecimal> balances = jdbcTemplate.queryForList(
+                "select balance from account_balance_shards where account_id = ? order by slot for update",
+                BigDecimal.class, accountId);
+        BigDecimal total = balances.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.signum() != 0) {
+            jdbcTemplate.update(
+                    "update account_balance_shards set balance = 0 where account_id = ? and balance <> 0", accountId);
+        }
+        return new Money(total);
+    }
+
+    @Override
+    public Map<Long, Money> loadBalances(Collection<Long> accountIds) {
+        Map<Long, Money> balances = new HashMap<>();
+        if (accountIds.isEmpty()) {
+            return balances;
+        }
+        jdbcTemplate.query(
+                "select s.account_id, sum(s.balance) from unnest(cast(? as bigint array)) ids(id) " +
+                "join account_balance_shards s on s.account_id = ids.id group by s.account_id",
+                rs -> {
+                    balances.put(rs.getLong(1), new Money(rs.getBigDecimal(2)));
+                },
+                (Object) accountIds.toArray(Long[]::new));
+        return balances;
+    }
+
+    @Override
+    public Money loadBalanceByUserId(Long userId) {
+        return new Money(jdbcTemplate.queryForObject(
+                "select coalesce(sum(s.balance), 0) from account_balance_shards s " +
+                "join accounts a on a.id = s.account_id where a.user_id = ?",
+                BigDecimal.class, userId));
+    }
+
+    @Override
+    public Set<Long> loadAccountIds() {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select distinct account_id from account_balance_shards where balance <> 0", Long.class));
+    }
+}
@@ -0,0 +1,21 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.domain.BalanceSummary;
+import com.simplebank.account.domain.Money;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+// accounts 집계 쿼리의 결과 행 (JPQL 생성자 표현식용)
+@Getter
+@AllArgsConstructor
+public class UserBalanceAggregate {
+    private final Long userId;
+    private final BigDecimal totalBalance;
+    private final Long accountCount;
+
+    public BalanceSummary toDomain() {
+        return new BalanceSummary(userId, new Money(totalBalance), accountCount);
+    }
+}
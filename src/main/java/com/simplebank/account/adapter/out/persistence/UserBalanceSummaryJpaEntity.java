@@ -0,0 +1,48 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.domain.BalanceSummary;
+import com.simplebank.account.domain.Money;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// accounts 에서 파생된 사용자별 잔액 요약. 이체 시 증감분으로 갱신한다.
+@Entity
+@Table(name = "user_balance_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UserBalanceSummaryJpaEntity {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private BigDecimal totalBalance;
+
+    @Column(nullable = false)
+    private long accountCount;
+
+    //Domain -> JPA Entity
+    public static UserBalanceSummaryJpaEntity from(BalanceSummary summary) {
+        return UserBalanceSummaryJpaEntity.builder()
+                .userId(summary.getUserId())
+                .totalBalance(summary.getTotalBalance().getAmount())
+                .accountCount(summary.getAccountCount())
+                .build();
+    }
+
+    //JPA Entity -> Domain
+    public BalanceSummary toDomain() {
+        return new BalanceSummary(userId, new Money(totalBalance), accountCount);
+    }
+}
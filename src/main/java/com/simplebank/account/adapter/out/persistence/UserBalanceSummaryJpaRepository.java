@@ -0,0 +1,42 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserBalanceSummaryJpaRepository extends JpaRepository<UserBalanceSummaryJpaEntity, Long> {
+
+    // 읽고 쓰는 대신 DB 에서 더해 동시 이체 간 갱신 유실이 없게 한다.
+    // JPQL 로 쓰면 Hibernate 가 BigDecimal 파라미터에 잘못된 cast 를 붙여 네이티브 쿼리로 둔다.
+    @Modifying
+    @Query(value = "update user_balance_summaries set total_balance = total_balance + :delta where user_id = :userId",
+            nativeQuery = true)
+    int addBalance(@Param("userId") Long userId, @Param("delta") BigDecimal delta);
+
+    // 다시 집계하는 동안 이체가 계좌 잔액을 바꾸지 못하게 단건 이체와 같은 ID 오름차순으로 행 락을 잡는다
+    @Query(value = "select id from accounts where user_id in (:userIds) order by id for update", nativeQuery = true)
+    List<Long> lockAccountsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 읽은 집계를 애플리케이션에서 다시 쓰지 않고 한 문장으로 덮어쓴다 (계좌가 없는 사용자는 0 으로)
+    @Modifying
+    @Query(value = "merge into user_balance_summaries (user_id, total_balance, account_count) key (user_id) " +
+            "select :userId, coalesce(sum(balance), 0), count(*) from accounts where user_id = :userId",
+            nativeQuery = true)
+    int rebuild(@Param("userId") Long userId);
+
+    @Query("select new com.simplebank.account.adapter.out.persistence.UserBalanceAggregate(" +
+            "a.userId, coalesce(sum(a.balance), 0), count(a)) " +
+            "from AccountJpaEntity a where a.userId = :userId group by a.userId")
+    Optional<UserBalanceAggregate> aggregateByUserId(@Param("userId") Long userId);
+
+    @Query("select new com.simplebank.account.adapter.out.persistence.UserBalanceAggregate(" +
+            "a.userId, sum(a.balance), count(a)) " +
+            "from AccountJpaEntity a group by a.userId")
+    List<UserBalanceAggregate> aggregateAll();
+}
@@ -0,0 +1,64 @@
+package com.simplebank.account.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 계좌 ID를 고정된 개수의 lock stripe 로 나누어 잠그는 락 테이블.
+ * 서로 다른 stripe 에 속한 계좌끼리의 이체는 경합하지 않는다.
+ */
+@Component
+public class AccountLockTable {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public AccountLockTable(@Value("${simplebank.transfer.lock-stripes:1024}") int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("lock stripe 개수는 0보다 커야 합니다.");
+        }
+        int size = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    int stripeOf(long accountId) {
+        int h = Long.hashCode(accountId);
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // 두 계좌를 ID 순으로 정렬한 뒤 stripe 인덱스 오름차순으로 잠근다.
+    // 서로 다른 계좌가 같은 stripe 를 공유할 수 있으므로 ID 가 아닌 stripe 순서가 교착 상태를 막는다.
+    public <T> T executeLocked(long firstAccountId, long secondAccountId, Supplier<T> action) {
+        int first = stripeOf(Math.min(firstAccountId, secondAccountId));
+        int second = stripeOf(Math.max(firstAccountId, secondAccountId));
+        ReentrantLock lower = stripes[Math.min(first, second)];
+        ReentrantLock upper = stripes[Math.max(first, second)];
+
+        lower.lock();
+        try {
+            if (upper != lower) {
+                upper.lock();
+            }
+            try {
+                return action.get();
+            } finally {
+                if (upper != lower) {
+                    upper.unlock();
+                }
+            }
+        } finally {
+            lower.unlock();
+        }
+    }
+}
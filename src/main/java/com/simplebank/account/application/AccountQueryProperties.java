@@ -0,0 +1,17 @@
+package com.simplebank.account.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.account.query")
+public class AccountQueryProperties {
+
+    // 한 번의 배치 조회에서 받을 수 있는 최대 사용자 수
+    private int maxBatchUserIds = 500;
+
+    private int defaultPageSize = 100;
+    private int maxPageSize = 1_000;
+}
@@ -0,0 +1,73 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.CheckBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.dto.BalanceSummaryCheckResult;
+import com.simplebank.account.application.port.in.dto.BalanceSummaryDrift;
+import com.simplebank.account.application.port.out.LoadBalanceSummaryPort;
+import com.simplebank.account.application.port.out.SaveBalanceSummaryPort;
+import com.simplebank.account.domain.BalanceSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요약 테이블을 accounts 집계와 비교해 어긋난 사용자를 보고하고, 요청하면 집계 값으로 다시 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BalanceSummaryConsistencyChecker implements CheckBalanceSummaryUseCase {
+
+    private final LoadBalanceSummaryPort loadBalanceSummaryPort;
+    private final SaveBalanceSummaryPort saveBalanceSummaryPort;
+
+    @Override
+    public BalanceSummaryCheckResult execute(boolean repair) {
+        // 1. accounts 기준 집계와 현재 요약 조회
+        List<BalanceSummary> expected = loadBalanceSummaryPort.aggregateAll();
+        Map<Long, BalanceSummary> actual = new HashMap<>();
+        for (BalanceSummary summary : loadBalanceSummaryPort.loadAll()) {
+            actual.put(summary.getUserId(), summary);
+        }
+
+        // 2. 사용자별 비교 (요약에만 있는 사용자는 계좌가 없는 것으로 보고 0과 비교)
+        List<BalanceSummaryDrift> drifts = new ArrayList<>();
+        for (BalanceSummary summary : expected) {
+            compare(summary, actual.remove(summary.getUserId()), drifts);
+        }
+        int checkedUsers = expected.size() + actual.size();
+        for (BalanceSummary orphan : actual.values()) {
+            compare(BalanceSummary.empty(orphan.getUserId()), orphan, drifts);
+        }
+
+        // 3. 요청 시 어긋난 사용자만 다시 집계해 기록 (1의 값은 락 없이 읽었으므로 그대로 쓰지 않는다)
+        boolean repaired = repair && !drifts.isEmpty();
+        if (repaired) {
+            saveBalanceSummaryPort.rebuild(drifts.stream().map(BalanceSummaryDrift::getUserId).toList());
+        }
+        if (!drifts.isEmpty()) {
+            log.warn("잔액 요약 불일치 {}건 (복구 여부: {})", drifts.size(), repair);
+        }
+        return new BalanceSummaryCheckResult(checkedUsers, drifts, repaired);
+    }
+
+    private void compare(BalanceSummary expected, BalanceSummary actual, List<BalanceSummaryDrift> drifts) {
+        if (actual != null && expected.matches(actual)) {
+            return;
+        }
+        drifts.add(new BalanceSummaryDrift(
+                expected.getUserId(),
+                expected.getTotalBalance().getAmount(),
+                expected.getAccountCount(),
+                actual == null ? null : actual.getTotalBalance().getAmount(),
+                actual == null ? null : actual.getAccountCount()
+        ));
+    }
+}
@@ -0,0 +1,371 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.BatchTransferUseCase;
+import com.simplebank.account.application.port.in.dto.BatchTransferCommand;
+import com.simplebank.account.application.port.in.dto.BatchTransferResult;
+import com.simplebank.account.application.port.in.dto.CreditLine;
+import com.simplebank.account.application.port.in.dto.CreditLineRejection;
+import com.simplebank.account.application.port.out.BatchTransferPort;
+import com.simplebank.account.application.port.out.LoadAccountPort;
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.Money;
+import com.simplebank.account.domain.exception.AccountNotFoundException;
+import com.simplebank.account.domain.exception.BatchTransferAlreadyAppliedException;
+import com.simplebank.account.domain.exception.ClosedAccountException;
+import com.simplebank.transaction.application.port.out.LoadTransactionPort;
+import com.simplebank.transaction.application.port.out.SaveTransactionPort;
+import com.simplebank.transaction.domain.Transaction;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 한 출금 계좌에서 여러 계좌로 입금하는 일괄 이체 (급여 이체 등).
+ * 입금 계좌 ID 순으로 나눈 청크를 검증 스레드에서 병렬로 검증하고, 요청 스레드는 검증이 끝난 청크부터
+ * 한 트랜잭션 안에서 JDBC 배치로 반영한다. 출금 계좌는 락 한 번, 잔액 갱신 한 번으로 끝난다.
+ * 검증에 실패한 줄만 거절하고 나머지는 반영하며, 출금 잔액이 모자라면 전체를 롤백한다.
+ * 요청 키가 있으면 첫 출금 원장에 남기고, 출금 계좌 락을 잡은 뒤 같은 키의 원장이 이미 있으면 전체를 롤백한다.
+ */
+@Service
+public class BatchTransferService implements BatchTransferUseCase {
+
+    private final LoadAccountPort loadAccountPort;
+    private final BatchTransferPort batchTransferPort;
+    private final SaveTransactionPort saveTransactionPort;
+    private final LoadTransactionPort loadTransactionPort;
+    private final AccountLockTable accountLockTable;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferProperties properties;
+    private final ShardedBalanceService shardedBalanceService;
+    private final ExecutorService validationExecutor;
+
+    public BatchTransferService(LoadAccountPort loadAccountPort,
+                                BatchTransferPort batchTransferPort,
+                                SaveTransactionPort saveTransactionPort,
+                                LoadTransactionPort loadTransactionPort,
+                                AccountLockTable accountLockTable,
+                                TransactionTemplate transactionTemplate,
+                                TransferProperties properties,
+                                ShardedBalanceService shardedBalanceService) {
+        this.loadAccountPort = loadAccountPort;
+        this.batchTransferPort = batchTransferPort;
+        this.saveTransactionPort = saveTransactionPort;
+        this.loadTransactionPort = loadTransactionPort;
+        this.accountLockTable = accountLockTable;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.shardedBalanceService = shardedBalanceService;
+        AtomicInteger sequence = new AtomicInteger();
+        this.validationExecutor = Executors.newFixedThreadPool(properties.getBatch().getValidationThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "batch-transfer-validation-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationExecutor.shutdownNow();
+    }
+
+    @Override
+    public BatchTransferResult execute(BatchTransferCommand command) {
+        // 1. 요청 검증
+        validate(command);
+        Long fromAccountId = command.getFromAccountId();
+        List<CreditLine> lines = command.getLines();
+        Batch batch = new Batch(lines);
+
+        // 2. 출금 계좌 확인 (잔액은 트랜잭션 안에서 락을 잡고 다시 읽고, 다른 사용자의 계좌는 없는 계좌와 같게 응답한다)
+        Account source = loadAccountPort.loadById(fromAccountId)
+                .filter(account -> command.getUserId() == null || command.getUserId().equals(account.getUserId()))
+                .orElseThrow(() -> new AccountNotFoundException(fromAccountId));
+        if (source.isClosed()) {
+            throw new ClosedAccountException(source.getAccountNumber());
+        }
+
+        // 3. 입금 계좌 ID 오름차순으로 청크를 나눈다. 행 락을 단건 이체와 같은 오름차순으로 잡아 교착을 피한다.
+        List<int[]> chunks = chunkByAccountId(batch, fromAccountId);
+
+        // 4. 청크 검증을 병렬로 시작하고, 검증이 끝난 청크부터 한 트랜잭션 안에서 반영
+        List<Future<?>> validations = new ArrayList<>(chunks.size());
+        for (int[] chunk : chunks) {
+            validations.add(validationExecutor.submit(() -> validateChunk(batch, chunk)));
+        }
+        Account from;
+        try {
+            from = properties.getLockMode() == TransferLockMode.STRIPED
+                    ? accountLockTable.executeLocked(fromAccountId, fromAccountId,
+                            () -> transactionTemplate.execute(status -> apply(batch, command, chunks, validations)))
+                    : transactionTemplate.execute(status -> apply(batch, command, chunks, validations));
+        } finally {
+            validations.forEach(validation -> validation.cancel(true));
+        }
+
+        // 5. 결과 반환 (줄별 결과는 응답을 쓰면서 만든다)
+        return new BatchTransferResult(
+                fromAccountId,
+                batch.appliedCount,
+                batch.total.getAmount(),
+                from.getBalance().getAmount(),
+                lines,
+                batch.rejections
+        );
+    }
+
+    // 입금 계좌 ID 가 없거나 출금 계좌와 같은 줄은 여기서 거절한다.
+    // 같은 계좌의 줄이 두 청크로 갈리지 않게, 출금 계좌 ID 앞뒤가 한 청크에 섞이지 않게 자른다.
+    private List<int[]> chunkByAccountId(Batch batch, Long fromAccountId) {
+        int[] sorted = IntStream.range(0, batch.size())
+                .filter(i -> {
+                    Long toAccountId = batch.lines.get(i).getToAccountId();
+                    if (toAccountId == null) {
+                        batch.rejections[i] = CreditLineRejection.INVALID_ACCOUNT;
+                        return false;
+                    }
+                    if (toAccountId.equals(fromAccountId)) {
+                        batch.rejections[i] = CreditLineRejection.SAME_ACCOUNT;
+                        return false;
+                    }
+                    return true;
+                })
+                .boxed()
+                .sorted((a, b) -> Long.compare(batch.toAccountId(a), batch.toAccountId(b)))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        int chunkSize = properties.getBatch().getChunkSize();
+        List<int[]> chunks = new ArrayList<>(sorted.length / chunkSize + 1);
+        int start = 0;
+        for (int i = 1; i <= sorted.length; i++) {
+            boolean boundary = i == sorted.length
+                    || (i - start >= chunkSize && batch.toAccountId(sorted[i]) != batch.toAccountId(sorted[i - 1]))
+                    || (batch.toAccountId(sorted[i - 1]) < fromAccountId && batch.toAccountId(sorted[i]) > fromAccountId);
+            if (boundary) {
+                int[] chunk = new int[i - start];
+                System.arraycopy(sorted, start, chunk, 0, chunk.length);
+                chunks.add(chunk);
+                start = i;
+            }
+        }
+        return chunks;
+    }
+
+    // 검증 스레드에서 실행: 금액 형식과 입금 계좌 존재/상태 확인 (락 없이, 최종 확인은 반영 시점에 다시 한다)
+    private void validateChunk(Batch batch, int[] chunk) {
+        Set<Long> accountIds = new LinkedHashSet<>();
+        for (int index : chunk) {
+            try {
+                Money amount = new Money(batch.lines.get(index).getAmount());
+                if (amount.isZero()) {
+                    batch.rejections[index] = CreditLineRejection.INVALID_AMOUNT;
+                    continue;
+                }
+                batch.amounts[index] = amount.getMinorUnits();
+                accountIds.add(batch.toAccountId(index));
+            } catch (IllegalArgumentException e) {
+                batch.rejections[index] = CreditLineRejection.INVALID_AMOUNT;
+            }
+        }
+        Map<Long, Account> accounts = batchTransferPort.loadByIds(accountIds).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        for (int index : chunk) {
+            if (batch.rejections[index] != null) {
+                continue;
+            }
+            Account account = accounts.get(batch.toAccountId(index));
+            if (account == null) {
+                batch.rejections[index] = CreditLineRejection.ACCOUNT_NOT_FOUND;
+            } else if (account.isClosed()) {
+                batch.rejections[index] = CreditLineRejection.CLOSED_ACCOUNT;
+            }
+        }
+    }
+
+    private Account apply(Batch batch, BatchTransferCommand command, List<int[]> chunks, List<Future<?>> validations) {
+        Long fromAccountId = command.getFromAccountId();
+        Instant now = Instant.now();
+        Account from = null;
+        Map<Long, Money> creditsByUserId = new HashMap<>();
+
+        for (int c = 0; c < chunks.size(); c++) {
+            int[] chunk = chunks.get(c);
+            await(validations.get(c));
+
+            // 출금 계좌는 ID 순서상 제자리에서 락을 잡는다
+            if (from == null && batch.toAccountId(chunk[0]) > fromAccountId) {
+                from = lockSource(command);
+            }
+
+            // 입금 계좌 행 락 -> 메모리에서 입금 -> 잔액/원장 배치 저장
+            Set<Long> accountIds = new LinkedHashSet<>();
+            for (int index : chunk) {
+                if (batch.rejections[index] == null) {
+                    accountIds.add(batch.toAccountId(index));
+                }
+            }
+            if (accountIds.isEmpty()) {
+                continue;
+            }
+            Map<Long, Account> accounts = batchTransferPort.loadByIdsForUpdate(accountIds).stream()
+                    .collect(Collectors.toMap(Account::getId, Function.identity()));
+            Map<Long, Account> credited = new LinkedHashMap<>();
+            List<Transaction> ledger = new ArrayList<>(chunk.length);
+            for (int index : chunk) {
+                if (batch.rejections[index] != null) {
+                    continue;
+                }
+                Account to = accounts.get(batch.toAccountId(index));
+                if (to == null) {
+                    batch.rejections[index] = CreditLineRejection.ACCOUNT_NOT_FOUND;
+                    continue;
+                }
+                Money amount = Money.ofMinorUnits(batch.amounts[index]);
+                try {
+                    to.deposit(amount);
+                } catch (ClosedAccountException e) {
+                    batch.rejections[index] = CreditLineRejection.CLOSED_ACCOUNT;
+                    continue;
+                } catch (IllegalArgumentException e) {
+                    batch.rejections[index] = CreditLineRejection.INVALID_AMOUNT;
+                    continue;
+                }
+                batch.applied(index, amount);
+                credited.put(to.getId(), to);
+                creditsByUserId.merge(to.getUserId(), amount, Money::add);
+                ledger.add(Transaction.transferIn(to.getId(), fromAccountId, amount, to.getBalance(), now));
+            }
+            batchTransferPort.saveBalances(credited.values());
+            saveTransactionPort.saveAll(ledger);
+        }
+        if (from == null) {
+            from = lockSource(command);
+        }
+        if (batch.appliedCount == 0) {
+            return from;
+        }
+
+        // 출금은 합계로 한 번 (잔액이 모자라면 예외로 전체 롤백)
+        Money running = from.getBalance();
+        from.withdraw(batch.total);
+        batchTransferPort.saveBalances(List.of(from));
+
+        // 출금 원장은 반영한 순서대로 잔액을 줄여 가며 청크 단위로 기록
+        int chunkSize = properties.getBatch().getChunkSize();
+        List<Transaction> ledger = new ArrayList<>(Math.min(chunkSize, batch.appliedCount));
+        for (int i = 0; i < batch.appliedCount; i++) {
+            int index = batch.appliedOrder[i];
+            Money amount = Money.ofMinorUnits(batch.amounts[index]);
+            running = running.subtract(amount);
+            ledger.add(Transaction.transferOut(fromAccountId, batch.toAccountId(index), amount, running, now,
+                    i == 0 ? command.getRequestKey() : null));
+            if (ledger.size() == chunkSize) {
+                saveTransactionPort.saveAll(ledger);
+                ledger.clear();
+            }
+        }
+        saveTransactionPort.saveAll(ledger);
+
+        // 사용자별 잔액 요약은 사용자별 합계로 한 번씩 갱신
+        batchTransferPort.applyBalanceSummaryCredits(from.getUserId(), creditsByUserId);
+        return from;
+    }
+
+    // 출금 계좌가 잔액 슬롯 계좌면 슬롯을 잔액으로 합쳐 저장해 둔다 (반영할 줄이 없어도 비운 슬롯을 잃지 않게)
+    // 같은 요청 키의 출금 원장은 이 락 아래에서만 기록되므로, 락을 잡은 뒤에 보이면 이미 반영된 요청이다
+    private Account lockSource(BatchTransferCommand command) {
+        Long fromAccountId = command.getFromAccountId();
+        Account from = batchTransferPort.loadByIdsForUpdate(List.of(fromAccountId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new AccountNotFoundException(fromAccountId));
+        if (command.getRequestKey() != null && loadTransactionPort.loadByRequestKey(command.getRequestKey()).isPresent()) {
+            throw new BatchTransferAlreadyAppliedException(fromAccountId);
+        }
+        if (shardedBalanceService.fold(from)) {
+            batchTransferPort.saveBalances(List.of(from));
+        }
+        return from;
+    }
+
+    private static void await(Future<?> validation) {
+        try {
+            validation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일괄 이체 검증 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("일괄 이체 검증에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private void validate(BatchTransferCommand command) {
+        if (command.getFromAccountId() == null) {
+            throw new IllegalArgumentException("출금 계좌는 필수입니다.");
+        }
+        if (command.getLines() == null || command.getLines().isEmpty()) {
+            throw new IllegalArgumentException("입금 내역이 비어 있습니다.");
+        }
+        int maxLines = properties.getBatch().getMaxLines();
+        if (command.getLines().size() > maxLines) {
+            throw new IllegalArgumentException(String.format("일괄 이체는 최대 %d건까지 가능합니다.", maxLines));
+        }
+    }
+
+    /**
+     * 일괄 이체 한 건의 줄별 상태. 각 줄은 한 검증 스레드만 쓰고, 반영 스레드는 Future 완료 뒤에 읽는다.
+     */
+    private static final class Batch {
+        private final List<CreditLine> lines;
+        private final long[] toAccountIds;
+        private final long[] amounts;
+        private final CreditLineRejection[] rejections;
+        private final int[] appliedOrder;
+        private int appliedCount;
+        private Money total = Money.ZERO;
+
+        private Batch(List<CreditLine> lines) {
+            this.lines = lines;
+            this.toAccountIds = new long[lines.size()];
+            for (int i = 0; i < lines.size(); i++) {
+                Long toAccountId = lines.get(i).getToAccountId();
+                toAccountIds[i] = toAccountId == null ? 0L : toAccountId;
+            }
+            this.amounts = new long[lines.size()];
+            this.rejections = new CreditLineRejection[lines.size()];
+            this.appliedOrder = new int[lines.size()];
+        }
+
+        private int size() {
+            return lines.size();
+        }
+
+        private long toAccountId(int index) {
+            return toAccountIds[index];
+        }
+
+        private void applied(int index, Money amount) {
+            appliedOrder[appliedCount++] = index;
+            total = total.add(amount);
+        }
+    }
+}
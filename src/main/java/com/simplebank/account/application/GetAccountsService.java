@@ -1,36 +1,114 @@
 package com.simplebank.account.application;
 
+import com.simplebank.account.application.port.in.GetAccountsBatchUseCase;
+import com.simplebank.account.application.port.in.GetAccountsPageUseCase;
 import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.StreamAccountsUseCase;
 import com.simplebank.account.application.port.in.dto.AccountInfo;
+import com.simplebank.account.application.port.in.dto.AccountPage;
 import com.simplebank.account.application.port.out.LoadAccountPort;
 import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.Money;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-public class GetAccountsService implements GetAccountsUseCase {
+public class GetAccountsService implements GetAccountsUseCase, GetAccountsBatchUseCase,
+        GetAccountsPageUseCase, StreamAccountsUseCase {
 
     private final LoadAccountPort loadAccountPort;
+    private final AccountQueryProperties properties;
+    private final ShardedBalanceService shardedBalanceService;
 
     @Override
     public List<AccountInfo> execute(Long userId) {
         // 1. 사용자의 계좌 목록 조회
         List<Account> accounts = loadAccountPort.loadByUserId(userId);
 
-        // 2.AccountInfo로 변환하여 반환
+        // 2.AccountInfo로 변환하여 반환 (잔액 슬롯 계좌는 슬롯 합계를 더한다)
+        Map<Long, Money> shardBalances = shardedBalanceService.loadBalances(accounts);
         return accounts.stream()
-                .map(account -> new AccountInfo(
-                        account.getId(),
-                        account.getAccountNumber(),
-                        account.getBalance().getAmount(),
-                        account.getStatus().name()
-                ))
+                .map(account -> toAccountInfo(account, shardBalances))
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public Map<Long, List<AccountInfo>> execute(Set<Long> userIds) {
+        // 1. 요청 크기 검증
+        if (userIds.size() > properties.getMaxBatchUserIds()) {
+            throw new IllegalArgumentException(
+                    String.format("한 번에 조회할 수 있는 사용자는 최대 %d명입니다.", properties.getMaxBatchUserIds()));
+        }
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 2. 한 번의 IN 쿼리로 모든 사용자의 계좌 조회
+        List<Account> accounts = loadAccountPort.loadByUserIds(userIds);
+
+        // 3. 사용자별로 묶어 반환 (계좌가 없는 사용자는 빈 목록)
+        Map<Long, Money> shardBalances = shardedBalanceService.loadBalances(accounts);
+        Map<Long, List<AccountInfo>> grouped = new LinkedHashMap<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            grouped.put(userId, new ArrayList<>());
+        }
+        for (Account account : accounts) {
+            grouped.get(account.getUserId()).add(toAccountInfo(account, shardBalances));
+        }
+        return grouped;
+    }
+
+    @Override
+    public AccountPage execute(Long userId, Long afterAccountId, Integer size) {
+        // 1. 페이지 크기 검증
+        int pageSize = size == null ? properties.getDefaultPageSize() : size;
+        if (pageSize < 1 || pageSize > properties.getMaxPageSize()) {
+            throw new IllegalArgumentException(
+                    String.format("페이지 크기는 1 이상 %d 이하여야 합니다.", properties.getMaxPageSize()));
+        }
+
+        // 2. 커서 이후의 계좌를 한 건 더 조회하여 다음 페이지 존재 여부 확인
+        long after = afterAccountId == null ? 0L : afterAccountId;
+        List<Account> accounts = loadAccountPort.loadByUserIdAfter(userId, after, pageSize + 1);
+        boolean hasNext = accounts.size() > pageSize;
+        if (hasNext) {
+            accounts = accounts.subList(0, pageSize);
+        }
+
+        // 3. AccountInfo로 변환하고 마지막 계좌 ID를 다음 커서로 반환
+        Map<Long, Money> shardBalances = shardedBalanceService.loadBalances(accounts);
+        List<AccountInfo> infos = accounts.stream()
+                .map(account -> toAccountInfo(account, shardBalances))
+                .collect(Collectors.toList());
+        Long nextCursor = hasNext ? accounts.get(accounts.size() - 1).getId() : null;
+        return new AccountPage(infos, nextCursor);
+    }
+
+    // 조회 결과를 모으지 않고 한 건씩 넘긴다. 스트림이 트랜잭션 안에서 열려 있어야 하므로 consumer 도 이 안에서 실행된다.
+    @Override
+    public void execute(Long userId, Consumer<AccountInfo> consumer) {
+        loadAccountPort.streamByUserId(userId, account ->
+                consumer.accept(toAccountInfo(account, shardedBalanceService.loadBalances(List.of(account)))));
+    }
+
+    private AccountInfo toAccountInfo(Account account, Map<Long, Money> shardBalances) {
+        Money balance = account.getBalance().add(shardBalances.getOrDefault(account.getId(), Money.ZERO));
+        return new AccountInfo(
+                account.getId(),
+                account.getAccountNumber(),
+                balance.getAmount(),
+                account.getStatus().name()
+        );
+    }
 }
@@ -0,0 +1,36 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.GetBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.dto.BalanceSummaryInfo;
+import com.simplebank.account.application.port.out.LoadBalanceSummaryPort;
+import com.simplebank.account.domain.BalanceSummary;
+import com.simplebank.account.domain.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetBalanceSummaryService implements GetBalanceSummaryUseCase {
+
+    private final LoadBalanceSummaryPort loadBalanceSummaryPort;
+    private final ShardedBalanceService shardedBalanceService;
+
+    @Override
+    public BalanceSummaryInfo execute(Long userId) {
+        // 1. 요약 테이블에서 한 행 조회 (아직 요약이 만들어지지 않은 사용자는 accounts 에서 집계)
+        BalanceSummary summary = loadBalanceSummaryPort.loadByUserId(userId)
+                .orElseGet(() -> loadBalanceSummaryPort.aggregateByUserId(userId));
+
+        // 2. 요약은 accounts.balance 합계이므로 잔액 슬롯 합계를 더한다
+        Money totalBalance = summary.getTotalBalance().add(shardedBalanceService.loadBalanceByUserId(userId));
+
+        // 3. BalanceSummaryInfo로 변환하여 반환
+        return new BalanceSummaryInfo(
+                summary.getUserId(),
+                totalBalance.getAmount(),
+                summary.getAccountCount()
+        );
+    }
+}
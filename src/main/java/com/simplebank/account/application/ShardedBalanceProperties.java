@@ -0,0 +1,19 @@
+package com.simplebank.account.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.account.sharded-balance")
+public class ShardedBalanceProperties {
+
+    // 입금이 몰리는 계좌 (가맹점 정산 계좌 등). 비어 있으면 꺼진다.
+    private Set<Long> accountIds = new HashSet<>();
+    // 계좌당 잔액 슬롯 수 (동시 입금 수만큼, 보통 코어 수 이상)
+    private int slots = 16;
+}
@@ -0,0 +1,103 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.out.AdjustBalanceSummaryPort;
+import com.simplebank.account.application.port.out.LoadAccountPort;
+import com.simplebank.account.application.port.out.SaveAccountPort;
+import com.simplebank.account.application.port.out.ShardedBalancePort;
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.Money;
+import com.simplebank.account.domain.exception.ClosedAccountException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 입금이 몰리는 지정 계좌의 잔액 슬롯 관리.
+ * 지정 계좌로의 입금은 accounts 행을 건드리지 않고 슬롯 하나에만 더하므로 입금끼리는 서로 기다리지 않는다.
+ * 출금할 때는 슬롯을 모두 비워 accounts.balance 로 합친 뒤 평소처럼 출금한다.
+ * 잔액 요약은 계속 accounts.balance 합계를 뜻하고, 슬롯 금액은 조회 시점에 더한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShardedBalanceService {
+
+    private final ShardedBalancePort shardedBalancePort;
+    private final AdjustBalanceSummaryPort adjustBalanceSummaryPort;
+    private final LoadAccountPort loadAccountPort;
+    private final SaveAccountPort saveAccountPort;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardedBalanceProperties properties;
+
+    public boolean isSharded(Long accountId) {
+        return properties.getAccountIds().contains(accountId);
+    }
+
+    // 출금 계좌 잔액은 호출한 쪽이 줄인다. 입금 후 계좌 잔액(기본 잔액 + 슬롯 합계)을 반환한다.
+    public Money credit(Account from, Account to, Money amount) {
+        if (to.isClosed()) {
+            throw new ClosedAccountException(to.getAccountNumber());
+        }
+        adjustBalanceSummaryPort.applyDebit(from.getUserId(), amount);
+        return to.getBalance().add(shardedBalancePort.credit(to.getId(), amount));
+    }
+
+    // 슬롯을 비워 계좌 잔액에 합친다. 출금 전에 계좌 행 락을 잡은 트랜잭션 안에서 호출하고,
+    // 합친 금액이 있으면(true) 계좌 저장은 호출한 쪽이 한다.
+    public boolean fold(Account account) {
+        if (!isSharded(account.getId())) {
+            return false;
+        }
+        Money drained = shardedBalancePort.drain(account.getId());
+        if (drained.isZero()) {
+            return false;
+        }
+        account.deposit(drained);
+        adjustBalanceSummaryPort.applyCredit(account.getUserId(), drained);
+        return true;
+    }
+
+    // 지정 계좌가 없으면 쿼리하지 않는다
+    public Map<Long, Money> loadBalances(Collection<Account> accounts) {
+        List<Long> accountIds = accounts.stream()
+                .map(Account::getId)
+                .filter(this::isSharded)
+                .toList();
+        return accountIds.isEmpty() ? Map.of() : shardedBalancePort.loadBalances(accountIds);
+    }
+
+    public Money loadBalanceByUserId(Long userId) {
+        return properties.getAccountIds().isEmpty() ? Money.ZERO : shardedBalancePort.loadBalanceByUserId(userId);
+    }
+
+    // 지정이 풀린 계좌의 남은 슬롯은 계좌 잔액으로 합치고, 지정 계좌는 슬롯을 미리 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Set<Long> leftovers = shardedBalancePort.loadAccountIds();
+        leftovers.removeAll(properties.getAccountIds());
+        for (Long accountId : leftovers) {
+            transactionTemplate.executeWithoutResult(status -> loadAccountPort.loadByIdForUpdate(accountId)
+                    .filter(account -> !account.isClosed())
+                    .ifPresent(account -> {
+                        Money drained = shardedBalancePort.drain(accountId);
+                        account.deposit(drained);
+                        saveAccountPort.save(account);
+                        adjustBalanceSummaryPort.applyCredit(account.getUserId(), drained);
+                    }));
+        }
+        if (!leftovers.isEmpty()) {
+            log.info("지정 해제된 계좌 {}개의 잔액 슬롯을 합쳤습니다.", leftovers.size());
+        }
+        for (Long accountId : properties.getAccountIds()) {
+            shardedBalancePort.initialize(accountId, properties.getSlots());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.simplebank.account.application;
+
+public enum TransferLockMode {
+    // 애플리케이션 메모리의 striped lock 으로 직렬화
+    STRIPED,
+    // SELECT ... FOR UPDATE 로 행을 잠금
+    PESSIMISTIC,
+    // @Version 충돌 시 지터가 섞인 백오프로 재시도
+    OPTIMISTIC
+}
@@ -0,0 +1,34 @@
+package com.simplebank.account.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.transfer")
+public class TransferProperties {
+
+    private TransferLockMode lockMode = TransferLockMode.STRIPED;
+    private Retry retry = new Retry();
+    private Batch batch = new Batch();
+
+    @Getter
+    @Setter
+    public static class Retry {
+        private int maxAttempts = 5;
+        private Duration initialBackoff = Duration.ofMillis(5);
+        private Duration maxBackoff = Duration.ofMillis(200);
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+        private int maxLines = 200_000;
+        // 검증/행 락/JDBC 배치 단위
+        private int chunkSize = 1000;
+        private int validationThreads = 4;
+    }
+}
@@ -0,0 +1,214 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.TransferUseCase;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.application.port.in.dto.TransferResult;
+import com.simplebank.account.application.port.out.LoadAccountPort;
+import com.simplebank.account.application.port.out.SaveAccountPort;
+import com.simplebank.account.application.port.out.UpdateBalanceSummaryPort;
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.Money;
+import com.simplebank.account.domain.exception.AccountNotFoundException;
+import com.simplebank.account.domain.exception.AccountVersionConflictException;
+import com.simplebank.transaction.application.port.out.LoadTransactionPort;
+import com.simplebank.transaction.application.port.out.SaveTransactionPort;
+import com.simplebank.transaction.domain.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+@Service
+@RequiredArgsConstructor
+public class TransferService implements TransferUseCase {
+
+    private final LoadAccountPort loadAccountPort;
+    private final SaveAccountPort saveAccountPort;
+    private final SaveTransactionPort saveTransactionPort;
+    private final LoadTransactionPort loadTransactionPort;
+    private final UpdateBalanceSummaryPort updateBalanceSummaryPort;
+    private final AccountLockTable accountLockTable;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferProperties properties;
+    private final TransferStatistics statistics;
+    private final ShardedBalanceService shardedBalanceService;
+
+    @Override
+    public TransferResult execute(TransferCommand command) {
+        // 1. 요청 검증
+        validate(command);
+        Money amount = new Money(command.getAmount());
+
+        // 2. 설정된 락 방식으로 이체 실행
+        TransferResult result = switch (properties.getLockMode()) {
+            case STRIPED -> executeStriped(command, amount);
+            case PESSIMISTIC -> transactionTemplate.execute(status -> transfer(command, amount, true));
+            case OPTIMISTIC -> executeOptimistic(command, amount);
+        };
+        statistics.recordCompleted();
+        return result;
+    }
+
+    // 두 계좌의 락을 잡은 상태에서 트랜잭션을 열고, 커밋이 끝난 뒤에 락을 푼다.
+    // 잔액 슬롯 계좌로의 입금은 입금 계좌 행을 갱신하지 않으므로 출금 계좌 락만 잡는다.
+    private TransferResult executeStriped(TransferCommand command, Money amount) {
+        Long fromAccountId = command.getFromAccountId();
+        Long toAccountId = shardedBalanceService.isSharded(command.getToAccountId())
+                ? fromAccountId
+                : command.getToAccountId();
+        return accountLockTable.executeLocked(
+                fromAccountId,
+                toAccountId,
+                () -> transactionTemplate.execute(status -> transfer(command, amount, false))
+        );
+    }
+
+    // 버전 충돌이 나면 트랜잭션 전체를 다시 실행한다 (재조회 -> 재계산 -> 저장)
+    private TransferResult executeOptimistic(TransferCommand command, Money amount) {
+        TransferProperties.Retry retry = properties.getRetry();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> transfer(command, amount, false));
+            } catch (AccountVersionConflictException e) {
+                statistics.recordConflict();
+                if (attempt >= retry.getMaxAttempts()) {
+                    statistics.recordExhausted();
+                    throw e;
+                }
+                statistics.recordRetry();
+                backoff(attempt, retry);
+            }
+        }
+    }
+
+    // full jitter: [0, min(max, initial * 2^(attempt-1))) 구간에서 무작위로 대기
+    private void backoff(int attempt, TransferProperties.Retry retry) {
+        long initial = retry.getInitialBackoff().toNanos();
+        long max = retry.getMaxBackoff().toNanos();
+        long ceiling = Math.min(max, initial << Math.min(attempt - 1, 20));
+        if (ceiling > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(ceiling));
+        }
+    }
+
+    private TransferResult transfer(TransferCommand command, Money amount, boolean forUpdate) {
+        if (shardedBalanceService.isSharded(command.getToAccountId())) {
+            return transferToShardedAccount(command, amount, forUpdate);
+        }
+
+        // 3. 계좌 조회 (DB 행 락 교착을 피하기 위해 조회와 저장 모두 ID 오름차순으로 진행)
+        boolean fromFirst = command.getFromAccountId() < command.getToAccountId();
+        Long firstId = fromFirst ? command.getFromAccountId() : command.getToAccountId();
+        Long secondId = fromFirst ? command.getToAccountId() : command.getFromAccountId();
+        Account first = load(firstId, forUpdate);
+        Account second = load(secondId, forUpdate);
+        Account from = fromFirst ? first : second;
+        Account to = fromFirst ? second : first;
+        checkOwner(command, from);
+
+        // 3-1. 같은 요청이 이미 반영됐으면 (선점을 넘겨받은 재실행) 원장의 결과를 그대로 돌려준다.
+        // 출금 계좌 락(또는 버전 확인) 안에서 확인해야 동시에 두 번 반영되지 않는다
+        Optional<TransferResult> applied = findApplied(command);
+        if (applied.isPresent()) {
+            return applied.get();
+        }
+
+        // 4. 출금/입금 (출금 계좌가 잔액 슬롯 계좌면 슬롯을 먼저 잔액으로 합친다)
+        shardedBalanceService.fold(from);
+        from.withdraw(amount);
+        to.deposit(amount);
+
+        // 5. 저장
+        saveAccountPort.save(first);
+        saveAccountPort.save(second);
+
+        // 6. 사용자별 잔액 요약 증감 (같은 사용자 간 이체면 변화 없음)
+        updateBalanceSummaryPort.applyTransfer(from.getUserId(), to.getUserId(), amount);
+
+        // 7. 거래 기록 후 결과 반환
+        return record(command, from, to, amount, to.getBalance());
+    }
+
+    // 입금 계좌 행은 락 없이 읽고, 입금은 슬롯 하나에만 더한다
+    private TransferResult transferToShardedAccount(TransferCommand command, Money amount, boolean forUpdate) {
+        // 3. 계좌 조회 (행 락은 출금 계좌에만)
+        Account from = load(command.getFromAccountId(), forUpdate);
+        checkOwner(command, from);
+        Optional<TransferResult> applied = findApplied(command);
+        if (applied.isPresent()) {
+            return applied.get();
+        }
+        Account to = load(command.getToAccountId(), false);
+
+        // 4. 출금 후 저장
+        shardedBalanceService.fold(from);
+        from.withdraw(amount);
+        saveAccountPort.save(from);
+
+        // 5. 슬롯 입금 (잔액 요약은 출금 사용자만 줄어든다)
+        Money toBalance = shardedBalanceService.credit(from, to, amount);
+
+        // 6. 거래 기록 후 결과 반환
+        return record(command, from, to, amount, toBalance);
+    }
+
+    // 같은 트랜잭션 안에서 출금/입금 두 줄을 한 번에 기록
+    private TransferResult record(TransferCommand command, Account from, Account to, Money amount, Money toBalance) {
+        Instant now = Instant.now();
+        saveTransactionPort.saveAll(List.of(
+                Transaction.transferOut(from.getId(), to.getId(), amount, from.getBalance(), now, command.getRequestKey()),
+                Transaction.transferIn(to.getId(), from.getId(), amount, toBalance, now)
+        ));
+        return new TransferResult(
+                from.getId(),
+                to.getId(),
+                amount.getAmount(),
+                from.getBalance().getAmount()
+        );
+    }
+
+    private Account load(Long accountId, boolean forUpdate) {
+        Optional<Account> account = forUpdate
+                ? loadAccountPort.loadByIdForUpdate(accountId)
+                : loadAccountPort.loadById(accountId);
+        return account.orElseThrow(() -> new AccountNotFoundException(accountId));
+    }
+
+    // 출금 줄에 남긴 출금 후 잔액이 처음 실행의 응답과 같다
+    private Optional<TransferResult> findApplied(TransferCommand command) {
+        if (command.getRequestKey() == null) {
+            return Optional.empty();
+        }
+        return loadTransactionPort.loadByRequestKey(command.getRequestKey())
+                .map(out -> new TransferResult(
+                        out.getAccountId(),
+                        out.getCounterpartyAccountId(),
+                        out.getAmount().getAmount(),
+                        out.getBalanceAfter().getAmount()));
+    }
+
+    // 다른 사용자의 계좌는 없는 계좌와 같게 응답한다
+    private void checkOwner(TransferCommand command, Account from) {
+        if (command.getUserId() != null && !command.getUserId().equals(from.getUserId())) {
+            throw new AccountNotFoundException(from.getId());
+        }
+    }
+
+    private void validate(TransferCommand command) {
+        if (command.getFromAccountId() == null || command.getToAccountId() == null) {
+            throw new IllegalArgumentException("출금/입금 계좌는 필수입니다.");
+        }
+        if (command.getFromAccountId().equals(command.getToAccountId())) {
+            throw new IllegalArgumentException("같은 계좌로 이체할 수 없습니다.");
+        }
+        if (command.getAmount() == null || command.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("이체 금액은 0보다 커야 합니다.");
+        }
+    }
+}
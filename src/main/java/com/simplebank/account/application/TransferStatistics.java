@@ -0,0 +1,64 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.GetTransferStatisticsUseCase;
+import com.simplebank.account.application.port.in.dto.TransferStatisticsInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@RequiredArgsConstructor
+public class TransferStatistics implements GetTransferStatisticsUseCase {
+
+    private final TransferProperties properties;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    void recordCompleted() {
+        completed.increment();
+    }
+
+    void recordConflict() {
+        conflicts.increment();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordExhausted() {
+        exhausted.increment();
+    }
+
+    // 메트릭 스크랩용. 포트 메서드가 아니라서 포트 호출 시간 기록을 거치지 않는다
+    public long completedCount() {
+        return completed.sum();
+    }
+
+    public long conflictCount() {
+        return conflicts.sum();
+    }
+
+    public long retryCount() {
+        return retries.sum();
+    }
+
+    public long exhaustedCount() {
+        return exhausted.sum();
+    }
+
+    @Override
+    public TransferStatisticsInfo execute() {
+        return new TransferStatisticsInfo(
+                properties.getLockMode().name(),
+                completed.sum(),
+                conflicts.sum(),
+                retries.sum(),
+                exhausted.sum()
+        );
+    }
+}
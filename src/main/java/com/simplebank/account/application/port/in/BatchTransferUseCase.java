@@ -0,0 +1,8 @@
+package com.simplebank.account.application.port.in;
+
+import com.simplebank.account.application.port.in.dto.BatchTransferCommand;
+import com.simplebank.account.application.port.in.dto.BatchTransferResult;
+
+public interface BatchTransferUseCase {
+    BatchTransferResult execute(BatchTransferCommand command);
+}
@@ -0,0 +1,11 @@
+package com.simplebank.account.application.port.in;
+
+import com.simplebank.account.application.port.in.dto.AccountInfo;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface GetAccountsBatchUseCase {
+    Map<Long, List<AccountInfo>> execute(Set<Long> userIds);
+}
@@ -0,0 +1,7 @@
+package com.simplebank.account.application.port.in;
+
+import com.simplebank.account.application.port.in.dto.AccountPage;
+
+public interface GetAccountsPageUseCase {
+    AccountPage execute(Long userId, Long afterAccountId, Integer size);
+}
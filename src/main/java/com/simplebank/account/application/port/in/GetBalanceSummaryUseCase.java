@@ -0,0 +1,7 @@
+package com.simplebank.account.application.port.in;
+
+import com.simplebank.account.application.port.in.dto.BalanceSummaryInfo;
+
+public interface GetBalanceSummaryUseCase {
+    BalanceSummaryInfo execute(Long userId);
+}
@@ -0,0 +1,9 @@
+package com.simplebank.account.application.port.in;
+
+import com.simplebank.account.application.port.in.dto.AccountInfo;
+
+import java.util.function.Consumer;
+
+public interface StreamAccountsUseCase {
+    void execute(Long userId, Consumer<AccountInfo> consumer);
+}
@@ -0,0 +1,8 @@
+package com.simplebank.account.application.port.in;
+
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.application.port.in.dto.TransferResult;
+
+public interface TransferUseCase {
+    TransferResult execute(TransferCommand command);
+}
@@ -0,0 +1,14 @@
+package com.simplebank.account.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class AccountPage {
+    private final List<AccountInfo> accounts;
+    // 다음 페이지 요청의 after 값, 마지막 페이지면 null
+    private final Long nextCursor;
+}
@@ -0,0 +1,14 @@
+package com.simplebank.account.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BalanceSummaryCheckResult {
+    private final int checkedUsers;
+    private final List<BalanceSummaryDrift> drifts;
+    private final boolean repaired;
+}
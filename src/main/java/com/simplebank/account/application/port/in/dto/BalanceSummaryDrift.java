@@ -0,0 +1,18 @@
+package com.simplebank.account.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class BalanceSummaryDrift {
+    private final Long userId;
+    // accounts 기준 값
+    private final BigDecimal expectedBalance;
+    private final long expectedAccountCount;
+    // 요약 테이블 값, 요약이 없으면 null
+    private final BigDecimal actualBalance;
+    private final Long actualAccountCount;
+}
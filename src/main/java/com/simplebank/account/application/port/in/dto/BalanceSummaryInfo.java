@@ -0,0 +1,14 @@
+package com.simplebank.account.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class BalanceSummaryInfo {
+    private final Long userId;
+    private final BigDecimal totalBalance;
+    private final long accountCount;
+}
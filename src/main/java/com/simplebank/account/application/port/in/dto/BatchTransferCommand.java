@@ -0,0 +1,25 @@
+package com.simplebank.account.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BatchTransferCommand {
+    private final Long fromAccountId;
+    private final List<CreditLine> lines;
+    // 요청한 사용자. 출금 계좌가 이 사용자의 것이어야 하며, null 이면 확인하지 않는다 (내부 호출)
+    private final Long userId;
+    // 첫 출금 원장에 남기는 요청 키. 같은 키로 이미 반영된 일괄 이체는 다시 반영하지 않는다 (null 이면 확인하지 않는다)
+    private final String requestKey;
+
+    public BatchTransferCommand(Long fromAccountId, List<CreditLine> lines) {
+        this(fromAccountId, lines, null);
+    }
+
+    public BatchTransferCommand(Long fromAccountId, List<CreditLine> lines, Long userId) {
+        this(fromAccountId, lines, userId, null);
+    }
+}
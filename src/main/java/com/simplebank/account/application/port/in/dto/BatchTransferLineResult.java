@@ -0,0 +1,18 @@
+package com.simplebank.account.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class BatchTransferLineResult {
+    // 요청 순서 (1부터)
+    private final int line;
+    private final Long toAccountId;
+    private final BigDecimal amount;
+    private final boolean applied;
+    // 반영된 줄이면 null
+    private final CreditLineRejection rejection;
+}
@@ -0,0 +1,46 @@
+package com.simplebank.account.application.port.in.dto;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 일괄 이체 결과. 줄별 결과는 요청 줄 목록과 줄별 거절 사유 배열로만 들고 있다가
+ * forEachLine 에서 한 건씩 만들어 넘긴다 (수십만 건의 결과 객체를 한꺼번에 만들지 않는다).
+ */
+@Getter
+public class BatchTransferResult {
+    private final Long fromAccountId;
+    private final int totalLines;
+    private final int appliedLines;
+    private final BigDecimal totalAmount;
+    private final BigDecimal fromBalance;
+
+    private final List<CreditLine> lines;
+    private final CreditLineRejection[] rejections;
+
+    public BatchTransferResult(Long fromAccountId, int appliedLines, BigDecimal totalAmount, BigDecimal fromBalance,
+                               List<CreditLine> lines, CreditLineRejection[] rejections) {
+        this.fromAccountId = fromAccountId;
+        this.totalLines = lines.size();
+        this.appliedLines = appliedLines;
+        this.totalAmount = totalAmount;
+        this.fromBalance = fromBalance;
+        this.lines = lines;
+        this.rejections = rejections;
+    }
+
+    public int getRejectedLines() {
+        return totalLines - appliedLines;
+    }
+
+    public void forEachLine(Consumer<BatchTransferLineResult> consumer) {
+        for (int i = 0; i < lines.size(); i++) {
+            CreditLine line = lines.get(i);
+            consumer.accept(new BatchTransferLineResult(
+                    i + 1, line.getToAccountId(), line.getAmount(), rejections[i] == null, rejections[i]));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.simplebank.account.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class CreditLine {
+    private final Long toAccountId;
+    private final BigDecimal amount;
+}
@@ -0,0 +1,12 @@
+package com.simplebank.account.application.port.in.dto;
+
+public enum CreditLineRejection {
+    // 입금 계좌 ID 가 없음
+    INVALID_ACCOUNT,
+    // 출금 계좌로 입금
+    SAME_ACCOUNT,
+    // 0 이하, 소수점 셋째 자리 이하, 범위 초과
+    INVALID_AMOUNT,
+    ACCOUNT_NOT_FOUND,
+    CLOSED_ACCOUNT
+}
@@ -0,0 +1,26 @@
+package com.simplebank.account.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class TransferCommand {
+    private final Long fromAccountId;
+    private final Long toAccountId;
+    private final BigDecimal amount;
+    // 요청한 사용자. 출금 계좌가 이 사용자의 것이어야 하며, null 이면 확인하지 않는다 (내부 호출)
+    private final Long userId;
+    // 멱등성 키 (IdempotencyExecutor.requestKey). 같은 키의 이체가 이미 반영됐으면 다시 출금하지 않는다
+    private final String requestKey;
+
+    public TransferCommand(Long fromAccountId, Long toAccountId, BigDecimal amount) {
+        this(fromAccountId, toAccountId, amount, null, null);
+    }
+
+    public TransferCommand(Long fromAccountId, Long toAccountId, BigDecimal amount, Long userId) {
+        this(fromAccountId, toAccountId, amount, userId, null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.simplebank.account.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TransferStatisticsInfo {
+    private final String lockMode;
+    private final long completed;
+    private final long conflicts;
+    private final long retries;
+    private final long exhausted;
+}
@@ -0,0 +1,9 @@
+package com.simplebank.account.application.port.out;
+
+import com.simplebank.account.domain.Money;
+
+public interface AdjustBalanceSummaryPort {
+    // 한 사용자 합계에만 더하거나 뺀다 (호출한 트랜잭션 안에서)
+    void applyCredit(Long userId, Money amount);
+    void applyDebit(Long userId, Money amount);
+}
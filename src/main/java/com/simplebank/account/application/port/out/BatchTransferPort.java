@@ -0,0 +1,25 @@
+package com.simplebank.account.application.port.out;
+
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.Money;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 이체용 묶음 조회/저장. 한 번의 SQL 또는 JDBC 배치로 여러 계좌를 다룬다.
+ */
+public interface BatchTransferPort {
+    // 존재/상태 확인용 (락 없음)
+    List<Account> loadByIds(Collection<Long> accountIds);
+
+    // ID 오름차순으로 행 락을 잡고 조회 (호출한 트랜잭션 안에서)
+    List<Account> loadByIdsForUpdate(Collection<Long> accountIds);
+
+    // 잔액을 반영하고 버전을 올린다. 락을 잡은 뒤 조회한 계좌만 넘겨야 한다.
+    void saveBalances(Collection<Account> accounts);
+
+    // 출금 사용자 합계에서 입금 합계를 빼고 입금 사용자별 합계에 더한다 (같은 사용자 간 금액은 상쇄)
+    void applyBalanceSummaryCredits(Long fromUserId, Map<Long, Money> creditsByUserId);
+}
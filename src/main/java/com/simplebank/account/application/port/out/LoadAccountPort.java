@@ -2,10 +2,17 @@ package com.simplebank.account.application.port.out;
 
 import  com.simplebank.account.domain.Account;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface LoadAccountPort {
     Optional<Account> loadById(Long accountId);
+    Optional<Account> loadByAccountNumber(String accountNumber);
+    Optional<Account> loadByIdForUpdate(Long accountId);
     List<Account> loadByUserId(Long userId);
+    List<Account> loadByUserIds(Collection<Long> userIds);
+    List<Account> loadByUserIdAfter(Long userId, Long afterAccountId, int limit);
+    void streamByUserId(Long userId, Consumer<Account> consumer);
 }
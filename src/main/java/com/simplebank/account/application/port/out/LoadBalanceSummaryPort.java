@@ -0,0 +1,15 @@
+package com.simplebank.account.application.port.out;
+
+import com.simplebank.account.domain.BalanceSummary;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LoadBalanceSummaryPort {
+    Optional<BalanceSummary> loadByUserId(Long userId);
+    List<BalanceSummary> loadAll();
+
+    // accounts 테이블에서 직접 집계한 값 (기준값)
+    BalanceSummary aggregateByUserId(Long userId);
+    List<BalanceSummary> aggregateAll();
+}
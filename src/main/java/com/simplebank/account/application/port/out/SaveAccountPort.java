@@ -0,0 +1,7 @@
+package com.simplebank.account.application.port.out;
+
+import com.simplebank.account.domain.Account;
+
+public interface SaveAccountPort {
+    Account save(Account account);
+}
@@ -0,0 +1,8 @@
+package com.simplebank.account.application.port.out;
+
+import java.util.Collection;
+
+public interface SaveBalanceSummaryPort {
+    // 사용자 요약을 accounts 기준으로 다시 집계해 기록한다 (호출한 트랜잭션 안에서)
+    void rebuild(Collection<Long> userIds);
+}
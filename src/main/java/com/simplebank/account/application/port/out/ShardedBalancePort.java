@@ -0,0 +1,29 @@
+package com.simplebank.account.application.port.out;
+
+import com.simplebank.account.domain.Money;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 잔액 슬롯. 지정 계좌의 입금은 accounts 행 대신 슬롯 중 하나에 더하고,
+ * 계좌 잔액은 accounts.balance 와 슬롯 합계를 더한 값이다.
+ */
+public interface ShardedBalancePort {
+    // 슬롯이 없으면 만든다
+    void initialize(Long accountId, int slots);
+
+    // 슬롯 하나에 더하고, 이 트랜잭션에서 보이는 슬롯 합계를 반환한다
+    Money credit(Long accountId, Money amount);
+
+    // 모든 슬롯에 행 락을 잡고 0으로 비운 뒤 비운 합계를 반환한다 (호출한 트랜잭션 안에서)
+    Money drain(Long accountId);
+
+    Map<Long, Money> loadBalances(Collection<Long> accountIds);
+
+    Money loadBalanceByUserId(Long userId);
+
+    // 슬롯에 잔액이 남아 있는 계좌
+    Set<Long> loadAccountIds();
+}
@@ -0,0 +1,8 @@
+package com.simplebank.account.application.port.out;
+
+import com.simplebank.account.domain.Money;
+
+public interface UpdateBalanceSummaryPort {
+    // 출금 사용자 합계에서 빼고 입금 사용자 합계에 더한다 (호출한 트랜잭션 안에서)
+    void applyTransfer(Long fromUserId, Long toUserId, Money amount);
+}
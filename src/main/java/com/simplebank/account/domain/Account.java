@@ -1,5 +1,7 @@
 package com.simplebank.account.domain;
 
+import com.simplebank.account.domain.exception.ClosedAccountException;
+import com.simplebank.account.domain.exception.InsufficientBalanceException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,6 +15,7 @@ public class Account {
     private String accountNumber;
     private Money balance;
     private AccountStatus status;
+    private Long version;
 
     public boolean isActive() {
         return status == AccountStatus.ACTIVE;
@@ -21,4 +24,21 @@ public class Account {
     public boolean isClosed() {
         return status == AccountStatus.CLOSED;
     }
+
+    public void withdraw(Money amount) {
+        if (isClosed()) {
+            throw new ClosedAccountException(accountNumber);
+        }
+        if (!balance.isGreaterThanOrEqual(amount)) {
+            throw new InsufficientBalanceException(accountNumber);
+        }
+        this.balance = balance.subtract(amount);
+    }
+
+    public void deposit(Money amount) {
+        if (isClosed()) {
+            throw new ClosedAccountException(accountNumber);
+        }
+        this.balance = balance.add(amount);
+    }
 }
@@ -0,0 +1,23 @@
+package com.simplebank.account.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자의 전체 계좌 잔액 합계와 계좌 수.
+ */
+@Getter
+@AllArgsConstructor
+public class BalanceSummary {
+    private final Long userId;
+    private final Money totalBalance;
+    private final long accountCount;
+
+    public static BalanceSummary empty(Long userId) {
+        return new BalanceSummary(userId, Money.ZERO, 0);
+    }
+
+    public boolean matches(BalanceSummary other) {
+        return totalBalance.compareTo(other.totalBalance) == 0 && accountCount == other.accountCount;
+    }
+}
@@ -1,39 +1,87 @@
 package com.simplebank.account.domain;
 
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 
 import java.math.BigDecimal;
 
-@Getter
+/**
+ * 금액 값 객체. 내부적으로는 최소 화폐 단위(소수점 둘째 자리)의 long 으로 보관해
+ * 덧셈/뺄셈/비교 시 BigDecimal 을 만들지 않는다. BigDecimal 은 영속성/응답 경계에서만 변환한다.
+ */
 @EqualsAndHashCode
-public class Money {
-    private final BigDecimal amount;
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("금액은 0보다 작을 수 없습니다.");
+        }
+        this.minorUnits = minorUnits;
+    }
 
     public Money(BigDecimal amount) {
+        this(toMinorUnits(amount));
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
         if (amount == null) {
             throw new IllegalArgumentException("금액은 null일 수 없습니다.");
         }
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("금액은 0보다 작을 수 없습니다.");
+        try {
+            return amount.movePointRight(SCALE).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(
+                    String.format("금액은 소수점 %d자리까지, long 범위 안에서만 표현할 수 있습니다: %s", SCALE, amount));
         }
-        this.amount = amount;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
     }
 
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        try {
+            return new Money(Math.addExact(this.minorUnits, other.minorUnits));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("금액 범위를 초과했습니다.");
+        }
     }
 
     public Money subtract(Money other) {
-        return new Money(this.amount.subtract(other.amount));
+        return new Money(this.minorUnits - other.minorUnits);
     }
 
     public boolean isGreaterThan(Money other) {
-        return this.amount.compareTo(other.amount) > 0;
+        return this.minorUnits > other.minorUnits;
     }
 
     public boolean isGreaterThanOrEqual(Money other) {
-        return this.amount.compareTo(other.amount) >= 0;
+        return this.minorUnits >= other.minorUnits;
     }
 
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(this.minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return getAmount().toPlainString();
+    }
 }
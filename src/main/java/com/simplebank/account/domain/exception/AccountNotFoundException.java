@@ -0,0 +1,10 @@
+package com.simplebank.account.domain.exception;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class AccountNotFoundException extends DomainException {
+    public AccountNotFoundException(Long accountId) {
+        super(ErrorCode.ACCOUNT_NOT_FOUND, String.format("계좌를 찾을 수 없습니다: %d", accountId));
+    }
+}
@@ -0,0 +1,10 @@
+package com.simplebank.account.domain.exception;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class AccountVersionConflictException extends DomainException {
+    public AccountVersionConflictException(Long accountId) {
+        super(ErrorCode.TRANSFER_CONFLICT, String.format("다른 거래가 먼저 계좌를 변경했습니다: %d", accountId));
+    }
+}
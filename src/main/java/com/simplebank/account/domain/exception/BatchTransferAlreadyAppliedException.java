@@ -0,0 +1,10 @@
+package com.simplebank.account.domain.exception;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class BatchTransferAlreadyAppliedException extends DomainException {
+    public BatchTransferAlreadyAppliedException(Long fromAccountId) {
+        super(ErrorCode.BATCH_TRANSFER_ALREADY_APPLIED, String.format("이미 반영된 일괄 이체입니다: %d", fromAccountId));
+    }
+}
@@ -0,0 +1,10 @@
+package com.simplebank.account.domain.exception;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class ClosedAccountException extends DomainException {
+    public ClosedAccountException(String accountNumber) {
+        super(ErrorCode.CLOSED_ACCOUNT, String.format("해지된 계좌입니다: %s", accountNumber));
+    }
+}
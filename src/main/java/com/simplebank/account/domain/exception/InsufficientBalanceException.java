@@ -0,0 +1,10 @@
+package com.simplebank.account.domain.exception;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class InsufficientBalanceException extends DomainException {
+    public InsufficientBalanceException(String accountNumber) {
+        super(ErrorCode.INSUFFICIENT_BALANCE, String.format("잔액이 부족합니다: %s", accountNumber));
+    }
+}
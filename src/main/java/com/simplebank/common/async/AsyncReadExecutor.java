@@ -0,0 +1,43 @@
+package com.simplebank.common.async;
+
+import com.simplebank.common.concurrent.BoundedExecutor;
+import com.simplebank.common.exception.ErrorCode;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 조회 API 의 유스케이스 호출을 요청 스레드 대신 실행하는 고정 크기 풀.
+ * 포트는 그대로 블로킹 JDBC 이므로 I/O 가 논블로킹이 되는 것은 아니고, 요청 스레드를 돌려주는 대신
+ * 블로킹 호출을 커넥션 풀 크기만큼의 스레드로 제한한다.
+ * 제한 시간을 넘기면 작업을 취소하고, 실행 중인 쿼리는 transactions 의 타임아웃으로 JDBC 에서 끊긴다.
+ */
+public class AsyncReadExecutor implements AutoCloseable {
+
+    private final BoundedExecutor executor;
+    private final TransactionOperations transactions;
+
+    public AsyncReadExecutor(AsyncReadProperties properties, TransactionOperations transactions) {
+        this.executor = new BoundedExecutor("async-read", properties.getThreads(), properties.getQueueCapacity(),
+                properties.getTimeout(), ErrorCode.READ_UNAVAILABLE, properties.getRetryAfter());
+        this.transactions = transactions;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return executor.submit(() -> transactions.execute(status -> task.get()));
+    }
+
+    public int queueDepth() {
+        return executor.queueDepth();
+    }
+
+    public int activeCount() {
+        return executor.activeCount();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
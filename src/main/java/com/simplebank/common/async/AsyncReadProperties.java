@@ -0,0 +1,19 @@
+package com.simplebank.common.async;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.async-read")
+public class AsyncReadProperties {
+
+    // 동시에 DB 를 읽는 작업 수. 커넥션 풀 크기(Hikari 기본 10)에 맞춘다.
+    private int threads = 10;
+    private int queueCapacity = 1_000;
+    private Duration timeout = Duration.ofSeconds(5);
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
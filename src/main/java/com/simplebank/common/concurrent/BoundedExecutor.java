@@ -0,0 +1,128 @@
+package com.simplebank.common.concurrent;
+
+import com.simplebank.common.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 고정 크기 스레드 풀과 유한 큐. 큐가 가득 차면 바로, 제한 시간을 넘기면 작업을 취소(실행 중이면 인터럽트)하고
+ * rejectionCode 의 CapacityExceededException 으로 실패한다.
+ * 시간 초과로 취소된 작업은 큐에 남아 있어도 실행되지 않으므로 스레드를 붙잡지 않는다.
+ */
+public class BoundedExecutor implements AutoCloseable {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final ErrorCode rejectionCode;
+    private final long retryAfterSeconds;
+    private final LongAdder rejections = new LongAdder();
+
+    public BoundedExecutor(String threadName, int threads, int queueCapacity, Duration timeout,
+                           ErrorCode rejectionCode, Duration retryAfter) {
+        this.timeoutNanos = timeout.toNanos();
+        this.rejectionCode = rejectionCode;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadName + "-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 호출한 스레드가 결과를 기다린다
+    public <T> T call(Callable<T> task) {
+        Future<T> result;
+        try {
+            result = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw reject();
+        }
+
+        try {
+            return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw reject();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw reject();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 호출한 스레드는 바로 돌아간다. 작업 예외는 감싸지 않고 그대로 전달한다.
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running;
+        try {
+            running = executor.submit(() -> {
+                try {
+                    result.complete(task.get());
+                } catch (Throwable failure) {
+                    result.completeExceptionally(failure);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(reject());
+        }
+        return result.orTimeout(timeoutNanos, TimeUnit.NANOSECONDS)
+                .exceptionallyCompose(failure -> {
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause()
+                            : failure;
+                    if (cause instanceof TimeoutException) {
+                        running.cancel(true);
+                        cause = reject();
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
+
+    private CapacityExceededException reject() {
+        rejections.increment();
+        return new CapacityExceededException(rejectionCode, retryAfterSeconds);
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public long rejectionCount() {
+        return rejections.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,15 @@
+package com.simplebank.common.concurrent;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class CapacityExceededException extends DomainException {
+    private final long retryAfterSeconds;
+
+    public CapacityExceededException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode, errorCode.getMessage());
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,22 @@
+package com.simplebank.common.config;
+
+import com.simplebank.common.async.AsyncReadExecutor;
+import com.simplebank.common.async.AsyncReadProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class AsyncReadConfig {
+
+    // 유스케이스의 읽기 트랜잭션이 이 트랜잭션에 참여하므로, 제한 시간이 JDBC 쿼리 타임아웃으로 걸린다
+    @Bean(destroyMethod = "close")
+    public AsyncReadExecutor asyncReadExecutor(AsyncReadProperties properties,
+                                               PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactions = new TransactionTemplate(transactionManager);
+        transactions.setReadOnly(true);
+        transactions.setTimeout((int) Math.max(1, properties.getTimeout().toSeconds()));
+        return new AsyncReadExecutor(properties, transactions);
+    }
+}
@@ -0,0 +1,34 @@
+package com.simplebank.common.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplebank.common.idempotency.IdempotencyExecutor;
+import com.simplebank.common.idempotency.IdempotencyProperties;
+import com.simplebank.common.idempotency.IdempotencyStore;
+import com.simplebank.common.idempotency.InMemoryIdempotencyStore;
+import com.simplebank.common.idempotency.JdbcIdempotencyStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "simplebank.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+    public InMemoryIdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "simplebank.idempotency", name = "store", havingValue = "jdbc")
+    public JdbcIdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        return new JdbcIdempotencyStore(jdbcTemplate, properties);
+    }
+
+    @Bean
+    public IdempotencyExecutor idempotencyExecutor(IdempotencyStore store, ObjectMapper objectMapper,
+                                                   IdempotencyProperties properties) {
+        return new IdempotencyExecutor(store, objectMapper, properties);
+    }
+}
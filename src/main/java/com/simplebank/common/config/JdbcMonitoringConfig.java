@@ -0,0 +1,19 @@
+package com.simplebank.common.config;
+
+import com.simplebank.common.jdbc.JdbcMonitoringProperties;
+import com.simplebank.common.jdbc.StatementMonitoringPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JdbcMonitoringConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "simplebank.jdbc", name = "monitoring", havingValue = "true", matchIfMissing = true)
+    public static StatementMonitoringPostProcessor statementMonitoringPostProcessor(
+            ObjectProvider<JdbcMonitoringProperties> properties) {
+        return new StatementMonitoringPostProcessor(properties);
+    }
+}
@@ -0,0 +1,50 @@
+package com.simplebank.common.config;
+
+import com.simplebank.account.application.TransferStatistics;
+import com.simplebank.common.async.AsyncReadExecutor;
+import com.simplebank.common.idempotency.InMemoryIdempotencyStore;
+import com.simplebank.common.metrics.PortMetricsPostProcessor;
+import com.simplebank.common.metrics.QueryCountFilter;
+import com.simplebank.common.metrics.SimpleBankMeterBinder;
+import com.simplebank.user.adapter.out.persistence.CachingUserRepositoryAdapter;
+import com.simplebank.user.adapter.out.session.InMemorySessionStore;
+import com.simplebank.user.adapter.out.throttle.InMemoryLoginAttemptStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+public class MetricsConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 선언하고 레지스트리는 지연 조회한다
+    @Bean
+    @ConditionalOnProperty(prefix = "simplebank.metrics", name = "ports", havingValue = "true", matchIfMissing = true)
+    public static PortMetricsPostProcessor portMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new PortMetricsPostProcessor(registry);
+    }
+
+    // SQL 수는 JdbcMonitoringConfig 가 감싼 DataSource 에서 센다
+    @Bean
+    @ConditionalOnProperty(prefix = "simplebank.metrics", name = "queries-per-request", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry registry) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(new QueryCountFilter(registry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    public SimpleBankMeterBinder simpleBankMeterBinder(ObjectProvider<TransferStatistics> transferStatistics,
+                                                       ObjectProvider<PasswordEncoder> passwordEncoder,
+                                                       ObjectProvider<AsyncReadExecutor> asyncReadExecutor,
+                                                       ObjectProvider<CachingUserRepositoryAdapter> userCache,
+                                                       ObjectProvider<InMemorySessionStore> sessionStore,
+                                                       ObjectProvider<InMemoryLoginAttemptStore> loginAttemptStore,
+                                                       ObjectProvider<InMemoryIdempotencyStore> idempotencyStore) {
+        return new SimpleBankMeterBinder(transferStatistics, passwordEncoder, asyncReadExecutor, userCache,
+                sessionStore, loginAttemptStore, idempotencyStore);
+    }
+}
@@ -1,15 +1,19 @@
 package com.simplebank.common.config;
 
+import com.simplebank.common.security.BoundedPasswordEncoder;
+import com.simplebank.common.security.PasswordEncoderFactory;
+import com.simplebank.common.security.PasswordEncoderProperties;
+import com.simplebank.common.security.PasswordVerificationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordEncoderProperties encoderProperties,
+                                           PasswordVerificationProperties verificationProperties) {
+        return new BoundedPasswordEncoder(PasswordEncoderFactory.create(encoderProperties), verificationProperties);
     }
 }
@@ -0,0 +1,26 @@
+package com.simplebank.common.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * virtual-threads 프로필 검증. Java 21 미만에서는 Spring 이 설정을 조용히 무시하므로
+ * 플랫폼 스레드로 뜬 채 가상 스레드 모드라고 착각하지 않도록 기동을 막는다.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+    static final int REQUIRED_JAVA_VERSION = 21;
+
+    @PostConstruct
+    void verifyRuntime() {
+        int version = Runtime.version().feature();
+        if (version < REQUIRED_JAVA_VERSION) {
+            throw new IllegalStateException(String.format(
+                    "virtual-threads 프로필은 Java %d 이상에서만 실행할 수 있습니다. (현재 Java %d)",
+                    REQUIRED_JAVA_VERSION, version));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.simplebank.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 예상 가능한 업무 오류의 기반 예외. 호출 위치가 의미 없는 오류이므로
+ * 기본적으로 스택 트레이스를 채우지 않는다.
+ * 디버깅할 때는 JVM 시스템 속성 -Dsimplebank.exception.stack-trace=true 로 켠다 (클래스 로딩 때 한 번만 읽는다).
+ */
+@Getter
+public abstract class DomainException extends RuntimeException {
+
+    public static final String STACK_TRACE_PROPERTY = "simplebank.exception.stack-trace";
+
+    private static final boolean STACK_TRACE_ENABLED = Boolean.getBoolean(STACK_TRACE_PROPERTY);
+
+    private final ErrorCode errorCode;
+
+    protected DomainException(ErrorCode errorCode, String message) {
+        this(errorCode, message, STACK_TRACE_ENABLED);
+    }
+
+    protected DomainException(ErrorCode errorCode, String message, boolean stackTrace) {
+        super(message, null, false, stackTrace);
+        this.errorCode = errorCode;
+    }
+
+    public static boolean isStackTraceEnabled() {
+        return STACK_TRACE_ENABLED;
+    }
+}
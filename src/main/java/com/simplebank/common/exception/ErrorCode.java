@@ -0,0 +1,31 @@
+package com.simplebank.common.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 예외의 응답 코드. 응답 본문은 코드별로 고정이라 기동 시 한 번만 직렬화해 둔다.
+ * 식별자 등 상세 내용은 예외 메시지(로그)에만 남기고 응답에는 싣지 않는다.
+ * HTTP 상태는 웹 어댑터(GlobalExceptionHandler)가 정한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ErrorCode {
+    INVALID_CREDENTIALS("아이디 또는 비밀번호가 일치하지 않습니다."),
+    INVALID_SESSION("세션이 없거나 만료되었습니다. 다시 로그인해 주세요."),
+    USER_NOT_FOUND("사용자를 찾을 수 없습니다."),
+    BLOCKED_USER("차단된 사용자입니다."),
+    FORBIDDEN_USER("다른 사용자의 정보에는 접근할 수 없습니다."),
+    TOO_MANY_LOGIN_ATTEMPTS("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    LOGIN_UNAVAILABLE("로그인 요청이 많아 잠시 후 다시 시도해 주세요."),
+    READ_UNAVAILABLE("조회 요청이 많아 잠시 후 다시 시도해 주세요."),
+    ACCOUNT_NOT_FOUND("계좌를 찾을 수 없습니다."),
+    CLOSED_ACCOUNT("해지된 계좌입니다."),
+    INSUFFICIENT_BALANCE("잔액이 부족합니다."),
+    TRANSFER_CONFLICT("다른 거래가 먼저 계좌를 변경했습니다."),
+    IDEMPOTENCY_KEY_REUSED("다른 요청에 이미 사용된 Idempotency-Key 입니다."),
+    IDEMPOTENCY_IN_PROGRESS("같은 Idempotency-Key 의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해 주세요."),
+    BATCH_TRANSFER_ALREADY_APPLIED("같은 Idempotency-Key 의 일괄 이체가 이미 반영되었습니다.");
+
+    private final String message;
+}
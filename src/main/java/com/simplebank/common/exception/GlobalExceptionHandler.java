@@ -1,31 +1,81 @@
 package com.simplebank.common.exception;
 
-import com.simplebank.user.domain.exception.BlockedUserException;
-import com.simplebank.user.domain.exception.InvalidPasswordException;
-import com.simplebank.user.domain.exception.UserNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplebank.common.concurrent.CapacityExceededException;
+import com.simplebank.user.domain.exception.LoginRateLimitedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(InvalidPasswordException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidPasswordException(InvalidPasswordException e) {
-        ErrorResponse error = new ErrorResponse("INVALID_PASSWORD", e.getMessage());
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+    // 도메인 예외 응답은 코드별로 고정이므로 본문까지 직렬화된 응답을 재사용한다
+    private final Map<ErrorCode, ResponseEntity<byte[]>> domainResponses = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(ObjectMapper objectMapper) {
+        for (ErrorCode code : ErrorCode.values()) {
+            domainResponses.put(code, ResponseEntity.status(status(code))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(serialize(objectMapper, code)));
+        }
+    }
+
+    // 새 코드를 추가하면 여기서 상태를 정하지 않는 한 컴파일되지 않는다
+    static HttpStatus status(ErrorCode code) {
+        return switch (code) {
+            case INVALID_CREDENTIALS, INVALID_SESSION -> HttpStatus.UNAUTHORIZED;
+            case USER_NOT_FOUND, ACCOUNT_NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case BLOCKED_USER, FORBIDDEN_USER -> HttpStatus.FORBIDDEN;
+            case TOO_MANY_LOGIN_ATTEMPTS -> HttpStatus.TOO_MANY_REQUESTS;
+            case LOGIN_UNAVAILABLE, READ_UNAVAILABLE -> HttpStatus.SERVICE_UNAVAILABLE;
+            case CLOSED_ACCOUNT, TRANSFER_CONFLICT, IDEMPOTENCY_IN_PROGRESS, BATCH_TRANSFER_ALREADY_APPLIED ->
+                    HttpStatus.CONFLICT;
+            case INSUFFICIENT_BALANCE, IDEMPOTENCY_KEY_REUSED -> HttpStatus.UNPROCESSABLE_ENTITY;
+        };
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, ErrorCode code) {
+        try {
+            return objectMapper.writeValueAsBytes(new ErrorResponse(code.name(), code.getMessage()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("오류 응답 직렬화 실패: " + code, e);
+        }
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<byte[]> handleDomainException(DomainException e) {
+        return domainResponses.get(e.getErrorCode());
+    }
+
+    @ExceptionHandler(LoginRateLimitedException.class)
+    public ResponseEntity<byte[]> handleLoginRateLimitedException(LoginRateLimitedException e) {
+        return withRetryAfter(e, e.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(CapacityExceededException.class)
+    public ResponseEntity<byte[]> handleCapacityExceededException(CapacityExceededException e) {
+        return withRetryAfter(e, e.getRetryAfterSeconds());
     }
 
-    @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleUserNotFoundException(UserNotFoundException e){
-        ErrorResponse error = new ErrorResponse("USER_NOT_FOUND", e.getMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    private ResponseEntity<byte[]> withRetryAfter(DomainException e, long retryAfterSeconds) {
+        ResponseEntity<byte[]> cached = domainResponses.get(e.getErrorCode());
+        return ResponseEntity.status(cached.getStatusCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(cached.getBody());
     }
 
-    @ExceptionHandler(BlockedUserException.class)
-    public ResponseEntity<ErrorResponse> handleBlockedUserException(BlockedUserException e) {
-        ErrorResponse error = new ErrorResponse("BLOCKED_USER", e.getMessage());
-        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
+        ErrorResponse error = new ErrorResponse("INVALID_REQUEST", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 }
@@ -0,0 +1,128 @@
+package com.simplebank.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더가 있는 요청을 한 번만 실행하고, 같은 키로 다시 온 요청에는 저장된 응답 본문을 돌려준다.
+ * 성공한 응답만 저장한다. 실패한 요청은 키를 풀어 같은 키로 다시 시도할 수 있게 한다.
+ * 같은 키에 다른 요청 본문이 오면 거절한다. 본문에 비밀번호가 있을 수 있어 평문 해시 대신 HMAC 으로 비교한다.
+ *
+ * <p>응답 저장은 실행한 유스케이스의 트랜잭션과 따로 커밋된다. 커밋 뒤 응답을 저장하기 전에 인스턴스가 죽으면
+ * 선점을 넘겨받은 요청이 다시 실행하므로, 돈이 움직이는 유스케이스는 {@link #requestKey} 를 자기 트랜잭션에
+ * 함께 기록해 두고 이미 반영된 요청이면 그 결과를 돌려준다 (예: 이체 원장).
+ */
+public class IdempotencyExecutor {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties properties;
+    private final SecretKeySpec fingerprintKey;
+
+    public IdempotencyExecutor(IdempotencyStore store, ObjectMapper objectMapper, IdempotencyProperties properties) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.fingerprintKey = new SecretKeySpec(fingerprintSecret(properties), "HmacSHA256");
+    }
+
+    // 설정이 없으면 프로세스마다 임의로 만든다 (JDBC 저장소를 여러 인스턴스가 같이 쓰면 반드시 설정)
+    private static byte[] fingerprintSecret(IdempotencyProperties properties) {
+        String secret = properties.getFingerprintSecret();
+        if (secret != null && !secret.isEmpty()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+
+    /**
+     * @param scope   키가 적용되는 범위 (예: "POST /api/accounts/transfer")
+     * @param key     Idempotency-Key 헤더 값. null 이면 그대로 실행한다
+     * @param request 요청 본문 (같은 키의 재요청인지 확인하는 데 쓴다)
+     */
+    public <T> ResponseEntity<?> execute(String scope, String key, Object request, Supplier<T> action) {
+        if (key == null) {
+            return ResponseEntity.ok(action.get());
+        }
+        if (key.isBlank() || key.length() > properties.getMaxKeyLength()) {
+            throw new IllegalArgumentException(String.format(
+                    "Idempotency-Key 는 1자 이상 %d자 이하여야 합니다.", properties.getMaxKeyLength()));
+        }
+
+        String storeKey = requestKey(scope, key);
+        String fingerprint = fingerprint(request);
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        while (true) {
+            // 1. 처음 온 요청이면 실행하고 결과를 저장
+            OptionalLong claim = store.tryClaim(storeKey, fingerprint);
+            if (claim.isPresent()) {
+                return run(storeKey, claim.getAsLong(), action);
+            }
+
+            // 2. 먼저 온 요청의 결과를 기다렸다가 같은 응답을 돌려준다
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IdempotencyRequestInProgressException(key);
+            }
+            Optional<byte[]> stored = store.await(storeKey, fingerprint, Duration.ofNanos(remaining));
+            if (stored.isPresent()) {
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(REPLAYED_HEADER, "true")
+                        .body(stored.get());
+            }
+
+            // 3. 먼저 요청이 실패해 키가 풀렸으면 다시 선점을 시도한다
+        }
+    }
+
+    // 저장소에 쓰는 키 (scope 포함). key 가 null 이면 null
+    public static String requestKey(String scope, String key) {
+        return key == null ? null : scope + ":" + key;
+    }
+
+    private <T> ResponseEntity<byte[]> run(String storeKey, long claim, Supplier<T> action) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(action.get());
+        } catch (JsonProcessingException e) {
+            store.release(storeKey, claim);
+            throw new IllegalStateException("응답 직렬화 실패: " + storeKey, e);
+        } catch (RuntimeException e) {
+            store.release(storeKey, claim);
+            throw e;
+        }
+        store.complete(storeKey, claim, body);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(fingerprintKey);
+            return HexFormat.of().formatHex(mac.doFinal(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | GeneralSecurityException e) {
+            throw new IllegalStateException("요청 지문 계산 실패", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.simplebank.common.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 스키마 생성용. 읽기/쓰기는 JdbcIdempotencyStore 가 JDBC 로 직접 한다
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_created_at", columnList = "createdAt")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKeyJpaEntity {
+
+    @Id
+    @Column(length = 255)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    // 실행 중이면 null
+    @Lob
+    private byte[] response;
+
+    @Column(nullable = false)
+    private long createdAt;
+
+    // 실행 중인 요청이 선점한(또는 넘겨받은) 시각
+    @Column(nullable = false)
+    private long claimedAt;
+}
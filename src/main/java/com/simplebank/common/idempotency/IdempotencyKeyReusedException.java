@@ -0,0 +1,10 @@
+package com.simplebank.common.idempotency;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class IdempotencyKeyReusedException extends DomainException {
+    public IdempotencyKeyReusedException(String key) {
+        super(ErrorCode.IDEMPOTENCY_KEY_REUSED, String.format("다른 요청에 이미 사용된 Idempotency-Key 입니다: %s", key));
+    }
+}
@@ -0,0 +1,30 @@
+package com.simplebank.common.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.idempotency")
+public class IdempotencyProperties {
+
+    private IdempotencyStoreType store = IdempotencyStoreType.MEMORY;
+    // 같은 키로 다시 보내면 저장된 응답을 돌려주는 기간
+    private Duration ttl = Duration.ofHours(24);
+    // MEMORY 저장소의 최대 키 수
+    private long maximumSize = 100_000;
+    private int maxKeyLength = 128;
+    // 요청 본문 비교(HMAC)용 비밀값. 비워 두면 프로세스마다 임의로 만든다
+    private String fingerprintSecret;
+    // 같은 키의 요청이 실행 중일 때 결과를 기다리는 최대 시간
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    // 선점한 요청이 이 시간 안에 결과를 남기지 못하면 같은 요청이 키를 넘겨받는다 (요청 처리 시간보다 넉넉히)
+    private Duration claimTimeout = Duration.ofMinutes(1);
+    // JDBC 저장소에서 실행 중인 요청의 결과를 확인하는 간격
+    private Duration pollInterval = Duration.ofMillis(20);
+    // JDBC 저장소에서 만료된 키를 지우는 간격
+    private Duration purgeInterval = Duration.ofMinutes(1);
+}
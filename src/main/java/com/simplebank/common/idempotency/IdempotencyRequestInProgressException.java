@@ -0,0 +1,10 @@
+package com.simplebank.common.idempotency;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class IdempotencyRequestInProgressException extends DomainException {
+    public IdempotencyRequestInProgressException(String key) {
+        super(ErrorCode.IDEMPOTENCY_IN_PROGRESS, String.format("같은 Idempotency-Key 의 요청이 아직 처리 중입니다: %s", key));
+    }
+}
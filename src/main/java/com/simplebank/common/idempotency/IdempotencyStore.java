@@ -0,0 +1,27 @@
+package com.simplebank.common.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+public interface IdempotencyStore {
+
+    /**
+     * 처음 보는 키(또는 오래된 선점)면 선점한다.
+     * @return 선점 토큰. 선점한 쪽은 반드시 이 토큰으로 complete 또는 release 해야 한다. 선점하지 못했으면 empty
+     */
+    OptionalLong tryClaim(String key, String fingerprint);
+
+    /**
+     * 먼저 선점한 요청의 결과를 기다린다.
+     * @return 저장된 응답 본문. 키가 없거나 먼저 요청이 실패해 풀렸으면 empty
+     * @throws IdempotencyKeyReusedException 같은 키에 다른 요청 본문이 저장되어 있을 때
+     * @throws IdempotencyRequestInProgressException timeout 안에 결과가 나오지 않았을 때
+     */
+    Optional<byte[]> await(String key, String fingerprint, Duration timeout);
+
+    // 선점을 다른 요청이 넘겨받았으면 아무것도 하지 않는다 (넘겨받은 요청의 결과를 덮어쓰지 않는다)
+    void complete(String key, long claim, byte[] response);
+
+    void release(String key, long claim);
+}
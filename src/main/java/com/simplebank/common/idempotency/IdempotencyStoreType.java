@@ -0,0 +1,8 @@
+package com.simplebank.common.idempotency;
+
+public enum IdempotencyStoreType {
+    // 프로세스 메모리 (재시작하면 사라진다)
+    MEMORY,
+    // idempotency_keys 테이블 (재시작과 여러 인스턴스에 걸쳐 유지)
+    JDBC
+}
@@ -0,0 +1,117 @@
+package com.simplebank.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * 키 -> 실행 결과 future 를 Caffeine 캐시에 둔다. 같은 키의 동시 요청은 같은 future 를 기다린다.
+ * 용량을 넘겨 실행 중인 키가 밀려나면 이후 요청은 다시 실행될 수 있으므로 maximumSize 는 넉넉히 잡는다.
+ * 선점한 요청이 claimTimeout 안에 끝나지 않으면 같은 지문의 요청이 넘겨받는다.
+ * 선점 토큰은 선점 시각이고, complete/release 는 토큰이 같은 항목에만 적용된다.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, Entry> entries;
+    private final long claimTimeoutMillis;
+    private final LongSupplier clock;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    InMemoryIdempotencyStore(IdempotencyProperties properties, LongSupplier clock) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        this.claimTimeoutMillis = properties.getClaimTimeout().toMillis();
+        this.clock = clock;
+    }
+
+    // 오래된 선점을 넘겨받으면 이전 선점을 기다리던 요청은 null 을 받고 새 선점을 기다린다
+    @Override
+    public OptionalLong tryClaim(String key, String fingerprint) {
+        Entry claimed = new Entry(fingerprint, clock.getAsLong());
+        Entry existing = entries.asMap().putIfAbsent(key, claimed);
+        if (existing == null) {
+            return OptionalLong.of(claimed.claimedAt);
+        }
+        if (existing.fingerprint.equals(fingerprint) && isStale(existing)
+                && entries.asMap().replace(key, existing, claimed)) {
+            existing.response.complete(null);
+            return OptionalLong.of(claimed.claimedAt);
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public Optional<byte[]> await(String key, String fingerprint, Duration timeout) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.fingerprint.equals(fingerprint)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        // 선점이 오래되기 전까지만 기다리고, 오래됐으면 호출자가 다시 tryClaim 해 넘겨받는다
+        long untilStale = TimeUnit.MILLISECONDS.toNanos(entry.claimedAt + claimTimeoutMillis - clock.getAsLong());
+        try {
+            return Optional.ofNullable(entry.response.get(Math.min(timeout.toNanos(), untilStale), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            if (isStale(entry)) {
+                return Optional.empty();
+            }
+            throw new IdempotencyRequestInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyRequestInProgressException(key);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void complete(String key, long claim, byte[] response) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry != null && entry.claimedAt == claim) {
+            entry.response.complete(response);
+        }
+    }
+
+    // 기다리던 요청은 null 을 받고 다시 선점을 시도한다
+    @Override
+    public void release(String key, long claim) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry != null && entry.claimedAt == claim && entries.asMap().remove(key, entry)) {
+            entry.response.complete(null);
+        }
+    }
+
+    public long estimatedSize() {
+        return entries.estimatedSize();
+    }
+
+    private boolean isStale(Entry entry) {
+        return !entry.response.isDone() && clock.getAsLong() - entry.claimedAt >= claimTimeoutMillis;
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final long claimedAt;
+        private final CompletableFuture<byte[]> response = new CompletableFuture<>();
+
+        private Entry(String fingerprint, long claimedAt) {
+            this.fingerprint = fingerprint;
+            this.claimedAt = claimedAt;
+        }
+    }
+}
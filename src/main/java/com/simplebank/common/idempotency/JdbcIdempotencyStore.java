@@ -0,0 +1,150 @@
+package com.simplebank.common.idempotency;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * idempotency_keys 테이블을 쓰는 저장소. 선점은 기본 키 insert 로, 결과 대기는 폴링으로 한다.
+ * 호출자의 트랜잭션 밖에서 쓰여야 선점이 곧바로 다른 인스턴스에 보인다.
+ * 선점한 인스턴스가 결과를 남기지 못하고 죽으면 claimTimeout 이 지난 뒤 같은 지문의 요청이 claimed_at 을 갱신해 넘겨받는다.
+ * claimed_at 이 선점 토큰이어서, 넘겨받힌 요청이 뒤늦게 끝나도 complete/release 는 새 선점의 행을 건드리지 않는다.
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String INSERT_SQL =
+            "insert into idempotency_keys (idempotency_key, fingerprint, response, created_at, claimed_at) values (?, ?, null, ?, ?)";
+    private static final String SELECT_SQL =
+            "select fingerprint, response, claimed_at from idempotency_keys where idempotency_key = ? and created_at >= ?";
+    private static final String TAKE_OVER_SQL =
+            "update idempotency_keys set claimed_at = ? "
+                    + "where idempotency_key = ? and fingerprint = ? and response is null and claimed_at < ?";
+    private static final String COMPLETE_SQL =
+            "update idempotency_keys set response = ? where idempotency_key = ? and claimed_at = ? and response is null";
+    private static final String DELETE_SQL =
+            "delete from idempotency_keys where idempotency_key = ? and claimed_at = ? and response is null";
+    private static final String DELETE_EXPIRED_KEY_SQL =
+            "delete from idempotency_keys where idempotency_key = ? and created_at < ?";
+    private static final String PURGE_SQL =
+            "delete from idempotency_keys where created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+    private final LongSupplier clock;
+    private final AtomicLong lastPurge = new AtomicLong();
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        this(jdbcTemplate, properties, System::currentTimeMillis);
+    }
+
+    JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties, LongSupplier clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    // 만료됐지만 아직 지워지지 않은 같은 키가 있으면 지우고 한 번 더 시도하고, 선점이 오래된 키는 넘겨받는다
+    @Override
+    public OptionalLong tryClaim(String key, String fingerprint) {
+        long now = clock.getAsLong();
+        purgeIfDue(now);
+        if (insert(key, fingerprint, now)) {
+            return OptionalLong.of(now);
+        }
+        if (jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, expiredBefore(now)) == 1 && insert(key, fingerprint, now)) {
+            return OptionalLong.of(now);
+        }
+        if (jdbcTemplate.update(TAKE_OVER_SQL, now, key, fingerprint, staleClaimBefore(now)) == 1) {
+            return OptionalLong.of(now);
+        }
+        return OptionalLong.empty();
+    }
+
+    private boolean insert(String key, String fingerprint, long now) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, key, fingerprint, now, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<byte[]> await(String key, String fingerprint, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            long now = clock.getAsLong();
+            List<StoredKey> rows = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new StoredKey(rs.getString(1), rs.getBytes(2), rs.getLong(3)),
+                    key, expiredBefore(now));
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            StoredKey stored = rows.get(0);
+            if (!stored.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+            if (stored.response != null) {
+                return Optional.of(stored.response);
+            }
+            // 선점이 오래됐으면 호출자가 다시 tryClaim 해 넘겨받는다
+            if (stored.claimedAt < staleClaimBefore(now)) {
+                return Optional.empty();
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new IdempotencyRequestInProgressException(key);
+            }
+            LockSupport.parkNanos(properties.getPollInterval().toNanos());
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                throw new IdempotencyRequestInProgressException(key);
+            }
+        }
+    }
+
+    @Override
+    public void complete(String key, long claim, byte[] response) {
+        jdbcTemplate.update(COMPLETE_SQL, response, key, claim);
+    }
+
+    @Override
+    public void release(String key, long claim) {
+        jdbcTemplate.update(DELETE_SQL, key, claim);
+    }
+
+    // 여러 스레드가 동시에 지우지 않도록 한 스레드만 purgeInterval 마다 실행한다
+    private void purgeIfDue(long now) {
+        long last = lastPurge.get();
+        if (now - last < properties.getPurgeInterval().toMillis() || !lastPurge.compareAndSet(last, now)) {
+            return;
+        }
+        jdbcTemplate.update(PURGE_SQL, expiredBefore(now));
+    }
+
+    private long expiredBefore(long now) {
+        return now - properties.getTtl().toMillis();
+    }
+
+    private long staleClaimBefore(long now) {
+        return now - properties.getClaimTimeout().toMillis();
+    }
+
+    private static final class StoredKey {
+        private final String fingerprint;
+        private final byte[] response;
+        private final long claimedAt;
+
+        private StoredKey(String fingerprint, byte[] response, long claimedAt) {
+            this.fingerprint = fingerprint;
+            this.response = response;
+            this.claimedAt = claimedAt;
+        }
+    }
+}
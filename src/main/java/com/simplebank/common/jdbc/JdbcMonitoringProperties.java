@@ -0,0 +1,20 @@
+package com.simplebank.common.jdbc;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.jdbc")
+public class JdbcMonitoringProperties {
+
+    // DataSource 를 감싸 SQL 실행 수를 세고 느린 쿼리를 기록한다
+    private boolean monitoring = true;
+    // 이 시간 이상 걸린 SQL 만 WARN 으로 남긴다
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+    // 모든 SQL 을 DEBUG 로 남긴다 (개발용)
+    private boolean logAllStatements = false;
+}
@@ -0,0 +1,28 @@
+package com.simplebank.common.jdbc;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * QueryCounter 구간 동안 실행된 SQL 수. 배치 실행은 한 번으로 센다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class QueryCount {
+
+    private final int selects;
+    private final int inserts;
+    private final int updates;
+    private final int deletes;
+    private final int others;
+
+    public int getTotal() {
+        return selects + inserts + updates + deletes + others;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCount{total=" + getTotal() + ", select=" + selects + ", insert=" + inserts
+                + ", update=" + updates + ", delete=" + deletes + ", other=" + others + "}";
+    }
+}
@@ -0,0 +1,63 @@
+package com.simplebank.common.jdbc;
+
+/**
+ * 현재 스레드에서 실행된 SQL 수를 센다. 구간은 중첩될 수 있고, 안쪽 구간의 SQL 은 바깥 구간에도 더해진다.
+ * 다른 스레드(비동기 조회 등)에서 실행된 SQL 은 세지 않는다.
+ *
+ * <pre>
+ * QueryCounter counter = QueryCounter.start();
+ * try {
+ *     ...
+ * } finally {
+ *     QueryCount count = counter.stop();
+ * }
+ * </pre>
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    private final QueryCounter parent;
+    private final int[] counts = new int[StatementType.values().length];
+    private boolean stopped;
+
+    private QueryCounter(QueryCounter parent) {
+        this.parent = parent;
+    }
+
+    public static QueryCounter start() {
+        QueryCounter counter = new QueryCounter(CURRENT.get());
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public QueryCount stop() {
+        if (!stopped) {
+            stopped = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+        return current();
+    }
+
+    public QueryCount current() {
+        return new QueryCount(counts[StatementType.SELECT.ordinal()], counts[StatementType.INSERT.ordinal()],
+                counts[StatementType.UPDATE.ordinal()], counts[StatementType.DELETE.ordinal()],
+                counts[StatementType.OTHER.ordinal()]);
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(StatementType type) {
+        for (QueryCounter counter = CURRENT.get(); counter != null; counter = counter.parent) {
+            counter.counts[type.ordinal()]++;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.simplebank.common.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션과 Statement 를 감싸 SQL 실행마다 QueryCounter 에 기록하고, 느린 SQL 만 로그로 남긴다.
+ * Hibernate 와 JdbcTemplate 이 같은 DataSource 를 쓰므로 둘 다 센다.
+ * 바인딩 값은 로그에 남기지 않는다.
+ */
+@Slf4j
+public class StatementMonitoringDataSource extends DelegatingDataSource {
+
+    private final long slowQueryThresholdNanos;
+    private final boolean logAllStatements;
+
+    public StatementMonitoringDataSource(DataSource target, Duration slowQueryThreshold, boolean logAllStatements) {
+        super(target);
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+        this.logAllStatements = logAllStatements;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private void afterExecute(String sql, long startNanos) {
+        QueryCounter.record(StatementType.of(sql));
+        long elapsed = System.nanoTime() - startNanos;
+        if (elapsed >= slowQueryThresholdNanos) {
+            log.warn("느린 SQL {}ms: {}", TimeUnit.NANOSECONDS.toMillis(elapsed), sql);
+        } else if (logAllStatements && log.isDebugEnabled()) {
+            log.debug("SQL {}µs: {}", TimeUnit.NANOSECONDS.toMicros(elapsed), sql);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            Object result = StatementMonitoringDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrap(statement, sql, (Connection) proxy);
+            }
+            return result;
+        }
+
+        private Statement wrap(Statement statement, String sql, Connection connection) {
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class
+                    : Statement.class;
+            return (Statement) Proxy.newProxyInstance(StatementMonitoringDataSource.class.getClassLoader(),
+                    new Class<?>[]{type}, new StatementHandler(statement, sql, connection));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        // PreparedStatement 는 준비할 때의 SQL, Statement 는 실행/배치에 넘긴 SQL
+        private String sql;
+
+        private StatementHandler(Statement target, String sql, Connection connection) {
+            this.target = target;
+            this.sql = sql;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connection;
+                case "addBatch":
+                    if (args != null && args.length == 1 && sql == null) {
+                        sql = (String) args[0];
+                    }
+                    return StatementMonitoringDataSource.invoke(target, method, args);
+                default:
+                    break;
+            }
+            if (!name.startsWith("execute")) {
+                return StatementMonitoringDataSource.invoke(target, method, args);
+            }
+            String executed = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+            long start = System.nanoTime();
+            try {
+                return StatementMonitoringDataSource.invoke(target, method, args);
+            } finally {
+                afterExecute(executed, start);
+                if (name.endsWith("Batch") && !(target instanceof PreparedStatement)) {
+                    sql = null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.simplebank.common.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 빈을 StatementMonitoringDataSource 로 감싼다.
+ */
+public class StatementMonitoringPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<JdbcMonitoringProperties> properties;
+
+    public StatementMonitoringPostProcessor(ObjectProvider<JdbcMonitoringProperties> properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof StatementMonitoringDataSource)) {
+            JdbcMonitoringProperties props = properties.getIfAvailable(JdbcMonitoringProperties::new);
+            return new StatementMonitoringDataSource(dataSource, props.getSlowQueryThreshold(),
+                    props.isLogAllStatements());
+        }
+        return bean;
+    }
+}
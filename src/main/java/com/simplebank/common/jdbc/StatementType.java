@@ -0,0 +1,36 @@
+package com.simplebank.common.jdbc;
+
+public enum StatementType {
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    OTHER;
+
+    /**
+     * SQL 앞의 첫 키워드로 종류를 정한다. with 절이나 주석으로 시작하면 OTHER 다.
+     */
+    static StatementType of(String sql) {
+        if (sql == null) {
+            return OTHER;
+        }
+        int start = 0;
+        int length = sql.length();
+        while (start < length && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+            start++;
+        }
+        if (sql.regionMatches(true, start, "select", 0, 6)) {
+            return SELECT;
+        }
+        if (sql.regionMatches(true, start, "insert", 0, 6) || sql.regionMatches(true, start, "merge", 0, 5)) {
+            return INSERT;
+        }
+        if (sql.regionMatches(true, start, "update", 0, 6)) {
+            return UPDATE;
+        }
+        if (sql.regionMatches(true, start, "delete", 0, 6)) {
+            return DELETE;
+        }
+        return OTHER;
+    }
+}
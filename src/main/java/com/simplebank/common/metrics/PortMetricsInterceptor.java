@@ -0,0 +1,97 @@
+package com.simplebank.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트 메서드 호출 시간을 simplebank.port 타이머에 기록한다.
+ * 캐시/인덱스 어댑터처럼 같은 포트의 다른 구현을 감싸는 구현이 있으면 한 호출이 두 구현에서 기록되므로
+ * impl 태그(구현 클래스 이름)로 나눈다. 포트 전체 호출 수는 주입되는 구현의 impl 로 골라 본다.
+ * 타이머는 구현 클래스와 메서드별로 한 번만 찾아 두므로 호출마다 드는 비용은 nanoTime 두 번과 기록 한 번이다.
+ */
+class PortMetricsInterceptor implements MethodInterceptor {
+
+    static final String METRIC_NAME = "simplebank.port";
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private final Map<Class<?>, Map<Method, PortMeters>> meters = new ConcurrentHashMap<>();
+
+    PortMetricsInterceptor(ObjectProvider<MeterRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Class<?> targetClass = AopUtils.getTargetClass(invocation.getThis());
+        Map<Method, PortMeters> byMethod = meters.get(targetClass);
+        if (byMethod == null) {
+            byMethod = meters.computeIfAbsent(targetClass, type -> new ConcurrentHashMap<>());
+        }
+        PortMeters portMeters = byMethod.get(invocation.getMethod());
+        if (portMeters == null) {
+            portMeters = byMethod.computeIfAbsent(invocation.getMethod(), method -> createMeters(method, targetClass));
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            portMeters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            portMeters.error(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private PortMeters createMeters(Method method, Class<?> targetClass) {
+        Class<?> port = PortMetricsPostProcessor.declaringPort(method, targetClass);
+        String type = port != null && port.getPackageName().endsWith(".port.in") ? "in" : "out";
+        String impl = ClassUtils.getUserClass(targetClass).getSimpleName();
+        String portName = port != null ? port.getSimpleName() : impl;
+        return new PortMeters(registryProvider.getObject(), type, portName, impl, method.getName());
+    }
+
+    private static final class PortMeters {
+        private final MeterRegistry registry;
+        private final String type;
+        private final String port;
+        private final String impl;
+        private final String method;
+        private final Timer success;
+        private final Map<Class<?>, Timer> errors = new ConcurrentHashMap<>();
+
+        private PortMeters(MeterRegistry registry, String type, String port, String impl, String method) {
+            this.registry = registry;
+            this.type = type;
+            this.port = port;
+            this.impl = impl;
+            this.method = method;
+            this.success = timer("success", "none");
+        }
+
+        private Timer error(Throwable e) {
+            return errors.computeIfAbsent(e.getClass(), type -> timer("error", type.getSimpleName()));
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(METRIC_NAME)
+                    .description("유스케이스/포트 호출 시간")
+                    .tag("type", type)
+                    .tag("port", port)
+                    .tag("impl", impl)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(registry);
+        }
+    }
+}
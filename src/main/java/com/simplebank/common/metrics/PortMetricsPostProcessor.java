@@ -0,0 +1,64 @@
+package com.simplebank.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * application.port.in / application.port.out 인터페이스를 구현한 빈을 감싸 포트 메서드 호출 시간을 기록한다.
+ * 구현 클래스 타입으로 주입받는 곳이 있어 클래스 기반 프록시를 쓴다.
+ */
+public class PortMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public PortMetricsPostProcessor(ObjectProvider<MeterRegistry> registryProvider) {
+        this.advisor = new DefaultPointcutAdvisor(new PortPointcut(), new PortMetricsInterceptor(registryProvider));
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+    }
+
+    static boolean isPort(Class<?> type) {
+        String packageName = type.getPackageName();
+        return type.isInterface()
+                && (packageName.endsWith(".application.port.in") || packageName.endsWith(".application.port.out"));
+    }
+
+    // 메서드를 선언한 포트 인터페이스. 포트 메서드가 아니면 null
+    static Class<?> declaringPort(Method method, Class<?> targetClass) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (isPort(type) && ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes())) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static final class PortPointcut extends StaticMethodMatcherPointcut {
+
+        private PortPointcut() {
+            setClassFilter(new PortClassFilter());
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return declaringPort(method, targetClass) != null;
+        }
+    }
+
+    private static final class PortClassFilter implements ClassFilter {
+        @Override
+        public boolean matches(Class<?> clazz) {
+            for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(clazz)) {
+                if (isPort(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
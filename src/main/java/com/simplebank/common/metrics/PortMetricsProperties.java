@@ -0,0 +1,16 @@
+package com.simplebank.common.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.metrics")
+public class PortMetricsProperties {
+
+    // 유스케이스(port.in)/아웃바운드 포트(port.out) 호출 시간 기록
+    private boolean ports = true;
+    // 요청별 SQL 실행 수 기록
+    private boolean queriesPerRequest = true;
+}
@@ -0,0 +1,61 @@
+package com.simplebank.common.metrics;
+
+import com.simplebank.common.jdbc.QueryCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청마다 실행한 SQL 수를 simplebank.http.queries 에 URI 패턴별로 기록한다.
+ * 비동기 라우트는 다른 스레드에서 조회하므로 여기서 세지 않는다.
+ * 요약 객체는 메서드와 URI 패턴별로 한 번만 등록해 두고 요청마다는 찾아서 기록만 한다.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "simplebank.http.queries";
+
+    private final MeterRegistry registry;
+    private final Map<String, Map<String, DistributionSummary>> summaries = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter counter = QueryCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int queries = counter.stop().getTotal();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            summary(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN").record(queries);
+        }
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        Map<String, DistributionSummary> byUri = summaries.get(method);
+        if (byUri == null) {
+            byUri = summaries.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+        DistributionSummary summary = byUri.get(uri);
+        if (summary == null) {
+            summary = byUri.computeIfAbsent(uri, key -> DistributionSummary.builder(METRIC_NAME)
+                    .description("요청당 SQL 실행 수")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(registry));
+        }
+        return summary;
+    }
+}
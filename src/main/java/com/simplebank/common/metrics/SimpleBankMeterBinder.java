@@ -0,0 +1,90 @@
+package com.simplebank.common.metrics;
+
+import com.simplebank.account.application.TransferStatistics;
+import com.simplebank.common.async.AsyncReadExecutor;
+import com.simplebank.common.idempotency.InMemoryIdempotencyStore;
+import com.simplebank.common.security.BoundedPasswordEncoder;
+import com.simplebank.user.adapter.out.persistence.CachingUserRepositoryAdapter;
+import com.simplebank.user.adapter.out.session.InMemorySessionStore;
+import com.simplebank.user.adapter.out.throttle.InMemoryLoginAttemptStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 이미 각 컴포넌트가 세고 있는 값(풀 대기열, 캐시 적중, 세션 수 등)을 스크랩 시점에 읽어 노출한다.
+ * 요청 경로에는 아무것도 더하지 않는다. 포트 메서드를 부르면 스크랩마다 포트 타이머가 기록되므로 포트가 아닌 접근자로 읽는다.
+ */
+public class SimpleBankMeterBinder implements MeterBinder {
+
+    private final ObjectProvider<TransferStatistics> transferStatistics;
+    private final ObjectProvider<PasswordEncoder> passwordEncoder;
+    private final ObjectProvider<AsyncReadExecutor> asyncReadExecutor;
+    private final ObjectProvider<CachingUserRepositoryAdapter> userCache;
+    private final ObjectProvider<InMemorySessionStore> sessionStore;
+    private final ObjectProvider<InMemoryLoginAttemptStore> loginAttemptStore;
+    private final ObjectProvider<InMemoryIdempotencyStore> idempotencyStore;
+
+    public SimpleBankMeterBinder(ObjectProvider<TransferStatistics> transferStatistics,
+                                 ObjectProvider<PasswordEncoder> passwordEncoder,
+                                 ObjectProvider<AsyncReadExecutor> asyncReadExecutor,
+                                 ObjectProvider<CachingUserRepositoryAdapter> userCache,
+                                 ObjectProvider<InMemorySessionStore> sessionStore,
+                                 ObjectProvider<InMemoryLoginAttemptStore> loginAttemptStore,
+                                 ObjectProvider<InMemoryIdempotencyStore> idempotencyStore) {
+        this.transferStatistics = transferStatistics;
+        this.passwordEncoder = passwordEncoder;
+        this.asyncReadExecutor = asyncReadExecutor;
+        this.userCache = userCache;
+        this.sessionStore = sessionStore;
+        this.loginAttemptStore = loginAttemptStore;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        transferStatistics.ifAvailable(stats -> {
+            counter(registry, "simplebank.transfer.completed", stats, TransferStatistics::completedCount);
+            counter(registry, "simplebank.transfer.conflicts", stats, TransferStatistics::conflictCount);
+            counter(registry, "simplebank.transfer.retries", stats, TransferStatistics::retryCount);
+            counter(registry, "simplebank.transfer.exhausted", stats, TransferStatistics::exhaustedCount);
+        });
+        passwordEncoder.ifAvailable(encoder -> {
+            if (encoder instanceof BoundedPasswordEncoder bounded) {
+                gauge(registry, "simplebank.password.verification.queue", bounded, BoundedPasswordEncoder::queueDepth);
+                gauge(registry, "simplebank.password.verification.active", bounded, BoundedPasswordEncoder::activeCount);
+                counter(registry, "simplebank.password.verifications", bounded, BoundedPasswordEncoder::verificationCount);
+                counter(registry, "simplebank.password.verification.rejections", bounded, BoundedPasswordEncoder::rejectionCount);
+            }
+        });
+        asyncReadExecutor.ifAvailable(executor -> {
+            gauge(registry, "simplebank.async.read.queue", executor, AsyncReadExecutor::queueDepth);
+            gauge(registry, "simplebank.async.read.active", executor, AsyncReadExecutor::activeCount);
+        });
+        userCache.ifAvailable(cache -> {
+            gauge(registry, "simplebank.user.cache.size", cache, CachingUserRepositoryAdapter::estimatedSize);
+            counter(registry, "simplebank.user.cache.hits", cache, c -> c.stats().hitCount());
+            counter(registry, "simplebank.user.cache.misses", cache, c -> c.stats().missCount());
+            counter(registry, "simplebank.user.cache.evictions", cache, c -> c.stats().evictionCount());
+        });
+        sessionStore.ifAvailable(store ->
+                gauge(registry, "simplebank.sessions.active", store, InMemorySessionStore::size));
+        loginAttemptStore.ifAvailable(store ->
+                gauge(registry, "simplebank.login.throttle.keys", store, InMemoryLoginAttemptStore::trackedKeys));
+        idempotencyStore.ifAvailable(store ->
+                gauge(registry, "simplebank.idempotency.keys", store, InMemoryIdempotencyStore::estimatedSize));
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value).register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, source, value).register(registry);
+    }
+}
@@ -0,0 +1,85 @@
+package com.simplebank.common.security;
+
+import com.simplebank.common.concurrent.BoundedExecutor;
+import com.simplebank.common.exception.ErrorCode;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 검증(matches)을 요청 스레드가 아닌 전용 스레드 풀에서 수행하는 PasswordEncoder.
+ * 풀과 큐 크기로 해시 계산에 쓰이는 CPU 를 제한하고, 큐가 가득 차면 즉시 거절한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final BoundedExecutor executor;
+
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder totalVerifyNanos = new LongAdder();
+    private final LongAccumulator maxVerifyNanos = new LongAccumulator(Math::max, 0);
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordVerificationProperties properties) {
+        this.delegate = delegate;
+        this.executor = new BoundedExecutor("password-verify", properties.getThreads(),
+                properties.getQueueCapacity(), properties.getTimeout(),
+                ErrorCode.LOGIN_UNAVAILABLE, properties.getRetryAfter());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.call(() -> timedMatches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private boolean timedMatches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            verifications.increment();
+            totalVerifyNanos.add(elapsed);
+            maxVerifyNanos.accumulate(elapsed);
+        }
+    }
+
+    public int queueDepth() {
+        return executor.queueDepth();
+    }
+
+    public int activeCount() {
+        return executor.activeCount();
+    }
+
+    public long verificationCount() {
+        return verifications.sum();
+    }
+
+    public long rejectionCount() {
+        return executor.rejectionCount();
+    }
+
+    public long totalVerifyNanos() {
+        return totalVerifyNanos.sum();
+    }
+
+    public long maxVerifyNanos() {
+        return maxVerifyNanos.get();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
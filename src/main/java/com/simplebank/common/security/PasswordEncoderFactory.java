@@ -0,0 +1,37 @@
+package com.simplebank.common.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {id}hash 형식의 DelegatingPasswordEncoder 를 만든다.
+ * 접두사가 없는 기존 해시는 BCrypt 로 검증하고, upgradeEncoding 이 재인코딩 대상으로 표시한다.
+ * 알고리즘이 다르거나, BCrypt 비용이 설정보다 낮거나, PBKDF2 반복 횟수가 설정과 다른 해시도 재인코딩 대상이다.
+ */
+public final class PasswordEncoderFactory {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private PasswordEncoderFactory() {
+    }
+
+    public static PasswordEncoder create(PasswordEncoderProperties properties) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(PBKDF2, new Pbkdf2IterationsPasswordEncoder(properties.getPbkdf2Iterations()));
+
+        if (!encoders.containsKey(properties.getAlgorithm())) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 알고리즘입니다: " + properties.getAlgorithm());
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(properties.getAlgorithm(), encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+}
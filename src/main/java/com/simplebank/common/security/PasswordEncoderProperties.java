@@ -0,0 +1,16 @@
+package com.simplebank.common.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.security.password-encoder")
+public class PasswordEncoderProperties {
+
+    // 새로 인코딩할 때 사용할 알고리즘: bcrypt | pbkdf2
+    private String algorithm = PasswordEncoderFactory.BCRYPT;
+    private int bcryptStrength = 10;
+    private int pbkdf2Iterations = 310_000;
+}
@@ -0,0 +1,18 @@
+package com.simplebank.common.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.security.password-verification")
+public class PasswordVerificationProperties {
+
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofSeconds(2);
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,62 @@
+package com.simplebank.common.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 반복 횟수를 해시 앞에 남기는 PBKDF2 인코더. 형식은 {반복 횟수}${Pbkdf2PasswordEncoder 해시} 이다.
+ * 해시마다 자기 반복 횟수로 검증하고, 현재 설정과 횟수가 다르면 upgradeEncoding 이 재인코딩 대상으로 표시한다.
+ * 횟수가 없는 이전 형식 해시는 현재 설정 횟수로 만들어졌다고 보고 검증한 뒤 재인코딩 대상으로 표시한다.
+ */
+final class Pbkdf2IterationsPasswordEncoder implements PasswordEncoder {
+
+    private static final char SEPARATOR = '$';
+
+    private final int iterations;
+    private final Map<Integer, Pbkdf2PasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+    Pbkdf2IterationsPasswordEncoder(int iterations) {
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return iterations + String.valueOf(SEPARATOR) + encoder(iterations).encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        int separator = encodedPassword.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return encoder(iterations).matches(rawPassword, encodedPassword);
+        }
+        int hashIterations = parseIterations(encodedPassword, separator);
+        return hashIterations > 0
+                && encoder(hashIterations).matches(rawPassword, encodedPassword.substring(separator + 1));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int separator = encodedPassword == null ? -1 : encodedPassword.indexOf(SEPARATOR);
+        return separator < 0 || parseIterations(encodedPassword, separator) != iterations;
+    }
+
+    private Pbkdf2PasswordEncoder encoder(int hashIterations) {
+        return encoders.computeIfAbsent(hashIterations, count -> new Pbkdf2PasswordEncoder(
+                "", 16, count, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+    }
+
+    private static int parseIterations(String encodedPassword, int separator) {
+        try {
+            return Integer.parseInt(encodedPassword, 0, separator, 10);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.simplebank.common.snapshot;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.snapshot")
+public class WarmStateProperties {
+
+    // 캐시/인메모리 인덱스를 파일로 남겨 두었다가 재시작 때 먼저 채운다
+    private boolean enabled = false;
+    private String path = "data/warm-state.snap";
+    private Duration interval = Duration.ofMinutes(5);
+    // 이보다 오래된 스냅샷은 읽지 않는다 (DB 와 너무 달라 대조 비용만 든다)
+    private Duration maxAge = Duration.ofHours(1);
+}
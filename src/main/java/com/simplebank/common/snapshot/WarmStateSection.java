@@ -0,0 +1,24 @@
+package com.simplebank.common.snapshot;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 스냅샷 파일의 한 구역. 구역마다 자기 인메모리 상태(캐시, 필터, 인덱스)를 쓰고 읽는다.
+ * read 는 트래픽을 받기 전에 호출되므로 DB 와 맞추는 일은 reconcile 에서 백그라운드로 한다.
+ */
+public interface WarmStateSection {
+
+    // 파일 안에서 구역을 찾는 이름. 바꾸면 이전 스냅샷의 구역은 읽지 않는다
+    String name();
+
+    void write(DataOutput out) throws IOException;
+
+    // in 은 매핑된 파일의 이 구역 부분이다 (복사본 아님)
+    void read(ByteBuffer in);
+
+    // 종료 중이면 스레드가 인터럽트되므로 오래 걸리는 구역은 중간에 확인하고 멈춘다
+    default void reconcile() {
+    }
+}
@@ -0,0 +1,251 @@
+package com.simplebank.common.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * 인메모리 상태 스냅샷. interval 마다 각 구역을 한 파일에 쓰고(임시 파일에 쓴 뒤 교체),
+ * 시작할 때는 웹 서버보다 앞선 lifecycle 단계에서(요청을 받기 전) 파일을 메모리 매핑해 각 구역에 넘긴다.
+ * 구역은 매핑된 버퍼에서 바로 읽으므로 파일 전체를 힙으로 읽어 들이는 단계가 없다.
+ * DB 와의 대조는 그다음 백그라운드 스레드에서 하고, 러너(ApplicationRunner)로 대조가 끝날 때까지 기다리므로
+ * 그동안 준비 상태(ReadinessState)는 ACCEPTING_TRAFFIC 이 되지 않는다. 파일은 소유자만 읽고 쓸 수 있게 만든다.
+ * 파일 형식: [매직 int][형식 버전 int][작성 시각 long][구역 수 int]
+ *           구역마다 [이름 길이 short][이름][본문 길이 int][CRC32C int][본문]
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "simplebank.snapshot", name = "enabled", havingValue = "true")
+public class WarmStateSnapshotter implements SmartLifecycle, ApplicationRunner {
+
+    private static final int MAGIC = 0x53425753;
+    private static final int FORMAT_VERSION = 1;
+    private static final FileAttribute<Set<PosixFilePermission>> OWNER_ONLY =
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"));
+
+    private final WarmStateProperties properties;
+    private final ObjectProvider<WarmStateSection> sectionProvider;
+    private final Path path;
+    private final CountDownLatch reconciled = new CountDownLatch(1);
+    private volatile ScheduledExecutorService executor;
+
+    public WarmStateSnapshotter(WarmStateProperties properties, ObjectProvider<WarmStateSection> sectionProvider) {
+        this.properties = properties;
+        this.sectionProvider = sectionProvider;
+        this.path = Path.of(properties.getPath());
+    }
+
+    @Override
+    public void start() {
+        List<WarmStateSection> restored = load();
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warm-state-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (restored.isEmpty()) {
+            reconciled.countDown();
+        } else {
+            executor.execute(() -> {
+                try {
+                    reconcile(restored);
+                } finally {
+                    reconciled.countDown();
+                }
+            });
+        }
+        long interval = properties.getInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::writeQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // 웹 서버가 멈춘 뒤, DB 등 다른 빈이 정리되기 전에 마지막 스냅샷을 쓴다
+    @Override
+    public void stop() {
+        ScheduledExecutorService running = executor;
+        executor = null;
+        running.shutdownNow();
+        reconciled.countDown();
+        try {
+            running.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeQuietly();
+    }
+
+    // 러너가 모두 끝난 뒤에 준비 상태가 바뀐다 (웹 서버는 이미 떠 있어 liveness 는 응답한다)
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        reconciled.await();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    // 웹 서버(Integer.MAX_VALUE - 1)보다 먼저 시작하고 나중에 멈춘다
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * 스냅샷을 읽어 구역별로 채우고, 채운 구역을 돌려준다. 파일이 없거나 오래됐거나 형식이 다르면 아무것도 하지 않는다.
+     * 본문이 깨진 구역은 건너뛴다.
+     */
+    List<WarmStateSection> load() {
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+        long started = System.nanoTime();
+        Map<String, WarmStateSection> sections = sections();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 20 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.warn("스냅샷 형식이 달라 읽지 않습니다: {}", path);
+                return List.of();
+            }
+            Duration age = Duration.ofMillis(System.currentTimeMillis() - buffer.getLong());
+            if (age.compareTo(properties.getMaxAge()) > 0) {
+                log.info("스냅샷이 오래되어 읽지 않습니다 ({}초 전)", age.toSeconds());
+                return List.of();
+            }
+            int count = buffer.getInt();
+            List<WarmStateSection> restored = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] nameBytes = new byte[buffer.getShort()];
+                buffer.get(nameBytes);
+                String name = new String(nameBytes, StandardCharsets.UTF_8);
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                ByteBuffer body = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+
+                WarmStateSection section = sections.get(name);
+                if (section == null) {
+                    continue;
+                }
+                CRC32C crc = new CRC32C();
+                crc.update(body.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("스냅샷 구역 {} 이 손상되어 건너뜁니다.", name);
+                    continue;
+                }
+                try {
+                    section.read(body.asReadOnlyBuffer());
+                    restored.add(section);
+                } catch (RuntimeException e) {
+                    log.warn("스냅샷 구역 {} 을 읽지 못했습니다.", name, e);
+                }
+            }
+            log.info("스냅샷에서 {}개 구역을 {}ms 에 채웠습니다.",
+                    restored.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return restored;
+        } catch (IOException | RuntimeException e) {
+            log.warn("스냅샷을 읽지 못했습니다: {}", path, e);
+            return List.of();
+        }
+    }
+
+    void reconcile(List<WarmStateSection> restored) {
+        for (WarmStateSection section : restored) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            try {
+                section.reconcile();
+            } catch (RuntimeException e) {
+                log.warn("스냅샷 구역 {} 을 DB 와 대조하지 못했습니다.", section.name(), e);
+            }
+        }
+    }
+
+    // 같은 디렉터리의 임시 파일에 다 쓴 뒤 교체하므로 쓰는 도중에 멈춰도 이전 스냅샷이 남는다
+    void write() throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Map<String, WarmStateSection> sections = sections();
+        createOwnerOnly(temp);
+        try (OutputStream file = Files.newOutputStream(temp, StandardOpenOption.TRUNCATE_EXISTING);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(sections.size());
+            for (WarmStateSection section : sections.values()) {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                section.write(new DataOutputStream(body));
+                byte[] bytes = body.toByteArray();
+                byte[] name = section.name().getBytes(StandardCharsets.UTF_8);
+                CRC32C crc = new CRC32C();
+                crc.update(bytes);
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeInt(bytes.length);
+                out.writeInt((int) crc.getValue());
+                out.write(bytes);
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 권한은 만들 때 정해야 쓰는 도중에 다른 사용자가 여는 틈이 없다. POSIX 권한이 없는 파일 시스템에서는 기본 권한으로 만든다
+    private static void createOwnerOnly(Path file) throws IOException {
+        Files.deleteIfExists(file);
+        try {
+            Files.createFile(file, OWNER_ONLY);
+        } catch (UnsupportedOperationException e) {
+            Files.createFile(file);
+        }
+    }
+
+    private void writeQuietly() {
+        try {
+            write();
+        } catch (IOException | RuntimeException e) {
+            log.warn("스냅샷을 쓰지 못했습니다: {}", path, e);
+        }
+    }
+
+    private Map<String, WarmStateSection> sections() {
+        Map<String, WarmStateSection> sections = new LinkedHashMap<>();
+        sectionProvider.orderedStream().forEach(section -> sections.put(section.name(), section));
+        return sections;
+    }
+}
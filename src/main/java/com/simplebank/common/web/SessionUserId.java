@@ -0,0 +1,15 @@
+package com.simplebank.common.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Authorization: Bearer 토큰의 세션 사용자 ID 를 컨트롤러 파라미터로 받는다.
+ * 토큰이 없거나 만료되었으면 401, 경로의 {userId} 가 세션 사용자와 다르면 403 으로 응답한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SessionUserId {
+}
@@ -0,0 +1,26 @@
+package com.simplebank.transaction.adapter.in.web;
+
+import com.simplebank.transaction.application.port.in.GetTransactionsUseCase;
+import com.simplebank.transaction.application.port.in.dto.TransactionPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/transactions")
+@RequiredArgsConstructor
+public class TransactionController {
+
+    private final GetTransactionsUseCase getTransactionsUseCase;
+
+    @GetMapping("/account/{accountId}")
+    public ResponseEntity<TransactionPage> getTransactions(@PathVariable Long accountId,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(getTransactionsUseCase.execute(accountId, cursor, size));
+    }
+}
@@ -0,0 +1,76 @@
+package com.simplebank.transaction.adapter.out.persistence;
+
+import com.simplebank.account.domain.Money;
+import com.simplebank.transaction.domain.Transaction;
+import com.simplebank.transaction.domain.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+// 원장은 추가만 한다. 쓰기는 TransactionRepositoryAdapter 의 JDBC 배치 insert 로만 한다.
+@Entity
+@Immutable
+@Table(name = "transactions",
+        indexes = @Index(name = "idx_transactions_account_created", columnList = "accountId, createdAt, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TransactionJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    @Column(nullable = false)
+    private Long counterpartyAccountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Column(nullable = false)
+    private BigDecimal balanceAfter;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    // 같은 요청이 두 번 반영되지 않도록 유일하다 (null 은 여러 행이 가질 수 있다)
+    @Column(unique = true)
+    private String requestKey;
+
+    //JPA Entity -> Domain
+    public Transaction toDomain() {
+        return Transaction.builder()
+                .id(this.id)
+                .accountId(this.accountId)
+                .counterpartyAccountId(this.counterpartyAccountId)
+                .type(this.type)
+                .amount(new Money(this.amount))
+                .balanceAfter(new Money(this.balanceAfter))
+                .createdAt(this.createdAt)
+                .requestKey(this.requestKey)
+                .build();
+    }
+}
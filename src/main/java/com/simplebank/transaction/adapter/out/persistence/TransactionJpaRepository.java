@@ -0,0 +1,28 @@
+package com.simplebank.transaction.adapter.out.persistence;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+// 두 쿼리 모두 (account_id, created_at, id) 인덱스를 역순으로 읽다가 limit 에서 멈춘다.
+// 커서 쿼리의 createdAt <= 조건은 중복이지만 OR 조건만으로는 인덱스 범위 시작점을 잡지 못하는 DB 가 있어 둔다.
+public interface TransactionJpaRepository extends JpaRepository<TransactionJpaEntity, Long> {
+
+    List<TransactionJpaEntity> findByAccountIdOrderByCreatedAtDescIdDesc(Long accountId, Limit limit);
+
+    Optional<TransactionJpaEntity> findByRequestKey(String requestKey);
+
+    @Query("select t from TransactionJpaEntity t " +
+            "where t.accountId = :accountId and t.createdAt <= :createdAt " +
+            "and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id)) " +
+            "order by t.createdAt desc, t.id desc")
+    List<TransactionJpaEntity> findByAccountIdBefore(@Param("accountId") Long accountId,
+                                                     @Param("createdAt") Instant createdAt,
+                                                     @Param("id") Long id,
+                                                     Limit limit);
+}
@@ -0,0 +1,66 @@
+package com.simplebank.transaction.adapter.out.persistence;
+
+import com.simplebank.transaction.application.port.out.LoadTransactionPort;
+import com.simplebank.transaction.application.port.out.SaveTransactionPort;
+import com.simplebank.transaction.domain.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class TransactionRepositoryAdapter implements SaveTransactionPort, LoadTransactionPort {
+
+    private static final String INSERT_SQL =
+            "insert into transactions (account_id, counterparty_account_id, type, amount, balance_after, created_at, request_key) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final TransactionJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // IDENTITY 키는 Hibernate 배치 insert 를 막으므로 JDBC 배치로 한 번에 보낸다.
+    // JpaTransactionManager 가 같은 커넥션을 바인딩해 두므로 호출한 트랜잭션에 함께 커밋/롤백된다.
+    @Override
+    public void saveAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, transactions.size(), (ps, transaction) -> {
+            ps.setLong(1, transaction.getAccountId());
+            ps.setLong(2, transaction.getCounterpartyAccountId());
+            ps.setString(3, transaction.getType().name());
+            ps.setBigDecimal(4, transaction.getAmount().getAmount());
+            ps.setBigDecimal(5, transaction.getBalanceAfter().getAmount());
+            ps.setObject(6, transaction.getCreatedAt().atOffset(ZoneOffset.UTC));
+            ps.setString(7, transaction.getRequestKey());
+        });
+    }
+
+    @Override
+    public List<Transaction> loadLatestByAccountId(Long accountId, int limit) {
+        return toDomain(jpaRepository.findByAccountIdOrderByCreatedAtDescIdDesc(accountId, Limit.of(limit)));
+    }
+
+    @Override
+    public List<Transaction> loadByAccountIdBefore(Long accountId, Instant createdAt, Long transactionId, int limit) {
+        return toDomain(jpaRepository.findByAccountIdBefore(accountId, createdAt, transactionId, Limit.of(limit)));
+    }
+
+    @Override
+    public Optional<Transaction> loadByRequestKey(String requestKey) {
+        return jpaRepository.findByRequestKey(requestKey).map(TransactionJpaEntity::toDomain);
+    }
+
+    private List<Transaction> toDomain(List<TransactionJpaEntity> entities) {
+        return entities.stream()
+                .map(TransactionJpaEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,64 @@
+package com.simplebank.transaction.application;
+
+import com.simplebank.transaction.application.port.in.GetTransactionsUseCase;
+import com.simplebank.transaction.application.port.in.dto.TransactionInfo;
+import com.simplebank.transaction.application.port.in.dto.TransactionPage;
+import com.simplebank.transaction.application.port.out.LoadTransactionPort;
+import com.simplebank.transaction.domain.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetTransactionsService implements GetTransactionsUseCase {
+
+    private final LoadTransactionPort loadTransactionPort;
+    private final TransactionQueryProperties properties;
+
+    @Override
+    public TransactionPage execute(Long accountId, String cursor, Integer size) {
+        // 1. 페이지 크기 검증
+        int pageSize = size == null ? properties.getDefaultPageSize() : size;
+        if (pageSize < 1 || pageSize > properties.getMaxPageSize()) {
+            throw new IllegalArgumentException(
+                    String.format("페이지 크기는 1 이상 %d 이하여야 합니다.", properties.getMaxPageSize()));
+        }
+
+        // 2. 커서 이전(더 오래된) 거래를 한 건 더 조회하여 다음 페이지 존재 여부 확인
+        List<Transaction> transactions;
+        if (cursor == null) {
+            transactions = loadTransactionPort.loadLatestByAccountId(accountId, pageSize + 1);
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            transactions = loadTransactionPort.loadByAccountIdBefore(
+                    accountId, position.getCreatedAt(), position.getTransactionId(), pageSize + 1);
+        }
+        boolean hasNext = transactions.size() > pageSize;
+        if (hasNext) {
+            transactions = transactions.subList(0, pageSize);
+        }
+
+        // 3. TransactionInfo로 변환하고 마지막 거래 위치를 다음 커서로 반환
+        List<TransactionInfo> infos = transactions.stream()
+                .map(this::toTransactionInfo)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? TransactionCursor.of(transactions.get(transactions.size() - 1)).encode() : null;
+        return new TransactionPage(infos, nextCursor);
+    }
+
+    private TransactionInfo toTransactionInfo(Transaction transaction) {
+        return new TransactionInfo(
+                transaction.getId(),
+                transaction.getCounterpartyAccountId(),
+                transaction.getType().name(),
+                transaction.getAmount().getAmount(),
+                transaction.getBalanceAfter().getAmount(),
+                transaction.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.simplebank.transaction.application;
+
+import com.simplebank.transaction.domain.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 거래 내역 keyset 페이지의 위치 (마지막으로 내려준 거래의 createdAt, id).
+ * 클라이언트에는 불투명한 문자열로 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+class TransactionCursor {
+    private final Instant createdAt;
+    private final Long transactionId;
+
+    static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getCreatedAt(), transaction.getId());
+    }
+
+    String encode() {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, createdAt);
+        String raw = micros + ":" + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(':');
+            long micros = Long.parseLong(raw.substring(0, separator));
+            long transactionId = Long.parseLong(raw.substring(separator + 1));
+            return new TransactionCursor(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), transactionId);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+}
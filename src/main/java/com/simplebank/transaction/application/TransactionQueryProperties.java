@@ -0,0 +1,14 @@
+package com.simplebank.transaction.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.transaction.query")
+public class TransactionQueryProperties {
+
+    private int defaultPageSize = 50;
+    private int maxPageSize = 500;
+}
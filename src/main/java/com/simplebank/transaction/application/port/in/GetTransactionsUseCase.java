@@ -0,0 +1,7 @@
+package com.simplebank.transaction.application.port.in;
+
+import com.simplebank.transaction.application.port.in.dto.TransactionPage;
+
+public interface GetTransactionsUseCase {
+    TransactionPage execute(Long accountId, String cursor, Integer size);
+}
@@ -0,0 +1,18 @@
+package com.simplebank.transaction.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class TransactionInfo {
+    private final Long transactionId;
+    private final Long counterpartyAccountId;
+    private final String type;
+    private final BigDecimal amount;
+    private final BigDecimal balanceAfter;
+    private final Instant createdAt;
+}
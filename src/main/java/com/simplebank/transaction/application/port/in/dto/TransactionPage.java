@@ -0,0 +1,14 @@
+package com.simplebank.transaction.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TransactionPage {
+    private final List<TransactionInfo> transactions;
+    // 다음(더 오래된) 페이지 요청의 cursor 값, 마지막 페이지면 null
+    private final String nextCursor;
+}
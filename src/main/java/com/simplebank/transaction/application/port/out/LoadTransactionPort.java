@@ -0,0 +1,15 @@
+package com.simplebank.transaction.application.port.out;
+
+import com.simplebank.transaction.domain.Transaction;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface LoadTransactionPort {
+    // 최신순 (createdAt, id 내림차순)
+    List<Transaction> loadLatestByAccountId(Long accountId, int limit);
+    List<Transaction> loadByAccountIdBefore(Long accountId, Instant createdAt, Long transactionId, int limit);
+    // 멱등성 키로 기록된 출금 줄
+    Optional<Transaction> loadByRequestKey(String requestKey);
+}
@@ -0,0 +1,9 @@
+package com.simplebank.transaction.application.port.out;
+
+import com.simplebank.transaction.domain.Transaction;
+
+import java.util.List;
+
+public interface SaveTransactionPort {
+    void saveAll(List<Transaction> transactions);
+}
@@ -0,0 +1,60 @@
+package com.simplebank.transaction.domain;
+
+import com.simplebank.account.domain.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 원장(ledger)의 한 줄. 한 번 기록되면 바뀌지 않는다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class Transaction {
+    private final Long id;
+    private final Long accountId;
+    private final Long counterpartyAccountId;
+    private final TransactionType type;
+    private final Money amount;
+    private final Money balanceAfter;
+    private final Instant createdAt;
+    // 이 거래를 만든 요청의 멱등성 키 (이체의 출금 줄에만 기록). 없으면 null
+    private final String requestKey;
+
+    public static Transaction transferOut(Long accountId, Long counterpartyAccountId,
+                                          Money amount, Money balanceAfter, Instant createdAt) {
+        return transferOut(accountId, counterpartyAccountId, amount, balanceAfter, createdAt, null);
+    }
+
+    public static Transaction transferOut(Long accountId, Long counterpartyAccountId,
+                                          Money amount, Money balanceAfter, Instant createdAt, String requestKey) {
+        return of(accountId, counterpartyAccountId, TransactionType.TRANSFER_OUT, amount, balanceAfter, createdAt,
+                requestKey);
+    }
+
+    public static Transaction transferIn(Long accountId, Long counterpartyAccountId,
+                                         Money amount, Money balanceAfter, Instant createdAt) {
+        return of(accountId, counterpartyAccountId, TransactionType.TRANSFER_IN, amount, balanceAfter, createdAt, null);
+    }
+
+    // DB 타임스탬프 정밀도(마이크로초)에 맞춰 잘라야 커서 비교가 어긋나지 않는다
+    private static Transaction of(Long accountId, Long counterpartyAccountId, TransactionType type,
+                                  Money amount, Money balanceAfter, Instant createdAt, String requestKey) {
+        if (amount.isZero()) {
+            throw new IllegalArgumentException("거래 금액은 0보다 커야 합니다.");
+        }
+        return Transaction.builder()
+                .accountId(accountId)
+                .counterpartyAccountId(counterpartyAccountId)
+                .type(type)
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .createdAt(createdAt.truncatedTo(ChronoUnit.MICROS))
+                .requestKey(requestKey)
+                .build();
+    }
+}
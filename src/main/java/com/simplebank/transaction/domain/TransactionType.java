@@ -0,0 +1,6 @@
+package com.simplebank.transaction.domain;
+
+public enum TransactionType {
+    TRANSFER_OUT,
+    TRANSFER_IN
+}
@@ -0,0 +1,36 @@
+package com.simplebank.user.adapter.in.web;
+
+import com.simplebank.common.async.AsyncReadExecutor;
+import com.simplebank.common.web.SessionUserId;
+import com.simplebank.user.adapter.in.web.dto.UserInfoResponse;
+import com.simplebank.user.application.port.in.GetUserInfoUseCase;
+import com.simplebank.user.application.port.in.dto.UserInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+// /api/users 조회와 같은 유스케이스를 쓰되, 요청 스레드를 붙잡지 않는 비동기 변형
+@RestController
+@RequestMapping("/api/async/users")
+@RequiredArgsConstructor
+public class AsyncUserController {
+
+    private final GetUserInfoUseCase getUserInfoUseCase;
+    private final AsyncReadExecutor asyncReadExecutor;
+
+    @GetMapping("/{userId}")
+    public CompletableFuture<ResponseEntity<UserInfoResponse>> getUserInfo(@SessionUserId Long userId) {
+        return asyncReadExecutor.submit(() -> {
+            UserInfo userInfo = getUserInfoUseCase.execute(userId);
+            return ResponseEntity.ok(new UserInfoResponse(
+                    userInfo.getUserId(),
+                    userInfo.getUsername(),
+                    userInfo.getStatus()
+            ));
+        });
+    }
+}
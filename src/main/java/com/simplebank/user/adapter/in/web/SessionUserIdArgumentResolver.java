@@ -0,0 +1,67 @@
+package com.simplebank.user.adapter.in.web;
+
+import com.simplebank.common.web.SessionUserId;
+import com.simplebank.user.application.port.in.ValidateSessionUseCase;
+import com.simplebank.user.domain.exception.ForbiddenUserException;
+import com.simplebank.user.domain.exception.InvalidSessionException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+// @SessionUserId 파라미터에 Bearer 토큰의 세션 사용자 ID 를 넣는다 (세션 검증은 메모리 조회 한 번)
+@Component
+@RequiredArgsConstructor
+public class SessionUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String USER_ID_VARIABLE = "userId";
+
+    private final ValidateSessionUseCase validateSessionUseCase;
+
+    static String bearerToken(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new InvalidSessionException();
+        }
+        return authorization.substring(BEARER_PREFIX.length()).trim();
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(SessionUserId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Long resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        String token = bearerToken(webRequest.getHeader(HttpHeaders.AUTHORIZATION));
+        Long userId = validateSessionUseCase.execute(token).getUserId();
+
+        // 경로에 사용자 ID 가 있으면 세션 사용자와 같아야 한다
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) webRequest.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        String requested = variables == null ? null : variables.get(USER_ID_VARIABLE);
+        if (requested != null && !requested.equals(userId.toString())) {
+            throw new ForbiddenUserException(userId, parseUserId(requested));
+        }
+        return userId;
+    }
+
+    private static Long parseUserId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,21 +1,28 @@
 package com.simplebank.user.adapter.in.web;
 
+import com.simplebank.common.web.SessionUserId;
 import com.simplebank.user.adapter.in.web.dto.LoginRequest;
 import com.simplebank.user.adapter.in.web.dto.LoginResponse;
+import com.simplebank.user.adapter.in.web.dto.SessionResponse;
 import com.simplebank.user.adapter.in.web.dto.UserInfoResponse;
 import com.simplebank.user.application.port.in.GetUserInfoUseCase;
 import com.simplebank.user.application.port.in.LoginUseCase;
+import com.simplebank.user.application.port.in.LogoutUseCase;
+import com.simplebank.user.application.port.in.ValidateSessionUseCase;
 import com.simplebank.user.application.port.in.dto.LoginCommand;
 import com.simplebank.user.application.port.in.dto.LoginResult;
+import com.simplebank.user.application.port.in.dto.SessionInfo;
 import com.simplebank.user.application.port.in.dto.UserInfo;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
 
 @RestController
 @RequestMapping("/api/users")
@@ -23,22 +30,48 @@ import org.springframework.web.bind.annotation.PathVariable;
 public class UserController {
 
     private final LoginUseCase loginUseCase;
+    private final LogoutUseCase logoutUseCase;
+    private final ValidateSessionUseCase validateSessionUseCase;
     private final GetUserInfoUseCase getUserInfoUseCase;
 
+    // 응답에 세션 토큰이 있으므로 Idempotency-Key 로 저장/재전송하지 않는다 (재요청은 시도 한도를 거쳐 새 세션을 받는다)
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request, HttpServletRequest servletRequest) {
         LoginCommand command = new LoginCommand(
                 request.getUsername(),
-                request.getPassword()
+                request.getPassword(),
+                servletRequest.getRemoteAddr()
         );
 
         LoginResult result = loginUseCase.execute(command);
+        return ResponseEntity.ok(new LoginResponse(
+                result.getUserId(),
+                result.getUsername(),
+                result.getToken(),
+                result.getExpiresAt()
+        ));
+    }
 
-        return ResponseEntity.ok(new LoginResponse(result.getUserId(), result.getUsername()));
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        logoutUseCase.execute(SessionUserIdArgumentResolver.bearerToken(authorization));
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/session")
+    public ResponseEntity<SessionResponse> getSession(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        SessionInfo session = validateSessionUseCase.execute(SessionUserIdArgumentResolver.bearerToken(authorization));
+        return ResponseEntity.ok(new SessionResponse(
+                session.getUserId(),
+                session.getUsername(),
+                session.getExpiresAt()
+        ));
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<UserInfoResponse> getUserInfo(@PathVariable Long userId) {
+    public ResponseEntity<UserInfoResponse> getUserInfo(@SessionUserId Long userId) {
         UserInfo userInfo = getUserInfoUseCase.execute(userId);
 
         return ResponseEntity.ok(new UserInfoResponse(
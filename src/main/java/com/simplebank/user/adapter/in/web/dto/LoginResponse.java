@@ -3,9 +3,13 @@ package com.simplebank.user.adapter.in.web.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.Instant;
+
 @Getter
 @AllArgsConstructor
 public class LoginResponse {
     private final long userId;
     private final String username;
+    private final String token;
+    private final Instant expiresAt;
 }
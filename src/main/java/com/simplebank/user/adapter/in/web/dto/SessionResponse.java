@@ -0,0 +1,14 @@
+package com.simplebank.user.adapter.in.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class SessionResponse {
+    private final long userId;
+    private final String username;
+    private final Instant expiresAt;
+}
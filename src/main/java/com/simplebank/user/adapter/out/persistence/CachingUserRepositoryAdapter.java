@@ -0,0 +1,111 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.simplebank.user.application.port.out.LoadUserPort;
+import com.simplebank.user.domain.User;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LoadUserPort 앞에 두는 read-through 캐시. loadById 결과만 캐시하고,
+ * save 시에는 해당 사용자 항목을 무효화한다.
+ */
+public class CachingUserRepositoryAdapter implements LoadUserPort {
+
+    private final LoadUserPort delegate;
+    private final Cache<Long, User> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CachingUserRepositoryAdapter(LoadUserPort delegate, UserCacheProperties properties) {
+        this(delegate, properties, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    CachingUserRepositoryAdapter(LoadUserPort delegate, UserCacheProperties properties,
+                                 Ticker ticker, Executor executor) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .ticker(ticker)
+                .executor(executor)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<User> loadByUsername(String username) {
+        return delegate.loadByUsername(username);
+    }
+
+    // 존재하지 않는 사용자는 캐시하지 않는다
+    @Override
+    public Optional<User> loadById(Long userId) {
+        return Optional.ofNullable(cache.get(userId, id -> delegate.loadById(id).orElse(null)));
+    }
+
+    @Override
+    public User save(User user) {
+        User saved = delegate.save(user);
+        invalidate(saved.getId());
+        return saved;
+    }
+
+    // 커밋 전에 다른 스레드가 이전 값을 다시 채울 수 있으므로 트랜잭션 종료 후에 한 번 더 무효화한다
+    private void invalidate(Long userId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidations.incrementAndGet();
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    long invalidationCount() {
+        return invalidations.get();
+    }
+
+    /**
+     * 캐시 밖에서 DB 로 읽은 사용자를 비어 있는 항목에만 채운다 (스냅샷 복원용).
+     * 읽기 전에 받은 invalidationCount 이후 무효화가 있었으면 이전 값일 수 있으므로 채우지 않고,
+     * 채우는 도중에 무효화가 끼어들었으면 채운 항목을 다시 뺀다.
+     */
+    void preload(Collection<User> users, long invalidationsBeforeRead) {
+        if (invalidations.get() != invalidationsBeforeRead) {
+            return;
+        }
+        for (User user : users) {
+            cache.asMap().putIfAbsent(user.getId(), user);
+        }
+        if (invalidations.get() != invalidationsBeforeRead) {
+            for (User user : users) {
+                cache.asMap().remove(user.getId(), user);
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    Cache<Long, User> cache() {
+        return cache;
+    }
+}
@@ -0,0 +1,66 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import com.simplebank.common.snapshot.WarmStateSection;
+import com.simplebank.user.domain.User;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 캐시 스냅샷. 캐시에 있던 사용자 ID 만 남기고, 재시작 뒤 백그라운드에서 DB 를 묶음으로 읽어 캐시를 채운다.
+ * 비밀번호 해시와 상태는 파일에 남기지 않고, 채우기 전까지의 조회는 평소처럼 DB 로 간다.
+ */
+public class UserCacheSnapshotSection implements WarmStateSection {
+
+    private static final int RELOAD_BATCH_SIZE = 500;
+
+    private final CachingUserRepositoryAdapter cachingAdapter;
+    private final UserJpaRepository jpaRepository;
+    private final List<Long> restoredIds = new ArrayList<>();
+
+    public UserCacheSnapshotSection(CachingUserRepositoryAdapter cachingAdapter, UserJpaRepository jpaRepository) {
+        this.cachingAdapter = cachingAdapter;
+        this.jpaRepository = jpaRepository;
+    }
+
+    // 이전 형식(사용자 전체를 담던 user-cache 구역)의 파일은 이름이 달라 읽지 않는다
+    @Override
+    public String name() {
+        return "user-cache-ids";
+    }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+        List<Long> ids = new ArrayList<>(cachingAdapter.cache().asMap().keySet());
+        out.writeInt(ids.size());
+        for (Long id : ids) {
+            out.writeLong(id);
+        }
+    }
+
+    @Override
+    public void read(ByteBuffer in) {
+        int count = in.getInt();
+        for (int i = 0; i < count; i++) {
+            restoredIds.add(in.getLong());
+        }
+    }
+
+    // 지워진 사용자는 건너뛰고, 읽는 동안 다른 요청이 채우거나 무효화한 항목은 CachingUserRepositoryAdapter 가 건드리지 않는다
+    @Override
+    public void reconcile() {
+        for (int from = 0; from < restoredIds.size() && !Thread.currentThread().isInterrupted(); from += RELOAD_BATCH_SIZE) {
+            List<Long> batch = restoredIds.subList(from, Math.min(from + RELOAD_BATCH_SIZE, restoredIds.size()));
+            long invalidations = cachingAdapter.invalidationCount();
+            List<User> users = new ArrayList<>(batch.size());
+            for (UserJpaEntity entity : jpaRepository.findAllById(batch)) {
+                users.add(entity.toDomain());
+            }
+            cachingAdapter.preload(users, invalidations);
+        }
+        restoredIds.clear();
+    }
+}
@@ -16,6 +16,8 @@ import lombok.NoArgsConstructor;
 import lombok.Builder;
 import com.simplebank.user.domain.UserStatus;
 
+import java.time.Instant;
+
 @Entity
 @Table(name = "users")
 @Getter
@@ -37,6 +39,8 @@ public class UserJpaEntity {
     @Column(nullable = false)
     private UserStatus status;
 
+    private Instant blockedUntil;
+
     //Domain -> JPA Entity
     public static UserJpaEntity from(User user) {
         return UserJpaEntity.builder()
@@ -44,6 +48,7 @@ public class UserJpaEntity {
                 .username(user.getUsername())
                 .password(user.getPassword())
                 .status(user.getStatus())
+                .blockedUntil(user.getBlockedUntil())
                 .build();
     }
 
@@ -54,6 +59,7 @@ public class UserJpaEntity {
                 .username(this.username)
                 .password(this.password)
                 .status(this.status)
+                .blockedUntil(this.blockedUntil)
                 .build();
     }
 
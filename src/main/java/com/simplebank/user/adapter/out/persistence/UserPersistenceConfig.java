@@ -0,0 +1,34 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class UserPersistenceConfig {
+
+    // simplebank.user.cache.enabled=false 인 환경에서는 UserRepositoryAdapter 가 그대로 쓰인다
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "simplebank.user.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CachingUserRepositoryAdapter cachingUserRepositoryAdapter(UserRepositoryAdapter userRepositoryAdapter,
+                                                                     UserCacheProperties properties) {
+        return new CachingUserRepositoryAdapter(userRepositoryAdapter, properties);
+    }
+
+    // 웜 스타트 스냅샷 (simplebank.snapshot.enabled=true 일 때만 쓰인다)
+    @Bean
+    @ConditionalOnProperty(prefix = "simplebank.user.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public UserCacheSnapshotSection userCacheSnapshotSection(CachingUserRepositoryAdapter cachingUserRepositoryAdapter,
+                                                             UserJpaRepository userJpaRepository) {
+        return new UserCacheSnapshotSection(cachingUserRepositoryAdapter, userJpaRepository);
+    }
+
+    @Bean
+    public UsernameFilterSnapshotSection usernameFilterSnapshotSection(UsernameFilter usernameFilter,
+                                                                       JdbcTemplate jdbcTemplate) {
+        return new UsernameFilterSnapshotSection(usernameFilter, jdbcTemplate);
+    }
+}
@@ -11,9 +11,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserRepositoryAdapter implements LoadUserPort {
     private final UserJpaRepository jpaRepository;
+    private final UsernameFilter usernameFilter;
 
+    // 필터에 없는 사용자명은 DB 를 조회하지 않는다
     @Override
     public Optional<User> loadByUsername(String username) {
+        if (!usernameFilter.mightContain(username)) {
+            return Optional.empty();
+        }
         return jpaRepository.findByUsername(username)
                 .map(UserJpaEntity::toDomain);
     }
@@ -28,6 +33,7 @@ public class UserRepositoryAdapter implements LoadUserPort {
     public User save(User user) {
         UserJpaEntity entity = UserJpaEntity.from(user);
         UserJpaEntity saved = jpaRepository.save(entity);
+        usernameFilter.add(saved.getUsername());
         return saved.toDomain();
     }
 
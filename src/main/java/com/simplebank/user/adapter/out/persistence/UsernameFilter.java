@@ -0,0 +1,146 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 존재하는 사용자명에 대한 블룸 필터. 확실히 없는 사용자명은 DB 조회 없이 걸러낸다.
+ * 필터는 첫 조회 때, 그리고 rebuildInterval 마다 백그라운드 스레드에서 users 테이블을 읽어 만든다.
+ * 다시 만드는 동안에는 이전 필터(처음에는 DB)로 답한다.
+ * save 한 사용자명은 바로 넣고 커밋된 뒤에 한 번 더 넣는다. 재생성 SELECT 가 아직 커밋되지 않은 행을 못 봤어도
+ * 커밋 뒤의 add 는 재생성 중인 필터나 교체된 필터에 들어가므로 빠지지 않는다.
+ */
+@Slf4j
+@Component
+public class UsernameFilter implements AutoCloseable {
+
+    private static final String SELECT_USERNAMES_SQL = "select username from users";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UsernameFilterProperties properties;
+    private final LongSupplier clock;
+    private final Executor rebuilder;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+    private volatile long builtAt;
+
+    @Autowired
+    public UsernameFilter(JdbcTemplate jdbcTemplate, UsernameFilterProperties properties) {
+        this(jdbcTemplate, properties, System::currentTimeMillis, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "username-filter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    UsernameFilter(JdbcTemplate jdbcTemplate, UsernameFilterProperties properties, LongSupplier clock,
+                   Executor rebuilder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        this.rebuilder = rebuilder;
+    }
+
+    // false 면 확실히 없는 사용자명이다. 필터가 아직 없으면 true (DB 로 확인)
+    public boolean mightContain(String username) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        rebuildIfStale();
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(username);
+    }
+
+    // 트랜잭션 안이면 롤백돼도 거짓 양성이 하나 늘 뿐이므로 바로 넣고, 커밋 뒤에 다시 넣는다
+    public void add(String username) {
+        put(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(username);
+                }
+            });
+        }
+    }
+
+    // building 을 먼저 읽는다: null 이면 재생성 전이거나, 이미 current 를 바꾼 뒤라 current 가 새 필터다
+    private void put(String username) {
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(username);
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(username);
+        }
+    }
+
+    // 한 번에 하나만 다시 만들고, 요청 스레드는 기다리지 않고 이전 필터(또는 DB)를 쓴다
+    private void rebuildIfStale() {
+        if (current != null && clock.getAsLong() - builtAt < properties.getRebuildInterval().toMillis()) {
+            return;
+        }
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuilder.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("사용자명 필터 재생성 실패, 다음 조회 때 다시 시도", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuilding.set(false);
+        }
+    }
+
+    // 아직 만들어지지 않았으면 null
+    BloomFilter filter() {
+        return current;
+    }
+
+    // 스냅샷에서 복원한 필터를 방금 만든 것으로 쓴다 (다음 재생성은 rebuildInterval 뒤)
+    void restore(BloomFilter filter) {
+        current = filter;
+        builtAt = clock.getAsLong();
+    }
+
+    void rebuild() {
+        BloomFilter next = new BloomFilter(properties.getExpectedUsernames(), properties.getFalsePositiveRate());
+        building = next;
+        try {
+            jdbcTemplate.query(SELECT_USERNAMES_SQL, rs -> {
+                next.put(rs.getString(1));
+            });
+            current = next;
+            builtAt = clock.getAsLong();
+        } finally {
+            building = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (rebuilder instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.user.username-filter")
+public class UsernameFilterProperties {
+
+    private boolean enabled = true;
+    // 실제 사용자 수보다 작으면 오탐률이 올라간다 (DB 조회가 늘 뿐 결과는 틀리지 않는다)
+    private long expectedUsernames = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    // save 를 거치지 않고 들어온 사용자를 반영하고 삭제된 사용자를 털어내기 위해 주기적으로 다시 만든다
+    private Duration rebuildInterval = Duration.ofMinutes(10);
+}
@@ -0,0 +1,62 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import com.simplebank.common.snapshot.WarmStateSection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 사용자명 블룸 필터 스냅샷. 재시작 뒤 첫 로그인이 users 전체를 읽어 필터를 만드는 동안 기다리지 않게 한다.
+ * 스냅샷 뒤에 가입한 사용자는 복원할 때 그 ID 이후만 읽어 채우므로, 복원한 필터도 없는 사용자명만 걸러낸다.
+ */
+@RequiredArgsConstructor
+public class UsernameFilterSnapshotSection implements WarmStateSection {
+
+    private final UsernameFilter usernameFilter;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return "username-filter";
+    }
+
+    // 최대 ID 를 먼저 읽는다. 그 뒤에 가입한 사용자가 비트에 빠져도 복원할 때 다시 채워진다
+    @Override
+    public void write(DataOutput out) throws IOException {
+        BloomFilter filter = usernameFilter.filter();
+        if (filter == null) {
+            out.writeBoolean(false);
+            return;
+        }
+        long maxUserId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from users", Long.class);
+        out.writeBoolean(true);
+        out.writeLong(maxUserId);
+        out.writeLong(filter.bitCount());
+        out.writeInt(filter.hashCount());
+        out.writeInt(filter.wordCount());
+        for (int i = 0; i < filter.wordCount(); i++) {
+            out.writeLong(filter.word(i));
+        }
+    }
+
+    @Override
+    public void read(ByteBuffer in) {
+        if (in.get() == 0) {
+            return;
+        }
+        long maxUserId = in.getLong();
+        long bitCount = in.getLong();
+        int hashCount = in.getInt();
+        long[] words = new long[in.getInt()];
+        in.asLongBuffer().get(words);
+        BloomFilter filter = new BloomFilter(bitCount, hashCount, words);
+
+        jdbcTemplate.query("select username from users where id > ?", rs -> {
+            filter.put(rs.getString(1));
+        }, maxUserId);
+        usernameFilter.restore(filter);
+    }
+}
@@ -0,0 +1,147 @@
+package com.simplebank.user.adapter.out.session;
+
+import com.simplebank.user.application.port.out.IssueSessionPort;
+import com.simplebank.user.application.port.out.LoadSessionPort;
+import com.simplebank.user.application.port.out.RevokeSessionPort;
+import com.simplebank.user.domain.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 -> 세션을 샤드별 ConcurrentHashMap 에 보관하는 인메모리 세션 저장소.
+ * 검증은 해시 조회 한 번과 만료 시각 비교뿐이고, 만료된 세션은 조회 시와 주기적인 sweep 에서 지운다.
+ * sweep 은 샤드 단위로 돌아 한 번에 전체 맵을 훑지 않는다.
+ */
+@Component
+public class InMemorySessionStore implements IssueSessionPort, LoadSessionPort, RevokeSessionPort, AutoCloseable {
+
+    // 256비트 무작위 토큰
+    private static final int TOKEN_BYTES = 32;
+
+    private final List<ConcurrentHashMap<String, Session>> shards;
+    private final int mask;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final SecureRandom random = new SecureRandom();
+    private final ScheduledExecutorService sweeper;
+
+    @Autowired
+    public InMemorySessionStore(SessionProperties properties) {
+        this(properties, System::currentTimeMillis, true);
+    }
+
+    InMemorySessionStore(SessionProperties properties, LongSupplier clock, boolean startSweeper) {
+        int shardCount = Math.max(1, properties.getShards());
+        int size = shardCount == 1 ? 1 : Integer.highestOneBit(shardCount - 1) << 1;
+        List<ConcurrentHashMap<String, Session>> shards = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            shards.add(new ConcurrentHashMap<>());
+        }
+        this.shards = List.copyOf(shards);
+        this.mask = size - 1;
+        this.ttlMillis = properties.getTtl().toMillis();
+        this.clock = clock;
+        this.sweeper = startSweeper ? startSweeper(properties.getSweepInterval().toMillis()) : null;
+    }
+
+    private ScheduledExecutorService startSweeper(long intervalMillis) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::sweep, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    @Override
+    public Session issue(Long userId, String username) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        Session session = new Session(token, userId, username, clock.getAsLong() + ttlMillis);
+        shardOf(token).put(token, session);
+        return session;
+    }
+
+    @Override
+    public Optional<Session> loadByToken(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        ConcurrentHashMap<String, Session> shard = shardOf(token);
+        Session session = shard.get(token);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (session.isExpired(clock.getAsLong())) {
+            shard.remove(token, session);
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    @Override
+    public boolean revoke(String token) {
+        return token != null && shardOf(token).remove(token) != null;
+    }
+
+    // 토큰 -> 세션 인덱스뿐이라 전체 샤드를 훑는다. 사용자 차단처럼 드문 경우에만 쓴다
+    @Override
+    public int revokeAll(Long userId) {
+        int removed = 0;
+        for (ConcurrentHashMap<String, Session> shard : shards) {
+            for (Session session : shard.values()) {
+                if (session.getUserId().equals(userId) && shard.remove(session.getToken(), session)) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    // 만료된 세션 수를 반환한다
+    int sweep() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        for (ConcurrentHashMap<String, Session> shard : shards) {
+            for (Session session : shard.values()) {
+                if (session.isExpired(now) && shard.remove(session.getToken(), session)) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    public long size() {
+        long size = 0;
+        for (ConcurrentHashMap<String, Session> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, Session> shardOf(String token) {
+        int hash = token.hashCode();
+        return shards.get((hash ^ (hash >>> 16)) & mask);
+    }
+
+    @Override
+    public void close() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.simplebank.user.adapter.out.session;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.user.session")
+public class SessionProperties {
+
+    private Duration ttl = Duration.ofMinutes(30);
+    // 2의 거듭제곱으로 올림
+    private int shards = 16;
+    private Duration sweepInterval = Duration.ofMinutes(1);
+}
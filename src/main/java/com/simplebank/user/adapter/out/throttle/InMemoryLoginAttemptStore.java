@@ -0,0 +1,89 @@
+package com.simplebank.user.adapter.out.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.simplebank.user.application.port.out.LoginAttemptPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자명/IP 별 토큰 버킷과 사용자별 연속 실패 횟수를 메모리에 보관한다.
+ * 키 수는 maxTrackedKeys 로 제한되고, idleExpiry 동안 쓰이지 않은 키는 버린다.
+ * 버려진 버킷은 다음 시도에서 가득 찬 상태로 다시 만들어진다.
+ */
+@Component
+public class InMemoryLoginAttemptStore implements LoginAttemptPort {
+
+    private final Cache<String, TokenBucket> usernameBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, AtomicInteger> failures;
+    private final LoginThrottleProperties properties;
+    private final long usernameIntervalMillis;
+    private final long ipIntervalMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public InMemoryLoginAttemptStore(LoginThrottleProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    InMemoryLoginAttemptStore(LoginThrottleProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.usernameBuckets = newCache(properties);
+        this.ipBuckets = newCache(properties);
+        this.failures = newCache(properties);
+        this.usernameIntervalMillis = interval(properties.getUsernameRefillPeriod().toMillis(), properties.getUsernameCapacity());
+        this.ipIntervalMillis = interval(properties.getIpRefillPeriod().toMillis(), properties.getIpCapacity());
+        this.clock = clock;
+    }
+
+    private static <V> Cache<String, V> newCache(LoginThrottleProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .build();
+    }
+
+    private static long interval(long periodMillis, int capacity) {
+        return Math.max(1, periodMillis / Math.max(1, capacity));
+    }
+
+    // IP 를 먼저 확인해 한 IP 가 여러 사용자명을 돌려 쓰는 경우 사용자명 버킷을 소모하지 않게 한다
+    @Override
+    public long tryAcquire(String username, String clientIp) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        if (clientIp != null) {
+            long wait = ipBuckets.get(clientIp, key -> new TokenBucket())
+                    .tryAcquire(now, ipIntervalMillis, properties.getIpCapacity());
+            if (wait > 0) {
+                return wait;
+            }
+        }
+        return usernameBuckets.get(username, key -> new TokenBucket())
+                .tryAcquire(now, usernameIntervalMillis, properties.getUsernameCapacity());
+    }
+
+    @Override
+    public boolean recordFailure(String username) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        int count = failures.get(username, key -> new AtomicInteger()).incrementAndGet();
+        return count >= properties.getMaxConsecutiveFailures();
+    }
+
+    @Override
+    public void resetFailures(String username) {
+        failures.invalidate(username);
+    }
+
+    public long trackedKeys() {
+        return usernameBuckets.estimatedSize() + ipBuckets.estimatedSize() + failures.estimatedSize();
+    }
+}
@@ -0,0 +1,28 @@
+package com.simplebank.user.adapter.out.throttle;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.user.login-throttle")
+public class LoginThrottleProperties {
+
+    private boolean enabled = true;
+
+    // refill-period 동안 capacity 만큼 다시 채워진다
+    private int usernameCapacity = 10;
+    private Duration usernameRefillPeriod = Duration.ofMinutes(1);
+    private int ipCapacity = 100;
+    private Duration ipRefillPeriod = Duration.ofMinutes(1);
+
+    private int maxConsecutiveFailures = 5;
+
+    // 키 종류(사용자명/IP/실패 횟수)별 최대 보관 수. 넘치면 오래 안 쓴 키부터 버린다
+    private long maxTrackedKeys = 100_000;
+    // refill-period 보다 길어야 한다 (그 전에 버리면 버킷이 일찍 가득 찬다)
+    private Duration idleExpiry = Duration.ofMinutes(10);
+}
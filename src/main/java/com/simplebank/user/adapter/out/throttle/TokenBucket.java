@@ -0,0 +1,32 @@
+package com.simplebank.user.adapter.out.throttle;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상태를 "다음 토큰이 모두 찬 것으로 보는 시각" 하나로 표현한 토큰 버킷 (GCRA).
+ * 토큰 수와 마지막 충전 시각을 따로 두지 않으므로 CAS 한 번으로 갱신되고 락이 없다.
+ */
+final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param intervalMillis 토큰 하나가 다시 채워지는 간격
+     * @param capacity       최대 토큰 수 (버스트 허용량)
+     * @return 허용되면 0, 아니면 다음 토큰까지 남은 밀리초
+     */
+    long tryAcquire(long now, long intervalMillis, int capacity) {
+        long burst = intervalMillis * capacity;
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalMillis;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -7,15 +7,14 @@ import com.simplebank.user.domain.User;
 import com.simplebank.user.domain.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class GetUserInfoService implements GetUserInfoUseCase {
 
     private final LoadUserPort loadUserPort;
 
+    // 캐시 적중 시 커넥션을 잡지 않도록 서비스 트랜잭션을 열지 않는다 (조회 자체는 리포지토리 트랜잭션에서 수행)
     @Override
     public UserInfo execute(Long userId) {
         //1. 사용자 조회
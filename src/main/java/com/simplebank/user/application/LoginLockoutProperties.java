@@ -0,0 +1,16 @@
+package com.simplebank.user.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "simplebank.user.login-lockout")
+public class LoginLockoutProperties {
+
+    // 연속 실패로 차단된 사용자는 이 시간이 지나면 다음 로그인에서 차단이 풀린다
+    private Duration duration = Duration.ofMinutes(15);
+}
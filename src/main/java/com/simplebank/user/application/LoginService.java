@@ -3,41 +3,115 @@ package com.simplebank.user.application;
 import com.simplebank.user.application.port.in.LoginUseCase;
 import com.simplebank.user.application.port.in.dto.LoginCommand;
 import com.simplebank.user.application.port.in.dto.LoginResult;
+import com.simplebank.user.application.port.out.IssueSessionPort;
 import com.simplebank.user.application.port.out.LoadUserPort;
+import com.simplebank.user.application.port.out.LoginAttemptPort;
+import com.simplebank.user.application.port.out.RevokeSessionPort;
+import com.simplebank.user.domain.Session;
 import com.simplebank.user.domain.User;
 import com.simplebank.user.domain.exception.BlockedUserException;
-import com.simplebank.user.domain.exception.InvalidPasswordException;
-import com.simplebank.user.domain.exception.UserNotFoundException;
+import com.simplebank.user.domain.exception.InvalidCredentialsException;
+import com.simplebank.user.domain.exception.LoginRateLimitedException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.UUID;
+
+// 비밀번호 해시 검증 동안 DB 커넥션을 잡고 있지 않도록 서비스 트랜잭션을 열지 않는다
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class LoginService implements LoginUseCase {
 
     private final LoadUserPort loadUserPort;
     private final PasswordEncoder passwordEncoder;
+    private final IssueSessionPort issueSessionPort;
+    private final LoginAttemptPort loginAttemptPort;
+    private final RevokeSessionPort revokeSessionPort;
+    private final LoginLockoutProperties lockoutProperties;
+
+    private volatile String dummyHash;
 
     @Override
     public LoginResult execute(LoginCommand command){
-        // 1. 사용자 조회
-        User user = loadUserPort.loadByUsername(command.getUsername())
-                .orElseThrow(() -> new UserNotFoundException(command.getUsername()));
+        // 1. 시도 한도 확인 (거절되면 사용자 조회와 해시 계산을 하지 않는다)
+        long waitMillis = loginAttemptPort.tryAcquire(command.getUsername(), command.getClientIp());
+        if (waitMillis > 0) {
+            throw new LoginRateLimitedException((waitMillis + 999) / 1000);
+        }
+
+        // 2. 사용자 조회 (없는 사용자도 틀린 비밀번호와 같은 응답을 준다)
+        // 응답 시간으로도 존재 여부가 드러나지 않도록 없는 사용자도 해시 비교 한 번을 일부러 거친다.
+        // 사용자명 필터는 이 경로의 DB 조회만 줄이고, 해시 비용은 1단계의 시도 한도가 제한한다
+        User user = loadUserPort.loadByUsername(command.getUsername()).orElse(null);
+        if (user == null) {
+            passwordEncoder.matches(command.getPassword(), dummyHash());
+            throw new InvalidCredentialsException(command.getUsername());
+        }
 
-        // 2. 비밀번호 검증
+        // 3. 비밀번호 검증 (연속 실패가 한도에 도달하면 일정 시간 차단)
+        Instant now = Instant.now();
         if (!passwordEncoder.matches(command.getPassword(), user.getPassword())){
-            throw new InvalidPasswordException();
+            if (loginAttemptPort.recordFailure(user.getUsername()) && !user.isBlockedAt(now)) {
+                blockUser(user, now.plus(lockoutProperties.getDuration()));
+            }
+            throw new InvalidCredentialsException(user.getUsername());
         }
 
-        // 3. 사용자 상태 확인
-        if(user.isBlocked()){
+        // 4. 사용자 상태 확인 (기한이 지난 차단은 여기서 푼다)
+        if(user.isBlockedAt(now)){
             throw new BlockedUserException(user.getUsername());
         }
+        if (user.isBlocked()) {
+            user.unblock();
+            loadUserPort.save(user);
+            log.info("차단 기한이 지나 사용자 차단 해제: userId={}", user.getId());
+        }
+        loginAttemptPort.resetFailures(user.getUsername());
+
+        // 5. 오래된 알고리즘/비용으로 저장된 해시는 현재 설정으로 재인코딩
+        upgradePasswordIfNeeded(user, command.getPassword());
 
-        // 4. 결과 반환
-        return new LoginResult(user.getId(), user.getUsername());
+        // 6. 세션 발급 (이후 요청은 토큰만으로 검증)
+        Session session = issueSessionPort.issue(user.getId(), user.getUsername());
+
+        // 7. 결과 반환
+        return new LoginResult(user.getId(), user.getUsername(), session.getToken(), session.getExpiresAt());
+    }
+
+    // 현재 인코더 설정과 같은 비용이 들도록 실제 인코더로 한 번 만들어 둔다
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyHash = hash;
+        }
+        return hash;
+    }
+
+    private void blockUser(User user, Instant until) {
+        user.block(until);
+        loadUserPort.save(user);
+        // 차단이 풀린 뒤에는 실패 횟수를 처음부터 다시 센다
+        loginAttemptPort.resetFailures(user.getUsername());
+        // 차단 전에 발급된 세션도 더 이상 쓰지 못하게 한다
+        int revoked = revokeSessionPort.revokeAll(user.getId());
+        log.warn("연속 로그인 실패로 사용자 차단: userId={}, until={}, revokedSessions={}", user.getId(), until, revoked);
+    }
+
+    // 재인코딩 실패는 로그인 결과에 영향을 주지 않는다 (다음 로그인에서 다시 시도)
+    private void upgradePasswordIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.changePassword(passwordEncoder.encode(rawPassword));
+            loadUserPort.save(user);
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 업그레이드 실패: userId={}", user.getId(), e);
+        }
     }
 }
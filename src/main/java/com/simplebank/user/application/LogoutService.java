@@ -0,0 +1,19 @@
+package com.simplebank.user.application;
+
+import com.simplebank.user.application.port.in.LogoutUseCase;
+import com.simplebank.user.application.port.out.RevokeSessionPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class LogoutService implements LogoutUseCase {
+
+    private final RevokeSessionPort revokeSessionPort;
+
+    // 이미 만료되었거나 없는 세션이어도 결과는 같으므로 성공으로 본다
+    @Override
+    public void execute(String token) {
+        revokeSessionPort.revoke(token);
+    }
+}
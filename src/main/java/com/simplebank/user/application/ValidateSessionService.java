@@ -0,0 +1,24 @@
+package com.simplebank.user.application;
+
+import com.simplebank.user.application.port.in.ValidateSessionUseCase;
+import com.simplebank.user.application.port.in.dto.SessionInfo;
+import com.simplebank.user.application.port.out.LoadSessionPort;
+import com.simplebank.user.domain.Session;
+import com.simplebank.user.domain.exception.InvalidSessionException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 메모리 조회만 하므로 해시 계산이나 DB 접근이 없다
+@Service
+@RequiredArgsConstructor
+public class ValidateSessionService implements ValidateSessionUseCase {
+
+    private final LoadSessionPort loadSessionPort;
+
+    @Override
+    public SessionInfo execute(String token) {
+        Session session = loadSessionPort.loadByToken(token)
+                .orElseThrow(InvalidSessionException::new);
+        return new SessionInfo(session.getUserId(), session.getUsername(), session.getExpiresAt());
+    }
+}
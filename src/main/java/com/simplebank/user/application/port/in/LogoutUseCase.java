@@ -0,0 +1,5 @@
+package com.simplebank.user.application.port.in;
+
+public interface LogoutUseCase {
+    void execute(String token);
+}
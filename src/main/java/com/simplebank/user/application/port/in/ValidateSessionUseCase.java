@@ -0,0 +1,7 @@
+package com.simplebank.user.application.port.in;
+
+import com.simplebank.user.application.port.in.dto.SessionInfo;
+
+public interface ValidateSessionUseCase {
+    SessionInfo execute(String token);
+}
@@ -8,4 +8,10 @@ import lombok.Getter;
 public class LoginCommand {
     private final String username;
     private final String password;
+    // 알 수 없으면 null (IP 단위 제한을 건너뛴다)
+    private final String clientIp;
+
+    public LoginCommand(String username, String password) {
+        this(username, password, null);
+    }
 }
@@ -3,9 +3,13 @@ package com.simplebank.user.application.port.in.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.Instant;
+
 @Getter
 @AllArgsConstructor
 public class LoginResult {
     private final Long userId;
     private final String username;
+    private final String token;
+    private final Instant expiresAt;
 }
@@ -0,0 +1,14 @@
+package com.simplebank.user.application.port.in.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class SessionInfo {
+    private final Long userId;
+    private final String username;
+    private final Instant expiresAt;
+}
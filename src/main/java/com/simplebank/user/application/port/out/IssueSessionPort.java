@@ -0,0 +1,7 @@
+package com.simplebank.user.application.port.out;
+
+import com.simplebank.user.domain.Session;
+
+public interface IssueSessionPort {
+    Session issue(Long userId, String username);
+}
@@ -0,0 +1,10 @@
+package com.simplebank.user.application.port.out;
+
+import com.simplebank.user.domain.Session;
+
+import java.util.Optional;
+
+public interface LoadSessionPort {
+    // 만료된 세션은 없는 것으로 본다
+    Optional<Session> loadByToken(String token);
+}
@@ -0,0 +1,15 @@
+package com.simplebank.user.application.port.out;
+
+public interface LoginAttemptPort {
+
+    /**
+     * 사용자명/IP 별 시도 한도에서 한 번을 소모한다.
+     * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 밀리초
+     */
+    long tryAcquire(String username, String clientIp);
+
+    // 연속 실패를 기록하고, 잠금 한도에 도달했으면 true 를 반환한다
+    boolean recordFailure(String username);
+
+    void resetFailures(String username);
+}
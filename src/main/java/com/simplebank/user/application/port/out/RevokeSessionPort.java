@@ -0,0 +1,8 @@
+package com.simplebank.user.application.port.out;
+
+public interface RevokeSessionPort {
+    boolean revoke(String token);
+
+    // 사용자의 모든 세션을 끊고 끊은 개수를 반환한다
+    int revokeAll(Long userId);
+}
@@ -0,0 +1,26 @@
+package com.simplebank.user.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 로그인으로 발급된 세션. 토큰만으로 사용자를 식별하며 만료 시각 이후에는 무효다.
+ */
+@Getter
+@AllArgsConstructor
+public class Session {
+    private final String token;
+    private final Long userId;
+    private final String username;
+    private final long expiresAtMillis;
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    public Instant getExpiresAt() {
+        return Instant.ofEpochMilli(expiresAtMillis);
+    }
+}
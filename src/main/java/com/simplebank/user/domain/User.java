@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.Instant;
+
 @Getter
 @Builder
 @AllArgsConstructor
@@ -12,6 +14,8 @@ public class User {
     private String username;
     private String password;
     private UserStatus status;
+    // 차단이 풀리는 시각. null 이면 기한 없이 차단된다
+    private Instant blockedUntil;
 
     public boolean isActive() {
         return status == UserStatus.ACTIVE;
@@ -20,4 +24,27 @@ public class User {
     public boolean isBlocked() {
         return status == UserStatus.BLOCKED;
     }
+
+    // 기한이 지난 차단은 차단으로 보지 않는다
+    public boolean isBlockedAt(Instant now) {
+        return isBlocked() && (blockedUntil == null || now.isBefore(blockedUntil));
+    }
+
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    public void block() {
+        block(null);
+    }
+
+    public void block(Instant until) {
+        this.status = UserStatus.BLOCKED;
+        this.blockedUntil = until;
+    }
+
+    public void unblock() {
+        this.status = UserStatus.ACTIVE;
+        this.blockedUntil = null;
+    }
 }
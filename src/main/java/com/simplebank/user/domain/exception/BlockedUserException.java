@@ -1,7 +1,10 @@
 package com.simplebank.user.domain.exception;
 
-public class BlockedUserException extends RuntimeException{
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class BlockedUserException extends DomainException {
     public BlockedUserException(String username) {
-        super(String.format("차단된 사용자입니다: %s", username));
+        super(ErrorCode.BLOCKED_USER, String.format("차단된 사용자입니다: %s", username));
     }
 }
@@ -0,0 +1,11 @@
+package com.simplebank.user.domain.exception;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class ForbiddenUserException extends DomainException {
+    public ForbiddenUserException(Long sessionUserId, Long requestedUserId) {
+        super(ErrorCode.FORBIDDEN_USER,
+                String.format("다른 사용자의 정보 요청: session=%d, requested=%d", sessionUserId, requestedUserId));
+    }
+}
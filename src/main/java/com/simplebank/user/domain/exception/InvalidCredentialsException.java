@@ -0,0 +1,11 @@
+package com.simplebank.user.domain.exception;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+// 없는 사용자와 틀린 비밀번호를 같은 응답으로 돌려 응답 코드로 사용자명 존재 여부가 드러나지 않게 한다
+public class InvalidCredentialsException extends DomainException {
+    public InvalidCredentialsException(String username) {
+        super(ErrorCode.INVALID_CREDENTIALS, String.format("아이디 또는 비밀번호가 일치하지 않습니다: %s", username));
+    }
+}
@@ -1,7 +0,0 @@
-package com.simplebank.user.domain.exception;
-
-public class InvalidPasswordException extends RuntimeException {
-    public InvalidPasswordException() {
-        super("비밀번호가 일치하지 않습니다.");
-    }
-}
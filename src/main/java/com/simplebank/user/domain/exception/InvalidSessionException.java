@@ -0,0 +1,10 @@
+package com.simplebank.user.domain.exception;
+
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class InvalidSessionException extends DomainException {
+    public InvalidSessionException() {
+        super(ErrorCode.INVALID_SESSION, "세션이 없거나 만료되었습니다. 다시 로그인해 주세요.");
+    }
+}
@@ -1,7 +1,10 @@
 package com.simplebank.user.domain.exception;
 
-public class UserNotFoundException extends RuntimeException {
+import com.simplebank.common.exception.DomainException;
+import com.simplebank.common.exception.ErrorCode;
+
+public class UserNotFoundException extends DomainException {
     public UserNotFoundException(String username) {
-        super(String.format("사용자를 찾을 수 없습니다: %s", username));
+        super(ErrorCode.USER_NOT_FOUND, String.format("사용자를 찾을 수 없습니다: %s", username));
     }
 }
@@ -1,32 +1,138 @@
 package com.simplebank.account.adapter.in.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplebank.account.adapter.in.web.dto.BatchTransferLineRequest;
+import com.simplebank.account.adapter.in.web.dto.TransferRequest;
+import com.simplebank.account.application.TransferProperties;
+import com.simplebank.account.application.port.in.BatchTransferUseCase;
+import com.simplebank.account.application.port.in.CheckBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.GetAccountsBatchUseCase;
+import com.simplebank.account.application.port.in.GetAccountsPageUseCase;
 import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.GetBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.GetTransferStatisticsUseCase;
+import com.simplebank.account.application.port.in.StreamAccountsUseCase;
+import com.simplebank.account.application.port.in.TransferUseCase;
 import com.simplebank.account.application.port.in.dto.AccountInfo;
+import com.simplebank.account.application.port.in.dto.AccountPage;
+import com.simplebank.account.application.port.in.dto.BalanceSummaryCheckResult;
+import com.simplebank.account.application.port.in.dto.BalanceSummaryDrift;
+import com.simplebank.account.application.port.in.dto.BalanceSummaryInfo;
+import com.simplebank.account.application.port.in.dto.BatchTransferCommand;
+import com.simplebank.account.application.port.in.dto.BatchTransferResult;
+import com.simplebank.account.application.port.in.dto.CreditLine;
+import com.simplebank.account.application.port.in.dto.CreditLineRejection;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.application.port.in.dto.TransferResult;
+import com.simplebank.account.application.port.in.dto.TransferStatisticsInfo;
+import com.simplebank.account.domain.exception.AccountNotFoundException;
+import com.simplebank.account.domain.exception.InsufficientBalanceException;
+import com.simplebank.common.idempotency.IdempotencyExecutor;
+import com.simplebank.common.idempotency.IdempotencyProperties;
+import com.simplebank.common.idempotency.InMemoryIdempotencyStore;
+import com.simplebank.user.application.port.in.ValidateSessionUseCase;
+import com.simplebank.user.application.port.in.dto.SessionInfo;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@WebMvcTest(AccountController.class)
+@WebMvcTest(controllers = AccountController.class, properties = "simplebank.transfer.batch.max-lines=4")
 @DisplayName("AccountController 테스트")
 class AccountControllerTest {
 
+    private static final String BEARER_TOKEN = "Bearer token-1";
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        IdempotencyExecutor idempotencyExecutor(ObjectMapper objectMapper) {
+            IdempotencyProperties properties = new IdempotencyProperties();
+            return new IdempotencyExecutor(new InMemoryIdempotencyStore(properties), objectMapper, properties);
+        }
+
+        @Bean
+        TransferProperties transferProperties() {
+            return new TransferProperties();
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private GetAccountsUseCase getAccountsUseCase;
 
+    @MockBean
+    private GetAccountsBatchUseCase getAccountsBatchUseCase;
+
+    @MockBean
+    private GetAccountsPageUseCase getAccountsPageUseCase;
+
+    @MockBean
+    private StreamAccountsUseCase streamAccountsUseCase;
+
+    @MockBean
+    private GetBalanceSummaryUseCase getBalanceSummaryUseCase;
+
+    @MockBean
+    private CheckBalanceSummaryUseCase checkBalanceSummaryUseCase;
+
+    @MockBean
+    private TransferUseCase transferUseCase;
+
+    @MockBean
+    private BatchTransferUseCase batchTransferUseCase;
+
+    @MockBean
+    private GetTransferStatisticsUseCase getTransferStatisticsUseCase;
+
+    @MockBean
+    private ValidateSessionUseCase validateSessionUseCase;
+
+    @BeforeEach
+    void givenSession() {
+        when(validateSessionUseCase.execute("token-1"))
+                .thenReturn(new SessionInfo(1L, "user1", Instant.parse("2026-01-01T00:30:00Z")));
+    }
+
     @Test
     @DisplayName("GET /api/accounts/user/{userId} - 사용자 계좌 목록 조회 성공")
     void getAccounts_success() throws Exception {
@@ -41,7 +147,8 @@ class AccountControllerTest {
                 .thenReturn(accounts);
 
         //When & Then
-        mockMvc.perform(get("/api/accounts/user/{userId}", userId))
+        mockMvc.perform(get("/api/accounts/user/{userId}", userId)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
@@ -58,17 +165,444 @@ class AccountControllerTest {
     @DisplayName("GET /api/accounts/user/{userId}")
     void getAccounts_empty() throws Exception {
         //Given
-        Long userId = 999L;
+        Long userId = 1L;
         List<AccountInfo> emptyAccounts = List.of();
 
         when(getAccountsUseCase.execute(userId))
                 .thenReturn(emptyAccounts);
 
         //When & Then
-        mockMvc.perform(get("/api/accounts/user/{userId}", userId))
+        mockMvc.perform(get("/api/accounts/user/{userId}", userId)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.lengh()").value(0));
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/users?userIds= - 세션 사용자의 계좌를 사용자별로 묶어 조회")
+    void getAccountsBatch_success() throws Exception {
+        //Given
+        Map<Long, List<AccountInfo>> grouped = new LinkedHashMap<>();
+        grouped.put(1L, List.of(new AccountInfo(10L, "1234567890", new BigDecimal("10000.00"), "ACTIVE")));
+
+        when(getAccountsBatchUseCase.execute(Set.of(1L)))
+                .thenReturn(grouped);
+
+        //When & Then
+        mockMvc.perform(get("/api/accounts/users")
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .param("userIds", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$['1'].length()").value(1))
+                .andExpect(jsonPath("$['1'][0].accountId").value(10L));
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/users?userIds= - 다른 사용자의 ID 가 섞여 있으면 403")
+    void getAccountsBatch_fail_other_user() throws Exception {
+        //When & Then
+        mockMvc.perform(get("/api/accounts/users")
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .param("userIds", "1,2"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("FORBIDDEN_USER"));
+
+        verifyNoInteractions(getAccountsBatchUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/user/{userId} - 토큰이 없으면 401")
+    void getAccounts_fail_missing_token() throws Exception {
+        //When & Then
+        mockMvc.perform(get("/api/accounts/user/{userId}", 1L))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("INVALID_SESSION"));
+
+        verifyNoInteractions(getAccountsUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/user/{userId} - 다른 사용자의 계좌 목록은 403")
+    void getAccounts_fail_other_user() throws Exception {
+        //When & Then
+        mockMvc.perform(get("/api/accounts/user/{userId}", 2L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("FORBIDDEN_USER"));
+
+        verifyNoInteractions(getAccountsUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/transfer - 이체 성공")
+    void transfer_success() throws Exception {
+        //Given
+        TransferRequest request = new TransferRequest(1L, 2L, new BigDecimal("3000.00"));
+        TransferResult result = new TransferResult(1L, 2L, new BigDecimal("3000.00"), new BigDecimal("7000.00"));
+
+        when(transferUseCase.execute(any(TransferCommand.class)))
+                .thenReturn(result);
+
+        //When & Then
+        mockMvc.perform(post("/api/accounts/transfer")
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fromAccountId").value(1L))
+                .andExpect(jsonPath("$.toAccountId").value(2L))
+                .andExpect(jsonPath("$.amount").value(3000.00))
+                .andExpect(jsonPath("$.fromBalance").value(7000.00));
+        ArgumentCaptor<TransferCommand> command = ArgumentCaptor.forClass(TransferCommand.class);
+        verify(transferUseCase).execute(command.capture());
+        assertThat(command.getValue().getUserId()).isEqualTo(1L);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("POST /api/accounts/transfer - 같은 Idempotency-Key 로 재요청하면 저장된 응답을 반환")
+    void transfer_idempotent_replay() throws Exception {
+        //Given
+        TransferRequest request = new TransferRequest(1L, 2L, new BigDecimal("3000.00"));
+        TransferResult result = new TransferResult(1L, 2L, new BigDecimal("3000.00"), new BigDecimal("7000.00"));
+
+        when(transferUseCase.execute(any(TransferCommand.class)))
+                .thenReturn(result);
+
+        //When
+        mockMvc.perform(post("/api/accounts/transfer")
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .header(IdempotencyExecutor.HEADER, "transfer-replay")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/accounts/transfer")
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .header(IdempotencyExecutor.HEADER, "transfer-replay")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyExecutor.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.fromBalance").value(7000.00));
+
+        //Then
+        verify(transferUseCase, times(1)).execute(any(TransferCommand.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/transfer - 같은 Idempotency-Key 에 다른 요청 본문이면 422")
+    void transfer_idempotency_key_reused() throws Exception {
+        //Given
+        when(transferUseCase.execute(any(TransferCommand.class)))
+                .thenReturn(new TransferResult(1L, 2L, new BigDecimal("3000.00"), new BigDecimal("7000.00")));
+        mockMvc.perform(post("/api/accounts/transfer")
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .header(IdempotencyExecutor.HEADER, "transfer-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferRequest(1L, 2L, new BigDecimal("3000.00")))))
+                .andExpect(status().isOk());
+
+        //When & Then
+        mockMvc.perform(post("/api/accounts/transfer")
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .header(IdempotencyExecutor.HEADER, "transfer-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TransferRequest(1L, 2L, new BigDecimal("5000.00")))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/transfer - 잔액 부족")
+    void transfer_fail_insufficient_balance() throws Exception {
+        //Given
+        TransferRequest request = new TransferRequest(1L, 2L, new BigDecimal("999999.00"));
+
+        when(transferUseCase.execute(any(TransferCommand.class)))
+                .thenThrow(new InsufficientBalanceException("1234567890"));
+
+        //When & Then
+        mockMvc.perform(post("/api/accounts/transfer")
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("INSUFFICIENT_BALANCE"));
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/transfer - 존재하지 않는 계좌")
+    void transfer_fail_account_not_found() throws Exception {
+        //Given
+        TransferRequest request = new TransferRequest(1L, 999L, new BigDecimal("1000.00"));
+
+        when(transferUseCase.execute(any(TransferCommand.class)))
+                .thenThrow(new AccountNotFoundException(999L));
+
+        //When & Then
+        mockMvc.perform(post("/api/accounts/transfer")
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("ACCOUNT_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/transfer/statistics - 이체 충돌/재시도 통계 조회")
+    void getTransferStatistics_success() throws Exception {
+        //Given
+        when(getTransferStatisticsUseCase.execute())
+                .thenReturn(new TransferStatisticsInfo("OPTIMISTIC", 100L, 7L, 6L, 1L));
+
+        //When & Then
+        mockMvc.perform(get("/api/accounts/transfer/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lockMode").value("OPTIMISTIC"))
+                .andExpect(jsonPath("$.completed").value(100))
+                .andExpect(jsonPath("$.conflicts").value(7))
+                .andExpect(jsonPath("$.retries").value(6))
+                .andExpect(jsonPath("$.exhausted").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/user/{userId}/page - 커서 기반 페이지 조회")
+    void getAccountsPage_success() throws Exception {
+        //Given
+        AccountPage page = new AccountPage(List.of(
+                new AccountInfo(11L, "A-11", new BigDecimal("100.00"), "ACTIVE"),
+                new AccountInfo(12L, "A-12", new BigDecimal("200.00"), "ACTIVE")
+        ), 12L);
+        when(getAccountsPageUseCase.execute(1L, 10L, 2))
+                .thenReturn(page);
+
+        //When & Then
+        mockMvc.perform(get("/api/accounts/user/{userId}/page", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .param("after", "10")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accounts.length()").value(2))
+                .andExpect(jsonPath("$.accounts[0].accountId").value(11))
+                .andExpect(jsonPath("$.nextCursor").value(12));
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/user/{userId}/page - 잘못된 페이지 크기는 400")
+    void getAccountsPage_invalid_size() throws Exception {
+        //Given
+        when(getAccountsPageUseCase.execute(eq(1L), isNull(), eq(0)))
+                .thenThrow(new IllegalArgumentException("페이지 크기는 1 이상 1000 이하여야 합니다."));
+
+        //When & Then
+        mockMvc.perform(get("/api/accounts/user/{userId}/page", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_REQUEST"));
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/user/{userId}/stream - 계좌 목록을 JSON 배열로 스트리밍")
+    void streamAccounts_success() throws Exception {
+        //Given
+        doAnswer(invocation -> {
+            Consumer<AccountInfo> consumer = invocation.getArgument(1);
+            consumer.accept(new AccountInfo(1L, "A-1", new BigDecimal("100.00"), "ACTIVE"));
+            consumer.accept(new AccountInfo(2L, "A-2", new BigDecimal("200.00"), "CLOSED"));
+            return null;
+        }).when(streamAccountsUseCase).execute(eq(1L), any(Consumer.class));
+
+        //When
+        MvcResult result = mockMvc.perform(get("/api/accounts/user/{userId}/stream", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].accountNumber").value("A-1"))
+                .andExpect(jsonPath("$[1].status").value("CLOSED"));
+    }
+
+    @Test
+    @DisplayName("GET /api/accounts/user/{userId}/summary - 사용자 전체 잔액 요약 조회")
+    void getBalanceSummary_success() throws Exception {
+        //Given
+        when(getBalanceSummaryUseCase.execute(1L))
+                .thenReturn(new BalanceSummaryInfo(1L, new BigDecimal("15000.00"), 3));
+
+        //When & Then
+        mockMvc.perform(get("/api/accounts/user/{userId}/summary", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(1))
+                .andExpect(jsonPath("$.totalBalance").value(15000.00))
+                .andExpect(jsonPath("$.accountCount").value(3));
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/summary/check - 잔액 요약 불일치 검사 및 복구")
+    void checkBalanceSummary_success() throws Exception {
+        //Given
+        when(checkBalanceSummaryUseCase.execute(true))
+                .thenReturn(new BalanceSummaryCheckResult(2, List.of(
+                        new BalanceSummaryDrift(1L, new BigDecimal("100.00"), 1, new BigDecimal("90.00"), 1L)
+                ), true));
+
+        //When & Then
+        mockMvc.perform(post("/api/accounts/summary/check")
+                        .param("repair", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checkedUsers").value(2))
+                .andExpect(jsonPath("$.drifts[0].userId").value(1))
+                .andExpect(jsonPath("$.drifts[0].actualBalance").value(90.00))
+                .andExpect(jsonPath("$.repaired").value(true));
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/{fromAccountId}/batch-transfer - JSON 배열로 일괄 이체하고 줄별 결과를 스트리밍")
+    void batchTransfer_json() throws Exception {
+        //Given
+        List<CreditLine> lines = List.of(
+                new CreditLine(2L, new BigDecimal("100.00")),
+                new CreditLine(9L, new BigDecimal("50.00")));
+        when(batchTransferUseCase.execute(any(BatchTransferCommand.class)))
+                .thenReturn(new BatchTransferResult(1L, 1, new BigDecimal("100.00"), new BigDecimal("900.00"),
+                        lines, new CreditLineRejection[]{null, CreditLineRejection.ACCOUNT_NOT_FOUND}));
+
+        //When
+        MvcResult result = mockMvc.perform(post("/api/accounts/{fromAccountId}/batch-transfer", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(
+                                new BatchTransferLineRequest(2L, new BigDecimal("100.00")),
+                                new BatchTransferLineRequest(9L, new BigDecimal("50.00"))))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalLines").value(2))
+                .andExpect(jsonPath("$.appliedLines").value(1))
+                .andExpect(jsonPath("$.rejectedLines").value(1))
+                .andExpect(jsonPath("$.fromBalance").value(900.00))
+                .andExpect(jsonPath("$.results[0].line").value(1))
+                .andExpect(jsonPath("$.results[0].applied").value(true))
+                .andExpect(jsonPath("$.results[1].toAccountId").value(9))
+                .andExpect(jsonPath("$.results[1].rejection").value("ACCOUNT_NOT_FOUND"));
+        ArgumentCaptor<BatchTransferCommand> command = ArgumentCaptor.forClass(BatchTransferCommand.class);
+        verify(batchTransferUseCase).execute(command.capture());
+        assertThat(command.getValue().getFromAccountId()).isEqualTo(1L);
+        assertThat(command.getValue().getUserId()).isEqualTo(1L);
+        assertThat(command.getValue().getLines()).extracting(CreditLine::getToAccountId).containsExactly(2L, 9L);
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/{fromAccountId}/batch-transfer - CSV 파일의 헤더는 건너뛰고 잘못된 값은 그 줄만 null 로 넘긴다")
+    void batchTransfer_csv() throws Exception {
+        //Given
+        when(batchTransferUseCase.execute(any(BatchTransferCommand.class)))
+                .thenAnswer(invocation -> {
+                    BatchTransferCommand command = invocation.getArgument(0);
+                    return new BatchTransferResult(1L, 0, BigDecimal.ZERO, new BigDecimal("1000.00"),
+                            command.getLines(), new CreditLineRejection[command.getLines().size()]);
+                });
+        String csv = "toAccountId,amount\n2,100.00\n\nabc,5\n3, 7.5 \n4\n";
+
+        //When
+        MvcResult result = mockMvc.perform(post("/api/accounts/{fromAccountId}/batch-transfer", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalLines").value(4));
+        ArgumentCaptor<BatchTransferCommand> command = ArgumentCaptor.forClass(BatchTransferCommand.class);
+        verify(batchTransferUseCase).execute(command.capture());
+        List<CreditLine> lines = command.getValue().getLines();
+        assertThat(lines).extracting(CreditLine::getToAccountId).containsExactly(2L, null, 3L, null);
+        assertThat(lines.get(0).getAmount()).isEqualByComparingTo("100.00");
+        assertThat(lines.get(2).getAmount()).isEqualByComparingTo("7.5");
+        assertThat(lines.get(3).getAmount()).isNull();
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/{fromAccountId}/batch-transfer - 최대 건수를 넘으면 읽는 도중에 거절한다")
+    void batchTransfer_too_many_lines() throws Exception {
+        //When & Then
+        mockMvc.perform(post("/api/accounts/{fromAccountId}/batch-transfer", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .contentType("text/csv")
+                        .content("2,1\n3,1\n4,1\n5,1\n6,1\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_REQUEST"));
+        mockMvc.perform(post("/api/accounts/{fromAccountId}/batch-transfer", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null, null, null, null, null"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_REQUEST"));
+        verifyNoInteractions(batchTransferUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/{fromAccountId}/batch-transfer - JSON 배열이 아니면 400")
+    void batchTransfer_not_array() throws Exception {
+        //When & Then
+        mockMvc.perform(post("/api/accounts/{fromAccountId}/batch-transfer", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"toAccountId\":2,\"amount\":1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_REQUEST"));
+        verifyNoInteractions(batchTransferUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/accounts/{fromAccountId}/batch-transfer - 같은 Idempotency-Key 로 다시 보내면 저장된 결과를 돌려준다")
+    void batchTransfer_idempotent_replay() throws Exception {
+        //Given
+        when(batchTransferUseCase.execute(any(BatchTransferCommand.class)))
+                .thenAnswer(invocation -> {
+                    BatchTransferCommand command = invocation.getArgument(0);
+                    return new BatchTransferResult(1L, 1, new BigDecimal("100.00"), new BigDecimal("900.00"),
+                            command.getLines(), new CreditLineRejection[command.getLines().size()]);
+                });
+        String csv = "2,100.00\n";
+
+        //When
+        for (int i = 0; i < 2; i++) {
+            MvcResult result = mockMvc.perform(post("/api/accounts/{fromAccountId}/batch-transfer", 1L)
+                            .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                            .header(IdempotencyExecutor.HEADER, "batch-1")
+                            .contentType("text/csv")
+                            .content(csv))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.appliedLines").value(1))
+                    .andExpect(jsonPath("$.results[0].toAccountId").value(2));
+        }
+        mockMvc.perform(post("/api/accounts/{fromAccountId}/batch-transfer", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN)
+                        .header(IdempotencyExecutor.HEADER, "batch-1")
+                        .contentType("text/csv")
+                        .content("3,100.00\n"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+
+        //Then
+        ArgumentCaptor<BatchTransferCommand> command = ArgumentCaptor.forClass(BatchTransferCommand.class);
+        verify(batchTransferUseCase, times(1)).execute(command.capture());
+        assertThat(command.getValue().getRequestKey()).isNotNull();
+    }
+}
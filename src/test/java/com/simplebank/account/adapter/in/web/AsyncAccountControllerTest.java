@@ -0,0 +1,121 @@
+package com.simplebank.account.adapter.in.web;
+
+import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.dto.AccountInfo;
+import com.simplebank.account.domain.exception.AccountNotFoundException;
+import com.simplebank.common.async.AsyncReadExecutor;
+import com.simplebank.common.async.AsyncReadProperties;
+import com.simplebank.common.concurrent.CapacityExceededException;
+import com.simplebank.common.exception.ErrorCode;
+import com.simplebank.user.application.port.in.ValidateSessionUseCase;
+import com.simplebank.user.application.port.in.dto.SessionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AsyncAccountController.class)
+@DisplayName("AsyncAccountController 테스트")
+class AsyncAccountControllerTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean(destroyMethod = "close")
+        AsyncReadExecutor asyncReadExecutor() {
+            return new AsyncReadExecutor(new AsyncReadProperties(), TransactionOperations.withoutTransaction());
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetAccountsUseCase getAccountsUseCase;
+
+    @MockBean
+    private ValidateSessionUseCase validateSessionUseCase;
+
+    @BeforeEach
+    void givenSession() {
+        when(validateSessionUseCase.execute("token-1"))
+                .thenReturn(new SessionInfo(1L, "user1", Instant.parse("2026-01-01T00:30:00Z")));
+    }
+
+    @Test
+    @DisplayName("GET /api/async/accounts/user/{userId} - 같은 유스케이스로 비동기 조회")
+    void getAccounts_success() throws Exception {
+        //Given
+        when(getAccountsUseCase.execute(1L))
+                .thenReturn(List.of(new AccountInfo(1L, "1234567890", new BigDecimal("10000.00"), "ACTIVE")));
+
+        //When
+        MvcResult result = mockMvc.perform(get("/api/async/accounts/user/{userId}", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer token-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].accountNumber").value("1234567890"));
+    }
+
+    @Test
+    @DisplayName("GET /api/async/accounts/user/{userId} - 유스케이스 예외는 기존 예외 처리기로 응답")
+    void getAccounts_domain_exception() throws Exception {
+        //Given
+        when(getAccountsUseCase.execute(1L))
+                .thenThrow(new AccountNotFoundException(1L));
+
+        //When
+        MvcResult result = mockMvc.perform(get("/api/async/accounts/user/{userId}", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer token-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("ACCOUNT_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("GET /api/async/accounts/user/{userId} - 조회 용량 초과 시 503과 Retry-After")
+    void getAccounts_capacity_exceeded() throws Exception {
+        //Given
+        when(getAccountsUseCase.execute(1L))
+                .thenThrow(new CapacityExceededException(ErrorCode.READ_UNAVAILABLE, 2));
+
+        //When
+        MvcResult result = mockMvc.perform(get("/api/async/accounts/user/{userId}", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer token-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.code").value("READ_UNAVAILABLE"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountIndexSnapshotSection 테스트")
+class AccountIndexSnapshotSectionTest {
+
+    @Mock
+    private AccountRepositoryAdapter accountRepository;
+
+    @Mock
+    private BatchTransferRepositoryAdapter batchTransferRepository;
+
+    private Account account(long id, long userId, long balance, long version) {
+        return Account.builder()
+                .id(id)
+                .userId(userId)
+                .accountNumber("110-" + userId + "-" + id)
+                .balance(Money.ofMinorUnits(balance))
+                .status(AccountStatus.ACTIVE)
+                .version(version)
+                .build();
+    }
+
+    private IndexedAccountRepositoryAdapter newAdapter() {
+        return new IndexedAccountRepositoryAdapter(accountRepository, batchTransferRepository, new AccountIndexProperties());
+    }
+
+    private AccountIndexSnapshotSection section(IndexedAccountRepositoryAdapter adapter) {
+        return new AccountIndexSnapshotSection(adapter, accountRepository, batchTransferRepository);
+    }
+
+    private ByteBuffer snapshotOf(Account... accounts) throws IOException {
+        AccountIndex index = new AccountIndex();
+        index.putUsers(List.of(1L), List.of(accounts), index.rowSequence());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    @Test
+    @DisplayName("되살린 계좌는 대조 전에도 DB 를 거치지 않고 인덱스에서 답한다")
+    void serves_restored_accounts_before_reconcile() throws IOException {
+        //Given
+        IndexedAccountRepositoryAdapter adapter = newAdapter();
+
+        //When
+        section(adapter).read(snapshotOf(account(1L, 1L, 1_000, 2), account(2L, 1L, 500, 0)));
+
+        //Then
+        assertThat(adapter.loadById(1L)).get().extracting(Account::getVersion).isEqualTo(2L);
+        assertThat(adapter.loadByAccountNumber("110-1-2")).isPresent();
+        assertThat(adapter.loadByUserId(1L)).extracting(Account::getId).containsExactly(1L, 2L);
+        verifyNoInteractions(accountRepository, batchTransferRepository);
+    }
+
+    @Test
+    @DisplayName("대조하면 DB 에서 더 높은 버전과 스냅샷 뒤에 생긴 계좌를 반영한다")
+    void reconcile_applies_newer_versions_and_new_accounts() throws IOException {
+        //Given
+        IndexedAccountRepositoryAdapter adapter = newAdapter();
+        AccountIndexSnapshotSection section = section(adapter);
+        section.read(snapshotOf(account(1L, 1L, 1_000, 2), account(2L, 1L, 500, 0)));
+        when(batchTransferRepository.loadByIds(anyCollection()))
+                .thenReturn(List.of(account(1L, 1L, 700, 3), account(2L, 1L, 500, 0)));
+        when(accountRepository.loadByUserIds(List.of(1L)))
+                .thenReturn(List.of(account(1L, 1L, 700, 3), account(2L, 1L, 500, 0), account(8L, 1L, 0, 0)));
+
+        //When
+        section.reconcile();
+
+        //Then
+        assertThat(adapter.loadById(1L)).get().extracting(account -> account.getBalance().getMinorUnits()).isEqualTo(700L);
+        assertThat(adapter.loadByUserId(1L)).extracting(Account::getId).containsExactly(1L, 2L, 8L);
+    }
+
+    @Test
+    @DisplayName("DB 에 없는 계좌나 더 낮은 버전이 보이면 인덱스를 비운다")
+    void reconcile_clears_index_when_db_is_behind() throws IOException {
+        //Given
+        IndexedAccountRepositoryAdapter adapter = newAdapter();
+        AccountIndexSnapshotSection section = section(adapter);
+        section.read(snapshotOf(account(1L, 1L, 1_000, 2), account(2L, 1L, 500, 0)));
+        when(batchTransferRepository.loadByIds(anyCollection())).thenReturn(List.of(account(1L, 1L, 900, 1)));
+
+        //When
+        section.reconcile();
+
+        //Then
+        assertThat(adapter.indexedCount()).isZero();
+        verifyNoInteractions(accountRepository);
+    }
+}
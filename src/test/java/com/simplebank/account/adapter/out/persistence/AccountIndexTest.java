@@ -0,0 +1,202 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccountIndex 테스트")
+class AccountIndexTest {
+
+    private final AccountIndex index = new AccountIndex(16);
+
+    private Account account(long id, long userId, long balance, long version) {
+        return Account.builder()
+                .id(id)
+                .userId(userId)
+                .accountNumber("110-" + userId + "-" + id)
+                .balance(Money.ofMinorUnits(balance))
+                .status(AccountStatus.ACTIVE)
+                .version(version)
+                .build();
+    }
+
+    @Test
+    @DisplayName("ID 와 계좌번호로 같은 계좌를 찾는다")
+    void get_by_id_and_account_number() {
+        //Given
+        index.put(account(7L, 1L, 1_000, 0));
+
+        //When
+        Account byId = index.get(7L);
+        Account byNumber = index.getByAccountNumber("110-1-7");
+
+        //Then
+        assertThat(byId.getUserId()).isEqualTo(1L);
+        assertThat(byId.getAccountNumber()).isEqualTo("110-1-7");
+        assertThat(byId.getBalance()).isEqualTo(Money.ofMinorUnits(1_000));
+        assertThat(byNumber.getId()).isEqualTo(7L);
+        assertThat(index.get(8L)).isNull();
+        assertThat(index.getByAccountNumber("110-1-8")).isNull();
+    }
+
+    @Test
+    @DisplayName("버전이 더 높은 상태만 반영한다")
+    void keeps_highest_version() {
+        //Given
+        index.put(account(1L, 1L, 1_000, 3));
+
+        //When
+        index.put(account(1L, 1L, 500, 2));
+        Account afterOlder = index.get(1L);
+        index.put(account(1L, 1L, 700, 4));
+
+        //Then
+        assertThat(afterOlder.getBalance()).isEqualTo(Money.ofMinorUnits(1_000));
+        assertThat(index.get(1L).getBalance()).isEqualTo(Money.ofMinorUnits(700));
+        assertThat(index.get(1L).getVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("사용자 목록은 통째로 읽은 뒤에만 있고, 이후 생긴 계좌도 ID 순으로 들어간다")
+    void user_posting_list() {
+        //Given
+        index.put(account(5L, 1L, 0, 0));
+        assertThat(index.getByUserId(1L)).isNull();
+
+        //When
+        index.putUsers(List.of(1L, 2L), List.of(account(5L, 1L, 0, 0), account(3L, 1L, 0, 0)), index.rowSequence());
+        index.put(account(4L, 1L, 0, 0));
+        index.put(account(9L, 3L, 0, 0));
+
+        //Then
+        assertThat(index.getByUserId(1L)).extracting(Account::getId).containsExactly(3L, 4L, 5L);
+        assertThat(index.getByUserId(2L)).isEmpty();
+        assertThat(index.getByUserId(3L)).isNull();
+        assertThat(index.getByUserIdAfter(1L, 3L, 1)).extracting(Account::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 되살린 인덱스는 계좌와 사용자 목록을 그대로 답하고, 비어 있지 않으면 되살리지 않는다")
+    void snapshot_round_trip() throws IOException {
+        //Given
+        for (long id = 1; id <= 40; id++) {
+            index.put(account(id, id % 3 + 1, id * 100, id));
+        }
+        index.putUsers(List.of(1L, 9L), List.of(), index.rowSequence());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        AccountIndex restored = new AccountIndex(16);
+
+        //When
+        AccountIndex.Restored state = restored.restore(ByteBuffer.wrap(bytes.toByteArray()));
+
+        //Then
+        assertThat(state.ids()).hasSize(40);
+        assertThat(state.userIds()).containsExactlyInAnyOrder(1L, 9L);
+        assertThat(restored.get(17L).getBalance().getMinorUnits()).isEqualTo(1_700);
+        assertThat(restored.getByAccountNumber("110-3-17").getVersion()).isEqualTo(17);
+        assertThat(restored.getByUserId(1L)).extracting(Account::getId).containsExactly(3L, 6L, 9L, 12L, 15L, 18L, 21L,
+                24L, 27L, 30L, 33L, 36L, 39L);
+        assertThat(restored.getByUserId(9L)).isEmpty();
+        assertThat(restored.getByUserId(2L)).isNull();
+        assertThat(restored.restore(ByteBuffer.wrap(bytes.toByteArray()))).isNull();
+
+        restored.clear();
+        assertThat(restored.size()).isZero();
+        assertThat(restored.getByUserId(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽는 사이에 새 계좌가 들어오면 사용자 목록을 만들지 않는다")
+    void skips_posting_list_when_rows_added_concurrently() {
+        //Given
+        long rowSequence = index.rowSequence();
+        index.put(account(2L, 1L, 0, 0));
+
+        //When
+        boolean complete = index.putUsers(List.of(1L), List.of(account(1L, 1L, 0, 0)), rowSequence);
+
+        //Then
+        assertThat(complete).isFalse();
+        assertThat(index.getByUserId(1L)).isNull();
+        assertThat(index.get(1L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("처음 크기를 넘어도 모든 계좌를 찾는다")
+    void grows_beyond_initial_capacity() {
+        //Given
+        List<Account> accounts = new ArrayList<>();
+        for (long id = 1; id <= 10_000; id++) {
+            accounts.add(account(id, id % 100 + 1, id, 0));
+        }
+
+        //When
+        index.putUsers(List.of(1L), List.of(), index.rowSequence());
+        index.putAll(accounts);
+
+        //Then
+        assertThat(index.size()).isEqualTo(10_000);
+        for (long id = 1; id <= 10_000; id += 37) {
+            assertThat(index.get(id).getBalance()).isEqualTo(Money.ofMinorUnits(id));
+            assertThat(index.getByAccountNumber("110-" + (id % 100 + 1) + "-" + id).getId()).isEqualTo(id);
+        }
+        assertThat(index.getByUserId(1L)).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("쓰는 동안 읽어도 한 번의 쓰기로 바뀐 잔액과 버전은 함께 보인다")
+    void readers_see_consistent_rows_during_writes() throws Exception {
+        //Given
+        for (long id = 1; id <= 100; id++) {
+            index.put(account(id, 1L, 0, 0));
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            results.add(readers.submit(() -> {
+                boolean consistent = true;
+                while (running.get()) {
+                    for (long id = 1; id <= 100; id++) {
+                        Account account = index.get(id);
+                        consistent &= account.getBalance().getMinorUnits() == account.getVersion() * 10;
+                    }
+                }
+                return consistent;
+            }));
+        }
+
+        //When
+        for (long version = 1; version <= 200; version++) {
+            for (long id = 1; id <= 100; id++) {
+                index.put(account(id, 1L, version * 10, version));
+            }
+            // 새 행을 넣어 배열과 해시 테이블이 커지는 중에도 읽게 한다
+            index.put(account(1_000 + version, 2L, 0, 0));
+        }
+        running.set(false);
+
+        //Then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        readers.shutdown();
+    }
+}
@@ -3,6 +3,9 @@ package com.simplebank.account.adapter.out.persistence;
 import com.simplebank.account.domain.Account;
 import com.simplebank.account.domain.AccountStatus;
 import com.simplebank.account.domain.Money;
+import com.simplebank.account.domain.exception.AccountVersionConflictException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,10 +13,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @DisplayName("AccountRepositoryAdapter 테스트")
@@ -22,18 +27,21 @@ class AccountRepositoryAdapterTest {
     @Autowired
     private AccountJpaRepository jpaRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private AccountRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new AccountRepositoryAdapter(jpaRepository);
+        adapter = new AccountRepositoryAdapter(jpaRepository, entityManager);
     }
 
     @Test
     @DisplayName("")
     void loadById_success() {
         //Given
-        AccountJpaEntity entity = jpaRepository.builder()
+        AccountJpaEntity entity = AccountJpaEntity.builder()
                 .userId(1L)
                 .accountNumber("123456789")
                 .balance(new BigDecimal("10000.00"))
@@ -52,4 +60,139 @@ class AccountRepositoryAdapterTest {
         assertThat(result.get().getStatus()).isEqualTo(AccountStatus.ACTIVE);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("계좌번호로 조회")
+    void loadByAccountNumber_success() {
+        //Given
+        AccountJpaEntity saved = jpaRepository.save(AccountJpaEntity.builder()
+                .userId(1L)
+                .accountNumber("110-1234-5678")
+                .balance(new BigDecimal("500.00"))
+                .status(AccountStatus.ACTIVE)
+                .build());
+
+        //When
+        Optional<Account> result = adapter.loadByAccountNumber("110-1234-5678");
+
+        //Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getId()).isEqualTo(saved.getId());
+        assertThat(adapter.loadByAccountNumber("999-0000-0000")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 계좌를 한 번에 조회")
+    void loadByUserIds_success() {
+        //Given
+        for (long userId = 1; userId <= 3; userId++) {
+            jpaRepository.save(AccountJpaEntity.builder()
+                    .userId(userId)
+                    .accountNumber("BATCH-" + userId)
+                    .balance(new BigDecimal("100.00"))
+                    .status(AccountStatus.ACTIVE)
+                    .build());
+        }
+
+        //When
+        List<Account> result = adapter.loadByUserIds(List.of(1L, 3L));
+
+        //Then
+        assertThat(result).extracting(Account::getUserId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("커서 이후의 계좌를 ID 순으로 limit 만큼 조회")
+    void loadByUserIdAfter_success() {
+        //Given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(jpaRepository.save(AccountJpaEntity.builder()
+                    .userId(1L)
+                    .accountNumber("PAGE-" + i)
+                    .balance(new BigDecimal("100.00"))
+                    .status(AccountStatus.ACTIVE)
+                    .build()).getId());
+        }
+        jpaRepository.save(AccountJpaEntity.builder()
+                .userId(2L)
+                .accountNumber("OTHER")
+                .balance(new BigDecimal("100.00"))
+                .status(AccountStatus.ACTIVE)
+                .build());
+
+        //When
+        List<Account> result = adapter.loadByUserIdAfter(1L, ids.get(1), 2);
+
+        //Then
+        assertThat(result).extracting(Account::getId).containsExactly(ids.get(2), ids.get(3));
+    }
+
+    @Test
+    @DisplayName("계좌를 스트리밍하면 ID 순으로 넘기고 영속성 컨텍스트에 남기지 않음")
+    void streamByUserId_success() {
+        //Given
+        for (int i = 0; i < 3; i++) {
+            jpaRepository.save(AccountJpaEntity.builder()
+                    .userId(1L)
+                    .accountNumber("STREAM-" + i)
+                    .balance(new BigDecimal("100.00"))
+                    .status(AccountStatus.ACTIVE)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        //When
+        List<Account> result = new ArrayList<>();
+        adapter.streamByUserId(1L, result::add);
+
+        //Then
+        assertThat(result).extracting(Account::getAccountNumber)
+                .containsExactly("STREAM-0", "STREAM-1", "STREAM-2");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("계좌 저장 시 버전이 증가")
+    void save_increments_version() {
+        //Given
+        AccountJpaEntity saved = jpaRepository.save(AccountJpaEntity.builder()
+                .userId(1L)
+                .accountNumber("111111111")
+                .balance(new BigDecimal("10000.00"))
+                .status(AccountStatus.ACTIVE)
+                .build());
+        Account account = adapter.loadById(saved.getId()).orElseThrow();
+        Long version = account.getVersion();
+
+        //When
+        account.withdraw(new Money(new BigDecimal("1000.00")));
+        Account updated = adapter.save(account);
+
+        //Then
+        assertThat(updated.getVersion()).isEqualTo(version + 1);
+        assertThat(updated.getBalance().getAmount()).isEqualByComparingTo("9000.00");
+    }
+
+    @Test
+    @DisplayName("오래된 버전으로 저장하면 버전 충돌 예외")
+    void save_with_stale_version_fails() {
+        //Given
+        AccountJpaEntity saved = jpaRepository.save(AccountJpaEntity.builder()
+                .userId(1L)
+                .accountNumber("222222222")
+                .balance(new BigDecimal("10000.00"))
+                .status(AccountStatus.ACTIVE)
+                .build());
+        Account first = adapter.loadById(saved.getId()).orElseThrow();
+        Account stale = adapter.loadById(saved.getId()).orElseThrow();
+        first.withdraw(new Money(new BigDecimal("1000.00")));
+        adapter.save(first);
+
+        //When & Then
+        stale.withdraw(new Money(new BigDecimal("500.00")));
+        assertThatThrownBy(() -> adapter.save(stale))
+                .isInstanceOf(AccountVersionConflictException.class);
+    }
+
+}
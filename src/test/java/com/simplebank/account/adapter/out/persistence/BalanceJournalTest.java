@@ -0,0 +1,167 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BalanceJournal 테스트")
+class BalanceJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("다시 열면 계좌별 마지막 상태를 복구하고 취소된 트랜잭션은 건너뛴다")
+    void recover_returns_latest_committed_states() {
+        //Given
+        Path path = directory.resolve("journal.log");
+        try (BalanceJournal journal = new BalanceJournal(path, 16)) {
+            journal.recover(transactionId -> true);
+            journal.append(1, List.of(new JournalEntry(1, 900, 1), new JournalEntry(2, 100, 1))).join();
+            journal.append(2, List.of(new JournalEntry(1, 800, 2), new JournalEntry(3, 100, 1))).join();
+            journal.append(3, List.of(new JournalEntry(3, 0, 2))).join();
+            journal.abort(3).join();
+        }
+
+        //When
+        Map<Long, JournalEntry> states;
+        try (BalanceJournal reopened = new BalanceJournal(path, 16)) {
+            states = reopened.recover(transactionId -> true);
+            assertThat(reopened.lastTransactionId()).isEqualTo(3);
+        }
+
+        //Then
+        assertThat(states).containsOnly(
+                Map.entry(1L, new JournalEntry(1, 800, 2)),
+                Map.entry(2L, new JournalEntry(2, 100, 1)),
+                Map.entry(3L, new JournalEntry(3, 100, 1)));
+    }
+
+    @Test
+    @DisplayName("DB 커밋이 확인되지 않은 트랜잭션은 취소 기록이 없어도 재생하지 않는다")
+    void recover_skips_transactions_not_committed_in_db() {
+        //Given (2번은 fsync 뒤 DB 커밋 전에 멈춰 취소 기록도 남기지 못했다)
+        Path path = directory.resolve("journal.log");
+        try (BalanceJournal journal = new BalanceJournal(path, 16)) {
+            journal.recover(transactionId -> true);
+            journal.append(1, List.of(new JournalEntry(1, 900, 1))).join();
+            journal.append(2, List.of(new JournalEntry(1, 100, 2), new JournalEntry(2, 800, 1))).join();
+        }
+
+        //When
+        Map<Long, JournalEntry> states;
+        try (BalanceJournal reopened = new BalanceJournal(path, 16)) {
+            states = reopened.recover(transactionId -> transactionId == 1);
+        }
+
+        //Then
+        assertThat(states).containsOnly(Map.entry(1L, new JournalEntry(1, 900, 1)));
+    }
+
+    @Test
+    @DisplayName("기록 도중 멈춰 잘린 마지막 기록은 버리고 파일도 그 앞까지 자른다")
+    void recover_drops_torn_tail() throws Exception {
+        //Given
+        Path path = directory.resolve("journal.log");
+        try (BalanceJournal journal = new BalanceJournal(path, 16)) {
+            journal.recover(transactionId -> true);
+            journal.append(1, List.of(new JournalEntry(1, 500, 1))).join();
+        }
+        long validSize = Files.size(path);
+        try (BalanceJournal journal = new BalanceJournal(path, 16)) {
+            journal.recover(transactionId -> true);
+            journal.append(2, List.of(new JournalEntry(1, 400, 2), new JournalEntry(2, 100, 1))).join();
+        }
+        // 두 번째 기록의 뒷부분이 디스크에 닿지 못한 상태
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 10));
+
+        //When
+        Map<Long, JournalEntry> states;
+        try (BalanceJournal reopened = new BalanceJournal(path, 16)) {
+            states = reopened.recover(transactionId -> true);
+        }
+
+        //Then
+        assertThat(states).containsOnly(Map.entry(1L, new JournalEntry(1, 500, 1)));
+        assertThat(Files.size(path)).isEqualTo(validSize);
+    }
+
+    @Test
+    @DisplayName("CRC 가 맞지 않는 기록부터는 재생하지 않는다")
+    void recover_stops_at_corrupted_record() throws Exception {
+        //Given
+        Path path = directory.resolve("journal.log");
+        try (BalanceJournal journal = new BalanceJournal(path, 16)) {
+            journal.recover(transactionId -> true);
+            journal.append(1, List.of(new JournalEntry(1, 500, 1))).join();
+            journal.append(2, List.of(new JournalEntry(1, 400, 2))).join();
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 6] ^= 0x7f;
+        Files.write(path, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+
+        //When
+        Map<Long, JournalEntry> states;
+        try (BalanceJournal reopened = new BalanceJournal(path, 16)) {
+            states = reopened.recover(transactionId -> true);
+        }
+
+        //Then
+        assertThat(states).containsOnly(Map.entry(1L, new JournalEntry(1, 500, 1)));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 기록은 fsync 한 번에 묶어 쓴다")
+    void concurrent_appends_share_fsync() throws Exception {
+        //Given
+        Path path = directory.resolve("journal.log");
+        int threads = 8;
+        int appendsPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try (BalanceJournal journal = new BalanceJournal(path, 64)) {
+            journal.recover(transactionId -> true);
+
+            //When
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long accountId = t + 1;
+                futures.add(executor.submit(() -> {
+                    List<CompletableFuture<Long>> written = new ArrayList<>();
+                    for (int i = 1; i <= appendsPerThread; i++) {
+                        written.add(journal.append(accountId * 1_000 + i, List.of(new JournalEntry(accountId, i, i))));
+                    }
+                    written.forEach(CompletableFuture::join);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            //Then
+            assertThat(journal.appendedSequence()).isEqualTo(threads * appendsPerThread);
+            assertThat(journal.syncCount()).isLessThan(threads * appendsPerThread);
+        }
+        try (BalanceJournal reopened = new BalanceJournal(path, 64)) {
+            assertThat(reopened.recover(transactionId -> true).values())
+                    .hasSize(threads)
+                    .allSatisfy(entry -> assertThat(entry.getVersion()).isEqualTo(appendsPerThread));
+        }
+    }
+}
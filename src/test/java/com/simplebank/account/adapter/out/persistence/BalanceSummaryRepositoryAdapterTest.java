@@ -0,0 +1,133 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.BalanceSummary;
+import com.simplebank.account.domain.Money;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("BalanceSummaryRepositoryAdapter 테스트")
+class BalanceSummaryRepositoryAdapterTest {
+
+    @Autowired
+    private UserBalanceSummaryJpaRepository jpaRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private BalanceSummaryRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new BalanceSummaryRepositoryAdapter(jpaRepository, new BalanceJournalProperties());
+    }
+
+    private AccountJpaEntity saveAccount(Long userId, String accountNumber, String balance) {
+        return accountJpaRepository.save(AccountJpaEntity.builder()
+                .userId(userId)
+                .accountNumber(accountNumber)
+                .balance(new BigDecimal(balance))
+                .status(AccountStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("이체 증감분을 출금/입금 사용자 요약에 반영")
+    void applyTransfer_updates_both_users() {
+        //Given
+        jpaRepository.saveAll(List.of(
+                UserBalanceSummaryJpaEntity.from(new BalanceSummary(1L, new Money(new BigDecimal("1000.00")), 1)),
+                UserBalanceSummaryJpaEntity.from(new BalanceSummary(2L, new Money(new BigDecimal("500.00")), 1))
+        ));
+        entityManager.flush();
+
+        //When
+        adapter.applyTransfer(2L, 1L, new Money(new BigDecimal("200.00")));
+        entityManager.clear();
+
+        //Then
+        assertThat(adapter.loadByUserId(1L).orElseThrow().getTotalBalance().getAmount())
+                .isEqualByComparingTo("1200.00");
+        assertThat(adapter.loadByUserId(2L).orElseThrow().getTotalBalance().getAmount())
+                .isEqualByComparingTo("300.00");
+    }
+
+    @Test
+    @DisplayName("계좌 테이블에서 사용자별 잔액 합계와 계좌 수를 집계")
+    void aggregate_from_accounts() {
+        //Given
+        saveAccount(1L, "SUM-1", "100.00");
+        saveAccount(1L, "SUM-2", "250.50");
+        saveAccount(2L, "SUM-3", "10.00");
+
+        //When
+        BalanceSummary user1 = adapter.aggregateByUserId(1L);
+        BalanceSummary none = adapter.aggregateByUserId(99L);
+        List<BalanceSummary> all = adapter.aggregateAll();
+
+        //Then
+        assertThat(user1.getTotalBalance().getAmount()).isEqualByComparingTo("350.50");
+        assertThat(user1.getAccountCount()).isEqualTo(2);
+        assertThat(none.getTotalBalance().isZero()).isTrue();
+        assertThat(none.getAccountCount()).isZero();
+        assertThat(all).extracting(BalanceSummary::getUserId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("요약이 없는 사용자의 첫 증감은 커밋 직전 accounts 집계로 요약 행을 만듦")
+    void first_delta_creates_missing_summary_before_commit() {
+        //Given
+        AccountJpaEntity account = saveAccount(1L, "SUM-4", "100.00");
+        saveAccount(1L, "SUM-5", "50.00");
+        entityManager.flush();
+        entityManager.createNativeQuery("update accounts set balance = 130.00 where id = " + account.getId())
+                .executeUpdate();
+
+        //When
+        adapter.applyCredit(1L, new Money(new BigDecimal("30.00")));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false));
+        entityManager.clear();
+
+        //Then
+        BalanceSummary summary = adapter.loadByUserId(1L).orElseThrow();
+        assertThat(summary.getTotalBalance().getAmount()).isEqualByComparingTo("180.00");
+        assertThat(summary.getAccountCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("복구는 accounts 를 다시 집계해 덮어쓰고 계좌가 없는 사용자는 0 으로 기록")
+    void rebuild_overwrites_from_accounts() {
+        //Given
+        saveAccount(1L, "SUM-6", "100.00");
+        jpaRepository.saveAll(List.of(
+                UserBalanceSummaryJpaEntity.from(new BalanceSummary(1L, new Money(new BigDecimal("90.00")), 1)),
+                UserBalanceSummaryJpaEntity.from(new BalanceSummary(3L, new Money(new BigDecimal("50.00")), 1))
+        ));
+        entityManager.flush();
+
+        //When
+        adapter.rebuild(List.of(1L, 2L, 3L));
+        entityManager.clear();
+
+        //Then
+        assertThat(adapter.loadByUserId(1L).orElseThrow().getTotalBalance().getAmount())
+                .isEqualByComparingTo("100.00");
+        assertThat(adapter.loadByUserId(2L).orElseThrow().getAccountCount()).isZero();
+        assertThat(adapter.loadByUserId(3L).orElseThrow().getTotalBalance().isZero()).isTrue();
+    }
+}
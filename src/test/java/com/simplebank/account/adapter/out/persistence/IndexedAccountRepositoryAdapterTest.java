@@ -0,0 +1,169 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.application.port.in.TransferUseCase;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.Money;
+import com.simplebank.transaction.adapter.out.persistence.TransactionJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.simplebank.common.jdbc.QueryCountAssertions.countQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 테스트끼리 인덱스를 같이 쓰므로 테스트마다 다른 사용자 ID 를 쓴다
+@SpringBootTest(properties = "simplebank.account.index.enabled=true")
+@DirtiesContext
+@DisplayName("IndexedAccountRepositoryAdapter 통합 테스트")
+class IndexedAccountRepositoryAdapterTest {
+
+    @Autowired
+    private IndexedAccountRepositoryAdapter adapter;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private UserBalanceSummaryJpaRepository userBalanceSummaryJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        transactionJpaRepository.deleteAll();
+        userBalanceSummaryJpaRepository.deleteAll();
+        accountJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 계좌는 ID 와 계좌번호로 다시 조회해도 SQL 을 실행하지 않는다")
+    void second_lookup_is_served_from_index() {
+        //Given
+        Long id = saveAccount(101L, "INDEX-101", "1000.00");
+        adapter.loadById(id);
+
+        //When & Then
+        assertThat(countQueries(() -> adapter.loadById(id)).getTotal()).isZero();
+        assertThat(countQueries(() -> adapter.loadByAccountNumber("INDEX-101")).getTotal()).isZero();
+        assertThat(adapter.loadByAccountNumber("INDEX-101").orElseThrow().getId()).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("이체로 바뀐 잔액과 버전은 커밋 뒤 인덱스에 반영된다")
+    void transfer_updates_index_after_commit() {
+        //Given
+        Long from = saveAccount(201L, "INDEX-201", "1000.00");
+        Long to = saveAccount(202L, "INDEX-202", "0.00");
+        adapter.loadById(from);
+        adapter.loadById(to);
+
+        //When
+        transferUseCase.execute(new TransferCommand(from, to, new BigDecimal("300.00")));
+        transferUseCase.execute(new TransferCommand(to, from, new BigDecimal("100.00")));
+
+        //Then
+        assertThat(countQueries(() -> {
+            assertThat(adapter.loadById(from).orElseThrow().getBalance().getAmount()).isEqualByComparingTo("800.00");
+            assertThat(adapter.loadById(to).orElseThrow().getBalance().getAmount()).isEqualByComparingTo("200.00");
+        }).getTotal()).isZero();
+        assertThat(adapter.loadById(from).orElseThrow().getVersion()).isEqualTo(storedVersion(from));
+    }
+
+    @Test
+    @DisplayName("롤백된 저장은 인덱스에 남지 않고, 트랜잭션 안에서는 자기 저장을 읽는다")
+    void rolled_back_save_is_not_installed() {
+        //Given
+        Long id = saveAccount(301L, "INDEX-301", "1000.00");
+        adapter.loadById(id);
+
+        //When
+        Money inTransaction = transactionTemplate.execute(status -> {
+            Account account = adapter.loadById(id).orElseThrow();
+            account.withdraw(Money.ofMinorUnits(10_000));
+            adapter.save(account);
+            status.setRollbackOnly();
+            return adapter.loadById(id).orElseThrow().getBalance();
+        });
+
+        //Then
+        assertThat(inTransaction.getAmount()).isEqualByComparingTo("900.00");
+        assertThat(adapter.loadById(id).orElseThrow().getBalance().getAmount()).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    @DisplayName("사용자별 목록은 처음 한 번만 DB 에서 읽고, 포트로 만든 계좌는 목록에 바로 들어간다")
+    void user_accounts_are_served_from_index() {
+        //Given
+        saveAccount(401L, "INDEX-401-A", "100.00");
+        saveAccount(401L, "INDEX-401-B", "200.00");
+        adapter.loadByUserId(401L);
+
+        //When
+        adapter.save(Account.builder()
+                .userId(401L)
+                .accountNumber("INDEX-401-C")
+                .balance(Money.ZERO)
+                .status(AccountStatus.ACTIVE)
+                .build());
+
+        //Then
+        List<Account> accounts = adapter.loadByUserId(401L);
+        assertThat(accounts).extracting(Account::getAccountNumber)
+                .containsExactly("INDEX-401-A", "INDEX-401-B", "INDEX-401-C");
+        assertThat(countQueries(() -> adapter.loadByUserIds(List.of(401L))).getTotal()).isZero();
+        assertThat(countQueries(() -> adapter.loadByUserIdAfter(401L, accounts.get(0).getId(), 1)).getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("JDBC 배치로 저장한 잔액도 올라간 버전으로 반영된다")
+    void batch_saved_balances_are_installed() {
+        //Given
+        Long id = saveAccount(501L, "INDEX-501", "100.00");
+
+        //When
+        transactionTemplate.executeWithoutResult(status -> {
+            Account account = adapter.loadByIdsForUpdate(List.of(id)).get(0);
+            account.deposit(Money.ofMinorUnits(5_000));
+            adapter.saveBalances(List.of(account));
+        });
+
+        //Then
+        Account indexed = adapter.loadByIds(List.of(id)).get(0);
+        assertThat(indexed.getBalance().getAmount()).isEqualByComparingTo("150.00");
+        assertThat(indexed.getVersion()).isEqualTo(storedVersion(id));
+        assertThat(countQueries(() -> adapter.loadById(id)).getTotal()).isZero();
+    }
+
+    private Long saveAccount(Long userId, String accountNumber, String balance) {
+        return accountJpaRepository.save(AccountJpaEntity.builder()
+                .userId(userId)
+                .accountNumber(accountNumber)
+                .balance(new BigDecimal(balance))
+                .status(AccountStatus.ACTIVE)
+                .build()).getId();
+    }
+
+    private Long storedVersion(Long accountId) {
+        return jdbcTemplate.queryForObject("select version from accounts where id = ?", Long.class, accountId);
+    }
+}
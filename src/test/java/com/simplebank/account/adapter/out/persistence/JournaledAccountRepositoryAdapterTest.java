@@ -0,0 +1,265 @@
+package com.simplebank.account.adapter.out.persistence;
+
+import com.simplebank.account.application.port.in.CheckBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.TransferUseCase;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.exception.InsufficientBalanceException;
+import com.simplebank.transaction.adapter.out.persistence.TransactionJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// flush 주기를 길게 잡아 accounts 가 테스트 중에는 갱신되지 않게 한다
+@SpringBootTest(properties = {
+        "simplebank.account.journal.enabled=true",
+        "simplebank.account.journal.flush-interval=1h"
+})
+@DirtiesContext
+@DisplayName("JournaledAccountRepositoryAdapter 통합 테스트")
+class JournaledAccountRepositoryAdapterTest {
+
+    private static final Path JOURNAL = createJournalPath();
+
+    @DynamicPropertySource
+    static void journalPath(DynamicPropertyRegistry registry) {
+        registry.add("simplebank.account.journal.path", JOURNAL::toString);
+    }
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private GetAccountsUseCase getAccountsUseCase;
+
+    @Autowired
+    private CheckBalanceSummaryUseCase checkBalanceSummaryUseCase;
+
+    @Autowired
+    private JournaledAccountRepositoryAdapter journaledAdapter;
+
+    @Autowired
+    private AccountRepositoryAdapter accountRepositoryAdapter;
+
+    @Autowired
+    private BatchTransferRepositoryAdapter batchTransferRepositoryAdapter;
+
+    @Autowired
+    private BalanceJournalProperties properties;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private UserBalanceSummaryJpaRepository userBalanceSummaryJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        journaledAdapter.flush();
+        transactionJpaRepository.deleteAll();
+        userBalanceSummaryJpaRepository.deleteAll();
+        accountJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("이체 잔액은 저널과 메모리에 먼저 반영되고 accounts 에는 flush 때 쓰인다")
+    void balances_are_written_behind() throws IOException {
+        //Given
+        Long from = saveAccount(1L, "JOURNAL-FROM", "1000.00");
+        Long to = saveAccount(2L, "JOURNAL-TO", "0.00");
+        checkBalanceSummaryUseCase.execute(true);
+
+        //When
+        transferUseCase.execute(new TransferCommand(from, to, new BigDecimal("300.00")));
+        transferUseCase.execute(new TransferCommand(to, from, new BigDecimal("100.00")));
+
+        //Then
+        assertThat(getAccountsUseCase.execute(1L).get(0).getBalance()).isEqualByComparingTo("800.00");
+        assertThat(getAccountsUseCase.execute(2L).get(0).getBalance()).isEqualByComparingTo("200.00");
+        assertThat(storedBalance(from)).isEqualByComparingTo("1000.00");
+        assertThat(Files.size(JOURNAL)).isPositive();
+
+        journaledAdapter.flush();
+        assertThat(storedBalance(from)).isEqualByComparingTo("800.00");
+        assertThat(storedBalance(to)).isEqualByComparingTo("200.00");
+        assertThat(Files.size(JOURNAL)).isZero();
+        assertThat(checkBalanceSummaryUseCase.execute(false).getDrifts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실패한 이체는 메모리 잔액과 저널 재생 결과에 남지 않는다")
+    void failed_transfer_is_not_applied() {
+        //Given
+        Long from = saveAccount(1L, "JOURNAL-FROM", "100.00");
+        Long to = saveAccount(2L, "JOURNAL-TO", "0.00");
+        transferUseCase.execute(new TransferCommand(from, to, new BigDecimal("60.00")));
+
+        //When & Then
+        assertThatThrownBy(() -> transferUseCase.execute(new TransferCommand(from, to, new BigDecimal("60.00"))))
+                .isInstanceOf(InsufficientBalanceException.class);
+        assertThat(getAccountsUseCase.execute(1L).get(0).getBalance()).isEqualByComparingTo("40.00");
+
+        restart().shutdown();
+        assertThat(storedBalance(from)).isEqualByComparingTo("40.00");
+        assertThat(storedBalance(to)).isEqualByComparingTo("60.00");
+    }
+
+    @Test
+    @DisplayName("flush 전에 멈춰도 다시 시작하면 저널을 재생해 커밋된 잔액을 복구한다")
+    void replays_journal_after_crash() throws Exception {
+        //Given
+        List<Long> accounts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            accounts.add(saveAccount(10L + i, "JOURNAL-HOT-" + i, "1000.00"));
+        }
+        checkBalanceSummaryUseCase.execute(true);
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 50; i++) {
+                    int a = random.nextInt(accounts.size());
+                    int b = (a + 1 + random.nextInt(accounts.size() - 1)) % accounts.size();
+                    try {
+                        transferUseCase.execute(new TransferCommand(
+                                accounts.get(a), accounts.get(b), BigDecimal.valueOf(random.nextInt(1, 50))));
+                    } catch (InsufficientBalanceException e) {
+                        // 잔액 부족은 정상 거절
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(unexpected).isEmpty();
+        List<BigDecimal> expected = new ArrayList<>();
+        for (int i = 0; i < accounts.size(); i++) {
+            expected.add(getAccountsUseCase.execute(10L + i).get(0).getBalance());
+        }
+        // accounts 는 아직 처음 잔액 그대로
+        assertThat(accounts).allSatisfy(id -> assertThat(storedBalance(id)).isEqualByComparingTo("1000.00"));
+
+        //When (flush 없이 새 인스턴스가 같은 저널로 시작)
+        JournaledAccountRepositoryAdapter restarted = restart();
+
+        //Then
+        for (int i = 0; i < accounts.size(); i++) {
+            assertThat(storedBalance(accounts.get(i))).isEqualByComparingTo(expected.get(i));
+        }
+        assertThat(expected.stream().reduce(BigDecimal.ZERO, BigDecimal::add)).isEqualByComparingTo("4000.00");
+        assertThat(checkBalanceSummaryUseCase.execute(false).getDrifts()).isEmpty();
+        assertThat(Files.size(JOURNAL)).isZero();
+        restarted.shutdown();
+    }
+
+    @Test
+    @DisplayName("저널 fsync 뒤 DB 커밋 전에 멈춘 이체는 다시 시작해도 재생하지 않는다")
+    void crash_between_fsync_and_db_commit_is_not_replayed() throws IOException {
+        //Given
+        Long from = saveAccount(1L, "JOURNAL-FROM", "1000.00");
+        Long to = saveAccount(2L, "JOURNAL-TO", "0.00");
+        Path crashed = JOURNAL.resolveSibling("crashed.log");
+
+        //When (저널 기록이 fsync 된 시점의 파일을 남기고, DB 커밋 직전에 프로세스가 죽은 것처럼 트랜잭션을 실패시킨다)
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            transferUseCase.execute(new TransferCommand(from, to, new BigDecimal("300.00")));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    try {
+                        Files.copy(JOURNAL, crashed, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    throw new IllegalStateException("DB 커밋 전에 멈춤");
+                }
+            });
+        })).isInstanceOf(IllegalStateException.class);
+
+        //Then
+        assertThat(Files.size(crashed)).isPositive();
+        JournaledAccountRepositoryAdapter restarted = restart(crashed);
+        assertThat(storedBalance(from)).isEqualByComparingTo("1000.00");
+        assertThat(storedBalance(to)).isEqualByComparingTo("0.00");
+        assertThat(transactionJpaRepository.count()).isZero();
+        assertThat(Files.size(crashed)).isZero();
+        restarted.shutdown();
+    }
+
+    private JournaledAccountRepositoryAdapter restart() {
+        return new JournaledAccountRepositoryAdapter(accountRepositoryAdapter, batchTransferRepositoryAdapter,
+                jdbcTemplate, transactionTemplate, properties);
+    }
+
+    private JournaledAccountRepositoryAdapter restart(Path journal) {
+        BalanceJournalProperties crashedProperties = new BalanceJournalProperties();
+        crashedProperties.setPath(journal.toString());
+        crashedProperties.setFlushInterval(properties.getFlushInterval());
+        return new JournaledAccountRepositoryAdapter(accountRepositoryAdapter, batchTransferRepositoryAdapter,
+                jdbcTemplate, transactionTemplate, crashedProperties);
+    }
+
+    private BigDecimal storedBalance(Long accountId) {
+        return jdbcTemplate.queryForObject("select balance from accounts where id = ?", BigDecimal.class, accountId);
+    }
+
+    private Long saveAccount(Long userId, String accountNumber, String balance) {
+        return accountJpaRepository.save(AccountJpaEntity.builder()
+                .userId(userId)
+                .accountNumber(accountNumber)
+                .balance(new BigDecimal(balance))
+                .status(AccountStatus.ACTIVE)
+                .build()).getId();
+    }
+
+    private static Path createJournalPath() {
+        try {
+            Path directory = Files.createTempDirectory("balance-journal");
+            directory.toFile().deleteOnExit();
+            return directory.resolve("journal.log");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.dto.BalanceSummaryCheckResult;
+import com.simplebank.account.application.port.in.dto.BalanceSummaryDrift;
+import com.simplebank.account.application.port.out.LoadBalanceSummaryPort;
+import com.simplebank.account.application.port.out.SaveBalanceSummaryPort;
+import com.simplebank.account.domain.BalanceSummary;
+import com.simplebank.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceSummaryConsistencyChecker 테스트")
+class BalanceSummaryConsistencyCheckerTest {
+
+    @Mock
+    private LoadBalanceSummaryPort loadBalanceSummaryPort;
+
+    @Mock
+    private SaveBalanceSummaryPort saveBalanceSummaryPort;
+
+    @InjectMocks
+    private BalanceSummaryConsistencyChecker checker;
+
+    private BalanceSummary summary(Long userId, String balance, long count) {
+        return new BalanceSummary(userId, new Money(new BigDecimal(balance)), count);
+    }
+
+    @Test
+    @DisplayName("요약이 집계와 같으면 불일치 없음")
+    void check_no_drift() {
+        //Given
+        when(loadBalanceSummaryPort.aggregateAll()).thenReturn(List.of(summary(1L, "100.00", 1)));
+        when(loadBalanceSummaryPort.loadAll()).thenReturn(List.of(summary(1L, "100.0", 1)));
+
+        //When
+        BalanceSummaryCheckResult result = checker.execute(true);
+
+        //Then
+        assertThat(result.getCheckedUsers()).isEqualTo(1);
+        assertThat(result.getDrifts()).isEmpty();
+        assertThat(result.isRepaired()).isFalse();
+        verify(saveBalanceSummaryPort, never()).rebuild(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("잔액이 다르거나 요약이 없거나 남아 있는 사용자를 보고하고 복구")
+    void check_reports_and_repairs_drift() {
+        //Given
+        when(loadBalanceSummaryPort.aggregateAll()).thenReturn(List.of(
+                summary(1L, "100.00", 1),
+                summary(2L, "200.00", 2)
+        ));
+        when(loadBalanceSummaryPort.loadAll()).thenReturn(List.of(
+                summary(1L, "90.00", 1),
+                summary(3L, "50.00", 1)
+        ));
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+
+        //When
+        BalanceSummaryCheckResult result = checker.execute(true);
+
+        //Then
+        assertThat(result.getCheckedUsers()).isEqualTo(3);
+        assertThat(result.getDrifts()).extracting(BalanceSummaryDrift::getUserId).containsExactly(1L, 2L, 3L);
+        assertThat(result.getDrifts().get(1).getActualBalance()).isNull();
+        assertThat(result.isRepaired()).isTrue();
+        verify(saveBalanceSummaryPort).rebuild(captor.capture());
+        assertThat(captor.getValue()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("복구를 요청하지 않으면 보고만 함")
+    void check_without_repair() {
+        //Given
+        when(loadBalanceSummaryPort.aggregateAll()).thenReturn(List.of(summary(1L, "100.00", 1)));
+        when(loadBalanceSummaryPort.loadAll()).thenReturn(List.of());
+
+        //When
+        BalanceSummaryCheckResult result = checker.execute(false);
+
+        //Then
+        assertThat(result.getDrifts()).hasSize(1);
+        assertThat(result.isRepaired()).isFalse();
+        verify(saveBalanceSummaryPort, never()).rebuild(any());
+    }
+}
@@ -0,0 +1,227 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.adapter.out.persistence.AccountJpaEntity;
+import com.simplebank.account.adapter.out.persistence.AccountJpaRepository;
+import com.simplebank.account.adapter.out.persistence.UserBalanceSummaryJpaRepository;
+import com.simplebank.account.application.port.in.BatchTransferUseCase;
+import com.simplebank.account.application.port.in.CheckBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.dto.BatchTransferCommand;
+import com.simplebank.account.application.port.in.dto.BatchTransferLineResult;
+import com.simplebank.account.application.port.in.dto.BatchTransferResult;
+import com.simplebank.account.application.port.in.dto.CreditLine;
+import com.simplebank.account.application.port.in.dto.CreditLineRejection;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.exception.AccountNotFoundException;
+import com.simplebank.account.domain.exception.BatchTransferAlreadyAppliedException;
+import com.simplebank.account.domain.exception.InsufficientBalanceException;
+import com.simplebank.transaction.adapter.out.persistence.TransactionJpaEntity;
+import com.simplebank.transaction.adapter.out.persistence.TransactionJpaRepository;
+import com.simplebank.transaction.domain.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.simplebank.common.jdbc.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        // 출금 계좌 ID 를 사이에 둔 여러 청크로 나뉘게 작게 잡는다
+        "simplebank.transfer.batch.chunk-size=3",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("일괄 이체 통합 테스트")
+class BatchTransferIntegrationTest {
+
+    @Autowired
+    private BatchTransferUseCase batchTransferUseCase;
+
+    @Autowired
+    private CheckBalanceSummaryUseCase checkBalanceSummaryUseCase;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private UserBalanceSummaryJpaRepository userBalanceSummaryJpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        transactionJpaRepository.deleteAll();
+        userBalanceSummaryJpaRepository.deleteAll();
+        accountJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("유효한 줄만 입금하고 출금 계좌는 합계로 한 번 차감한다")
+    void applies_valid_lines_and_debits_once() {
+        //Given
+        List<Long> before = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            before.add(saveAccount(10L + i, "BATCH-LOW-" + i, "0.00", AccountStatus.ACTIVE));
+        }
+        Long source = saveAccount(1L, "BATCH-SOURCE", "1000.00", AccountStatus.ACTIVE);
+        List<Long> after = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            after.add(saveAccount(20L + i, "BATCH-HIGH-" + i, "0.00", AccountStatus.ACTIVE));
+        }
+        Long closed = saveAccount(30L, "BATCH-CLOSED", "0.00", AccountStatus.CLOSED);
+        checkBalanceSummaryUseCase.execute(true);
+        long sourceVersion = accountJpaRepository.findById(source).orElseThrow().getVersion();
+
+        List<CreditLine> lines = List.of(
+                new CreditLine(after.get(3), new BigDecimal("10.00")),
+                new CreditLine(before.get(0), new BigDecimal("20.00")),
+                new CreditLine(before.get(0), new BigDecimal("5.00")),
+                new CreditLine(after.get(0), new BigDecimal("30.00")),
+                new CreditLine(before.get(2), new BigDecimal("40.00")),
+                new CreditLine(source, new BigDecimal("1.00")),
+                new CreditLine(closed, new BigDecimal("1.00")),
+                new CreditLine(-1L, new BigDecimal("1.00")),
+                new CreditLine(after.get(1), new BigDecimal("0.001")),
+                new CreditLine(null, new BigDecimal("1.00")),
+                new CreditLine(after.get(2), new BigDecimal("50.00"))
+        );
+
+        //When
+        BatchTransferResult result = batchTransferUseCase.execute(new BatchTransferCommand(source, lines));
+
+        //Then
+        assertThat(result.getTotalLines()).isEqualTo(11);
+        assertThat(result.getAppliedLines()).isEqualTo(6);
+        assertThat(result.getRejectedLines()).isEqualTo(5);
+        assertThat(result.getTotalAmount()).isEqualByComparingTo("155.00");
+        assertThat(result.getFromBalance()).isEqualByComparingTo("845.00");
+
+        List<BatchTransferLineResult> lineResults = new ArrayList<>();
+        result.forEachLine(lineResults::add);
+        assertThat(lineResults).extracting(BatchTransferLineResult::getRejection).containsExactly(
+                null, null, null, null, null,
+                CreditLineRejection.SAME_ACCOUNT,
+                CreditLineRejection.CLOSED_ACCOUNT,
+                CreditLineRejection.ACCOUNT_NOT_FOUND,
+                CreditLineRejection.INVALID_AMOUNT,
+                CreditLineRejection.INVALID_ACCOUNT,
+                null);
+        assertThat(lineResults.get(0).getLine()).isEqualTo(1);
+        assertThat(lineResults.get(0).isApplied()).isTrue();
+
+        AccountJpaEntity debited = accountJpaRepository.findById(source).orElseThrow();
+        assertThat(debited.getBalance()).isEqualByComparingTo("845.00");
+        assertThat(debited.getVersion()).isEqualTo(sourceVersion + 1);
+        assertThat(balanceOf(before.get(0))).isEqualByComparingTo("25.00");
+        assertThat(balanceOf(before.get(2))).isEqualByComparingTo("40.00");
+        assertThat(balanceOf(after.get(3))).isEqualByComparingTo("10.00");
+        assertThat(balanceOf(after.get(1))).isEqualByComparingTo("0.00");
+
+        // 반영된 줄마다 출금/입금 원장 한 줄씩, 출금 원장의 마지막 잔액은 최종 잔액과 같다
+        List<TransactionJpaEntity> ledger = transactionJpaRepository.findAll();
+        assertThat(ledger).hasSize(12);
+        List<TransactionJpaEntity> outs = ledger.stream()
+                .filter(row -> row.getType() == TransactionType.TRANSFER_OUT)
+                .toList();
+        assertThat(outs).hasSize(6).allMatch(row -> row.getAccountId().equals(source));
+        assertThat(outs.stream().map(TransactionJpaEntity::getBalanceAfter).min(BigDecimal::compareTo).orElseThrow())
+                .isEqualByComparingTo("845.00");
+
+        // 사용자별 잔액 요약도 증감분만으로 계좌 집계와 일치한다
+        assertThat(checkBalanceSummaryUseCase.execute(false).getDrifts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("출금 잔액이 모자라면 전체를 롤백한다")
+    void rolls_back_when_balance_is_insufficient() {
+        //Given
+        Long source = saveAccount(1L, "BATCH-POOR", "50.00", AccountStatus.ACTIVE);
+        Long first = saveAccount(2L, "BATCH-POOR-1", "0.00", AccountStatus.ACTIVE);
+        Long second = saveAccount(3L, "BATCH-POOR-2", "0.00", AccountStatus.ACTIVE);
+
+        //When & Then
+        assertThatThrownBy(() -> batchTransferUseCase.execute(new BatchTransferCommand(source, List.of(
+                new CreditLine(first, new BigDecimal("30.00")),
+                new CreditLine(second, new BigDecimal("30.00"))))))
+                .isInstanceOf(InsufficientBalanceException.class);
+        assertThat(balanceOf(source)).isEqualByComparingTo("50.00");
+        assertThat(balanceOf(first)).isEqualByComparingTo("0.00");
+        assertThat(balanceOf(second)).isEqualByComparingTo("0.00");
+        assertThat(transactionJpaRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 계좌에서는 일괄 이체할 수 없다")
+    void rejects_source_of_other_user() {
+        //Given
+        Long source = saveAccount(1L, "BATCH-OWNER", "100.00", AccountStatus.ACTIVE);
+        Long target = saveAccount(2L, "BATCH-OWNER-1", "0.00", AccountStatus.ACTIVE);
+
+        //When & Then
+        assertThatThrownBy(() -> batchTransferUseCase.execute(new BatchTransferCommand(source, List.of(
+                new CreditLine(target, new BigDecimal("30.00"))), 2L)))
+                .isInstanceOf(AccountNotFoundException.class);
+        assertThat(balanceOf(source)).isEqualByComparingTo("100.00");
+        assertThat(balanceOf(target)).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    @DisplayName("같은 요청 키로 이미 반영된 일괄 이체는 다시 반영하지 않는다")
+    void rejects_already_applied_request_key() {
+        //Given
+        Long source = saveAccount(1L, "BATCH-REPLAY", "100.00", AccountStatus.ACTIVE);
+        Long target = saveAccount(2L, "BATCH-REPLAY-1", "0.00", AccountStatus.ACTIVE);
+        List<CreditLine> lines = List.of(new CreditLine(target, new BigDecimal("30.00")));
+        batchTransferUseCase.execute(new BatchTransferCommand(source, lines, 1L, "request-1"));
+
+        //When & Then
+        assertThatThrownBy(() -> batchTransferUseCase.execute(new BatchTransferCommand(source, lines, 1L, "request-1")))
+                .isInstanceOf(BatchTransferAlreadyAppliedException.class);
+        assertThat(balanceOf(source)).isEqualByComparingTo("70.00");
+        assertThat(balanceOf(target)).isEqualByComparingTo("30.00");
+        assertThat(transactionJpaRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("SQL 실행 수는 줄 수가 아니라 청크 수에 비례한다")
+    void queries_grow_with_chunks_not_lines() {
+        //Given
+        Long source = saveAccount(1L, "BATCH-Q-SOURCE", "100000.00", AccountStatus.ACTIVE);
+        List<CreditLine> lines = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Long target = saveAccount(100L + i, "BATCH-Q-" + i, "0.00", AccountStatus.ACTIVE);
+            for (int j = 0; j < 40; j++) {
+                lines.add(new CreditLine(target, new BigDecimal("1.00")));
+            }
+        }
+        // 요약 행이 없으면 첫 증감 때 집계로 만드는 쿼리가 더해지므로 미리 만들어 둔다
+        checkBalanceSummaryUseCase.execute(true);
+
+        //When & Then
+        // 출금 계좌 조회 1 + 입금 청크(같은 계좌는 한 청크) 3개 x (락 조회, 잔액 배치, 원장 배치)
+        // + 출금 계좌 락/잔액 2 + 출금 원장 배치 120 / 3 + 요약 배치 1. 청크 검증 조회는 검증 스레드에서 실행된다.
+        BatchTransferResult result = assertMaxQueries(1 + 3 * 3 + 2 + 40 + 1,
+                () -> batchTransferUseCase.execute(new BatchTransferCommand(source, lines)));
+        assertThat(result.getAppliedLines()).isEqualTo(120);
+        assertThat(balanceOf(source)).isEqualByComparingTo("99880.00");
+    }
+
+    private BigDecimal balanceOf(Long accountId) {
+        return accountJpaRepository.findById(accountId).orElseThrow().getBalance();
+    }
+
+    private Long saveAccount(Long userId, String accountNumber, String balance, AccountStatus status) {
+        return accountJpaRepository.save(AccountJpaEntity.builder()
+                .userId(userId)
+                .accountNumber(accountNumber)
+                .balance(new BigDecimal(balance))
+                .status(status)
+                .build()).getId();
+    }
+}
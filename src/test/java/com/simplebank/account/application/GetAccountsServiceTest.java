@@ -1,6 +1,7 @@
 package com.simplebank.account.application;
 
 import com.simplebank.account.application.port.in.dto.AccountInfo;
+import com.simplebank.account.application.port.in.dto.AccountPage;
 import com.simplebank.account.application.port.out.LoadAccountPort;
 import com.simplebank.account.domain.Account;
 import com.simplebank.account.domain.AccountStatus;
@@ -14,8 +15,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,6 +33,9 @@ class GetAccountsServiceTest {
     @Mock
     private LoadAccountPort loadAccountPort;
 
+    @Mock
+    private ShardedBalanceService shardedBalanceService;
+
     @InjectMocks
     private GetAccountsService getAccountsService;
 
@@ -87,4 +98,124 @@ class GetAccountsServiceTest {
         assertThat(result).isEmpty();
         verify(loadAccountPort).loadByUserId(userId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 사용자의 계좌를 한 번에 조회하여 사용자별로 묶음")
+    void getAccountsBatch_groups_by_user() {
+        //Given
+        AccountQueryProperties properties = new AccountQueryProperties();
+        GetAccountsService service = new GetAccountsService(loadAccountPort, properties, shardedBalanceService);
+        Set<Long> userIds = Set.of(1L, 2L, 3L);
+        List<Account> accounts = List.of(
+                Account.builder().id(10L).userId(1L).accountNumber("A-10")
+                        .balance(new Money(new BigDecimal("100.00"))).status(AccountStatus.ACTIVE).build(),
+                Account.builder().id(11L).userId(1L).accountNumber("A-11")
+                        .balance(new Money(new BigDecimal("200.00"))).status(AccountStatus.ACTIVE).build(),
+                Account.builder().id(20L).userId(2L).accountNumber("A-20")
+                        .balance(new Money(new BigDecimal("300.00"))).status(AccountStatus.CLOSED).build()
+        );
+
+        when(loadAccountPort.loadByUserIds(userIds))
+                .thenReturn(accounts);
+
+        //When
+        Map<Long, List<AccountInfo>> result = service.execute(userIds);
+
+        //Then
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(result.get(1L)).extracting(AccountInfo::getAccountId).containsExactly(10L, 11L);
+        assertThat(result.get(2L)).extracting(AccountInfo::getStatus).containsExactly("CLOSED");
+        assertThat(result.get(3L)).isEmpty();
+        verify(loadAccountPort).loadByUserIds(userIds);
+    }
+
+    @Test
+    @DisplayName("배치 최대 크기를 넘으면 조회하지 않고 실패")
+    void getAccountsBatch_fail_when_exceeding_cap() {
+        //Given
+        AccountQueryProperties properties = new AccountQueryProperties();
+        properties.setMaxBatchUserIds(2);
+        GetAccountsService service = new GetAccountsService(loadAccountPort, properties, shardedBalanceService);
+
+        //When & Then
+        assertThatThrownBy(() -> service.execute(Set.of(1L, 2L, 3L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(loadAccountPort, never()).loadByUserIds(any());
+    }
+
+    @Test
+    @DisplayName("페이지 크기보다 한 건 더 조회되면 마지막 계좌 ID를 다음 커서로 반환")
+    void getAccountsPage_has_next() {
+        //Given
+        GetAccountsService service = new GetAccountsService(loadAccountPort, new AccountQueryProperties(), shardedBalanceService);
+        List<Account> accounts = List.of(
+                Account.builder().id(11L).userId(1L).accountNumber("A-11")
+                        .balance(new Money(new BigDecimal("100.00"))).status(AccountStatus.ACTIVE).build(),
+                Account.builder().id(12L).userId(1L).accountNumber("A-12")
+                        .balance(new Money(new BigDecimal("100.00"))).status(AccountStatus.ACTIVE).build(),
+                Account.builder().id(13L).userId(1L).accountNumber("A-13")
+                        .balance(new Money(new BigDecimal("100.00"))).status(AccountStatus.ACTIVE).build()
+        );
+        when(loadAccountPort.loadByUserIdAfter(1L, 10L, 3))
+                .thenReturn(accounts);
+
+        //When
+        AccountPage page = service.execute(1L, 10L, 2);
+
+        //Then
+        assertThat(page.getAccounts()).extracting(AccountInfo::getAccountId).containsExactly(11L, 12L);
+        assertThat(page.getNextCursor()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서가 없고 크기를 생략하면 기본값 사용")
+    void getAccountsPage_last_page() {
+        //Given
+        AccountQueryProperties properties = new AccountQueryProperties();
+        GetAccountsService service = new GetAccountsService(loadAccountPort, properties, shardedBalanceService);
+        when(loadAccountPort.loadByUserIdAfter(1L, 0L, properties.getDefaultPageSize() + 1))
+                .thenReturn(List.of(Account.builder().id(1L).userId(1L).accountNumber("A-1")
+                        .balance(new Money(new BigDecimal("100.00"))).status(AccountStatus.ACTIVE).build()));
+
+        //When
+        AccountPage page = service.execute(1L, null, null);
+
+        //Then
+        assertThat(page.getAccounts()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 페이지 크기를 넘으면 조회하지 않고 실패")
+    void getAccountsPage_fail_when_exceeding_max_size() {
+        //Given
+        AccountQueryProperties properties = new AccountQueryProperties();
+        GetAccountsService service = new GetAccountsService(loadAccountPort, properties, shardedBalanceService);
+
+        //When & Then
+        assertThatThrownBy(() -> service.execute(1L, null, properties.getMaxPageSize() + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(loadAccountPort, never()).loadByUserIdAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("잔액 슬롯 계좌는 슬롯 합계를 더한 잔액으로 응답")
+    void getAccounts_adds_shard_balances() {
+        //Given
+        List<Account> accounts = List.of(
+                Account.builder().id(1L).userId(1L).accountNumber("A-1")
+                        .balance(new Money(new BigDecimal("100.00"))).status(AccountStatus.ACTIVE).build(),
+                Account.builder().id(2L).userId(1L).accountNumber("A-2")
+                        .balance(new Money(new BigDecimal("200.00"))).status(AccountStatus.ACTIVE).build());
+        when(loadAccountPort.loadByUserId(1L)).thenReturn(accounts);
+        when(shardedBalanceService.loadBalances(accounts))
+                .thenReturn(Map.of(2L, new Money(new BigDecimal("55.50"))));
+
+        //When
+        List<AccountInfo> result = getAccountsService.execute(1L);
+
+        //Then
+        assertThat(result.get(0).getBalance()).isEqualByComparingTo("100.00");
+        assertThat(result.get(1).getBalance()).isEqualByComparingTo("255.50");
+    }
+}
@@ -0,0 +1,88 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.dto.BalanceSummaryInfo;
+import com.simplebank.account.application.port.out.LoadBalanceSummaryPort;
+import com.simplebank.account.domain.BalanceSummary;
+import com.simplebank.account.domain.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetBalanceSummaryService 테스트")
+class GetBalanceSummaryServiceTest {
+
+    @Mock
+    private LoadBalanceSummaryPort loadBalanceSummaryPort;
+
+    @Mock
+    private ShardedBalanceService shardedBalanceService;
+
+    @BeforeEach
+    void setUp() {
+        when(shardedBalanceService.loadBalanceByUserId(any())).thenReturn(Money.ZERO);
+    }
+
+    @InjectMocks
+    private GetBalanceSummaryService getBalanceSummaryService;
+
+    @Test
+    @DisplayName("요약 테이블의 값으로 응답하고 계좌를 집계하지 않음")
+    void getBalanceSummary_from_projection() {
+        //Given
+        when(loadBalanceSummaryPort.loadByUserId(1L))
+                .thenReturn(Optional.of(new BalanceSummary(1L, new Money(new BigDecimal("15000.00")), 3)));
+
+        //When
+        BalanceSummaryInfo result = getBalanceSummaryService.execute(1L);
+
+        //Then
+        assertThat(result.getTotalBalance()).isEqualByComparingTo("15000.00");
+        assertThat(result.getAccountCount()).isEqualTo(3);
+        verify(loadBalanceSummaryPort, never()).aggregateByUserId(any());
+    }
+
+    @Test
+    @DisplayName("요약이 아직 없으면 계좌에서 집계")
+    void getBalanceSummary_falls_back_to_aggregate() {
+        //Given
+        when(loadBalanceSummaryPort.loadByUserId(2L)).thenReturn(Optional.empty());
+        when(loadBalanceSummaryPort.aggregateByUserId(2L))
+                .thenReturn(new BalanceSummary(2L, new Money(new BigDecimal("700.00")), 1));
+
+        //When
+        BalanceSummaryInfo result = getBalanceSummaryService.execute(2L);
+
+        //Then
+        assertThat(result.getUserId()).isEqualTo(2L);
+        assertThat(result.getTotalBalance()).isEqualByComparingTo("700.00");
+    }
+
+    @Test
+    @DisplayName("잔액 슬롯 합계를 요약 잔액에 더함")
+    void getBalanceSummary_adds_shard_balances() {
+        //Given
+        when(loadBalanceSummaryPort.loadByUserId(3L))
+                .thenReturn(Optional.of(new BalanceSummary(3L, new Money(new BigDecimal("100.00")), 1)));
+        when(shardedBalanceService.loadBalanceByUserId(3L)).thenReturn(new Money(new BigDecimal("25.00")));
+
+        //When
+        BalanceSummaryInfo result = getBalanceSummaryService.execute(3L);
+
+        //Then
+        assertThat(result.getTotalBalance()).isEqualByComparingTo("125.00");
+    }
+}
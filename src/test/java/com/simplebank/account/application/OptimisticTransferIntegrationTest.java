@@ -0,0 +1,13 @@
+package com.simplebank.account.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "simplebank.transfer.lock-mode=optimistic",
+        "simplebank.transfer.retry.max-attempts=50",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("낙관적 락 이체 통합 테스트")
+class OptimisticTransferIntegrationTest extends TransferLockModeIntegrationTestSupport {
+}
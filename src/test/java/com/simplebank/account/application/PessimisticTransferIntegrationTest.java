@@ -0,0 +1,12 @@
+package com.simplebank.account.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "simplebank.transfer.lock-mode=pessimistic",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("비관적 락 이체 통합 테스트")
+class PessimisticTransferIntegrationTest extends TransferLockModeIntegrationTestSupport {
+}
@@ -0,0 +1,224 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.adapter.out.persistence.AccountJpaEntity;
+import com.simplebank.account.adapter.out.persistence.AccountJpaRepository;
+import com.simplebank.account.adapter.out.persistence.UserBalanceSummaryJpaRepository;
+import com.simplebank.account.application.port.in.CheckBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.GetBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.TransferUseCase;
+import com.simplebank.account.application.port.in.dto.AccountInfo;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.exception.InsufficientBalanceException;
+import com.simplebank.transaction.adapter.out.persistence.TransactionJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("잔액 슬롯 계좌 통합 테스트")
+class ShardedBalanceIntegrationTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int TRANSFERS_PER_THREAD = 25;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private GetAccountsUseCase getAccountsUseCase;
+
+    @Autowired
+    private GetBalanceSummaryUseCase getBalanceSummaryUseCase;
+
+    @Autowired
+    private CheckBalanceSummaryUseCase checkBalanceSummaryUseCase;
+
+    @Autowired
+    private ShardedBalanceService shardedBalanceService;
+
+    @Autowired
+    private ShardedBalanceProperties shardedBalanceProperties;
+
+    @Autowired
+    private TransferProperties transferProperties;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private UserBalanceSummaryJpaRepository userBalanceSummaryJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Set<Long> designatedBefore;
+    private TransferLockMode lockModeBefore;
+
+    @BeforeEach
+    void setUp() {
+        designatedBefore = shardedBalanceProperties.getAccountIds();
+        lockModeBefore = transferProperties.getLockMode();
+        shardedBalanceProperties.setAccountIds(new HashSet<>());
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardedBalanceProperties.setAccountIds(designatedBefore);
+        transferProperties.setLockMode(lockModeBefore);
+        jdbcTemplate.update("delete from account_balance_shards");
+        transactionJpaRepository.deleteAll();
+        userBalanceSummaryJpaRepository.deleteAll();
+        accountJpaRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = TransferLockMode.class, names = {"STRIPED", "PESSIMISTIC"})
+    @DisplayName("hot 계좌로의 동시 입금은 계좌 행을 갱신하지 않고 조회 잔액에는 모두 반영된다")
+    void concurrent_credits_go_to_slots(TransferLockMode lockMode) throws Exception {
+        //Given
+        transferProperties.setLockMode(lockMode);
+        Long hot = saveAccount(100L, "SHARD-HOT", "0.00");
+        List<Long> payers = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            payers.add(saveAccount(200L + t, "SHARD-PAYER-" + t, "1000.00"));
+        }
+        designate(hot);
+        checkBalanceSummaryUseCase.execute(true);
+        long hotVersion = accountJpaRepository.findById(hot).orElseThrow().getVersion();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        //When
+        for (Long payer : payers) {
+            executor.submit(() -> {
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    try {
+                        transferUseCase.execute(new TransferCommand(payer, hot, BigDecimal.ONE));
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            });
+        }
+        executor.shutdown();
+
+        //Then
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(unexpected).isEmpty();
+        AccountInfo info = getAccountsUseCase.execute(100L).get(0);
+        assertThat(info.getBalance()).isEqualByComparingTo(String.valueOf(THREAD_COUNT * TRANSFERS_PER_THREAD));
+        assertThat(getBalanceSummaryUseCase.execute(100L).getTotalBalance())
+                .isEqualByComparingTo(String.valueOf(THREAD_COUNT * TRANSFERS_PER_THREAD));
+        // 입금 계좌 행은 한 번도 갱신되지 않는다
+        assertThat(accountJpaRepository.findById(hot).orElseThrow().getBalance()).isEqualByComparingTo("0.00");
+        assertThat(accountJpaRepository.findById(hot).orElseThrow().getVersion()).isEqualTo(hotVersion);
+        assertThat(checkBalanceSummaryUseCase.execute(false).getDrifts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("출금하면 슬롯을 계좌 잔액으로 합친 뒤 출금한다")
+    void debit_folds_slots_into_account() {
+        //Given
+        Long hot = saveAccount(100L, "SHARD-HOT", "10.00");
+        Long payer = saveAccount(200L, "SHARD-PAYER", "1000.00");
+        Long payee = saveAccount(300L, "SHARD-PAYEE", "0.00");
+        designate(hot);
+        checkBalanceSummaryUseCase.execute(true);
+        transferUseCase.execute(new TransferCommand(payer, hot, new BigDecimal("40.00")));
+        transferUseCase.execute(new TransferCommand(payer, hot, new BigDecimal("50.00")));
+
+        //When
+        transferUseCase.execute(new TransferCommand(hot, payee, new BigDecimal("70.00")));
+
+        //Then
+        assertThat(accountJpaRepository.findById(hot).orElseThrow().getBalance()).isEqualByComparingTo("30.00");
+        assertThat(slotTotal(hot)).isEqualByComparingTo("0.00");
+        assertThat(getAccountsUseCase.execute(100L).get(0).getBalance()).isEqualByComparingTo("30.00");
+        assertThat(getAccountsUseCase.execute(300L).get(0).getBalance()).isEqualByComparingTo("70.00");
+        assertThat(checkBalanceSummaryUseCase.execute(false).getDrifts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("슬롯을 합쳐도 잔액이 모자라면 출금을 롤백하고 슬롯도 그대로 둔다")
+    void insufficient_debit_keeps_slots() {
+        //Given
+        Long hot = saveAccount(100L, "SHARD-HOT", "10.00");
+        Long payer = saveAccount(200L, "SHARD-PAYER", "1000.00");
+        Long payee = saveAccount(300L, "SHARD-PAYEE", "0.00");
+        designate(hot);
+        checkBalanceSummaryUseCase.execute(true);
+        transferUseCase.execute(new TransferCommand(payer, hot, new BigDecimal("40.00")));
+
+        //When & Then
+        assertThatThrownBy(() -> transferUseCase.execute(new TransferCommand(hot, payee, new BigDecimal("60.00"))))
+                .isInstanceOf(InsufficientBalanceException.class);
+        assertThat(slotTotal(hot)).isEqualByComparingTo("40.00");
+        assertThat(getAccountsUseCase.execute(100L).get(0).getBalance()).isEqualByComparingTo("50.00");
+    }
+
+    @Test
+    @DisplayName("지정이 풀린 계좌의 슬롯은 시작 시 계좌 잔액으로 합친다")
+    void undesignated_slots_are_folded_on_startup() {
+        //Given
+        Long hot = saveAccount(100L, "SHARD-HOT", "10.00");
+        Long payer = saveAccount(200L, "SHARD-PAYER", "1000.00");
+        designate(hot);
+        checkBalanceSummaryUseCase.execute(true);
+        transferUseCase.execute(new TransferCommand(payer, hot, new BigDecimal("40.00")));
+
+        //When
+        shardedBalanceProperties.setAccountIds(new HashSet<>());
+        shardedBalanceService.initialize();
+
+        //Then
+        assertThat(accountJpaRepository.findById(hot).orElseThrow().getBalance()).isEqualByComparingTo("50.00");
+        assertThat(slotTotal(hot)).isEqualByComparingTo("0.00");
+        assertThat(checkBalanceSummaryUseCase.execute(false).getDrifts()).isEmpty();
+    }
+
+    private void designate(Long accountId) {
+        shardedBalanceProperties.getAccountIds().add(accountId);
+        shardedBalanceService.initialize();
+    }
+
+    private BigDecimal slotTotal(Long accountId) {
+        return jdbcTemplate.queryForObject(
+                "select coalesce(sum(balance), 0) from account_balance_shards where account_id = ?",
+                BigDecimal.class, accountId);
+    }
+
+    private Long saveAccount(Long userId, String accountNumber, String balance) {
+        return accountJpaRepository.save(AccountJpaEntity.builder()
+                .userId(userId)
+                .accountNumber(accountNumber)
+                .balance(new BigDecimal(balance))
+                .status(AccountStatus.ACTIVE)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,137 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.adapter.out.persistence.AccountJpaEntity;
+import com.simplebank.account.adapter.out.persistence.AccountJpaRepository;
+import com.simplebank.account.adapter.out.persistence.UserBalanceSummaryJpaRepository;
+import com.simplebank.account.application.port.in.CheckBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.TransferUseCase;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.exception.AccountVersionConflictException;
+import com.simplebank.transaction.adapter.out.persistence.TransactionJpaEntity;
+import com.simplebank.transaction.adapter.out.persistence.TransactionJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 락 모드별로 H2 위에서 두 개의 hot 계좌를 양방향으로 동시에 이체해 잔액 보존을 검증한다.
+ */
+abstract class TransferLockModeIntegrationTestSupport {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int TRANSFERS_PER_THREAD = 50;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private TransferStatistics transferStatistics;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private UserBalanceSummaryJpaRepository userBalanceSummaryJpaRepository;
+
+    @Autowired
+    private CheckBalanceSummaryUseCase checkBalanceSummaryUseCase;
+
+    @AfterEach
+    void tearDown() {
+        transactionJpaRepository.deleteAll();
+        userBalanceSummaryJpaRepository.deleteAll();
+        accountJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("hot 계좌 간 동시 양방향 이체 후에도 전체 잔액이 보존된다")
+    void concurrent_transfers_on_hot_accounts_conserve_balance() throws Exception {
+        //Given
+        Long first = saveAccount(1L, "HOT-" + getClass().getSimpleName() + "-1");
+        Long second = saveAccount(2L, "HOT-" + getClass().getSimpleName() + "-2");
+        checkBalanceSummaryUseCase.execute(true);
+        long completedBefore = transferStatistics.execute().getCompleted();
+        AtomicInteger gaveUp = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        //When
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            boolean forward = t % 2 == 0;
+            executor.submit(() -> {
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    try {
+                        transferUseCase.execute(forward
+                                ? new TransferCommand(first, second, BigDecimal.ONE)
+                                : new TransferCommand(second, first, BigDecimal.ONE));
+                    } catch (AccountVersionConflictException e) {
+                        gaveUp.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            });
+        }
+        executor.shutdown();
+
+        //Then
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(unexpected).isEmpty();
+        BigDecimal total = accountJpaRepository.findById(first).orElseThrow().getBalance()
+                .add(accountJpaRepository.findById(second).orElseThrow().getBalance());
+        assertThat(total).isEqualByComparingTo("20000.00");
+        long completed = transferStatistics.execute().getCompleted() - completedBefore;
+        assertThat(completed + gaveUp.get()).isEqualTo(THREAD_COUNT * TRANSFERS_PER_THREAD);
+        // 커밋된 이체마다 원장에 출금/입금 두 줄, 롤백된 시도는 남지 않는다
+        assertThat(transactionJpaRepository.findAll().stream()
+                .map(TransactionJpaEntity::getAccountId)
+                .filter(id -> id.equals(first) || id.equals(second))
+                .count()).isEqualTo(completed * 2);
+        // 사용자별 잔액 요약도 증감분 갱신만으로 계좌 집계와 일치한다
+        assertThat(checkBalanceSummaryUseCase.execute(false).getDrifts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("요약 행이 없는 사용자도 첫 이체가 커밋되면 요약 행이 생긴다")
+    void first_transfer_creates_missing_summaries() {
+        //Given
+        Long first = saveAccount(1L, "FIRST-" + getClass().getSimpleName() + "-1");
+        Long second = saveAccount(2L, "FIRST-" + getClass().getSimpleName() + "-2");
+        saveAccount(2L, "FIRST-" + getClass().getSimpleName() + "-3");
+
+        //When
+        transferUseCase.execute(new TransferCommand(first, second, new BigDecimal("100.00")));
+
+        //Then
+        assertThat(userBalanceSummaryJpaRepository.findById(1L).orElseThrow().getTotalBalance())
+                .isEqualByComparingTo("9900.00");
+        assertThat(userBalanceSummaryJpaRepository.findById(2L).orElseThrow().getTotalBalance())
+                .isEqualByComparingTo("20100.00");
+        assertThat(checkBalanceSummaryUseCase.execute(false).getDrifts()).isEmpty();
+    }
+
+    private Long saveAccount(Long userId, String accountNumber) {
+        return accountJpaRepository.save(AccountJpaEntity.builder()
+                .userId(userId)
+                .accountNumber(accountNumber)
+                .balance(new BigDecimal("10000.00"))
+                .status(AccountStatus.ACTIVE)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,219 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.application.port.out.AdjustBalanceSummaryPort;
+import com.simplebank.account.application.port.out.LoadAccountPort;
+import com.simplebank.account.application.port.out.SaveAccountPort;
+import com.simplebank.account.application.port.out.ShardedBalancePort;
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.Money;
+import com.simplebank.account.domain.exception.InsufficientBalanceException;
+import com.simplebank.transaction.application.port.out.LoadTransactionPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TransferService 동시성 테스트")
+class TransferServiceStressTest {
+
+    private static final int ACCOUNT_COUNT = 64;
+    private static final int THREAD_COUNT = 64;
+    private static final int TRANSFERS_PER_THREAD = 2_000;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000.00");
+
+    private final TransferProperties properties = new TransferProperties();
+
+    @Test
+    @DisplayName("다수 스레드의 교차 이체 후에도 전체 잔액이 보존되고 교착 상태가 없다")
+    void concurrent_transfers_conserve_total_balance() throws Exception {
+        //Given
+        InMemoryAccountStore store = new InMemoryAccountStore(ACCOUNT_COUNT, INITIAL_BALANCE);
+        // stripe 수를 계좌 수보다 작게 두어 서로 다른 계좌가 같은 stripe 를 공유하는 경우도 검증한다
+        TransferService transferService = new TransferService(
+                store, store, transactions -> { }, mock(LoadTransactionPort.class), (fromUserId, toUserId, amount) -> { }, new AccountLockTable(16), new TransactionTemplate(new NoOpTransactionManager()),
+                properties, new TransferStatistics(properties), withoutShardedBalances(store));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        //When
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    long from = random.nextLong(1, ACCOUNT_COUNT + 1);
+                    long to = random.nextLong(1, ACCOUNT_COUNT + 1);
+                    if (from == to) {
+                        continue;
+                    }
+                    BigDecimal amount = BigDecimal.valueOf(random.nextInt(1, 200));
+                    try {
+                        transferService.execute(new TransferCommand(from, to, amount));
+                        succeeded.incrementAndGet();
+                    } catch (InsufficientBalanceException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        boolean finished = executor.awaitTermination(60, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(finished).as("모든 이체가 제한 시간 내에 끝나야 한다 (교착 상태 없음)").isTrue();
+        assertThat(succeeded.get()).isPositive();
+        assertThat(store.totalBalance())
+                .isEqualByComparingTo(INITIAL_BALANCE.multiply(BigDecimal.valueOf(ACCOUNT_COUNT)));
+        assertThat(store.balances().values())
+                .allSatisfy(balance -> assertThat(balance).isGreaterThanOrEqualTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("같은 stripe 를 공유하는 계좌 쌍도 역방향 동시 이체에서 교착 상태가 없다")
+    void opposite_direction_transfers_do_not_deadlock() throws Exception {
+        //Given
+        InMemoryAccountStore store = new InMemoryAccountStore(4, INITIAL_BALANCE);
+        TransferService transferService = new TransferService(
+                store, store, transactions -> { }, mock(LoadTransactionPort.class), (fromUserId, toUserId, amount) -> { }, new AccountLockTable(2), new TransactionTemplate(new NoOpTransactionManager()),
+                properties, new TransferStatistics(properties), withoutShardedBalances(store));
+        List<long[]> pairs = List.of(new long[]{1, 2}, new long[]{2, 1}, new long[]{3, 4}, new long[]{4, 3},
+                new long[]{1, 4}, new long[]{4, 1}, new long[]{2, 3}, new long[]{3, 2});
+
+        ExecutorService executor = Executors.newFixedThreadPool(pairs.size());
+
+        //When
+        for (long[] pair : pairs) {
+            executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    transferService.execute(new TransferCommand(pair[0], pair[1], BigDecimal.ONE));
+                    transferService.execute(new TransferCommand(pair[1], pair[0], BigDecimal.ONE));
+                }
+                return null;
+            });
+        }
+        executor.shutdown();
+
+        //Then
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(store.totalBalance()).isEqualByComparingTo(INITIAL_BALANCE.multiply(BigDecimal.valueOf(4)));
+    }
+
+    private static ShardedBalanceService withoutShardedBalances(InMemoryAccountStore store) {
+        return new ShardedBalanceService(mock(ShardedBalancePort.class), mock(AdjustBalanceSummaryPort.class),
+                store, store, new TransactionTemplate(new NoOpTransactionManager()), new ShardedBalanceProperties());
+    }
+
+    /**
+     * 조회할 때마다 새 Account 를 만들어 영속성 계층의 동작을 흉내 내는 저장소.
+     * 락 없이 read-modify-write 하므로 TransferService 의 락이 없으면 잔액이 어긋난다.
+     */
+    static class InMemoryAccountStore implements LoadAccountPort, SaveAccountPort {
+        private final Map<Long, BigDecimal> balances = new ConcurrentHashMap<>();
+
+        InMemoryAccountStore(int accountCount, BigDecimal initialBalance) {
+            for (long id = 1; id <= accountCount; id++) {
+                balances.put(id, initialBalance);
+            }
+        }
+
+        @Override
+        public Optional<Account> loadById(Long accountId) {
+            BigDecimal balance = balances.get(accountId);
+            if (balance == null) {
+                return Optional.empty();
+            }
+            return Optional.of(Account.builder()
+                    .id(accountId)
+                    .userId(1L)
+                    .accountNumber("ACC-" + accountId)
+                    .balance(new Money(balance))
+                    .status(AccountStatus.ACTIVE)
+                    .build());
+        }
+
+        @Override
+        public Optional<Account> loadByAccountNumber(String accountNumber) {
+            return loadById(Long.valueOf(accountNumber.substring("ACC-".length())));
+        }
+
+        @Override
+        public Optional<Account> loadByIdForUpdate(Long accountId) {
+            return loadById(accountId);
+        }
+
+        @Override
+        public List<Account> loadByUserId(Long userId) {
+            return List.of();
+        }
+
+        @Override
+        public List<Account> loadByUserIds(Collection<Long> userIds) {
+            return List.of();
+        }
+
+        @Override
+        public List<Account> loadByUserIdAfter(Long userId, Long afterAccountId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public void streamByUserId(Long userId, Consumer<Account> consumer) {
+        }
+
+        @Override
+        public Account save(Account account) {
+            balances.put(account.getId(), account.getBalance().getAmount());
+            return account;
+        }
+
+        Map<Long, BigDecimal> balances() {
+            return balances;
+        }
+
+        BigDecimal totalBalance() {
+            return balances.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+    }
+
+    static class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.simplebank.account.application;
+
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.application.port.in.dto.TransferResult;
+import com.simplebank.account.application.port.out.AdjustBalanceSummaryPort;
+import com.simplebank.account.application.port.out.LoadAccountPort;
+import com.simplebank.account.application.port.out.SaveAccountPort;
+import com.simplebank.account.application.port.out.ShardedBalancePort;
+import com.simplebank.account.application.port.out.UpdateBalanceSummaryPort;
+import com.simplebank.account.domain.Account;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.account.domain.Money;
+import com.simplebank.account.domain.exception.AccountNotFoundException;
+import com.simplebank.account.domain.exception.AccountVersionConflictException;
+import com.simplebank.account.domain.exception.InsufficientBalanceException;
+import com.simplebank.transaction.application.port.out.LoadTransactionPort;
+import com.simplebank.transaction.application.port.out.SaveTransactionPort;
+import com.simplebank.transaction.domain.Transaction;
+import com.simplebank.transaction.domain.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransferService 테스트")
+class TransferServiceTest {
+
+    @Mock
+    private LoadAccountPort loadAccountPort;
+
+    @Mock
+    private SaveAccountPort saveAccountPort;
+
+    @Mock
+    private SaveTransactionPort saveTransactionPort;
+
+    @Mock
+    private LoadTransactionPort loadTransactionPort;
+
+    @Mock
+    private UpdateBalanceSummaryPort updateBalanceSummaryPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ShardedBalancePort shardedBalancePort;
+
+    @Mock
+    private AdjustBalanceSummaryPort adjustBalanceSummaryPort;
+
+    private ShardedBalanceProperties shardedBalanceProperties;
+
+    private TransferProperties properties;
+
+    private TransferStatistics statistics;
+
+    private TransferService transferService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TransferProperties();
+        properties.getRetry().setInitialBackoff(Duration.ZERO);
+        statistics = new TransferStatistics(properties);
+        shardedBalanceProperties = new ShardedBalanceProperties();
+        ShardedBalanceService shardedBalanceService = new ShardedBalanceService(
+                shardedBalancePort, adjustBalanceSummaryPort, loadAccountPort, saveAccountPort,
+                new TransactionTemplate(transactionManager), shardedBalanceProperties);
+        transferService = new TransferService(
+                loadAccountPort,
+                saveAccountPort,
+                saveTransactionPort,
+                loadTransactionPort,
+                updateBalanceSummaryPort,
+                new AccountLockTable(16),
+                new TransactionTemplate(transactionManager),
+                properties,
+                statistics,
+                shardedBalanceService
+        );
+    }
+
+    private Account account(Long id, String balance) {
+        return Account.builder()
+                .id(id)
+                .userId(1L)
+                .accountNumber("ACC-" + id)
+                .balance(new Money(new BigDecimal(balance)))
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("이체 성공 시 출금/입금 계좌 모두 저장")
+    void transfer_success() {
+        //Given
+        Account from = account(1L, "10000.00");
+        Account to = account(2L, "500.00");
+        when(loadAccountPort.loadById(1L)).thenReturn(Optional.of(from));
+        when(loadAccountPort.loadById(2L)).thenReturn(Optional.of(to));
+
+        //When
+        TransferResult result = transferService.execute(
+                new TransferCommand(1L, 2L, new BigDecimal("3000.00")));
+
+        //Then
+        assertThat(result.getFromBalance()).isEqualByComparingTo("7000.00");
+        assertThat(to.getBalance().getAmount()).isEqualByComparingTo("3500.00");
+        verify(saveAccountPort).save(from);
+        verify(saveAccountPort).save(to);
+        verify(updateBalanceSummaryPort).applyTransfer(eq(1L), eq(1L),
+                argThat(amount -> amount.getAmount().compareTo(new BigDecimal("3000.00")) == 0));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("이체 성공 시 출금/입금 거래를 한 번에 기록")
+    void transfer_records_ledger_entries() {
+        //Given
+        when(loadAccountPort.loadById(1L)).thenReturn(Optional.of(account(1L, "10000.00")));
+        when(loadAccountPort.loadById(2L)).thenReturn(Optional.of(account(2L, "500.00")));
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        //When
+        transferService.execute(new TransferCommand(1L, 2L, new BigDecimal("3000.00")));
+
+        //Then
+        verify(saveTransactionPort).saveAll(captor.capture());
+        List<Transaction> entries = captor.getValue();
+        assertThat(entries).extracting(Transaction::getType)
+                .containsExactly(TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN);
+        assertThat(entries.get(0).getAccountId()).isEqualTo(1L);
+        assertThat(entries.get(0).getCounterpartyAccountId()).isEqualTo(2L);
+        assertThat(entries.get(0).getBalanceAfter().getAmount()).isEqualByComparingTo("7000.00");
+        assertThat(entries.get(1).getAccountId()).isEqualTo(2L);
+        assertThat(entries.get(1).getBalanceAfter().getAmount()).isEqualByComparingTo("3500.00");
+    }
+
+    @Test
+    @DisplayName("잔액 부족 시 이체 실패")
+    void transfer_fail_insufficient_balance() {
+        //Given
+        when(loadAccountPort.loadById(1L)).thenReturn(Optional.of(account(1L, "100.00")));
+        when(loadAccountPort.loadById(2L)).thenReturn(Optional.of(account(2L, "0.00")));
+
+        //When & Then
+        assertThatThrownBy(() -> transferService.execute(
+                new TransferCommand(1L, 2L, new BigDecimal("3000.00"))))
+                .isInstanceOf(InsufficientBalanceException.class);
+        verify(saveAccountPort, never()).save(any());
+        verify(saveTransactionPort, never()).saveAll(any());
+        verify(updateBalanceSummaryPort, never()).applyTransfer(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("입금 계좌가 없으면 이체 실패")
+    void transfer_fail_account_not_found() {
+        //Given
+        when(loadAccountPort.loadById(1L)).thenReturn(Optional.of(account(1L, "100.00")));
+        when(loadAccountPort.loadById(999L)).thenReturn(Optional.empty());
+
+        //When & Then
+        assertThatThrownBy(() -> transferService.execute(
+                new TransferCommand(1L, 999L, new BigDecimal("10.00"))))
+                .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("멱등성 키를 출금 줄에 함께 기록한다")
+    void transfer_records_request_key() {
+        //Given
+        when(loadAccountPort.loadById(1L)).thenReturn(Optional.of(account(1L, "10000.00")));
+        when(loadAccountPort.loadById(2L)).thenReturn(Optional.of(account(2L, "500.00")));
+        when(loadTransactionPort.loadByRequestKey("scope:key")).thenReturn(Optional.empty());
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+
+        //When
+        transferService.execute(new TransferCommand(1L, 2L, new BigDecimal("3000.00"), 1L, "scope:key"));
+
+        //Then
+        verify(saveTransactionPort).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Transaction::getRequestKey).containsExactly("scope:key", null);
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키의 이체가 이미 원장에 있으면 다시 출금하지 않고 그 결과를 돌려준다")
+    void transfer_replays_applied_request() {
+        //Given
+        Account from = account(1L, "7000.00");
+        when(loadAccountPort.loadById(1L)).thenReturn(Optional.of(from));
+        when(loadAccountPort.loadById(2L)).thenReturn(Optional.of(account(2L, "3500.00")));
+        when(loadTransactionPort.loadByRequestKey("scope:key")).thenReturn(Optional.of(Transaction.transferOut(
+                1L, 2L, new Money(new BigDecimal("3000.00")), new Money(new BigDecimal("7000.00")),
+                Instant.now(), "scope:key")));
+
+        //When
+        TransferResult result = transferService.execute(
+                new TransferCommand(1L, 2L, new BigDecimal("3000.00"), 1L, "scope:key"));
+
+        //Then
+        assertThat(result.getToAccountId()).isEqualTo(2L);
+        assertThat(result.getAmount()).isEqualByComparingTo("3000.00");
+        assertThat(result.getFromBalance()).isEqualByComparingTo("7000.00");
+        assertThat(from.getBalance().getAmount()).isEqualByComparingTo("7000.00");
+        verify(saveAccountPort, never()).save(any());
+        verify(saveTransactionPort, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 계좌에서는 출금할 수 없다")
+    void transfer_fail_not_owner() {
+        //Given
+        Account from = account(1L, "10000.00");
+        when(loadAccountPort.loadById(1L)).thenReturn(Optional.of(from));
+        when(loadAccountPort.loadById(2L)).thenReturn(Optional.of(account(2L, "500.00")));
+
+        //When & Then
+        assertThatThrownBy(() -> transferService.execute(
+                new TransferCommand(1L, 2L, new BigDecimal("10.00"), 2L)))
+                .isInstanceOf(AccountNotFoundException.class);
+        assertThat(from.getBalance().getAmount()).isEqualByComparingTo("10000.00");
+        verify(saveAccountPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 계좌 또는 0 이하 금액 이체 요청은 거부")
+    void transfer_fail_invalid_command() {
+        assertThatThrownBy(() -> transferService.execute(
+                new TransferCommand(1L, 1L, new BigDecimal("10.00"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> transferService.execute(
+                new TransferCommand(1L, 2L, BigDecimal.ZERO)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("비관적 락 모드에서는 FOR UPDATE 조회를 사용")
+    void transfer_pessimistic_uses_locking_read() {
+        //Given
+        properties.setLockMode(TransferLockMode.PESSIMISTIC);
+        when(loadAccountPort.loadByIdForUpdate(1L)).thenReturn(Optional.of(account(1L, "100.00")));
+        when(loadAccountPort.loadByIdForUpdate(2L)).thenReturn(Optional.of(account(2L, "0.00")));
+
+        //When
+        transferService.execute(new TransferCommand(1L, 2L, new BigDecimal("10.00")));
+
+        //Then
+        verify(loadAccountPort).loadByIdForUpdate(1L);
+        verify(loadAccountPort).loadByIdForUpdate(2L);
+        verify(loadAccountPort, never()).loadById(any());
+    }
+
+    @Test
+    @DisplayName("낙관적 락 모드에서 버전 충돌 시 재조회 후 재시도하여 성공")
+    void transfer_optimistic_retries_on_conflict() {
+        //Given
+        properties.setLockMode(TransferLockMode.OPTIMISTIC);
+        when(loadAccountPort.loadById(1L))
+                .thenReturn(Optional.of(account(1L, "100.00")), Optional.of(account(1L, "100.00")));
+        when(loadAccountPort.loadById(2L))
+                .thenReturn(Optional.of(account(2L, "0.00")), Optional.of(account(2L, "0.00")));
+        when(saveAccountPort.save(any()))
+                .thenThrow(new AccountVersionConflictException(1L))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        //When
+        TransferResult result = transferService.execute(new TransferCommand(1L, 2L, new BigDecimal("10.00")));
+
+        //Then
+        assertThat(result.getFromBalance()).isEqualByComparingTo("90.00");
+        verify(loadAccountPort, times(2)).loadById(1L);
+        assertThat(statistics.execute().getConflicts()).isEqualTo(1);
+        assertThat(statistics.execute().getRetries()).isEqualTo(1);
+        assertThat(statistics.execute().getCompleted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 모드에서 재시도 횟수를 모두 소진하면 충돌 예외")
+    void transfer_optimistic_gives_up_after_retry_budget() {
+        //Given
+        properties.setLockMode(TransferLockMode.OPTIMISTIC);
+        properties.getRetry().setMaxAttempts(3);
+        when(loadAccountPort.loadById(1L)).thenAnswer(invocation -> Optional.of(account(1L, "100.00")));
+        when(loadAccountPort.loadById(2L)).thenAnswer(invocation -> Optional.of(account(2L, "0.00")));
+        when(saveAccountPort.save(any())).thenThrow(new AccountVersionConflictException(1L));
+
+        //When & Then
+        assertThatThrownBy(() -> transferService.execute(
+                new TransferCommand(1L, 2L, new BigDecimal("10.00"))))
+                .isInstanceOf(AccountVersionConflictException.class);
+        assertThat(statistics.execute().getConflicts()).isEqualTo(3);
+        assertThat(statistics.execute().getRetries()).isEqualTo(2);
+        assertThat(statistics.execute().getExhausted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잔액 슬롯 계좌로의 입금은 슬롯에 더하고 입금 계좌 행은 저장하지 않는다")
+    void transfer_to_sharded_account_credits_slot() {
+        //Given
+        shardedBalanceProperties.getAccountIds().add(2L);
+        Account from = account(1L, "100.00");
+        Account to = account(2L, "50.00");
+        when(loadAccountPort.loadById(1L)).thenReturn(Optional.of(from));
+        when(loadAccountPort.loadById(2L)).thenReturn(Optional.of(to));
+        when(shardedBalancePort.credit(2L, new Money(new BigDecimal("10.00"))))
+                .thenReturn(new Money(new BigDecimal("30.00")));
+
+        //When
+        TransferResult result = transferService.execute(new TransferCommand(1L, 2L, new BigDecimal("10.00")));
+
+        //Then
+        assertThat(result.getFromBalance()).isEqualByComparingTo("90.00");
+        assertThat(to.getBalance().getAmount()).isEqualByComparingTo("50.00");
+        verify(saveAccountPort).save(from);
+        verify(saveAccountPort, never()).save(to);
+        verify(updateBalanceSummaryPort, never()).applyTransfer(any(), any(), any());
+        verify(adjustBalanceSummaryPort).applyDebit(1L, new Money(new BigDecimal("10.00")));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(saveTransactionPort).saveAll(captor.capture());
+        assertThat(captor.getValue().get(1).getBalanceAfter().getAmount()).isEqualByComparingTo("80.00");
+    }
+
+    @Test
+    @DisplayName("잔액 슬롯 계좌에서 출금하면 슬롯을 먼저 합친 잔액으로 출금한다")
+    void transfer_from_sharded_account_folds_slots() {
+        //Given
+        shardedBalanceProperties.getAccountIds().add(1L);
+        Account from = account(1L, "10.00");
+        Account to = account(2L, "0.00");
+        when(loadAccountPort.loadById(1L)).thenReturn(Optional.of(from));
+        when(loadAccountPort.loadById(2L)).thenReturn(Optional.of(to));
+        when(shardedBalancePort.drain(1L)).thenReturn(new Money(new BigDecimal("90.00")));
+
+        //When
+        TransferResult result = transferService.execute(new TransferCommand(1L, 2L, new BigDecimal("60.00")));
+
+        //Then
+        assertThat(result.getFromBalance()).isEqualByComparingTo("40.00");
+        assertThat(to.getBalance().getAmount()).isEqualByComparingTo("60.00");
+        verify(adjustBalanceSummaryPort).applyCredit(1L, new Money(new BigDecimal("90.00")));
+        verify(updateBalanceSummaryPort).applyTransfer(1L, 1L, new Money(new BigDecimal("60.00")));
+    }
+}
@@ -0,0 +1,76 @@
+package com.simplebank.account.domain;
+
+import com.simplebank.account.domain.exception.ClosedAccountException;
+import com.simplebank.account.domain.exception.InsufficientBalanceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Account 도메인 테스트")
+class AccountTest {
+
+    private Account account(String balance, AccountStatus status) {
+        return Account.builder()
+                .id(1L)
+                .userId(1L)
+                .accountNumber("1234567890")
+                .balance(new Money(new BigDecimal(balance)))
+                .status(status)
+                .build();
+    }
+
+    @Test
+    @DisplayName("출금 성공")
+    void withdraw_success() {
+        //Given
+        Account account = account("10000.00", AccountStatus.ACTIVE);
+
+        //When
+        account.withdraw(new Money(new BigDecimal("3000.00")));
+
+        //Then
+        assertThat(account.getBalance().getAmount()).isEqualByComparingTo("7000.00");
+    }
+
+    @Test
+    @DisplayName("잔액보다 큰 금액 출금 시 실패")
+    void withdraw_fail_insufficient_balance() {
+        //Given
+        Account account = account("1000.00", AccountStatus.ACTIVE);
+
+        //When & Then
+        assertThatThrownBy(() -> account.withdraw(new Money(new BigDecimal("1000.01"))))
+                .isInstanceOf(InsufficientBalanceException.class);
+        assertThat(account.getBalance().getAmount()).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    @DisplayName("입금 성공")
+    void deposit_success() {
+        //Given
+        Account account = account("1000.00", AccountStatus.ACTIVE);
+
+        //When
+        account.deposit(new Money(new BigDecimal("500.00")));
+
+        //Then
+        assertThat(account.getBalance().getAmount()).isEqualByComparingTo("1500.00");
+    }
+
+    @Test
+    @DisplayName("해지된 계좌는 입출금 불가")
+    void closed_account_rejects_withdraw_and_deposit() {
+        //Given
+        Account account = account("1000.00", AccountStatus.CLOSED);
+
+        //When & Then
+        assertThatThrownBy(() -> account.withdraw(new Money(new BigDecimal("100.00"))))
+                .isInstanceOf(ClosedAccountException.class);
+        assertThatThrownBy(() -> account.deposit(new Money(new BigDecimal("100.00"))))
+                .isInstanceOf(ClosedAccountException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.simplebank.account.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Money 값 객체 테스트")
+class MoneyTest {
+
+    @Test
+    @DisplayName("BigDecimal 과 최소 화폐 단위 사이의 변환은 손실이 없다")
+    void converts_losslessly_between_big_decimal_and_minor_units() {
+        //Given
+        Money money = new Money(new BigDecimal("12345.67"));
+
+        //When & Then
+        assertThat(money.getMinorUnits()).isEqualTo(1234567L);
+        assertThat(money.getAmount()).isEqualTo(new BigDecimal("12345.67"));
+        assertThat(new Money(new BigDecimal("10")).getAmount()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(new Money(new BigDecimal("10.000"))).isEqualTo(new Money(new BigDecimal("10.00")));
+    }
+
+    @Test
+    @DisplayName("소수점 둘째 자리보다 정밀한 금액은 거부")
+    void rejects_amount_with_too_many_fraction_digits() {
+        assertThatThrownBy(() -> new Money(new BigDecimal("1.005")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("null 또는 음수 금액은 거부")
+    void rejects_null_and_negative_amount() {
+        assertThatThrownBy(() -> new Money(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Money(new BigDecimal("-0.01")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.ofMinorUnits(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("덧셈, 뺄셈")
+    void add_and_subtract() {
+        //Given
+        Money a = new Money(new BigDecimal("100.50"));
+        Money b = new Money(new BigDecimal("0.75"));
+
+        //When & Then
+        assertThat(a.add(b).getAmount()).isEqualTo(new BigDecimal("101.25"));
+        assertThat(a.subtract(b).getAmount()).isEqualTo(new BigDecimal("99.75"));
+        assertThatThrownBy(() -> b.subtract(a))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("덧셈 결과가 long 범위를 넘으면 실패")
+    void add_overflow_fails() {
+        //Given
+        Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+
+        //When & Then
+        assertThatThrownBy(() -> max.add(Money.ofMinorUnits(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("비교 연산")
+    void compare() {
+        //Given
+        Money small = Money.ofMinorUnits(100);
+        Money large = Money.ofMinorUnits(200);
+
+        //When & Then
+        assertThat(large.isGreaterThan(small)).isTrue();
+        assertThat(small.isGreaterThan(small)).isFalse();
+        assertThat(small.isGreaterThanOrEqual(Money.ofMinorUnits(100))).isTrue();
+        assertThat(small.compareTo(large)).isNegative();
+    }
+}
@@ -0,0 +1,114 @@
+package com.simplebank.common.async;
+
+import com.simplebank.account.domain.exception.AccountNotFoundException;
+import com.simplebank.common.concurrent.CapacityExceededException;
+import com.simplebank.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AsyncReadExecutor 테스트")
+class AsyncReadExecutorTest {
+
+    private AsyncReadExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    private AsyncReadProperties properties(int threads, int queueCapacity, Duration timeout) {
+        AsyncReadProperties properties = new AsyncReadProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        properties.setRetryAfter(Duration.ofSeconds(2));
+        return properties;
+    }
+
+    @Test
+    @DisplayName("작업은 전용 스레드에서 실행되어 결과를 돌려줌")
+    void submit_runs_on_dedicated_pool() throws Exception {
+        //Given
+        executor = new AsyncReadExecutor(properties(1, 1, Duration.ofSeconds(1)), TransactionOperations.withoutTransaction());
+
+        //When
+        String thread = executor.submit(() -> Thread.currentThread().getName()).get(1, TimeUnit.SECONDS);
+
+        //Then
+        assertThat(thread).startsWith("async-read-");
+    }
+
+    @Test
+    @DisplayName("유스케이스 예외는 감싸지 않고 그대로 전달")
+    void submit_propagates_domain_exception() {
+        //Given
+        executor = new AsyncReadExecutor(properties(1, 1, Duration.ofSeconds(1)), TransactionOperations.withoutTransaction());
+
+        //When
+        CompletableFuture<Object> result = executor.submit(() -> {
+            throw new AccountNotFoundException(1L);
+        });
+
+        //Then
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isInstanceOf(AccountNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("스레드와 큐가 모두 차면 즉시 용량 초과로 실패")
+    void submit_rejects_when_saturated() throws Exception {
+        //Given
+        executor = new AsyncReadExecutor(properties(1, 1, Duration.ofSeconds(5)), TransactionOperations.withoutTransaction());
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> await(release));
+        executor.submit(() -> await(release));
+
+        //When
+        CompletableFuture<Boolean> rejected = executor.submit(() -> true);
+
+        //Then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join)
+                .hasCauseInstanceOf(CapacityExceededException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 용량 초과로 실패")
+    void submit_times_out() {
+        //Given
+        executor = new AsyncReadExecutor(properties(1, 1, Duration.ofMillis(50)), TransactionOperations.withoutTransaction());
+        CountDownLatch release = new CountDownLatch(1);
+
+        //When
+        CompletableFuture<Boolean> result = executor.submit(() -> await(release));
+
+        //Then
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isInstanceOf(CapacityExceededException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.READ_UNAVAILABLE);
+        release.countDown();
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
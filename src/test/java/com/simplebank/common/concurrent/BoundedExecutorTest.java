@@ -0,0 +1,119 @@
+package com.simplebank.common.concurrent;
+
+import com.simplebank.common.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedExecutor 테스트")
+class BoundedExecutorTest {
+
+    private BoundedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    private BoundedExecutor executor(Duration timeout) {
+        return new BoundedExecutor("bounded-test", 1, 1, timeout, ErrorCode.READ_UNAVAILABLE, Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("비동기 작업이 제한 시간을 넘기면 실행 중인 작업을 인터럽트해 스레드를 돌려줌")
+    void submit_timeout_interrupts_running_task() throws Exception {
+        //Given
+        executor = executor(Duration.ofMillis(50));
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        //When
+        CompletableFuture<Boolean> result = executor.submit(() -> {
+            try {
+                return new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                return false;
+            }
+        });
+
+        //Then
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isInstanceOf(CapacityExceededException.class);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.submit(() -> true).get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.rejectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시간 초과로 취소된 작업은 큐에서 꺼내져도 실행되지 않음")
+    void submit_timeout_skips_queued_task() throws Exception {
+        //Given
+        executor = executor(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean queuedRan = new AtomicBoolean();
+        CompletableFuture<Boolean> running = executor.submit(() -> {
+            boolean released = awaitUninterruptibly(release);
+            finished.countDown();
+            return released;
+        });
+        CompletableFuture<Boolean> queued = executor.submit(() -> queuedRan.getAndSet(true));
+
+        //When
+        assertThatThrownBy(() -> queued.get(1, TimeUnit.SECONDS))
+                .cause().isInstanceOf(CapacityExceededException.class);
+        release.countDown();
+
+        //Then
+        assertThatThrownBy(() -> running.get(1, TimeUnit.SECONDS))
+                .cause().isInstanceOf(CapacityExceededException.class);
+        // 스레드가 풀린 뒤에 제출해야 새 작업의 제한 시간이 앞 작업을 기다리는 데 쓰이지 않는다
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.submit(() -> true).get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(queuedRan).isFalse();
+    }
+
+    @Test
+    @DisplayName("동기 호출이 제한 시간을 넘기면 작업을 인터럽트하고 거절 코드로 실패")
+    void call_timeout_interrupts_task() throws Exception {
+        //Given
+        executor = executor(Duration.ofMillis(50));
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        //When & Then
+        assertThatThrownBy(() -> executor.call(() -> {
+            try {
+                return new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                return false;
+            }
+        }))
+                .isInstanceOf(CapacityExceededException.class)
+                .extracting("errorCode", "retryAfterSeconds")
+                .containsExactly(ErrorCode.READ_UNAVAILABLE, 2L);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    // 인터럽트를 무시하고 latch 가 열릴 때까지 기다린다 (취소해도 스레드를 바로 돌려주지 않는 작업)
+    private boolean awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                return latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+                // 계속 기다린다
+            }
+        }
+    }
+}
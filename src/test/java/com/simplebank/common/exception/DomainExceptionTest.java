@@ -0,0 +1,36 @@
+package com.simplebank.common.exception;
+
+import com.simplebank.user.domain.exception.UserNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DomainException 테스트")
+class DomainExceptionTest {
+
+    @Test
+    @DisplayName("기본적으로 스택 트레이스를 채우지 않는다")
+    void stackless_by_default() {
+        //When
+        UserNotFoundException e = new UserNotFoundException("user1");
+
+        //Then
+        assertThat(DomainException.isStackTraceEnabled()).isFalse();
+        assertThat(e.getStackTrace()).isEmpty();
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
+        assertThat(e.getMessage()).contains("user1");
+    }
+
+    @Test
+    @DisplayName("예외별로 켜면 스택 트레이스를 채운다")
+    void stack_trace_when_enabled() {
+        //When
+        DomainException e = new DomainException(ErrorCode.INSUFFICIENT_BALANCE, "잔액 부족: 1001", true) {
+        };
+
+        //Then
+        assertThat(e.getStackTrace()).isNotEmpty();
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+    }
+}
@@ -0,0 +1,58 @@
+package com.simplebank.common.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplebank.account.domain.exception.AccountNotFoundException;
+import com.simplebank.user.domain.exception.UserNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GlobalExceptionHandler 테스트")
+class GlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(objectMapper);
+
+    @Test
+    @DisplayName("도메인 예외는 코드별로 미리 직렬화된 응답을 반환한다")
+    void domain_exception_uses_cached_response() throws Exception {
+        //When
+        ResponseEntity<byte[]> first = handler.handleDomainException(new UserNotFoundException("user1"));
+        ResponseEntity<byte[]> second = handler.handleDomainException(new UserNotFoundException("user2"));
+
+        //Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(first.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        JsonNode body = objectMapper.readTree(first.getBody());
+        assertThat(body.get("code").asText()).isEqualTo("USER_NOT_FOUND");
+        assertThat(body.get("message").asText()).doesNotContain("user1");
+    }
+
+    @Test
+    @DisplayName("계좌 예외도 코드에 맞는 상태로 응답한다")
+    void account_exception_status() {
+        //When
+        ResponseEntity<byte[]> response = handler.handleDomainException(new AccountNotFoundException(1L));
+
+        //Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("모든 오류 코드에 HTTP 상태가 정해져 있다")
+    void every_error_code_has_status() {
+        //When & Then
+        for (ErrorCode code : ErrorCode.values()) {
+            assertThat(handler.handleDomainException(new DomainException(code, code.name()) {
+            }).getStatusCode()).isEqualTo(GlobalExceptionHandler.status(code));
+        }
+        assertThat(GlobalExceptionHandler.status(ErrorCode.INVALID_CREDENTIALS)).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(GlobalExceptionHandler.status(ErrorCode.INSUFFICIENT_BALANCE)).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
@@ -0,0 +1,219 @@
+package com.simplebank.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IdempotencyExecutor 테스트")
+class IdempotencyExecutorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private IdempotencyProperties properties;
+    private IdempotencyExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        properties.setWaitTimeout(Duration.ofSeconds(5));
+        executor = new IdempotencyExecutor(new InMemoryIdempotencyStore(properties), objectMapper, properties);
+    }
+
+    @Test
+    @DisplayName("키가 없으면 매번 실행한다")
+    void no_key_executes_every_time() {
+        //Given
+        AtomicInteger calls = new AtomicInteger();
+
+        //When
+        executor.execute("scope", null, Map.of(), calls::incrementAndGet);
+        executor.execute("scope", null, Map.of(), calls::incrementAndGet);
+
+        //Then
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 실행되고 모두 같은 응답을 받는다")
+    void concurrent_duplicates_execute_once() throws Exception {
+        //Given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+
+        //When
+        List<Future<ResponseEntity<?>>> results = new ArrayList<>();
+        results.add(pool.submit(() -> executor.execute("scope", "key-1", Map.of("amount", 1), () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return Map.of("result", "done");
+        })));
+        started.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            results.add(pool.submit(() -> executor.execute("scope", "key-1", Map.of("amount", 1), () -> {
+                calls.incrementAndGet();
+                return Map.of("result", "duplicate");
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        //Then
+        for (Future<ResponseEntity<?>> result : results) {
+            byte[] body = (byte[]) result.get(5, TimeUnit.SECONDS).getBody();
+            assertThat(objectMapper.readTree(body).get("result").asText()).isEqualTo("done");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않고 같은 키로 다시 실행할 수 있다")
+    void failure_releases_key() {
+        //Given
+        AtomicInteger calls = new AtomicInteger();
+
+        //When
+        assertThatThrownBy(() -> executor.execute("scope", "key-2", Map.of(), () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+        ResponseEntity<?> retried = executor.execute("scope", "key-2", Map.of(), () -> {
+            calls.incrementAndGet();
+            return Map.of("result", "ok");
+        });
+
+        //Then
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(retried.getHeaders().containsKey(IdempotencyExecutor.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 키라도 scope 가 다르면 별개로 실행한다")
+    void keys_are_scoped() {
+        //Given
+        AtomicInteger calls = new AtomicInteger();
+
+        //When
+        executor.execute("deposit", "key-3", Map.of(), calls::incrementAndGet);
+        executor.execute("transfer", "key-3", Map.of(), calls::incrementAndGet);
+
+        //Then
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실행 중인 요청이 wait-timeout 안에 끝나지 않으면 처리 중 예외")
+    void in_progress_timeout() throws Exception {
+        //Given
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        pool.submit(() -> executor.execute("scope", "key-4", Map.of(), () -> {
+            started.countDown();
+            await(release);
+            return Map.of();
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        //When & Then
+        assertThatThrownBy(() -> executor.execute("scope", "key-4", Map.of(), Map::of))
+                .isInstanceOf(IdempotencyRequestInProgressException.class);
+        release.countDown();
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("선점한 요청이 claimTimeout 안에 끝나지 않으면 같은 요청이 넘겨받아 실행한다")
+    void stale_claim_is_taken_over() throws Exception {
+        //Given
+        AtomicLong now = new AtomicLong();
+        properties.setClaimTimeout(Duration.ofMinutes(1));
+        IdempotencyExecutor clocked = new IdempotencyExecutor(
+                new InMemoryIdempotencyStore(properties, now::get), objectMapper, properties);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        pool.submit(() -> clocked.execute("scope", "key-5", Map.of(), () -> {
+            started.countDown();
+            await(release);
+            return Map.of("result", "stuck");
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        //When
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+        ResponseEntity<?> response = clocked.execute("scope", "key-5", Map.of(), () -> Map.of("result", "retried"));
+
+        //Then
+        assertThat(response.getHeaders().containsKey(IdempotencyExecutor.REPLAYED_HEADER)).isFalse();
+        assertThat(new String((byte[]) response.getBody())).contains("retried");
+        release.countDown();
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("넘겨받힌 요청이 뒤늦게 실패해도 넘겨받은 요청의 결과는 지워지지 않는다")
+    void late_failure_of_stale_claim_keeps_new_result() throws Exception {
+        //Given
+        AtomicLong now = new AtomicLong();
+        properties.setClaimTimeout(Duration.ofMinutes(1));
+        IdempotencyExecutor clocked = new IdempotencyExecutor(
+                new InMemoryIdempotencyStore(properties, now::get), objectMapper, properties);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<?> stuck = pool.submit(() -> clocked.execute("scope", "key-6", Map.of(), () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("늦은 실패");
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+        clocked.execute("scope", "key-6", Map.of(), () -> Map.of("result", "retried"));
+
+        //When
+        release.countDown();
+        assertThatThrownBy(() -> stuck.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        ResponseEntity<?> replayed = clocked.execute("scope", "key-6", Map.of(), () -> Map.of("result", "third"));
+
+        //Then
+        assertThat(replayed.getHeaders().getFirst(IdempotencyExecutor.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(new String((byte[]) replayed.getBody())).contains("retried");
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("너무 긴 키는 거절")
+    void rejects_long_key() {
+        assertThatThrownBy(() -> executor.execute("scope", "k".repeat(129), Map.of(), Map::of))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
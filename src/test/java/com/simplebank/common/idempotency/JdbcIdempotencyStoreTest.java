@@ -0,0 +1,132 @@
+package com.simplebank.common.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@DisplayName("JdbcIdempotencyStore 테스트")
+class JdbcIdempotencyStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private JdbcIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setTtl(Duration.ofMinutes(1));
+        properties.setPollInterval(Duration.ofMillis(1));
+        properties.setClaimTimeout(Duration.ofSeconds(30));
+        store = new JdbcIdempotencyStore(jdbcTemplate, properties, now::get);
+    }
+
+    @Test
+    @DisplayName("처음 선점만 성공하고, 완료된 결과를 같은 지문으로 조회한다")
+    void claim_complete_and_await() {
+        //When
+        OptionalLong first = store.tryClaim("key", "fp");
+        OptionalLong second = store.tryClaim("key", "fp");
+        store.complete("key", first.getAsLong(), "{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+
+        //Then
+        assertThat(first).isPresent();
+        assertThat(second).isEmpty();
+        assertThat(store.await("key", "fp", Duration.ofMillis(10)))
+                .hasValueSatisfying(body -> assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("{\"ok\":true}"));
+    }
+
+    @Test
+    @DisplayName("실행 중인 키는 timeout 후 처리 중 예외, 다른 지문은 재사용 예외")
+    void await_in_progress_and_reused() {
+        //Given
+        store.tryClaim("key", "fp");
+
+        //When & Then
+        assertThatThrownBy(() -> store.await("key", "fp", Duration.ofMillis(5)))
+                .isInstanceOf(IdempotencyRequestInProgressException.class);
+        assertThatThrownBy(() -> store.await("key", "other", Duration.ofMillis(5)))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("release 한 키와 만료된 키는 다시 선점할 수 있다")
+    void release_and_expiry() {
+        //Given
+        store.release("released", store.tryClaim("released", "fp").getAsLong());
+        store.complete("expired", store.tryClaim("expired", "fp").getAsLong(), new byte[]{1});
+
+        //When
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+
+        //Then
+        assertThat(store.await("released", "fp", Duration.ofMillis(5))).isEmpty();
+        assertThat(store.tryClaim("released", "fp")).isPresent();
+        assertThat(store.await("expired", "fp", Duration.ofMillis(5))).isEmpty();
+        assertThat(store.tryClaim("expired", "fp")).isPresent();
+    }
+
+    @Test
+    @DisplayName("claimTimeout 이 지나도록 결과가 없는 선점은 같은 지문의 요청만 넘겨받는다")
+    void stale_claim_is_taken_over() {
+        //Given
+        store.tryClaim("key", "fp");
+
+        //When
+        now.addAndGet(Duration.ofSeconds(31).toMillis());
+
+        //Then
+        assertThat(store.await("key", "fp", Duration.ofMillis(5))).isEmpty();
+        assertThat(store.tryClaim("key", "other")).isEmpty();
+        assertThat(store.tryClaim("key", "fp")).isPresent();
+        assertThat(store.tryClaim("key", "fp")).isEmpty();
+        assertThatThrownBy(() -> store.await("key", "fp", Duration.ofMillis(5)))
+                .isInstanceOf(IdempotencyRequestInProgressException.class);
+    }
+
+    @Test
+    @DisplayName("완료된 키는 claimTimeout 이 지나도 넘겨받지 않는다")
+    void completed_key_is_not_taken_over() {
+        //Given
+        store.complete("key", store.tryClaim("key", "fp").getAsLong(), new byte[]{1});
+
+        //When
+        now.addAndGet(Duration.ofSeconds(31).toMillis());
+
+        //Then
+        assertThat(store.tryClaim("key", "fp")).isEmpty();
+        assertThat(store.await("key", "fp", Duration.ofMillis(5))).hasValue(new byte[]{1});
+    }
+
+    @Test
+    @DisplayName("넘겨받힌 선점의 complete/release 는 새 선점의 행을 바꾸지 않는다")
+    void stale_claim_cannot_complete_or_release() {
+        //Given
+        long stale = store.tryClaim("key", "fp").getAsLong();
+        now.addAndGet(Duration.ofSeconds(31).toMillis());
+        long current = store.tryClaim("key", "fp").getAsLong();
+
+        //When
+        store.release("key", stale);
+        store.complete("key", stale, new byte[]{1});
+
+        //Then
+        assertThatThrownBy(() -> store.await("key", "fp", Duration.ofMillis(5)))
+                .isInstanceOf(IdempotencyRequestInProgressException.class);
+        store.complete("key", current, new byte[]{2});
+        assertThat(store.await("key", "fp", Duration.ofMillis(5))).hasValue(new byte[]{2});
+    }
+}
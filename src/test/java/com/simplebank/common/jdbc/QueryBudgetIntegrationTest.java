@@ -0,0 +1,141 @@
+package com.simplebank.common.jdbc;
+
+import com.simplebank.account.adapter.out.persistence.AccountJpaEntity;
+import com.simplebank.account.adapter.out.persistence.AccountJpaRepository;
+import com.simplebank.account.adapter.out.persistence.UserBalanceSummaryJpaRepository;
+import com.simplebank.account.application.port.in.CheckBalanceSummaryUseCase;
+import com.simplebank.account.application.port.in.GetAccountsBatchUseCase;
+import com.simplebank.account.application.port.in.GetAccountsUseCase;
+import com.simplebank.account.application.port.in.TransferUseCase;
+import com.simplebank.account.application.port.in.dto.TransferCommand;
+import com.simplebank.account.domain.AccountStatus;
+import com.simplebank.transaction.adapter.out.persistence.TransactionJpaRepository;
+import com.simplebank.transaction.application.port.in.GetTransactionsUseCase;
+import com.simplebank.user.adapter.out.persistence.UserJpaEntity;
+import com.simplebank.user.adapter.out.persistence.UserJpaRepository;
+import com.simplebank.user.application.port.in.GetUserInfoUseCase;
+import com.simplebank.user.application.port.in.LoginUseCase;
+import com.simplebank.user.application.port.in.dto.LoginCommand;
+import com.simplebank.user.domain.UserStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static com.simplebank.common.jdbc.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유스케이스별 SQL 실행 수 상한. 조회 경로에 N+1 이 생기면 계좌/사용자 수에 비례해 늘어나 실패한다.
+ */
+@SpringBootTest
+@DisplayName("유스케이스별 SQL 실행 수 상한 테스트")
+class QueryBudgetIntegrationTest {
+
+    @Autowired
+    private LoginUseCase loginUseCase;
+
+    @Autowired
+    private GetUserInfoUseCase getUserInfoUseCase;
+
+    @Autowired
+    private GetAccountsUseCase getAccountsUseCase;
+
+    @Autowired
+    private GetAccountsBatchUseCase getAccountsBatchUseCase;
+
+    @Autowired
+    private GetTransactionsUseCase getTransactionsUseCase;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AccountJpaRepository accountJpaRepository;
+
+    @Autowired
+    private TransactionJpaRepository transactionJpaRepository;
+
+    @Autowired
+    private UserBalanceSummaryJpaRepository userBalanceSummaryJpaRepository;
+
+    @Autowired
+    private CheckBalanceSummaryUseCase checkBalanceSummaryUseCase;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        transactionJpaRepository.deleteAll();
+        userBalanceSummaryJpaRepository.deleteAll();
+        accountJpaRepository.deleteAll();
+        userJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("로그인과 사용자 조회")
+    void login_and_user_info() {
+        //Given
+        Long userId = userJpaRepository.save(UserJpaEntity.builder()
+                .username("budget-user")
+                .password(passwordEncoder.encode("password"))
+                .status(UserStatus.ACTIVE)
+                .build()).getId();
+
+        // 사용자명 필터의 최초 빌드 쿼리는 한 번만 실행되므로 상한에서 뺀다
+        loginUseCase.execute(new LoginCommand("budget-user", "password"));
+
+        //When & Then
+        assertMaxQueries(1, () -> loginUseCase.execute(new LoginCommand("budget-user", "password")));
+        assertMaxQueries(1, () -> getUserInfoUseCase.execute(userId));
+    }
+
+    @Test
+    @DisplayName("계좌 목록 조회는 계좌 수와 무관하다")
+    void accounts_queries_do_not_grow_with_rows() {
+        //Given
+        for (long userId = 1; userId <= 5; userId++) {
+            for (int i = 0; i < 4; i++) {
+                saveAccount(userId, "BUDGET-" + userId + "-" + i);
+            }
+        }
+
+        //When & Then
+        assertThat(assertMaxQueries(1, () -> getAccountsUseCase.execute(1L))).hasSize(4);
+        assertThat(assertMaxQueries(1, () -> getAccountsBatchUseCase.execute(Set.of(1L, 2L, 3L, 4L, 5L))))
+                .hasSize(5);
+    }
+
+    @Test
+    @DisplayName("이체와 거래 내역 조회")
+    void transfer_and_transactions() {
+        //Given
+        Long from = saveAccount(1L, "BUDGET-FROM");
+        Long to = saveAccount(2L, "BUDGET-TO");
+        // 요약 행이 없으면 첫 증감 때 집계로 만드는 쿼리가 더해지므로 미리 만들어 둔다
+        checkBalanceSummaryUseCase.execute(true);
+
+        //When & Then
+        // 계좌 조회 2, 원장 배치 insert 1, 계좌 잔액 update 2, 사용자별 잔액 요약 update 2
+        assertMaxQueries(7, () -> transferUseCase.execute(new TransferCommand(from, to, BigDecimal.ONE)));
+        assertMaxQueries(1, () -> getTransactionsUseCase.execute(from, null, 10));
+    }
+
+    private Long saveAccount(Long userId, String accountNumber) {
+        return accountJpaRepository.save(AccountJpaEntity.builder()
+                .userId(userId)
+                .accountNumber(accountNumber)
+                .balance(new BigDecimal("100.00"))
+                .status(AccountStatus.ACTIVE)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,50 @@
+package com.simplebank.common.jdbc;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유스케이스 한 번에 실행되는 SQL 수의 상한을 검증한다. N+1 이 생기면 상한을 넘겨 실패한다.
+ *
+ * <pre>
+ * AccountInfo info = assertMaxQueries(2, () -> getAccountsUseCase.execute(userId));
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static QueryCount countQueries(Runnable action) {
+        QueryCounter counter = QueryCounter.start();
+        try {
+            action.run();
+        } finally {
+            counter.stop();
+        }
+        return counter.current();
+    }
+
+    public static <T> T assertMaxQueries(int max, Supplier<T> action) {
+        QueryCounter counter = QueryCounter.start();
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            counter.stop();
+        }
+        QueryCount count = counter.current();
+        assertThat(count.getTotal())
+                .as("SQL 실행 수 상한 %d 초과: %s", max, count)
+                .isLessThanOrEqualTo(max);
+        return result;
+    }
+
+    public static void assertMaxQueries(int max, Runnable action) {
+        assertMaxQueries(max, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
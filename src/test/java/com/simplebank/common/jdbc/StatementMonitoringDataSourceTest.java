@@ -0,0 +1,132 @@
+package com.simplebank.common.jdbc;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static com.simplebank.common.jdbc.QueryCountAssertions.assertMaxQueries;
+import static com.simplebank.common.jdbc.QueryCountAssertions.countQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StatementMonitoringDataSource 테스트")
+class StatementMonitoringDataSourceTest {
+
+    private StatementMonitoringDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:statement-monitoring;DB_CLOSE_DELAY=-1");
+        dataSource = new StatementMonitoringDataSource(h2, Duration.ofSeconds(1), true);
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists item");
+            statement.execute("create table item (id bigint primary key, name varchar(20))");
+        }
+    }
+
+    @Test
+    @DisplayName("PreparedStatement 실행을 종류별로 세고, 배치는 한 번으로 센다")
+    void counts_prepared_statements_by_type() {
+        //When
+        QueryCount count = countQueries(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                try (PreparedStatement insert = connection.prepareStatement("insert into item values (?, ?)")) {
+                    for (long id = 1; id <= 3; id++) {
+                        insert.setLong(1, id);
+                        insert.setString(2, "item-" + id);
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+                try (PreparedStatement select = connection.prepareStatement("select name from item where id = ?")) {
+                    select.setLong(1, 2L);
+                    try (ResultSet rs = select.executeQuery()) {
+                        assertThat(rs.next()).isTrue();
+                        assertThat(rs.getString(1)).isEqualTo("item-2");
+                    }
+                }
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("update item set name = 'renamed' where id = 1");
+                    statement.execute("delete from item where id = 3");
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        //Then
+        assertThat(count.getInserts()).isEqualTo(1);
+        assertThat(count.getSelects()).isEqualTo(1);
+        assertThat(count.getUpdates()).isEqualTo(1);
+        assertThat(count.getDeletes()).isEqualTo(1);
+        assertThat(count.getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("중첩된 구간의 SQL 은 바깥 구간에도 더해지고, 구간 밖 SQL 은 세지 않는다")
+    void nested_counters() throws SQLException {
+        //Given
+        QueryCounter outer = QueryCounter.start();
+
+        //When
+        selectOne();
+        QueryCount inner = countQueries(this::selectOneUnchecked);
+        outer.stop();
+        selectOne();
+
+        //Then
+        assertThat(inner.getTotal()).isEqualTo(1);
+        assertThat(outer.current().getSelects()).isEqualTo(2);
+        assertThat(QueryCounter.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상한을 넘기면 실행 수와 함께 실패한다")
+    void assert_max_queries_fails_over_budget() {
+        //When & Then
+        assertMaxQueries(1, this::selectOneUnchecked);
+        assertThatThrownBy(() -> assertMaxQueries(1, () -> {
+            selectOneUnchecked();
+            selectOneUnchecked();
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("total=2");
+    }
+
+    @Test
+    @DisplayName("감싼 커넥션과 Statement 는 unwrap 과 getConnection 에서 프록시를 유지한다")
+    void keeps_proxies() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            //Then
+            assertThat(statement.getConnection()).isSameAs(connection);
+            assertThat(connection.unwrap(Connection.class)).isSameAs(connection);
+            assertThat(connection.isWrapperFor(org.h2.jdbc.JdbcConnection.class)).isTrue();
+        }
+    }
+
+    private void selectOne() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select count(*) from item")) {
+            rs.next();
+        }
+    }
+
+    private void selectOneUnchecked() {
+        try {
+            selectOne();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
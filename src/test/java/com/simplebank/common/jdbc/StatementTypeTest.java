@@ -0,0 +1,23 @@
+package com.simplebank.common.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StatementType 테스트")
+class StatementTypeTest {
+
+    @Test
+    @DisplayName("첫 키워드로 SQL 종류를 구분한다")
+    void classifies_by_first_keyword() {
+        assertThat(StatementType.of("  SELECT * from accounts")).isEqualTo(StatementType.SELECT);
+        assertThat(StatementType.of("(select 1) union (select 2)")).isEqualTo(StatementType.SELECT);
+        assertThat(StatementType.of("insert into users values (?)")).isEqualTo(StatementType.INSERT);
+        assertThat(StatementType.of("merge into users key(id) values (?)")).isEqualTo(StatementType.INSERT);
+        assertThat(StatementType.of("Update accounts set balance = ?")).isEqualTo(StatementType.UPDATE);
+        assertThat(StatementType.of("delete from sessions")).isEqualTo(StatementType.DELETE);
+        assertThat(StatementType.of("create table t (id int)")).isEqualTo(StatementType.OTHER);
+        assertThat(StatementType.of(null)).isEqualTo(StatementType.OTHER);
+    }
+}
@@ -0,0 +1,135 @@
+package com.simplebank.common.metrics;
+
+import com.simplebank.user.adapter.out.persistence.UserJpaEntity;
+import com.simplebank.user.adapter.out.persistence.UserJpaRepository;
+import com.simplebank.user.application.port.in.GetUserInfoUseCase;
+import com.simplebank.user.application.port.out.IssueSessionPort;
+import com.simplebank.user.domain.UserStatus;
+import com.simplebank.user.domain.exception.UserNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+// 테스트에서는 기본적으로 Prometheus 레지스트리가 꺼져 있다
+@AutoConfigureObservability
+@DisplayName("메트릭 통합 테스트")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private GetUserInfoUseCase getUserInfoUseCase;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private IssueSessionPort issueSessionPort;
+
+    @Test
+    @DisplayName("유스케이스와 아웃바운드 포트 호출 시간을 결과별로 기록한다")
+    void records_use_case_and_port_timers() {
+        //Given
+        Long userId = userJpaRepository.save(UserJpaEntity.builder()
+                .username("metrics-user")
+                .password("encoded")
+                .status(UserStatus.ACTIVE)
+                .build()).getId();
+
+        //When
+        getUserInfoUseCase.execute(userId);
+        assertThatThrownBy(() -> getUserInfoUseCase.execute(-1L))
+                .isInstanceOf(UserNotFoundException.class);
+
+        //Then
+        Timer success = registry.find(PortMetricsInterceptor.METRIC_NAME)
+                .tags("type", "in", "port", "GetUserInfoUseCase", "outcome", "success").timer();
+        Timer error = registry.find(PortMetricsInterceptor.METRIC_NAME)
+                .tags("port", "GetUserInfoUseCase", "outcome", "error", "exception", "UserNotFoundException").timer();
+        Timer outbound = registry.find(PortMetricsInterceptor.METRIC_NAME)
+                .tags("type", "out", "port", "LoadUserPort", "method", "loadById").timer();
+        assertThat(success).isNotNull();
+        assertThat(success.count()).isGreaterThanOrEqualTo(1);
+        assertThat(error).isNotNull();
+        assertThat(outbound).isNotNull();
+    }
+
+    @Test
+    @DisplayName("캐시 어댑터와 감싼 DB 어댑터의 호출은 impl 태그로 나뉜다")
+    void decorated_port_is_tagged_by_impl() {
+        //Given
+        Long userId = userJpaRepository.save(UserJpaEntity.builder()
+                .username("metrics-impl-user")
+                .password("encoded")
+                .status(UserStatus.ACTIVE)
+                .build()).getId();
+
+        //When: 두 번째 조회는 캐시에서 답한다
+        getUserInfoUseCase.execute(userId);
+        getUserInfoUseCase.execute(userId);
+
+        //Then
+        Timer cache = registry.find(PortMetricsInterceptor.METRIC_NAME)
+                .tags("port", "LoadUserPort", "method", "loadById", "impl", "CachingUserRepositoryAdapter").timer();
+        Timer database = registry.find(PortMetricsInterceptor.METRIC_NAME)
+                .tags("port", "LoadUserPort", "method", "loadById", "impl", "UserRepositoryAdapter").timer();
+        assertThat(cache).isNotNull();
+        assertThat(database).isNotNull();
+        assertThat(cache.count()).isGreaterThan(database.count());
+    }
+
+    @Test
+    @DisplayName("메트릭 스크랩은 이체 통계 유스케이스를 호출하지 않는다")
+    void scrape_does_not_record_port_timers() throws Exception {
+        //When
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("simplebank_transfer_completed")));
+
+        //Then
+        assertThat(registry.find(PortMetricsInterceptor.METRIC_NAME)
+                .tags("port", "GetTransferStatisticsUseCase").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("요청별 SQL 수와 포트 타이머를 Prometheus 형식으로 노출한다")
+    void exposes_prometheus_endpoint() throws Exception {
+        //Given
+        String token = issueSessionPort.issue(1L, "metrics-user").getToken();
+        mockMvc.perform(get("/api/accounts/user/{userId}", 1L)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        //When & Then
+        assertThat(registry.find(QueryCountFilter.METRIC_NAME)
+                .tags("uri", "/api/accounts/user/{userId}").summary().totalAmount())
+                .isGreaterThanOrEqualTo(1);
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("simplebank_port_seconds_count")))
+                .andExpect(content().string(containsString("simplebank_http_queries")))
+                .andExpect(content().string(containsString("quantile=\"0.99\"")));
+    }
+}
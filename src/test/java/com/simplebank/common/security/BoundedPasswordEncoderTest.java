@@ -0,0 +1,132 @@
+package com.simplebank.common.security;
+
+import com.simplebank.common.concurrent.CapacityExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.close();
+    }
+
+    private PasswordVerificationProperties properties(int threads, int queueCapacity, Duration timeout) {
+        PasswordVerificationProperties properties = new PasswordVerificationProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        return properties;
+    }
+
+    @Test
+    @DisplayName("검증은 전용 스레드에서 실행되고 결과와 지연 시간이 기록됨")
+    void matches_runs_on_dedicated_pool() {
+        //Given
+        String[] verifyingThread = new String[1];
+        PasswordEncoder delegate = new StubEncoder() {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                verifyingThread[0] = Thread.currentThread().getName();
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        encoder = new BoundedPasswordEncoder(delegate, properties(1, 1, Duration.ofSeconds(1)));
+
+        //When
+        boolean matched = encoder.matches("secret", "secret");
+        boolean mismatched = encoder.matches("secret", "other");
+
+        //Then
+        assertThat(matched).isTrue();
+        assertThat(mismatched).isFalse();
+        assertThat(verifyingThread[0]).startsWith("password-verify-");
+        assertThat(encoder.verificationCount()).isEqualTo(2);
+        assertThat(encoder.totalVerifyNanos()).isPositive();
+    }
+
+    @Test
+    @DisplayName("풀과 큐가 가득 차면 즉시 거절")
+    void matches_rejects_when_saturated() throws Exception {
+        //Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder delegate = new StubEncoder() {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(delegate, properties(1, 1, Duration.ofSeconds(5)));
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "b"));
+        while (encoder.queueDepth() < 1) {
+            Thread.onSpinWait();
+        }
+
+        //When & Then
+        assertThatThrownBy(() -> encoder.matches("c", "c"))
+                .isInstanceOf(CapacityExceededException.class)
+                .extracting("retryAfterSeconds").isEqualTo(3L);
+        assertThat(encoder.rejectionCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 검증이 끝나지 않으면 거절")
+    void matches_rejects_on_timeout() {
+        //Given
+        PasswordEncoder delegate = new StubEncoder() {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    Thread.sleep(1_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(delegate, properties(1, 1, Duration.ofMillis(50)));
+
+        //When & Then
+        assertThatThrownBy(() -> encoder.matches("a", "a"))
+                .isInstanceOf(CapacityExceededException.class);
+    }
+
+    private static class StubEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
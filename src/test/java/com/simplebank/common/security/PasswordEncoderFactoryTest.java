@@ -0,0 +1,110 @@
+package com.simplebank.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordEncoderFactory 테스트")
+class PasswordEncoderFactoryTest {
+
+    private PasswordEncoderProperties properties(String algorithm, int bcryptStrength) {
+        return properties(algorithm, bcryptStrength, 1_000);
+    }
+
+    private PasswordEncoderProperties properties(String algorithm, int bcryptStrength, int pbkdf2Iterations) {
+        PasswordEncoderProperties properties = new PasswordEncoderProperties();
+        properties.setAlgorithm(algorithm);
+        properties.setBcryptStrength(bcryptStrength);
+        properties.setPbkdf2Iterations(pbkdf2Iterations);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 BCrypt 해시도 검증되고 업그레이드 대상으로 표시됨")
+    void legacy_bcrypt_hash_matches_and_needs_upgrade() {
+        //Given
+        String legacy = new BCryptPasswordEncoder(4).encode("password123");
+        PasswordEncoder encoder = PasswordEncoderFactory.create(properties("bcrypt", 4));
+
+        //When & Then
+        assertThat(encoder.matches("password123", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("설정된 비용보다 낮은 BCrypt 해시는 업그레이드 대상")
+    void lower_cost_bcrypt_hash_needs_upgrade() {
+        //Given
+        String weak = PasswordEncoderFactory.create(properties("bcrypt", 4)).encode("password123");
+        PasswordEncoder encoder = PasswordEncoderFactory.create(properties("bcrypt", 5));
+
+        //When & Then
+        assertThat(weak).startsWith("{bcrypt}");
+        assertThat(encoder.matches("password123", weak)).isTrue();
+        assertThat(encoder.upgradeEncoding(weak)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password123"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("알고리즘을 바꾸면 이전 알고리즘 해시는 업그레이드 대상")
+    void switching_algorithm_marks_old_hash_for_upgrade() {
+        //Given
+        String bcrypt = PasswordEncoderFactory.create(properties("bcrypt", 4)).encode("password123");
+        PasswordEncoder encoder = PasswordEncoderFactory.create(properties("pbkdf2", 4));
+
+        //When
+        String pbkdf2 = encoder.encode("password123");
+
+        //Then
+        assertThat(pbkdf2).startsWith("{pbkdf2}");
+        assertThat(encoder.matches("password123", bcrypt)).isTrue();
+        assertThat(encoder.upgradeEncoding(bcrypt)).isTrue();
+        assertThat(encoder.matches("password123", pbkdf2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("PBKDF2 반복 횟수를 바꾸면 이전 횟수 해시는 그 횟수로 검증되고 업그레이드 대상")
+    void changed_pbkdf2_iterations_marks_old_hash_for_upgrade() {
+        //Given
+        String old = PasswordEncoderFactory.create(properties("pbkdf2", 4, 1_000)).encode("password123");
+        PasswordEncoder encoder = PasswordEncoderFactory.create(properties("pbkdf2", 4, 2_000));
+
+        //When
+        String current = encoder.encode("password123");
+
+        //Then
+        assertThat(old).startsWith("{pbkdf2}1000$");
+        assertThat(current).startsWith("{pbkdf2}2000$");
+        assertThat(encoder.matches("password123", old)).isTrue();
+        assertThat(encoder.matches("wrong", old)).isFalse();
+        assertThat(encoder.upgradeEncoding(old)).isTrue();
+        assertThat(encoder.matches("password123", current)).isTrue();
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+    }
+
+    @Test
+    @DisplayName("반복 횟수가 없는 이전 형식 PBKDF2 해시는 현재 횟수로 검증되고 업그레이드 대상")
+    void legacy_pbkdf2_hash_without_iterations_needs_upgrade() {
+        //Given
+        String legacy = "{pbkdf2}" + new Pbkdf2PasswordEncoder(
+                "", 16, 1_000, Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256)
+                .encode("password123");
+        PasswordEncoder encoder = PasswordEncoderFactory.create(properties("pbkdf2", 4, 1_000));
+
+        //When & Then
+        assertThat(encoder.matches("password123", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 알고리즘은 거부")
+    void unknown_algorithm_is_rejected() {
+        assertThatThrownBy(() -> PasswordEncoderFactory.create(properties("md5", 4)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
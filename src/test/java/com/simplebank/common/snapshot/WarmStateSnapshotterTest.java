@@ -0,0 +1,214 @@
+package com.simplebank.common.snapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmStateSnapshotter 테스트")
+class WarmStateSnapshotterTest {
+
+    @TempDir
+    Path dir;
+
+    @Mock
+    private ObjectProvider<WarmStateSection> sectionProvider;
+
+    private WarmStateProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmStateProperties();
+        properties.setPath(dir.resolve("warm-state.snap").toString());
+    }
+
+    private WarmStateSnapshotter snapshotter(WarmStateSection... sections) {
+        when(sectionProvider.orderedStream()).thenAnswer(invocation -> Stream.of(sections));
+        return new WarmStateSnapshotter(properties, sectionProvider);
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일은 소유자만 읽고 쓸 수 있다")
+    void snapshot_file_is_owner_only() throws IOException {
+        //Given
+        Path file = Path.of(properties.getPath());
+        assumeTrue(Files.getFileStore(dir).supportsFileAttributeView(PosixFileAttributeView.class));
+
+        //When: 이미 있는 파일을 덮어써도 권한을 새로 정한다
+        snapshotter(new StringsSection("users", "alice")).write();
+        Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r--r--"));
+        snapshotter(new StringsSection("users", "alice")).write();
+
+        //Then
+        assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(file))).isEqualTo("rw-------");
+    }
+
+    @Test
+    @DisplayName("쓴 스냅샷을 읽으면 구역마다 같은 상태가 채워진다")
+    void round_trip() throws IOException {
+        //Given
+        snapshotter(new StringsSection("users", "alice", "bob"), new StringsSection("names", "홍길동")).write();
+        StringsSection users = new StringsSection("users");
+        StringsSection names = new StringsSection("names");
+
+        //When
+        List<WarmStateSection> restored = snapshotter(users, names).load();
+
+        //Then
+        assertThat(restored).containsExactly(users, names);
+        assertThat(users.values).containsExactly("alice", "bob");
+        assertThat(names.values).containsExactly("홍길동");
+    }
+
+    @Test
+    @DisplayName("본문이 깨진 구역과 모르는 구역은 건너뛰고 나머지는 채운다")
+    void skips_corrupt_and_unknown_sections() throws IOException {
+        //Given
+        snapshotter(new StringsSection("first", "aaaa"), new StringsSection("second", "bbbb"),
+                new StringsSection("removed", "cccc")).write();
+        try (RandomAccessFile file = new RandomAccessFile(properties.getPath(), "rw")) {
+            // 파일 헤더 20바이트 + 첫 구역 헤더(2 + "first" 5 + 4 + 4) 뒤의 본문 안쪽
+            file.seek(20 + 15 + 4);
+            file.write('x');
+        }
+        StringsSection first = new StringsSection("first");
+        StringsSection second = new StringsSection("second");
+
+        //When
+        List<WarmStateSection> restored = snapshotter(first, second).load();
+
+        //Then
+        assertThat(restored).containsExactly(second);
+        assertThat(first.values).isEmpty();
+        assertThat(second.values).containsExactly("bbbb");
+    }
+
+    @Test
+    @DisplayName("maxAge 보다 오래된 스냅샷은 읽지 않는다")
+    void ignores_stale_snapshot() throws IOException {
+        //Given
+        snapshotter(new StringsSection("users", "alice")).write();
+        properties.setMaxAge(Duration.ofMillis(-1));
+        StringsSection users = new StringsSection("users");
+
+        //When
+        List<WarmStateSection> restored = snapshotter(users).load();
+
+        //Then
+        assertThat(restored).isEmpty();
+        assertThat(users.values).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일이 없으면 아무것도 채우지 않는다")
+    void no_snapshot_file() {
+        //When & Then
+        assertThat(new WarmStateSnapshotter(properties, sectionProvider).load()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("채운 구역을 DB 와 대조할 때까지 러너가 끝나지 않아 준비 상태가 되지 않는다")
+    void runner_waits_for_reconcile() throws Exception {
+        //Given
+        snapshotter(new StringsSection("users", "alice")).write();
+        CountDownLatch release = new CountDownLatch(1);
+        StringsSection users = new StringsSection("users") {
+            @Override
+            public void reconcile() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        WarmStateSnapshotter snapshotter = snapshotter(users);
+        snapshotter.start();
+
+        //When
+        CompletableFuture<Void> runner = CompletableFuture.runAsync(() -> {
+            try {
+                snapshotter.run(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        //Then
+        Thread.sleep(100);
+        assertThat(runner).isNotDone();
+        release.countDown();
+        runner.get(5, TimeUnit.SECONDS);
+        snapshotter.stop();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 러너는 바로 끝난다")
+    void runner_returns_without_snapshot() {
+        //Given
+        WarmStateSnapshotter snapshotter = snapshotter();
+        snapshotter.start();
+
+        //When & Then
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> snapshotter.run(null));
+        snapshotter.stop();
+    }
+
+    private static class StringsSection implements WarmStateSection {
+
+        private final String name;
+        private final List<String> values = new ArrayList<>();
+
+        StringsSection(String name, String... values) {
+            this.name = name;
+            this.values.addAll(List.of(values));
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeInt(values.size());
+            for (String value : values) {
+                SnapshotStrings.write(out, value);
+            }
+        }
+
+        @Override
+        public void read(ByteBuffer in) {
+            int count = in.getInt();
+            for (int i = 0; i < count; i++) {
+                values.add(SnapshotStrings.read(in));
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.simplebank.transaction.adapter.in.web;
+
+import com.simplebank.transaction.application.port.in.GetTransactionsUseCase;
+import com.simplebank.transaction.application.port.in.dto.TransactionInfo;
+import com.simplebank.transaction.application.port.in.dto.TransactionPage;
+import com.simplebank.user.application.port.in.ValidateSessionUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TransactionController.class)
+@DisplayName("TransactionController 테스트")
+class TransactionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetTransactionsUseCase getTransactionsUseCase;
+
+    // WebConfig 의 세션 사용자 ArgumentResolver 가 의존한다
+    @MockBean
+    private ValidateSessionUseCase validateSessionUseCase;
+
+    @Test
+    @DisplayName("GET /api/transactions/account/{accountId} - 거래 내역 조회 성공")
+    void getTransactions_success() throws Exception {
+        //Given
+        TransactionPage page = new TransactionPage(List.of(
+                new TransactionInfo(2L, 20L, "TRANSFER_IN", new BigDecimal("100.00"),
+                        new BigDecimal("1100.00"), Instant.parse("2024-01-01T00:00:01Z")),
+                new TransactionInfo(1L, 20L, "TRANSFER_OUT", new BigDecimal("50.00"),
+                        new BigDecimal("1000.00"), Instant.parse("2024-01-01T00:00:00Z"))
+        ), "next");
+        when(getTransactionsUseCase.execute(eq(10L), isNull(), eq(2)))
+                .thenReturn(page);
+
+        //When & Then
+        mockMvc.perform(get("/api/transactions/account/{accountId}", 10L)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactions.length()").value(2))
+                .andExpect(jsonPath("$.transactions[0].type").value("TRANSFER_IN"))
+                .andExpect(jsonPath("$.transactions[0].balanceAfter").value(1100.00))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("GET /api/transactions/account/{accountId} - 잘못된 커서는 400")
+    void getTransactions_invalid_cursor() throws Exception {
+        //Given
+        when(getTransactionsUseCase.execute(10L, "broken", null))
+                .thenThrow(new IllegalArgumentException("잘못된 cursor 입니다."));
+
+        //When & Then
+        mockMvc.perform(get("/api/transactions/account/{accountId}", 10L)
+                        .param("cursor", "broken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_REQUEST"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.simplebank.transaction.adapter.out.persistence;
+
+import com.simplebank.account.domain.Money;
+import com.simplebank.transaction.domain.Transaction;
+import com.simplebank.transaction.domain.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@DisplayName("TransactionRepositoryAdapter 테스트")
+class TransactionRepositoryAdapterTest {
+
+    private static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Autowired
+    private TransactionJpaRepository jpaRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private TransactionRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new TransactionRepositoryAdapter(jpaRepository, new JdbcTemplate(dataSource));
+    }
+
+    private Transaction transaction(Long accountId, int seconds) {
+        return Transaction.transferOut(accountId, 99L,
+                new Money(new BigDecimal("1.00")), new Money(new BigDecimal("100.00")), BASE.plusSeconds(seconds));
+    }
+
+    @Test
+    @DisplayName("거래를 배치로 저장하고 최신순으로 조회")
+    void saveAll_and_loadLatest() {
+        //Given
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            transactions.add(transaction(1L, i));
+        }
+        transactions.add(transaction(2L, 10));
+
+        //When
+        adapter.saveAll(transactions);
+        List<Transaction> result = adapter.loadLatestByAccountId(1L, 3);
+
+        //Then
+        assertThat(result).extracting(Transaction::getCreatedAt)
+                .containsExactly(BASE.plusSeconds(4), BASE.plusSeconds(3), BASE.plusSeconds(2));
+        assertThat(result.get(0).getType()).isEqualTo(TransactionType.TRANSFER_OUT);
+        assertThat(result.get(0).getAmount().getAmount()).isEqualByComparingTo("1.00");
+        assertThat(result.get(0).getId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("멱등성 키로 출금 줄을 찾고, 같은 키는 두 번 기록되지 않는다")
+    void loadByRequestKey_and_unique() {
+        //Given
+        Money amount = new Money(new BigDecimal("1.00"));
+        Money balance = new Money(new BigDecimal("100.00"));
+        adapter.saveAll(List.of(
+                Transaction.transferOut(1L, 2L, amount, balance, BASE, "scope:key"),
+                Transaction.transferIn(2L, 1L, amount, balance, BASE)));
+
+        //When & Then
+        assertThat(adapter.loadByRequestKey("scope:key"))
+                .hasValueSatisfying(out -> assertThat(out.getAccountId()).isEqualTo(1L));
+        assertThat(adapter.loadByRequestKey("scope:other")).isEmpty();
+        assertThatThrownBy(() -> adapter.saveAll(List.of(
+                Transaction.transferOut(1L, 2L, amount, balance, BASE, "scope:key"))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("같은 시각의 거래도 (createdAt, id) 커서로 빠짐없이 이어서 조회")
+    void loadByAccountIdBefore_breaks_ties_by_id() {
+        //Given
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            transactions.add(transaction(1L, 0));
+        }
+        transactions.add(transaction(1L, -1));
+        adapter.saveAll(transactions);
+        List<Transaction> firstPage = adapter.loadLatestByAccountId(1L, 2);
+        Transaction last = firstPage.get(1);
+
+        //When
+        List<Transaction> secondPage = adapter.loadByAccountIdBefore(1L, last.getCreatedAt(), last.getId(), 10);
+
+        //Then
+        assertThat(secondPage).hasSize(3);
+        assertThat(secondPage).extracting(Transaction::getId).doesNotContainAnyElementsOf(
+                firstPage.stream().map(Transaction::getId).toList());
+        assertThat(secondPage.get(2).getCreatedAt()).isEqualTo(BASE.minusSeconds(1));
+    }
+}
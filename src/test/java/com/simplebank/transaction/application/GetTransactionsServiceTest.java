@@ -0,0 +1,110 @@
+package com.simplebank.transaction.application;
+
+import com.simplebank.account.domain.Money;
+import com.simplebank.transaction.application.port.in.dto.TransactionInfo;
+import com.simplebank.transaction.application.port.in.dto.TransactionPage;
+import com.simplebank.transaction.application.port.out.LoadTransactionPort;
+import com.simplebank.transaction.domain.Transaction;
+import com.simplebank.transaction.domain.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetTransactionsService 테스트")
+class GetTransactionsServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00.000001Z");
+
+    @Mock
+    private LoadTransactionPort loadTransactionPort;
+
+    private TransactionQueryProperties properties;
+    private GetTransactionsService getTransactionsService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TransactionQueryProperties();
+        getTransactionsService = new GetTransactionsService(loadTransactionPort, properties);
+    }
+
+    private Transaction transaction(Long id, Instant createdAt) {
+        return Transaction.builder()
+                .id(id)
+                .accountId(1L)
+                .counterpartyAccountId(2L)
+                .type(TransactionType.TRANSFER_OUT)
+                .amount(new Money(new BigDecimal("100.00")))
+                .balanceAfter(new Money(new BigDecimal("900.00")))
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 최신 거래부터 조회하고 다음 페이지 커서를 반환")
+    void getTransactions_first_page() {
+        //Given
+        when(loadTransactionPort.loadLatestByAccountId(1L, 3))
+                .thenReturn(List.of(transaction(30L, NOW), transaction(20L, NOW), transaction(10L, NOW)));
+
+        //When
+        TransactionPage page = getTransactionsService.execute(1L, null, 2);
+
+        //Then
+        assertThat(page.getTransactions()).extracting(TransactionInfo::getTransactionId).containsExactly(30L, 20L);
+        assertThat(page.getTransactions().get(0).getType()).isEqualTo("TRANSFER_OUT");
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("커서를 넘기면 마지막으로 받은 거래 이전부터 조회")
+    void getTransactions_next_page() {
+        //Given
+        when(loadTransactionPort.loadLatestByAccountId(1L, 3))
+                .thenReturn(List.of(transaction(30L, NOW), transaction(20L, NOW), transaction(10L, NOW)));
+        String cursor = getTransactionsService.execute(1L, null, 2).getNextCursor();
+        when(loadTransactionPort.loadByAccountIdBefore(1L, NOW, 20L, 3))
+                .thenReturn(List.of(transaction(10L, NOW)));
+
+        //When
+        TransactionPage page = getTransactionsService.execute(1L, cursor, 2);
+
+        //Then
+        assertThat(page.getTransactions()).extracting(TransactionInfo::getTransactionId).containsExactly(10L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 조회하지 않고 실패")
+    void getTransactions_fail_invalid_cursor() {
+        //When & Then
+        assertThatThrownBy(() -> getTransactionsService.execute(1L, "not-a-cursor", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(loadTransactionPort, never()).loadByAccountIdBefore(anyLong(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("최대 페이지 크기를 넘으면 실패")
+    void getTransactions_fail_when_exceeding_max_size() {
+        //When & Then
+        assertThatThrownBy(() -> getTransactionsService.execute(1L, null, properties.getMaxPageSize() + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(loadTransactionPort, never()).loadLatestByAccountId(anyLong(), anyInt());
+    }
+}
@@ -0,0 +1,53 @@
+package com.simplebank.transaction.domain;
+
+import com.simplebank.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Transaction 도메인 테스트")
+class TransactionTest {
+
+    @Test
+    @DisplayName("출금 거래 생성 시 타입과 시각(마이크로초 단위) 설정")
+    void transferOut_success() {
+        //Given
+        Instant now = Instant.parse("2024-01-01T00:00:00.123456789Z");
+
+        //When
+        Transaction transaction = Transaction.transferOut(1L, 2L,
+                new Money(new BigDecimal("100.00")), new Money(new BigDecimal("900.00")), now);
+
+        //Then
+        assertThat(transaction.getType()).isEqualTo(TransactionType.TRANSFER_OUT);
+        assertThat(transaction.getAccountId()).isEqualTo(1L);
+        assertThat(transaction.getCounterpartyAccountId()).isEqualTo(2L);
+        assertThat(transaction.getCreatedAt()).isEqualTo(Instant.parse("2024-01-01T00:00:00.123456Z"));
+        assertThat(transaction.getId()).isNull();
+    }
+
+    @Test
+    @DisplayName("입금 거래 생성")
+    void transferIn_success() {
+        //When
+        Transaction transaction = Transaction.transferIn(2L, 1L,
+                new Money(new BigDecimal("100.00")), new Money(new BigDecimal("1100.00")), Instant.now());
+
+        //Then
+        assertThat(transaction.getType()).isEqualTo(TransactionType.TRANSFER_IN);
+        assertThat(transaction.getBalanceAfter().getAmount()).isEqualByComparingTo("1100.00");
+    }
+
+    @Test
+    @DisplayName("0원 거래는 생성할 수 없음")
+    void zero_amount_fails() {
+        //When & Then
+        assertThatThrownBy(() -> Transaction.transferOut(1L, 2L, Money.ZERO, Money.ZERO, Instant.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
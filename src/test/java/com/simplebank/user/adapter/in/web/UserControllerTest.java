@@ -1,28 +1,41 @@
 package com.simplebank.user.adapter.in.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.simplebank.common.concurrent.CapacityExceededException;
+import com.simplebank.common.exception.ErrorCode;
 import com.simplebank.user.adapter.in.web.dto.LoginRequest;
 import com.simplebank.user.application.port.in.GetUserInfoUseCase;
 import com.simplebank.user.application.port.in.LoginUseCase;
+import com.simplebank.user.application.port.in.LogoutUseCase;
+import com.simplebank.user.application.port.in.ValidateSessionUseCase;
 import com.simplebank.user.application.port.in.dto.LoginCommand;
 import com.simplebank.user.application.port.in.dto.LoginResult;
+import com.simplebank.user.application.port.in.dto.SessionInfo;
 import com.simplebank.user.application.port.in.dto.UserInfo;
 import com.simplebank.user.domain.exception.BlockedUserException;
-import com.simplebank.user.domain.exception.InvalidPasswordException;
-import com.simplebank.user.domain.exception.UserNotFoundException;
+import com.simplebank.user.domain.exception.InvalidCredentialsException;
+import com.simplebank.user.domain.exception.InvalidSessionException;
+import com.simplebank.user.domain.exception.LoginRateLimitedException;
 import org.apache.juli.logging.Log;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -45,12 +58,18 @@ class UserControllerTest {
     @MockBean
     private GetUserInfoUseCase getUserInfoUseCase;
 
+    @MockBean
+    private LogoutUseCase logoutUseCase;
+
+    @MockBean
+    private ValidateSessionUseCase validateSessionUseCase;
+
     @Test
     @DisplayName("POST /api/users/login - 로그인 성공")
     void login_success() throws Exception {
         //given
         LoginRequest request = new LoginRequest("userId","userPassword");
-        LoginResult result = new LoginResult(1L, "userId");
+        LoginResult result = new LoginResult(1L, "userId", "token-1", Instant.parse("2026-01-01T00:30:00Z"));
 
         when(loginUseCase.execute(any(LoginCommand.class)))
                 .thenReturn(result);
@@ -62,7 +81,30 @@ class UserControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.userId").value(1L))
-                .andExpect(jsonPath("$.username").value("userId"));
+                .andExpect(jsonPath("$.username").value("userId"))
+                .andExpect(jsonPath("$.token").value("token-1"));
+    }
+
+    @Test
+    @DisplayName("POST /api/users/login - Idempotency-Key 가 있어도 세션 토큰을 저장해 재전송하지 않는다")
+    void login_ignores_idempotency_key() throws Exception {
+        //Given
+        LoginRequest request = new LoginRequest("userId", "userPassword");
+        when(loginUseCase.execute(any(LoginCommand.class)))
+                .thenReturn(new LoginResult(1L, "userId", "token-1", Instant.parse("2026-01-01T00:30:00Z")))
+                .thenReturn(new LoginResult(1L, "userId", "token-2", Instant.parse("2026-01-01T00:30:00Z")));
+
+        //When & Then
+        for (String token : new String[]{"token-1", "token-2"}) {
+            mockMvc.perform(post("/api/users/login")
+                            .header("Idempotency-Key", "login-replay")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                    .andExpect(jsonPath("$.token").value(token));
+        }
+        verify(loginUseCase, times(2)).execute(any(LoginCommand.class));
     }
 
     @Test
@@ -72,7 +114,7 @@ class UserControllerTest {
         LoginRequest request = new LoginRequest("userId","wrongPassword");
 
         when(loginUseCase.execute(any(LoginCommand.class)))
-                .thenThrow(new InvalidPasswordException());
+                .thenThrow(new InvalidCredentialsException("userId"));
 
         //When&Then
         mockMvc.perform(post("/api/users/login")
@@ -88,12 +130,14 @@ class UserControllerTest {
         LoginRequest request = new LoginRequest("nonexistent", "password123");
 
         when(loginUseCase.execute(any(LoginCommand.class)))
-                .thenThrow(new UserNotFoundException("nonexistent"));
+                .thenThrow(new InvalidCredentialsException("nonexistent"));
 
+        // 잘못된 비밀번호와 같은 401 응답이라 사용자명 존재 여부가 드러나지 않는다
         mockMvc.perform(post("/api/users/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("INVALID_CREDENTIALS"));
 
     }
 
@@ -113,6 +157,42 @@ class UserControllerTest {
                 .andExpect(status().isForbidden());
     }
     
+    @Test
+    @DisplayName("POST /api/users/login - 비밀번호 검증 풀 포화 시 503")
+    void login_fail_verification_pool_saturated() throws Exception {
+        //Given
+        LoginRequest request = new LoginRequest("user1", "password123");
+
+        when(loginUseCase.execute(any(LoginCommand.class)))
+                .thenThrow(new CapacityExceededException(ErrorCode.LOGIN_UNAVAILABLE, 2));
+
+        //When & Then
+        mockMvc.perform(post("/api/users/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.code").value("LOGIN_UNAVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("POST /api/users/login - 시도 한도 초과 시 429")
+    void login_fail_rate_limited() throws Exception {
+        //Given
+        LoginRequest request = new LoginRequest("userId", "password123");
+
+        when(loginUseCase.execute(any(LoginCommand.class)))
+                .thenThrow(new LoginRateLimitedException(6));
+
+        //When & Then
+        mockMvc.perform(post("/api/users/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "6"))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_LOGIN_ATTEMPTS"));
+    }
+
     @Test
     @DisplayName("GET /api/users/{userId} - 사용자 정보 조회 성공")
     void getUserInfo_success() throws Exception {
@@ -120,15 +200,96 @@ class UserControllerTest {
         Long userId = 1L;
         UserInfo userInfo = new UserInfo(1L, "user1", "ACTIVE");
 
+        when(validateSessionUseCase.execute("token-1"))
+                .thenReturn(new SessionInfo(1L, "user1", Instant.parse("2026-01-01T00:30:00Z")));
         when(getUserInfoUseCase.execute(userId))
                 .thenReturn(userInfo);
 
         //When & Then
-        mockMvc.perform(get("/api/users/{userId}", userId))
+        mockMvc.perform(get("/api/users/{userId}", userId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer token-1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.userId").value(1L))
                 .andExpect(jsonPath("$.username").value("user1"))
                 .andExpect(jsonPath("$.status").value("ACTIVE"));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("GET /api/users/{userId} - 토큰 없음")
+    void getUserInfo_fail_missing_token() throws Exception {
+        //When & Then
+        mockMvc.perform(get("/api/users/{userId}", 1L))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("INVALID_SESSION"));
+
+        verifyNoInteractions(getUserInfoUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /api/users/{userId} - 다른 사용자의 정보 조회")
+    void getUserInfo_fail_other_user() throws Exception {
+        //Given
+        when(validateSessionUseCase.execute("token-1"))
+                .thenReturn(new SessionInfo(1L, "user1", Instant.parse("2026-01-01T00:30:00Z")));
+
+        //When & Then
+        mockMvc.perform(get("/api/users/{userId}", 2L)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer token-1"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("FORBIDDEN_USER"));
+
+        verifyNoInteractions(getUserInfoUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/users/logout - 로그아웃 성공")
+    void logout_success() throws Exception {
+        //When & Then
+        mockMvc.perform(post("/api/users/logout")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer token-1"))
+                .andExpect(status().isNoContent());
+
+        verify(logoutUseCase).execute("token-1");
+    }
+
+    @Test
+    @DisplayName("POST /api/users/logout - Authorization 헤더 없음")
+    void logout_fail_missing_token() throws Exception {
+        //When & Then
+        mockMvc.perform(post("/api/users/logout"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("INVALID_SESSION"));
+
+        verifyNoInteractions(logoutUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /api/users/session - 세션 조회 성공")
+    void getSession_success() throws Exception {
+        //Given
+        when(validateSessionUseCase.execute("token-1"))
+                .thenReturn(new SessionInfo(1L, "user1", Instant.parse("2026-01-01T00:30:00Z")));
+
+        //When & Then
+        mockMvc.perform(get("/api/users/session")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer token-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(1L))
+                .andExpect(jsonPath("$.username").value("user1"));
+    }
+
+    @Test
+    @DisplayName("GET /api/users/session - 만료되었거나 없는 세션")
+    void getSession_fail_invalid_session() throws Exception {
+        //Given
+        when(validateSessionUseCase.execute("expired"))
+                .thenThrow(new InvalidSessionException());
+
+        //When & Then
+        mockMvc.perform(get("/api/users/session")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer expired"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("INVALID_SESSION"));
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 있다고 답한다")
+    void no_false_negatives() {
+        //Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        //When
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        //Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률은 설정값 근처에 머문다")
+    void false_positive_rate_is_bounded() {
+        //Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        //When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("unknown" + i)) {
+                falsePositives++;
+            }
+        }
+
+        //Then
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,137 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.simplebank.user.application.port.out.LoadUserPort;
+import com.simplebank.user.domain.User;
+import com.simplebank.user.domain.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingUserRepositoryAdapter 테스트")
+class CachingUserRepositoryAdapterTest {
+
+    @Mock
+    private LoadUserPort delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private CachingUserRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        UserCacheProperties properties = new UserCacheProperties();
+        properties.setMaximumSize(2);
+        properties.setExpireAfterWrite(Duration.ofMinutes(1));
+        Ticker ticker = nanos::get;
+        adapter = new CachingUserRepositoryAdapter(delegate, properties, ticker, Runnable::run);
+    }
+
+    private User user(Long id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .password("encodedPassword")
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 반환")
+    void loadById_hits_cache() {
+        //Given
+        when(delegate.loadById(1L)).thenReturn(Optional.of(user(1L)));
+
+        //When
+        adapter.loadById(1L);
+        Optional<User> result = adapter.loadById(1L);
+
+        //Then
+        assertThat(result).isPresent();
+        verify(delegate, times(1)).loadById(1L);
+        assertThat(adapter.stats().hitCount()).isEqualTo(1);
+        assertThat(adapter.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 캐시하지 않음")
+    void loadById_does_not_cache_absent_user() {
+        //Given
+        when(delegate.loadById(999L)).thenReturn(Optional.empty());
+
+        //When
+        adapter.loadById(999L);
+        Optional<User> result = adapter.loadById(999L);
+
+        //Then
+        assertThat(result).isEmpty();
+        verify(delegate, times(2)).loadById(999L);
+    }
+
+    @Test
+    @DisplayName("저장 시 해당 사용자 캐시 무효화")
+    void save_invalidates_entry() {
+        //Given
+        User blocked = User.builder().id(1L).username("user1").password("encodedPassword")
+                .status(UserStatus.BLOCKED).build();
+        when(delegate.loadById(1L)).thenReturn(Optional.of(user(1L)), Optional.of(blocked));
+        when(delegate.save(blocked)).thenReturn(blocked);
+        adapter.loadById(1L);
+
+        //When
+        adapter.save(blocked);
+        Optional<User> result = adapter.loadById(1L);
+
+        //Then
+        assertThat(result.get().getStatus()).isEqualTo(UserStatus.BLOCKED);
+        verify(delegate, times(2)).loadById(1L);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 조회")
+    void entry_expires_after_ttl() {
+        //Given
+        when(delegate.loadById(1L)).thenReturn(Optional.of(user(1L)));
+        adapter.loadById(1L);
+
+        //When
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        adapter.loadById(1L);
+
+        //Then
+        verify(delegate, times(2)).loadById(1L);
+        assertThat(adapter.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 항목을 축출")
+    void entries_are_evicted_beyond_maximum_size() {
+        //Given
+        for (long id = 1; id <= 3; id++) {
+            when(delegate.loadById(id)).thenReturn(Optional.of(user(id)));
+        }
+
+        //When
+        adapter.loadById(1L);
+        adapter.loadById(2L);
+        adapter.loadById(3L);
+        adapter.cache().cleanUp();
+
+        //Then
+        assertThat(adapter.estimatedSize()).isEqualTo(2);
+        assertThat(adapter.stats().evictionCount()).isEqualTo(1);
+    }
+}
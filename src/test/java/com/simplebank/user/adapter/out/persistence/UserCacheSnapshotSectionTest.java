@@ -0,0 +1,156 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.simplebank.user.application.port.out.LoadUserPort;
+import com.simplebank.user.domain.User;
+import com.simplebank.user.domain.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCacheSnapshotSection 테스트")
+class UserCacheSnapshotSectionTest {
+
+    @Mock
+    private LoadUserPort delegate;
+
+    @Mock
+    private UserJpaRepository jpaRepository;
+
+    private UserCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UserCacheProperties();
+        properties.setMaximumSize(100);
+        properties.setExpireAfterWrite(Duration.ofMinutes(10));
+    }
+
+    private CachingUserRepositoryAdapter newAdapter() {
+        return new CachingUserRepositoryAdapter(delegate, properties, Ticker.systemTicker(), Runnable::run);
+    }
+
+    private User user(Long id, UserStatus status) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .password("encodedPassword")
+                .status(status)
+                .build();
+    }
+
+    private UserJpaEntity entity(Long id, UserStatus status) {
+        return UserJpaEntity.builder()
+                .id(id)
+                .username("user" + id)
+                .password("encodedPassword")
+                .status(status)
+                .build();
+    }
+
+    private byte[] snapshotOf(User... users) throws IOException {
+        CachingUserRepositoryAdapter source = newAdapter();
+        for (User user : users) {
+            source.cache().put(user.getId(), user);
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        new UserCacheSnapshotSection(source, jpaRepository).write(new DataOutputStream(body));
+        return body.toByteArray();
+    }
+
+    @Test
+    @DisplayName("스냅샷에는 사용자 ID 만 남고, 읽기만 해서는 캐시를 채우지 않는다")
+    void snapshot_holds_ids_only() throws IOException {
+        //Given
+        byte[] snapshot = snapshotOf(user(1L, UserStatus.ACTIVE), user(2L, UserStatus.BLOCKED));
+        CachingUserRepositoryAdapter adapter = newAdapter();
+
+        //When
+        new UserCacheSnapshotSection(adapter, jpaRepository).read(ByteBuffer.wrap(snapshot));
+
+        //Then
+        assertThat(snapshot).hasSize(Integer.BYTES + 2 * Long.BYTES);
+        assertThat(new String(snapshot, StandardCharsets.ISO_8859_1)).doesNotContain("encodedPassword");
+        assertThat(adapter.estimatedSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("대조 단계에서 DB 의 현재 상태로 채우고, 지워진 사용자는 건너뛴다")
+    void reconcile_loads_current_state_from_db() throws IOException {
+        //Given: 스냅샷 뒤에 1번이 차단되고 2번이 지워졌다
+        byte[] snapshot = snapshotOf(user(1L, UserStatus.ACTIVE), user(2L, UserStatus.ACTIVE));
+        CachingUserRepositoryAdapter adapter = newAdapter();
+        UserCacheSnapshotSection section = new UserCacheSnapshotSection(adapter, jpaRepository);
+        section.read(ByteBuffer.wrap(snapshot));
+        when(jpaRepository.findAllById(anyIterable())).thenReturn(List.of(entity(1L, UserStatus.BLOCKED)));
+
+        //When
+        section.reconcile();
+
+        //Then
+        Optional<User> result = adapter.loadById(1L);
+        assertThat(result).isPresent();
+        assertThat(result.get().getStatus()).isEqualTo(UserStatus.BLOCKED);
+        assertThat(adapter.cache().getIfPresent(2L)).isNull();
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("복원 뒤 새로 채워진 항목은 덮어쓰지 않는다")
+    void reconcile_keeps_entries_loaded_after_restore() throws IOException {
+        //Given
+        byte[] snapshot = snapshotOf(user(1L, UserStatus.ACTIVE));
+        CachingUserRepositoryAdapter adapter = newAdapter();
+        UserCacheSnapshotSection section = new UserCacheSnapshotSection(adapter, jpaRepository);
+        section.read(ByteBuffer.wrap(snapshot));
+        User refreshed = user(1L, UserStatus.BLOCKED);
+        adapter.cache().put(1L, refreshed);
+        when(jpaRepository.findAllById(anyIterable())).thenReturn(List.of(entity(1L, UserStatus.ACTIVE)));
+
+        //When
+        section.reconcile();
+
+        //Then
+        assertThat(adapter.cache().getIfPresent(1L)).isSameAs(refreshed);
+    }
+
+    @Test
+    @DisplayName("DB 를 읽는 동안 저장(무효화)된 사용자는 이전 값일 수 있으므로 채우지 않는다")
+    void reconcile_skips_batch_invalidated_while_reading() throws IOException {
+        //Given
+        byte[] snapshot = snapshotOf(user(1L, UserStatus.ACTIVE));
+        CachingUserRepositoryAdapter adapter = newAdapter();
+        UserCacheSnapshotSection section = new UserCacheSnapshotSection(adapter, jpaRepository);
+        section.read(ByteBuffer.wrap(snapshot));
+        when(delegate.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jpaRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            adapter.save(user(1L, UserStatus.BLOCKED));
+            return List.of(entity(1L, UserStatus.ACTIVE));
+        });
+
+        //When
+        section.reconcile();
+
+        //Then
+        assertThat(adapter.cache().getIfPresent(1L)).isNull();
+    }
+}
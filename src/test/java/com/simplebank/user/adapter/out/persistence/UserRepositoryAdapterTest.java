@@ -8,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.Optional;
 
@@ -20,11 +21,15 @@ class UserRepositoryAdapterTest {
     @Autowired
     private UserJpaRepository jpaRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private UserRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new UserRepositoryAdapter(jpaRepository);
+        adapter = new UserRepositoryAdapter(jpaRepository,
+                new UsernameFilter(jdbcTemplate, new UsernameFilterProperties(), System::currentTimeMillis, Runnable::run));
     }
     
     @Test
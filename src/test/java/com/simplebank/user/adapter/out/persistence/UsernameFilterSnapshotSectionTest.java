@@ -0,0 +1,104 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import com.simplebank.user.domain.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("UsernameFilterSnapshotSection 테스트")
+class UsernameFilterSnapshotSectionTest {
+
+    @Autowired
+    private UserJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong now = new AtomicLong();
+    private UsernameFilterProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UsernameFilterProperties();
+        properties.setExpectedUsernames(1_000);
+        properties.setRebuildInterval(Duration.ofMinutes(10));
+        saveUser("user1");
+    }
+
+    private void saveUser(String username) {
+        jpaRepository.saveAndFlush(UserJpaEntity.builder()
+                .username(username)
+                .password("encodedPassword")
+                .status(UserStatus.ACTIVE)
+                .build());
+    }
+
+    private ByteBuffer snapshot(UsernameFilterSnapshotSection section) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        section.write(new DataOutputStream(body));
+        return ByteBuffer.wrap(body.toByteArray());
+    }
+
+    @Test
+    @DisplayName("복원한 필터는 users 를 다시 읽지 않고 같은 답을 한다")
+    void restores_filter_without_rebuild() throws IOException {
+        //Given
+        UsernameFilter source = new UsernameFilter(jdbcTemplate, properties, now::get, Runnable::run);
+        source.mightContain("user1");
+        ByteBuffer snapshot = snapshot(new UsernameFilterSnapshotSection(source, jdbcTemplate));
+        jdbcTemplate.update("delete from users");
+
+        //When
+        UsernameFilter restored = new UsernameFilter(jdbcTemplate, properties, now::get, Runnable::run);
+        new UsernameFilterSnapshotSection(restored, jdbcTemplate).read(snapshot);
+
+        //Then
+        assertThat(restored.mightContain("user1")).isTrue();
+        assertThat(restored.mightContain("nonexistent")).isFalse();
+    }
+
+    @Test
+    @DisplayName("스냅샷 뒤에 가입한 사용자명도 복원한 필터에 들어간다")
+    void restore_adds_users_created_after_snapshot() throws IOException {
+        //Given
+        UsernameFilter source = new UsernameFilter(jdbcTemplate, properties, now::get, Runnable::run);
+        source.mightContain("user1");
+        ByteBuffer snapshot = snapshot(new UsernameFilterSnapshotSection(source, jdbcTemplate));
+        saveUser("user2");
+
+        //When
+        UsernameFilter restored = new UsernameFilter(jdbcTemplate, properties, now::get, Runnable::run);
+        new UsernameFilterSnapshotSection(restored, jdbcTemplate).read(snapshot);
+
+        //Then
+        assertThat(restored.mightContain("user2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터가 아직 없으면 복원하지 않는다")
+    void empty_snapshot_leaves_filter_lazy() throws IOException {
+        //Given
+        UsernameFilter source = new UsernameFilter(jdbcTemplate, properties, now::get, Runnable::run);
+        ByteBuffer snapshot = snapshot(new UsernameFilterSnapshotSection(source, jdbcTemplate));
+
+        //When
+        UsernameFilter restored = new UsernameFilter(jdbcTemplate, properties, now::get, Runnable::run);
+        new UsernameFilterSnapshotSection(restored, jdbcTemplate).read(snapshot);
+
+        //Then
+        assertThat(restored.filter()).isNull();
+    }
+}
@@ -0,0 +1,131 @@
+package com.simplebank.user.adapter.out.persistence;
+
+import com.simplebank.user.domain.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("UsernameFilter 테스트")
+class UsernameFilterTest {
+
+    @Autowired
+    private UserJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong now = new AtomicLong();
+    private UsernameFilterProperties properties;
+    private UsernameFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UsernameFilterProperties();
+        properties.setExpectedUsernames(1_000);
+        properties.setRebuildInterval(Duration.ofMinutes(10));
+        filter = new UsernameFilter(jdbcTemplate, properties, now::get, Runnable::run);
+        saveUser("user1");
+    }
+
+    private void saveUser(String username) {
+        jpaRepository.saveAndFlush(UserJpaEntity.builder()
+                .username(username)
+                .password("encodedPassword")
+                .status(UserStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("첫 조회 때 테이블의 사용자명으로 필터를 만든다")
+    void builds_from_table_on_first_lookup() {
+        //When & Then
+        assertThat(filter.mightContain("user1")).isTrue();
+        assertThat(filter.mightContain("nonexistent")).isFalse();
+    }
+
+    @Test
+    @DisplayName("add 한 사용자명은 바로 반영된다")
+    void add_is_visible_immediately() {
+        //Given
+        filter.mightContain("user1");
+
+        //When
+        filter.add("user2");
+
+        //Then
+        assertThat(filter.mightContain("user2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("add 를 거치지 않은 사용자는 rebuildInterval 이 지난 뒤 반영된다")
+    void out_of_band_insert_visible_after_rebuild() {
+        //Given
+        filter.mightContain("user1");
+        saveUser("user3");
+
+        //When & Then
+        assertThat(filter.mightContain("user3")).isFalse();
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        assertThat(filter.mightContain("user3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재생성은 요청 스레드가 아닌 실행기에서 한 번만 돌고, 끝나기 전에는 DB 로 넘긴다")
+    void rebuild_runs_on_executor() {
+        //Given
+        List<Runnable> tasks = new ArrayList<>();
+        UsernameFilter background = new UsernameFilter(jdbcTemplate, properties, now::get, tasks::add);
+
+        //When
+        boolean beforeBuild = background.mightContain("nonexistent");
+        background.mightContain("nonexistent");
+
+        //Then
+        assertThat(beforeBuild).isTrue();
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+        assertThat(background.mightContain("nonexistent")).isFalse();
+        assertThat(background.mightContain("user1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재생성 SELECT 가 보지 못한 미커밋 사용자명도 커밋 뒤에 새 필터에 들어간다")
+    void name_saved_before_rebuild_and_committed_after_is_not_lost() {
+        //Given
+        filter.mightContain("user1");
+        filter.add("pending");
+
+        //When: 재생성 SELECT 에는 아직 커밋되지 않은 pending 행이 없다
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        filter.mightContain("user1");
+        boolean beforeCommit = filter.mightContain("pending");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        //Then
+        assertThat(beforeCommit).isFalse();
+        assertThat(filter.mightContain("pending")).isTrue();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 모든 사용자명을 DB 로 넘긴다")
+    void disabled() {
+        //Given
+        properties.setEnabled(false);
+
+        //When & Then
+        assertThat(filter.mightContain("nonexistent")).isTrue();
+    }
+}
@@ -0,0 +1,108 @@
+package com.simplebank.user.adapter.out.session;
+
+import com.simplebank.user.domain.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemorySessionStore 테스트")
+class InMemorySessionStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private InMemorySessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        SessionProperties properties = new SessionProperties();
+        properties.setTtl(Duration.ofMillis(500));
+        properties.setShards(3);
+        store = new InMemorySessionStore(properties, now::get, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("발급한 토큰으로 세션을 조회할 수 있다")
+    void issue_and_load() {
+        //When
+        Session session = store.issue(1L, "user1");
+
+        //Then
+        assertThat(session.getToken()).hasSize(43);
+        assertThat(session.getExpiresAtMillis()).isEqualTo(1_500L);
+        assertThat(store.loadByToken(session.getToken()))
+                .hasValueSatisfying(loaded -> assertThat(loaded.getUserId()).isEqualTo(1L));
+        assertThat(store.loadByToken("unknown")).isEmpty();
+        assertThat(store.loadByToken(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 조회되지 않고 저장소에서 제거된다")
+    void load_expired_session() {
+        //Given
+        Session session = store.issue(1L, "user1");
+        now.addAndGet(500);
+
+        //When & Then
+        assertThat(store.loadByToken(session.getToken())).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 세션은 더 이상 유효하지 않다")
+    void revoke_session() {
+        //Given
+        Session session = store.issue(1L, "user1");
+
+        //When & Then
+        assertThat(store.revoke(session.getToken())).isTrue();
+        assertThat(store.revoke(session.getToken())).isFalse();
+        assertThat(store.loadByToken(session.getToken())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자의 세션을 모두 끊으면 다른 사용자의 세션은 남는다")
+    void revoke_all_sessions_of_user() {
+        //Given
+        Session first = store.issue(1L, "user1");
+        Session second = store.issue(1L, "user1");
+        Session other = store.issue(2L, "user2");
+
+        //When
+        int revoked = store.revokeAll(1L);
+
+        //Then
+        assertThat(revoked).isEqualTo(2);
+        assertThat(store.loadByToken(first.getToken())).isEmpty();
+        assertThat(store.loadByToken(second.getToken())).isEmpty();
+        assertThat(store.loadByToken(other.getToken())).isPresent();
+    }
+
+    @Test
+    @DisplayName("sweep 은 만료된 세션만 제거한다")
+    void sweep_removes_expired_sessions() {
+        //Given
+        store.issue(1L, "user1");
+        store.issue(2L, "user2");
+        now.addAndGet(300);
+        Session alive = store.issue(3L, "user3");
+        now.addAndGet(300);
+
+        //When
+        int removed = store.sweep();
+
+        //Then
+        assertThat(removed).isEqualTo(2);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.loadByToken(alive.getToken())).isPresent();
+    }
+}
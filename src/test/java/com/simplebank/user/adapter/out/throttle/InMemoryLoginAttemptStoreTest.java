@@ -0,0 +1,121 @@
+package com.simplebank.user.adapter.out.throttle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryLoginAttemptStore 테스트")
+class InMemoryLoginAttemptStoreTest {
+
+    private final AtomicLong now = new AtomicLong(10_000L);
+    private LoginThrottleProperties properties;
+    private InMemoryLoginAttemptStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginThrottleProperties();
+        properties.setUsernameCapacity(3);
+        properties.setUsernameRefillPeriod(Duration.ofSeconds(3));
+        properties.setIpCapacity(5);
+        properties.setIpRefillPeriod(Duration.ofSeconds(5));
+        properties.setMaxConsecutiveFailures(3);
+        store = new InMemoryLoginAttemptStore(properties, now::get);
+    }
+
+    @Test
+    @DisplayName("사용자명별 한도를 넘으면 다음 토큰까지 남은 시간을 반환하고, 시간이 지나면 다시 허용")
+    void username_bucket_refills() {
+        //When
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.tryAcquire("user1", null)).isZero();
+        }
+
+        //Then
+        assertThat(store.tryAcquire("user1", null)).isEqualTo(1_000L);
+        assertThat(store.tryAcquire("user2", null)).isZero();
+
+        now.addAndGet(1_000);
+        assertThat(store.tryAcquire("user1", null)).isZero();
+        assertThat(store.tryAcquire("user1", null)).isPositive();
+    }
+
+    @Test
+    @DisplayName("IP 한도는 사용자명과 무관하게 적용")
+    void ip_bucket_spans_usernames() {
+        //When
+        for (int i = 0; i < 5; i++) {
+            assertThat(store.tryAcquire("user" + i, "10.0.0.1")).isZero();
+        }
+
+        //Then
+        assertThat(store.tryAcquire("other", "10.0.0.1")).isPositive();
+        assertThat(store.tryAcquire("other", "10.0.0.2")).isZero();
+    }
+
+    @Test
+    @DisplayName("연속 실패가 한도에 도달하면 true, 초기화하면 다시 센다")
+    void consecutive_failures() {
+        //When & Then
+        assertThat(store.recordFailure("user1")).isFalse();
+        assertThat(store.recordFailure("user1")).isFalse();
+        assertThat(store.recordFailure("user1")).isTrue();
+
+        store.resetFailures("user1");
+        assertThat(store.recordFailure("user1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성화하면 제한하지 않는다")
+    void disabled() {
+        //Given
+        properties.setEnabled(false);
+
+        //When & Then
+        for (int i = 0; i < 10; i++) {
+            assertThat(store.tryAcquire("user1", "10.0.0.1")).isZero();
+            assertThat(store.recordFailure("user1")).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 시도해도 허용되는 횟수는 버킷 용량을 넘지 않는다")
+    void concurrent_acquire_never_exceeds_capacity() throws InterruptedException {
+        //Given
+        properties.setUsernameCapacity(100);
+        properties.setUsernameRefillPeriod(Duration.ofHours(1));
+        store = new InMemoryLoginAttemptStore(properties, now::get);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        //When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 50; i++) {
+                    if (store.tryAcquire("user1", null) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        //Then
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
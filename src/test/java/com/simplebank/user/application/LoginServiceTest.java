@@ -2,25 +2,35 @@ package com.simplebank.user.application;
 
 import com.simplebank.user.application.port.in.dto.LoginCommand;
 import com.simplebank.user.application.port.in.dto.LoginResult;
+import com.simplebank.user.application.port.out.IssueSessionPort;
 import com.simplebank.user.application.port.out.LoadUserPort;
+import com.simplebank.user.application.port.out.LoginAttemptPort;
+import com.simplebank.user.application.port.out.RevokeSessionPort;
+import com.simplebank.user.domain.Session;
 import com.simplebank.user.domain.User;
 import com.simplebank.user.domain.UserStatus;
 import com.simplebank.user.domain.exception.BlockedUserException;
-import com.simplebank.user.domain.exception.InvalidPasswordException;
-import com.simplebank.user.domain.exception.UserNotFoundException;
+import com.simplebank.user.domain.exception.InvalidCredentialsException;
+import com.simplebank.user.domain.exception.LoginRateLimitedException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,9 +44,26 @@ class LoginServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private IssueSessionPort issueSessionPort;
+
+    @Mock
+    private LoginAttemptPort loginAttemptPort;
+
+    @Mock
+    private RevokeSessionPort revokeSessionPort;
+
+    @Spy
+    private LoginLockoutProperties lockoutProperties = new LoginLockoutProperties();
+
     @InjectMocks
     private LoginService loginService;
 
+    private void givenSessionIssued(Long userId, String username) {
+        when(issueSessionPort.issue(userId, username))
+                .thenReturn(new Session("token-" + userId, userId, username, 1_000L));
+    }
+
     @Test
     @DisplayName("올바른 사용자명과 비밀번호로 로그인 성공")
     void login_success(){
@@ -54,6 +81,7 @@ class LoginServiceTest {
                 .thenReturn(Optional.of(user));
         when(passwordEncoder.matches("password123","encodedPassword"))
                 .thenReturn(true);
+        givenSessionIssued(1L, "user1");
 
         //when
         LoginResult result = loginService.execute(command);
@@ -61,6 +89,7 @@ class LoginServiceTest {
         //then
         assertThat(result.getUserId()).isEqualTo(1L);
         assertThat(result.getUsername()).isEqualTo("user1");
+        assertThat(result.getToken()).isEqualTo("token-1");
         verify(loadUserPort).loadByUsername("user1");
     }
 
@@ -72,11 +101,15 @@ class LoginServiceTest {
 
         when(loadUserPort.loadByUsername("nonexistent"))
                 .thenReturn(Optional.empty());
+        when(passwordEncoder.encode(any()))
+                .thenReturn("dummyHash");
 
         //When & Then
         assertThatThrownBy(() -> loginService.execute(command))
-                .isInstanceOf(UserNotFoundException.class)
+                .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessageContaining("nonexistent");
+        // 존재하는 사용자와 같은 비용의 해시 비교를 거친다
+        verify(passwordEncoder).matches("pasword123", "dummyHash");
     }
 
     @Test
@@ -99,7 +132,7 @@ class LoginServiceTest {
 
         //when & then
         assertThatThrownBy(() -> loginService.execute(command))
-                .isInstanceOf(InvalidPasswordException.class);
+                .isInstanceOf(InvalidCredentialsException.class);
     }
 
     @Test
@@ -124,5 +157,192 @@ class LoginServiceTest {
         assertThatThrownBy(() -> loginService.execute(command))
                 .isInstanceOf(BlockedUserException.class)
                 .hasMessageContaining("blockedUser");
+        verify(issueSessionPort, never()).issue(any(), any());
+    }
+
+    @Test
+    @DisplayName("오래된 해시로 로그인 성공 시 현재 설정으로 재인코딩하여 저장")
+    void login_success_upgrades_outdated_hash() {
+        //Given
+        LoginCommand command = new LoginCommand("user1", "password123");
+
+        User user = User.builder()
+                .id(1L)
+                .username("user1")
+                .password("$2a$04$legacyHash")
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        when(loadUserPort.loadByUsername("user1"))
+                .thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "$2a$04$legacyHash"))
+                .thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("$2a$04$legacyHash"))
+                .thenReturn(true);
+        when(passwordEncoder.encode("password123"))
+                .thenReturn("{bcrypt}$2a$10$newHash");
+        givenSessionIssued(1L, "user1");
+
+        //When
+        LoginResult result = loginService.execute(command);
+
+        //Then
+        assertThat(result.getUserId()).isEqualTo(1L);
+        assertThat(user.getPassword()).isEqualTo("{bcrypt}$2a$10$newHash");
+        verify(loadUserPort).save(user);
+    }
+
+    @Test
+    @DisplayName("현재 설정의 해시면 재인코딩하지 않음")
+    void login_success_does_not_upgrade_current_hash() {
+        //Given
+        LoginCommand command = new LoginCommand("user1", "password123");
+
+        User user = User.builder()
+                .id(1L)
+                .username("user1")
+                .password("{bcrypt}$2a$10$currentHash")
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        when(loadUserPort.loadByUsername("user1"))
+                .thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "{bcrypt}$2a$10$currentHash"))
+                .thenReturn(true);
+        givenSessionIssued(1L, "user1");
+
+        //When
+        loginService.execute(command);
+
+        //Then
+        verify(passwordEncoder, never()).encode(any());
+        verify(loadUserPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("시도 한도를 넘으면 사용자 조회와 해시 계산 없이 거절")
+    void login_fail_rate_limited() {
+        //Given
+        LoginCommand command = new LoginCommand("user1", "password123", "10.0.0.1");
+        when(loginAttemptPort.tryAcquire("user1", "10.0.0.1"))
+                .thenReturn(1_500L);
+
+        //When & Then
+        assertThatThrownBy(() -> loginService.execute(command))
+                .isInstanceOf(LoginRateLimitedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(2L);
+        verifyNoInteractions(loadUserPort, passwordEncoder, issueSessionPort);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 한도에 도달하면 사용자를 차단하고 기존 세션을 끊는다")
+    void login_fail_blocks_user_after_consecutive_failures() {
+        //Given
+        LoginCommand command = new LoginCommand("user1", "wrongPassword");
+
+        User user = User.builder()
+                .id(1L)
+                .username("user1")
+                .password("encodedPassword")
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        when(loadUserPort.loadByUsername("user1"))
+                .thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("wrongPassword", "encodedPassword"))
+                .thenReturn(false);
+        when(loginAttemptPort.recordFailure("user1"))
+                .thenReturn(true);
+
+        //When & Then
+        assertThatThrownBy(() -> loginService.execute(command))
+                .isInstanceOf(InvalidCredentialsException.class);
+        assertThat(user.isBlocked()).isTrue();
+        assertThat(user.getBlockedUntil()).isBetween(
+                Instant.now().plus(Duration.ofMinutes(14)), Instant.now().plus(Duration.ofMinutes(15)));
+        verify(loadUserPort).save(user);
+        verify(loginAttemptPort).resetFailures("user1");
+        verify(revokeSessionPort).revokeAll(1L);
+    }
+
+    @Test
+    @DisplayName("차단 기한이 남은 사용자는 올바른 비밀번호로도 로그인할 수 없다")
+    void login_fail_during_lockout() {
+        //Given
+        LoginCommand command = new LoginCommand("user1", "password123");
+
+        User user = User.builder()
+                .id(1L)
+                .username("user1")
+                .password("encodedPassword")
+                .status(UserStatus.BLOCKED)
+                .blockedUntil(Instant.now().plus(Duration.ofMinutes(5)))
+                .build();
+
+        when(loadUserPort.loadByUsername("user1"))
+                .thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "encodedPassword"))
+                .thenReturn(true);
+
+        //When & Then
+        assertThatThrownBy(() -> loginService.execute(command))
+                .isInstanceOf(BlockedUserException.class);
+        verify(issueSessionPort, never()).issue(any(), any());
+    }
+
+    @Test
+    @DisplayName("차단 기한이 지난 사용자는 로그인하면서 차단이 풀린다")
+    void login_success_after_lockout_expires() {
+        //Given
+        LoginCommand command = new LoginCommand("user1", "password123");
+
+        User user = User.builder()
+                .id(1L)
+                .username("user1")
+                .password("encodedPassword")
+                .status(UserStatus.BLOCKED)
+                .blockedUntil(Instant.now().minusSeconds(1))
+                .build();
+
+        when(loadUserPort.loadByUsername("user1"))
+                .thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "encodedPassword"))
+                .thenReturn(true);
+        givenSessionIssued(1L, "user1");
+
+        //When
+        LoginResult result = loginService.execute(command);
+
+        //Then
+        assertThat(result.getToken()).isEqualTo("token-1");
+        assertThat(user.isActive()).isTrue();
+        assertThat(user.getBlockedUntil()).isNull();
+        verify(loadUserPort).save(user);
+    }
+
+    @Test
+    @DisplayName("로그인 성공 시 연속 실패 횟수 초기화")
+    void login_success_resets_failures() {
+        //Given
+        LoginCommand command = new LoginCommand("user1", "password123");
+
+        User user = User.builder()
+                .id(1L)
+                .username("user1")
+                .password("encodedPassword")
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        when(loadUserPort.loadByUsername("user1"))
+                .thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password123", "encodedPassword"))
+                .thenReturn(true);
+        givenSessionIssued(1L, "user1");
+
+        //When
+        loginService.execute(command);
+
+        //Then
+        verify(loginAttemptPort).resetFailures("user1");
     }
-}
\ No newline at end of file
+}
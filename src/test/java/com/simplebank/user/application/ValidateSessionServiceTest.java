@@ -0,0 +1,58 @@
+package com.simplebank.user.application;
+
+import com.simplebank.user.application.port.in.dto.SessionInfo;
+import com.simplebank.user.application.port.out.LoadSessionPort;
+import com.simplebank.user.domain.Session;
+import com.simplebank.user.domain.exception.InvalidSessionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ValidateSessionService 테스트")
+class ValidateSessionServiceTest {
+
+    @Mock
+    private LoadSessionPort loadSessionPort;
+
+    @InjectMocks
+    private ValidateSessionService validateSessionService;
+
+    @Test
+    @DisplayName("유효한 토큰이면 세션 정보를 반환한다")
+    void validate_success() {
+        //Given
+        when(loadSessionPort.loadByToken("token"))
+                .thenReturn(Optional.of(new Session("token", 1L, "user1", 2_000L)));
+
+        //When
+        SessionInfo info = validateSessionService.execute("token");
+
+        //Then
+        assertThat(info.getUserId()).isEqualTo(1L);
+        assertThat(info.getUsername()).isEqualTo("user1");
+        assertThat(info.getExpiresAt()).isEqualTo(Instant.ofEpochMilli(2_000L));
+    }
+
+    @Test
+    @DisplayName("없거나 만료된 토큰이면 예외가 발생한다")
+    void validate_fail_unknown_token() {
+        //Given
+        when(loadSessionPort.loadByToken("expired"))
+                .thenReturn(Optional.empty());
+
+        //When & Then
+        assertThatThrownBy(() -> validateSessionService.execute("expired"))
+                .isInstanceOf(InvalidSessionException.class);
+    }
+}
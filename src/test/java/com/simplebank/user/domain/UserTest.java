@@ -4,6 +4,8 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -65,5 +67,39 @@ class UserTest {
         assertThat(user.isActive()).isFalse();
     }
 
+    @Test
+    @DisplayName("기한이 있는 차단은 기한이 지나면 차단으로 보지 않는다")
+    void isBlockedAt_until_expiry() {
+        //Given
+        Instant until = Instant.parse("2026-01-01T00:15:00Z");
+        User user = User.builder()
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        //When
+        user.block(until);
+
+        //Then
+        assertThat(user.isBlockedAt(until.minusSeconds(1))).isTrue();
+        assertThat(user.isBlockedAt(until)).isFalse();
+        user.unblock();
+        assertThat(user.isActive()).isTrue();
+        assertThat(user.getBlockedUntil()).isNull();
+    }
+
+    @Test
+    @DisplayName("비밀번호 해시 변경")
+    void changePassword() {
+        //Given
+        User user = User.builder()
+                .password("oldHash")
+                .status(UserStatus.ACTIVE)
+                .build();
+
+        //When
+        user.changePassword("newHash");
 
-}
\ No newline at end of file
+        //Then
+        assertThat(user.getPassword()).isEqualTo("newHash");
+    }
+}